@@ -1,6 +1,6 @@
 package com.admin.catalogo.application;
 
-public abstract class NullaryUseCase<OUT> {
+public interface NullaryUseCase<OUT> {
 
-    public abstract OUT execute();
+    OUT execute();
 }
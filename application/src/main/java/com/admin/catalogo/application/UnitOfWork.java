@@ -0,0 +1,24 @@
+package com.admin.catalogo.application;
+
+import java.util.function.Supplier;
+
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> aWork);
+
+    <T> T executeReadOnly(Supplier<T> aWork);
+
+    default void execute(final Runnable aWork) {
+        execute(() -> {
+            aWork.run();
+            return null;
+        });
+    }
+
+    default void executeReadOnly(final Runnable aWork) {
+        executeReadOnly(() -> {
+            aWork.run();
+            return null;
+        });
+    }
+}
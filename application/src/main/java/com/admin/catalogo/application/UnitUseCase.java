@@ -1,6 +1,6 @@
 package com.admin.catalogo.application;
 
-public abstract class UnitUseCase<IN> {
+public interface UnitUseCase<IN> {
 
-    public abstract void execute(IN aIn);
+    void execute(IN aIn);
 }
@@ -1,6 +1,6 @@
 package com.admin.catalogo.application;
 
-public abstract class UseCase<IN, OUT> {
+public interface UseCase<IN, OUT> {
 
-    public abstract OUT execute(IN aInput);
+    OUT execute(IN aInput);
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.admin.catalogo.application.castmember.create;
 
 import com.admin.catalogo.application.UseCase;
 
-public sealed abstract class CreateCastMemberUseCase
+public sealed interface CreateCastMemberUseCase
     extends UseCase<CreateCastMemberCommand, CreateCastMemberOutput>
 permits DefaultCreateCastMemberUseCase{
 }
@@ -8,7 +8,7 @@ import com.admin.catalogo.domain.validation.handler.Notification;
 
 import java.util.Objects;
 
-public final class DefaultCreateCastMemberUseCase extends CreateCastMemberUseCase {
+public final class DefaultCreateCastMemberUseCase implements CreateCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
 
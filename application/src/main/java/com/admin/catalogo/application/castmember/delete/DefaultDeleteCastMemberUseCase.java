@@ -5,7 +5,7 @@ import com.admin.catalogo.domain.castmember.CastMemberID;
 
 import java.util.Objects;
 
-public final class DefaultDeleteCastMemberUseCase extends DeleteCastMemberUseCase{
+public final class DefaultDeleteCastMemberUseCase implements DeleteCastMemberUseCase{
 
     private final CastMemberGateway castMemberGateway;
 
@@ -2,7 +2,7 @@ package com.admin.catalogo.application.castmember.delete;
 
 import com.admin.catalogo.application.UnitUseCase;
 
-public sealed abstract class DeleteCastMemberUseCase
+public sealed interface DeleteCastMemberUseCase
 extends UnitUseCase<String>
 permits DefaultDeleteCastMemberUseCase {
 }
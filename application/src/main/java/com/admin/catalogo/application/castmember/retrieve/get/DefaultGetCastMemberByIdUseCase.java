@@ -7,7 +7,7 @@ import com.admin.catalogo.domain.exceptions.NotFoundException;
 
 import java.util.Objects;
 
-public final class DefaultGetCastMemberByIdUseCase extends GetCastMemberByIdUseCase{
+public final class DefaultGetCastMemberByIdUseCase implements GetCastMemberByIdUseCase{
 
     private final CastMemberGateway castMemberGateway;
 
@@ -2,7 +2,7 @@ package com.admin.catalogo.application.castmember.retrieve.get;
 
 import com.admin.catalogo.application.UseCase;
 
-public sealed abstract class GetCastMemberByIdUseCase
+public sealed interface GetCastMemberByIdUseCase
 extends UseCase<String, CastMemberOutput>
 permits DefaultGetCastMemberByIdUseCase{
 }
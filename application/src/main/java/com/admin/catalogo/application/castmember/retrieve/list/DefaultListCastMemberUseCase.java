@@ -6,7 +6,7 @@ import com.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.Objects;
 
-public final class DefaultListCastMemberUseCase extends ListCastMemberUseCase {
+public final class DefaultListCastMemberUseCase implements ListCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
 
@@ -4,7 +4,7 @@ import com.admin.catalogo.application.UseCase;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.pagination.SearchQuery;
 
-public sealed abstract class ListCastMemberUseCase
+public sealed interface ListCastMemberUseCase
         extends UseCase<SearchQuery, Pagination<CastMemberListOutput>>
         permits DefaultListCastMemberUseCase {
 }
@@ -11,7 +11,7 @@ import com.admin.catalogo.domain.validation.handler.Notification;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-public final class DefaultUpdateCastMemberUseCase extends UpdateCastMemberUseCase {
+public final class DefaultUpdateCastMemberUseCase implements UpdateCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
 
@@ -2,7 +2,7 @@ package com.admin.catalogo.application.castmember.update;
 
 import com.admin.catalogo.application.UseCase;
 
-public sealed abstract class UpdateCastMemberUseCase
+public sealed interface UpdateCastMemberUseCase
         extends UseCase<UpdateCastMemberCommand, UpdateCastMemberOutput>
         permits DefaultUpdateCastMemberUseCase {
 }
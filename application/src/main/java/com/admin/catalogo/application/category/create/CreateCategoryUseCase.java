@@ -4,5 +4,5 @@ import com.admin.catalogo.application.UseCase;
 import com.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
-public abstract class CreateCategoryUseCase extends UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
+public interface CreateCategoryUseCase extends UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
 }
@@ -9,7 +9,7 @@ import io.vavr.control.Either;
 
 import java.util.Objects;
 
-public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
+public class DefaultCreateCategoryUseCase implements CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
 
@@ -5,7 +5,7 @@ import com.admin.catalogo.domain.category.CategoryID;
 
 import java.util.Objects;
 
-public class DefaultDeleteCategoryUseCase extends DeleteCategoryUseCase {
+public class DefaultDeleteCategoryUseCase implements DeleteCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
 
@@ -2,5 +2,5 @@ package com.admin.catalogo.application.category.delete;
 
 import com.admin.catalogo.application.UnitUseCase;
 
-public abstract class DeleteCategoryUseCase extends UnitUseCase<String> {
+public interface DeleteCategoryUseCase extends UnitUseCase<String> {
 }
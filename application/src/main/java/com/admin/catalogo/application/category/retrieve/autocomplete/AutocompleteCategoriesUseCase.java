@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.category.retrieve.autocomplete;
+
+import com.admin.catalogo.application.UseCase;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+
+import java.util.List;
+
+public interface AutocompleteCategoriesUseCase extends UseCase<AutocompleteQuery, List<CategoryAutocompleteOutput>> {
+}
@@ -0,0 +1,15 @@
+package com.admin.catalogo.application.category.retrieve.autocomplete;
+
+import com.admin.catalogo.domain.category.Category;
+
+public record CategoryAutocompleteOutput(
+        String id,
+        String name
+) {
+    public static CategoryAutocompleteOutput from(final Category aCategory) {
+        return new CategoryAutocompleteOutput(
+                aCategory.getId().getValue(),
+                aCategory.getName()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.admin.catalogo.application.category.retrieve.autocomplete;
+
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultAutocompleteCategoriesUseCase implements AutocompleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultAutocompleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategoryAutocompleteOutput> execute(final AutocompleteQuery aQuery) {
+        final var prefix = SearchKeyUtils.normalize(aQuery.prefix());
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+
+        return this.categoryGateway.autocomplete(new AutocompleteQuery(prefix, aQuery.limit())).stream()
+                .map(CategoryAutocompleteOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package com.admin.catalogo.application.category.retrieve.changes;
+
+import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+
+import java.util.Objects;
+
+public class DefaultListCategoryChangesUseCase implements ListCategoryChangesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public ChangeFeed<CategoryListOutput> execute(final ChangeQuery aQuery) {
+        return this.categoryGateway.changes(aQuery)
+                .map(CategoryListOutput::from);
+    }
+}
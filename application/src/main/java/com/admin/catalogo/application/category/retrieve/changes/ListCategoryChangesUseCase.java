@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.category.retrieve.changes;
+
+import com.admin.catalogo.application.UseCase;
+import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+
+public interface ListCategoryChangesUseCase extends UseCase<ChangeQuery, ChangeFeed<CategoryListOutput>> {
+}
@@ -0,0 +1,32 @@
+package com.admin.catalogo.application.category.retrieve.get;
+
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads every requested category in one gateway call. Ids that do not exist are left out of
+ * the result rather than failing the whole batch.
+ */
+public class DefaultGetCategoriesByIdsUseCase implements GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategoryOutput> execute(final List<String> someIds) {
+        if (someIds.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = someIds.stream().distinct().map(CategoryID::from).toList();
+        return this.categoryGateway.findAllByIds(ids).stream()
+                .map(CategoryOutput::from)
+                .toList();
+    }
+}
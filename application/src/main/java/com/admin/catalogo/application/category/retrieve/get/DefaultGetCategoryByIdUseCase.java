@@ -9,7 +9,7 @@ import com.admin.catalogo.domain.exceptions.NotFoundException;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+public class DefaultGetCategoryByIdUseCase implements GetCategoryByIdUseCase {
 
     private final CategoryGateway categoryGateway;
 
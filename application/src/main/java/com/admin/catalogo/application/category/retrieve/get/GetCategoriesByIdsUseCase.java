@@ -0,0 +1,8 @@
+package com.admin.catalogo.application.category.retrieve.get;
+
+import com.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public interface GetCategoriesByIdsUseCase extends UseCase<List<String>, List<CategoryOutput>> {
+}
@@ -2,5 +2,5 @@ package com.admin.catalogo.application.category.retrieve.get;
 
 import com.admin.catalogo.application.UseCase;
 
-public abstract class GetCategoryByIdUseCase extends UseCase<String, CategoryOutput> {
+public interface GetCategoryByIdUseCase extends UseCase<String, CategoryOutput> {
 }
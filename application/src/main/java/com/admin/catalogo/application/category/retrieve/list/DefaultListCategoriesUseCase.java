@@ -6,7 +6,7 @@ import com.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.Objects;
 
-public class DefaultListCategoriesUseCase extends ListCategoriesUseCase{
+public class DefaultListCategoriesUseCase implements ListCategoriesUseCase{
 
     private final CategoryGateway categoryGateway;
 
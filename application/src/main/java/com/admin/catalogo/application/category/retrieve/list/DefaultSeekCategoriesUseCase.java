@@ -0,0 +1,23 @@
+package com.admin.catalogo.application.category.retrieve.list;
+
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSeekCategoriesUseCase implements SeekCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultSeekCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategoryListOutput> execute(final SeekQuery aQuery) {
+        return this.categoryGateway.seek(aQuery).stream()
+                .map(CategoryListOutput::from)
+                .toList();
+    }
+}
@@ -13,7 +13,7 @@ import io.vavr.control.Either;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
+public class DefaultUpdateCategoryUseCase implements UpdateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
 
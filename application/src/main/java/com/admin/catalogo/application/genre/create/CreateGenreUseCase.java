@@ -2,5 +2,5 @@ package com.admin.catalogo.application.genre.create;
 
 import com.admin.catalogo.application.UseCase;
 
-public abstract class CreateGenreUseCase extends UseCase<CreateGenreCommand, CreateGenreOutput> {
+public interface CreateGenreUseCase extends UseCase<CreateGenreCommand, CreateGenreOutput> {
 }
@@ -14,7 +14,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
+public class DefaultCreateGenreUseCase implements CreateGenreUseCase {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
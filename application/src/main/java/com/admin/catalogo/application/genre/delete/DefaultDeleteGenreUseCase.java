@@ -5,7 +5,7 @@ import com.admin.catalogo.domain.genre.GenreID;
 
 import java.util.Objects;
 
-public class DefaultDeleteGenreUseCase extends DeleteGenreUseCase{
+public class DefaultDeleteGenreUseCase implements DeleteGenreUseCase{
 
     private final GenreGateway genreGateway;
 
@@ -2,6 +2,6 @@ package com.admin.catalogo.application.genre.delete;
 
 import com.admin.catalogo.application.UnitUseCase;
 
-public abstract class DeleteGenreUseCase extends UnitUseCase<String> {
+public interface DeleteGenreUseCase extends UnitUseCase<String> {
 
 }
@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.genre.retrieve.autocomplete;
+
+import com.admin.catalogo.application.UseCase;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+
+import java.util.List;
+
+public interface AutocompleteGenresUseCase extends UseCase<AutocompleteQuery, List<GenreAutocompleteOutput>> {
+}
@@ -0,0 +1,29 @@
+package com.admin.catalogo.application.genre.retrieve.autocomplete;
+
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultAutocompleteGenresUseCase implements AutocompleteGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultAutocompleteGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreAutocompleteOutput> execute(final AutocompleteQuery aQuery) {
+        final var prefix = SearchKeyUtils.normalize(aQuery.prefix());
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+
+        return this.genreGateway.autocomplete(new AutocompleteQuery(prefix, aQuery.limit())).stream()
+                .map(GenreAutocompleteOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.admin.catalogo.application.genre.retrieve.autocomplete;
+
+import com.admin.catalogo.domain.genre.Genre;
+
+public record GenreAutocompleteOutput(
+        String id,
+        String name
+) {
+    public static GenreAutocompleteOutput from(final Genre aGenre) {
+        return new GenreAutocompleteOutput(
+                aGenre.getId().getValue(),
+                aGenre.getName()
+        );
+    }
+}
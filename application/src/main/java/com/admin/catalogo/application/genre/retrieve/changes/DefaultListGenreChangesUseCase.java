@@ -0,0 +1,23 @@
+package com.admin.catalogo.application.genre.retrieve.changes;
+
+import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+
+import java.util.Objects;
+
+public class DefaultListGenreChangesUseCase implements ListGenreChangesUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenreChangesUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public ChangeFeed<GenreListOutput> execute(final ChangeQuery aQuery) {
+        return this.genreGateway.changes(aQuery)
+                .map(GenreListOutput::from);
+    }
+}
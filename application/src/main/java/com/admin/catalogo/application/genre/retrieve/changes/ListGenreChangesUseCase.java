@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.genre.retrieve.changes;
+
+import com.admin.catalogo.application.UseCase;
+import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+
+public interface ListGenreChangesUseCase extends UseCase<ChangeQuery, ChangeFeed<GenreListOutput>> {
+}
@@ -7,7 +7,7 @@ import com.admin.catalogo.domain.genre.GenreID;
 
 import java.util.Objects;
 
-public class DefaultGetGenreByIdUseCase extends GetGenreByIdUseCase {
+public class DefaultGetGenreByIdUseCase implements GetGenreByIdUseCase {
 
     private final GenreGateway genreGateway;
 
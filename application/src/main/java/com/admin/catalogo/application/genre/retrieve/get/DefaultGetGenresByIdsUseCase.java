@@ -0,0 +1,28 @@
+package com.admin.catalogo.application.genre.retrieve.get;
+
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.genre.GenreID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultGetGenresByIdsUseCase implements GetGenresByIdsUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenresByIdsUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreOutput> execute(final List<String> someIds) {
+        if (someIds.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = someIds.stream().distinct().map(GenreID::from).toList();
+        return this.genreGateway.findAllByIds(ids).stream()
+                .map(GenreOutput::from)
+                .toList();
+    }
+}
@@ -2,5 +2,5 @@ package com.admin.catalogo.application.genre.retrieve.get;
 
 import com.admin.catalogo.application.UseCase;
 
-public abstract class GetGenreByIdUseCase extends UseCase<String, GenreOutput> {
+public interface GetGenreByIdUseCase extends UseCase<String, GenreOutput> {
 }
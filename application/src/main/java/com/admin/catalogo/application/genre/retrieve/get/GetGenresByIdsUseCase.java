@@ -0,0 +1,8 @@
+package com.admin.catalogo.application.genre.retrieve.get;
+
+import com.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public interface GetGenresByIdsUseCase extends UseCase<List<String>, List<GenreOutput>> {
+}
@@ -6,7 +6,7 @@ import com.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.Objects;
 
-public class DefaultListGenreUseCase extends ListGenreUseCase{
+public class DefaultListGenreUseCase implements ListGenreUseCase{
 
     private final GenreGateway genreGateway;
 
@@ -0,0 +1,23 @@
+package com.admin.catalogo.application.genre.retrieve.list;
+
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSeekGenresUseCase implements SeekGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultSeekGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreListOutput> execute(final SeekQuery aQuery) {
+        return this.genreGateway.seek(aQuery).stream()
+                .map(GenreListOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.admin.catalogo.application.genre.retrieve.list;
+
+import com.admin.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+
+public class DefaultStreamGenresUseCase implements StreamGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultStreamGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final StreamGenresCommand aCommand) {
+        this.genreGateway.findAll(aCommand.query(), aCommand.writer().adapt(GenreListOutput::from));
+    }
+}
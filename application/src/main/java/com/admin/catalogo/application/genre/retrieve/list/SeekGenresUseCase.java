@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.genre.retrieve.list;
+
+import com.admin.catalogo.application.UseCase;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+
+import java.util.List;
+
+public interface SeekGenresUseCase extends UseCase<SeekQuery, List<GenreListOutput>> {
+}
@@ -0,0 +1,14 @@
+package com.admin.catalogo.application.genre.retrieve.list;
+
+import com.admin.catalogo.domain.pagination.PageWriter;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+
+public record StreamGenresCommand(
+        SearchQuery query,
+        PageWriter<GenreListOutput> writer
+) {
+
+    public static StreamGenresCommand with(final SearchQuery aQuery, final PageWriter<GenreListOutput> aWriter) {
+        return new StreamGenresCommand(aQuery, aWriter);
+    }
+}
@@ -0,0 +1,6 @@
+package com.admin.catalogo.application.genre.retrieve.list;
+
+import com.admin.catalogo.application.UnitUseCase;
+
+public interface StreamGenresUseCase extends UnitUseCase<StreamGenresCommand> {
+}
@@ -2,5 +2,5 @@ package com.admin.catalogo.application.genre.update;
 
 import com.admin.catalogo.application.UseCase;
 
-public abstract class UpdateGenreUseCase extends UseCase<UpdateGenreCommand, UpdateGenreOutput> {
+public interface UpdateGenreUseCase extends UseCase<UpdateGenreCommand, UpdateGenreOutput> {
 }
@@ -0,0 +1,61 @@
+package com.admin.catalogo.application.category.retrieve.autocomplete;
+
+import com.admin.catalogo.application.UseCaseTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class AutocompleteCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultAutocompleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAnAccentedPrefix_whenCallsAutocomplete_shouldQueryNormalizedPrefix() {
+        //given
+        final var categories = List.of(
+                Category.newCategory("Séries", "Séries de TV", true)
+        );
+        final var expectedItems = categories.stream()
+                .map(CategoryAutocompleteOutput::from)
+                .toList();
+
+        Mockito.when(categoryGateway.autocomplete(Mockito.any()))
+                .thenReturn(categories);
+
+        //when
+        final var actualOutput = useCase.execute(new AutocompleteQuery("SÉR", 5));
+
+        //then
+        Assertions.assertEquals(expectedItems, actualOutput);
+
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .autocomplete(Mockito.eq(new AutocompleteQuery("ser", 5)));
+    }
+
+    @Test
+    public void givenANullPrefix_whenCallsAutocomplete_shouldReturnEmptyWithoutQuerying() {
+        //when
+        final var actualOutput = useCase.execute(new AutocompleteQuery(null, 5));
+
+        //then
+        Assertions.assertTrue(actualOutput.isEmpty());
+
+        Mockito.verify(categoryGateway, Mockito.never()).autocomplete(Mockito.any());
+    }
+}
@@ -0,0 +1,54 @@
+package com.admin.catalogo.application.category.retrieve.get;
+
+import com.admin.catalogo.application.UseCaseTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class GetCategoriesByIdsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenRepeatedAndMissingIds_whenCallsGetCategories_shouldReadThemInOneGatewayCall() {
+        //given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var anId = filmes.getId().getValue();
+
+        Mockito.when(categoryGateway.findAllByIds(List.of(filmes.getId(), CategoryID.from("123"))))
+                .thenReturn(List.of(filmes));
+
+        //when
+        final var actualCategories = useCase.execute(List.of(anId, "123", anId));
+
+        //then
+        Assertions.assertEquals(List.of(filmes.getId()), actualCategories.stream().map(CategoryOutput::id).toList());
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenNoIds_whenCallsGetCategories_shouldNotCallTheGateway() {
+        //when
+        final var actualCategories = useCase.execute(List.of());
+
+        //then
+        Assertions.assertTrue(actualCategories.isEmpty());
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+}
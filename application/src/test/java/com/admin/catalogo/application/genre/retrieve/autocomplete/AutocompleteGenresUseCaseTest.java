@@ -0,0 +1,76 @@
+package com.admin.catalogo.application.genre.retrieve.autocomplete;
+
+import com.admin.catalogo.application.UseCaseTest;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class AutocompleteGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultAutocompleteGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAnAccentedPrefix_whenCallsAutocomplete_shouldQueryNormalizedPrefix() {
+        //given
+        final var genres = List.of(
+                Genre.newGenre("Ação", true),
+                Genre.newGenre("Acústico", true)
+        );
+        final var expectedItems = genres.stream()
+                .map(GenreAutocompleteOutput::from)
+                .toList();
+
+        Mockito.when(genreGateway.autocomplete(Mockito.any()))
+                .thenReturn(genres);
+
+        //when
+        final var actualOutput = useCase.execute(new AutocompleteQuery(" AÇ", 10));
+
+        //then
+        Assertions.assertEquals(expectedItems, actualOutput);
+
+        Mockito.verify(genreGateway, Mockito.times(1))
+                .autocomplete(Mockito.eq(new AutocompleteQuery("ac", 10)));
+    }
+
+    @Test
+    public void givenABlankPrefix_whenCallsAutocomplete_shouldReturnEmptyWithoutQuerying() {
+        //when
+        final var actualOutput = useCase.execute(new AutocompleteQuery("  ", 10));
+
+        //then
+        Assertions.assertTrue(actualOutput.isEmpty());
+
+        Mockito.verify(genreGateway, Mockito.never()).autocomplete(Mockito.any());
+    }
+
+    @Test
+    public void givenALimitAboveMaximum_whenCallsAutocomplete_shouldClampLimit() {
+        //given
+        Mockito.when(genreGateway.autocomplete(Mockito.any()))
+                .thenReturn(List.of());
+
+        //when
+        useCase.execute(new AutocompleteQuery("a", 1000));
+
+        //then
+        Mockito.verify(genreGateway, Mockito.times(1))
+                .autocomplete(Mockito.eq(new AutocompleteQuery("a", AutocompleteQuery.MAX_LIMIT)));
+    }
+}
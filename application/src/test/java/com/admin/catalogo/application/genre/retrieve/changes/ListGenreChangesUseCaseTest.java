@@ -0,0 +1,68 @@
+package com.admin.catalogo.application.genre.retrieve.changes;
+
+import com.admin.catalogo.application.UseCaseTest;
+import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+
+public class ListGenreChangesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenreChangesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListGenreChanges_shouldReturnUpsertsAndDeletions() {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var removedId = "123";
+        final var expectedCursor = "cursor";
+        final var expectedHasMore = false;
+
+        final var aFeed = new ChangeFeed<>(
+                List.of(
+                        Change.upsert(aGenre.getId().getValue(), aGenre.getUpdatedAt(), aGenre),
+                        Change.<Genre>delete(removedId, Instant.now())
+                ),
+                expectedCursor,
+                expectedHasMore
+        );
+
+        Mockito.when(genreGateway.changes(Mockito.any()))
+                .thenReturn(aFeed);
+
+        final var aQuery = new ChangeQuery("", 10);
+
+        //when
+        final var actualOutput = useCase.execute(aQuery);
+
+        //then
+        Assertions.assertEquals(2, actualOutput.changes().size());
+        Assertions.assertEquals(GenreListOutput.from(aGenre), actualOutput.changes().get(0).item());
+        Assertions.assertEquals(Change.Type.DELETE, actualOutput.changes().get(1).type());
+        Assertions.assertEquals(removedId, actualOutput.changes().get(1).id());
+        Assertions.assertNull(actualOutput.changes().get(1).item());
+        Assertions.assertEquals(expectedCursor, actualOutput.nextCursor());
+        Assertions.assertEquals(expectedHasMore, actualOutput.hasMore());
+
+        Mockito.verify(genreGateway, Mockito.times(1)).changes(Mockito.eq(aQuery));
+    }
+}
@@ -0,0 +1,44 @@
+package com.admin.catalogo.application.genre.retrieve.get;
+
+import com.admin.catalogo.application.UseCaseTest;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class GetGenresByIdsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetGenresByIdsUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenRepeatedAndMissingIds_whenCallsGetGenres_shouldReadThemInOneGatewayCall() {
+        //given
+        final var acao = Genre.newGenre("Ação", true);
+        final var anId = acao.getId().getValue();
+
+        Mockito.when(genreGateway.findAllByIds(List.of(GenreID.from("123"), acao.getId())))
+                .thenReturn(List.of(acao));
+
+        //when
+        final var actualGenres = useCase.execute(List.of("123", anId, "123"));
+
+        //then
+        Assertions.assertEquals(List.of(anId), actualGenres.stream().map(GenreOutput::id).toList());
+        Mockito.verify(genreGateway, Mockito.times(1)).findAllByIds(Mockito.any());
+    }
+}
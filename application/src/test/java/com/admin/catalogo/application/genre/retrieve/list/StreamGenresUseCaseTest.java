@@ -0,0 +1,106 @@
+package com.admin.catalogo.application.genre.retrieve.list;
+
+import com.admin.catalogo.application.UseCaseTest;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.PageWriter;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StreamGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultStreamGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsStreamGenres_shouldWriteEachGenreAsOutput() {
+        //given
+        final var genres = List.of(
+                Genre.newGenre("Ação", true),
+                Genre.newGenre("Aventura", true)
+        );
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTotal = 2L;
+        final var expectedItems = genres.stream()
+                .map(GenreListOutput::from)
+                .toList();
+
+        final var aQuery = new SearchQuery(expectedPage, expectedPerPage, "A", "createdAt", "asc");
+
+        Mockito.doAnswer(invocation -> {
+            final PageWriter<Genre> aWriter = invocation.getArgument(1);
+            aWriter.begin(expectedPage, expectedPerPage, expectedTotal);
+            genres.forEach(aWriter::write);
+            aWriter.end();
+            return null;
+        }).when(genreGateway).findAll(Mockito.eq(aQuery), Mockito.any());
+
+        final var aWriter = new CollectingWriter();
+
+        //when
+        useCase.execute(StreamGenresCommand.with(aQuery, aWriter));
+
+        //then
+        Assertions.assertEquals(expectedTotal, aWriter.total);
+        Assertions.assertEquals(expectedItems, aWriter.items);
+        Assertions.assertTrue(aWriter.ended);
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayThrowsRandomError_shouldPropagateIt() {
+        //given
+        final var expectedErrorMessage = "Gateway error";
+        final var aQuery = new SearchQuery(0, 10, "A", "createdAt", "asc");
+
+        Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
+                .when(genreGateway).findAll(Mockito.any(), Mockito.any());
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(StreamGenresCommand.with(aQuery, new CollectingWriter()))
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    private static class CollectingWriter implements PageWriter<GenreListOutput> {
+
+        private final List<GenreListOutput> items = new ArrayList<>();
+        private long total = -1;
+        private boolean ended;
+
+        @Override
+        public void begin(final int currentPage, final int perPage, final long total) {
+            this.total = total;
+        }
+
+        @Override
+        public void write(final GenreListOutput item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void end() {
+            this.ended = true;
+        }
+    }
+}
@@ -1,8 +1,38 @@
 package com.admin.catalogo.domain;
 
+import com.admin.catalogo.domain.events.DomainEvent;
+import com.admin.catalogo.domain.events.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID>{
 
+    private List<DomainEvent> domainEvents;
+
     protected AggregateRoot(final ID id) {
         super(id);
+        this.domainEvents = new ArrayList<>();
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    public void publishDomainEvents(final DomainEventPublisher publisher) {
+        Objects.requireNonNull(publisher);
+        final var pending = List.copyOf(this.domainEvents);
+        this.domainEvents.clear();
+        pending.forEach(publisher::publishEvent);
+    }
+
+    protected void registerEvent(final DomainEvent event) {
+        this.domainEvents.add(Objects.requireNonNull(event));
+    }
+
+    protected void copyDomainEventsFrom(final AggregateRoot<ID> other) {
+        this.domainEvents = new ArrayList<>(other.domainEvents);
     }
 }
@@ -38,7 +38,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable{
         final var id = CategoryID.unique();
         final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        final var aCategory = new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        aCategory.registerEvent(new CategoryCreated(id.getValue(), now));
+        return aCategory;
     }
 
     public static Category with(
@@ -95,6 +97,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable{
         this.name = aName;
         this.description = aDescription;
         this.updatedAt = Instant.now();
+        registerEvent(new CategoryUpdated(getId().getValue(), this.updatedAt));
         return this;
     }
 
@@ -131,6 +134,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable{
     public Category clone() {
         try {
             Category clone = (Category) super.clone();
+            clone.copyDomainEventsFrom(this);
             // TODO: copy mutable state here, so the clone can't change the internals of the original
             return clone;
         } catch (CloneNotSupportedException e) {
@@ -0,0 +1,11 @@
+package com.admin.catalogo.domain.category;
+
+import com.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+        String aggregateId,
+        Instant occurredOn
+) implements DomainEvent {
+}
@@ -1,6 +1,10 @@
 package com.admin.catalogo.domain.category;
 
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
 import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
 import com.admin.catalogo.domain.pagination.Pagination;
 
 import java.util.List;
@@ -18,5 +22,13 @@ public interface CategoryGateway {
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    List<Category> seek(SeekQuery aQuery);
+
+    List<Category> findAllByIds(Iterable<CategoryID> ids);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
+
+    List<Category> autocomplete(AutocompleteQuery aQuery);
+
+    ChangeFeed<Category> changes(ChangeQuery aQuery);
 }
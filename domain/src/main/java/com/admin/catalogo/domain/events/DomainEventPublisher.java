@@ -0,0 +1,7 @@
+package com.admin.catalogo.domain.events;
+
+@FunctionalInterface
+public interface DomainEventPublisher {
+
+    void publishEvent(DomainEvent event);
+}
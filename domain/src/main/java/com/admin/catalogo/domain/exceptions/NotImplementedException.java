@@ -0,0 +1,14 @@
+package com.admin.catalogo.domain.exceptions;
+
+import java.util.Collections;
+
+public class NotImplementedException extends DomainException {
+
+    protected NotImplementedException(final String aMessage) {
+        super(aMessage, Collections.emptyList());
+    }
+
+    public static NotImplementedException with(final String aMessage) {
+        return new NotImplementedException(aMessage);
+    }
+}
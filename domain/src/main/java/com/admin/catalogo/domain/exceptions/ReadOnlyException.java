@@ -0,0 +1,14 @@
+package com.admin.catalogo.domain.exceptions;
+
+import java.util.Collections;
+
+public class ReadOnlyException extends DomainException {
+
+    protected ReadOnlyException(final String aMessage) {
+        super(aMessage, Collections.emptyList());
+    }
+
+    public static ReadOnlyException with(final String aMessage) {
+        return new ReadOnlyException(aMessage);
+    }
+}
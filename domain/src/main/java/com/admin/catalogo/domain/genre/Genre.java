@@ -10,6 +10,7 @@ import com.admin.catalogo.domain.validation.handler.Notification;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 public class Genre extends AggregateRoot<GenreID> {
@@ -46,7 +47,9 @@ public class Genre extends AggregateRoot<GenreID> {
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
 
-        return new Genre(anId, aName, isActive, new ArrayList<>(), now, now, deletedAt);
+        final var aGenre = new Genre(anId, aName, isActive, new ArrayList<>(), now, now, deletedAt);
+        aGenre.registerEvent(new GenreCreated(anId.getValue(), now));
+        return aGenre;
     }
 
     public static Genre with(final GenreID anId,
@@ -85,9 +88,12 @@ public class Genre extends AggregateRoot<GenreID> {
         } else {
             deactivate();
         }
+        final var previous = this.categories != null ? this.categories : List.<CategoryID>of();
         this.categories = new ArrayList<>(categories != null ? categories : Collections.emptyList());
         this.updatedAt = InstantUtils.now();
         selfValidate();
+        registerEvent(new GenreUpdated(getId().getValue(), this.updatedAt));
+        registerCategoriesChanged(difference(this.categories, previous), difference(previous, this.categories));
         return this;
     }
 
@@ -146,6 +152,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.add(aCategoryID);
         this.updatedAt =InstantUtils.now();
+        registerCategoriesChanged(List.of(aCategoryID), List.of());
         return this;
     }
 
@@ -155,6 +162,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.addAll(categories);
         this.updatedAt =InstantUtils.now();
+        registerCategoriesChanged(categories, List.of());
         return this;
     }
 
@@ -164,6 +172,27 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.remove(aCategoryID);
         this.updatedAt =InstantUtils.now();
+        registerCategoriesChanged(List.of(), List.of(aCategoryID));
         return this;
     }
+
+    private void registerCategoriesChanged(final List<CategoryID> added, final List<CategoryID> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        registerEvent(new GenreCategoriesChanged(
+                getId().getValue(),
+                added.stream().map(CategoryID::getValue).toList(),
+                removed.stream().map(CategoryID::getValue).toList(),
+                this.updatedAt
+        ));
+    }
+
+    private static List<CategoryID> difference(final List<CategoryID> from, final List<CategoryID> other) {
+        final var others = new HashSet<>(other);
+        return from.stream()
+                .filter(it -> !others.contains(it))
+                .distinct()
+                .toList();
+    }
 }
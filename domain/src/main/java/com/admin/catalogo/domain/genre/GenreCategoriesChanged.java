@@ -0,0 +1,14 @@
+package com.admin.catalogo.domain.genre;
+
+import com.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreCategoriesChanged(
+        String aggregateId,
+        List<String> added,
+        List<String> removed,
+        Instant occurredOn
+) implements DomainEvent {
+}
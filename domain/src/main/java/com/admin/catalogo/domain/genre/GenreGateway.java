@@ -1,8 +1,14 @@
 package com.admin.catalogo.domain.genre;
 
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway
@@ -16,4 +22,14 @@ public interface GenreGateway
     Genre update(Genre aGenre);
 
     Pagination<Genre> findAll(SearchQuery aQuery);
+
+    void findAll(SearchQuery aQuery, PageWriter<Genre> aWriter);
+
+    List<Genre> seek(SeekQuery aQuery);
+
+    List<Genre> findAllByIds(Iterable<GenreID> ids);
+
+    List<Genre> autocomplete(AutocompleteQuery aQuery);
+
+    ChangeFeed<Genre> changes(ChangeQuery aQuery);
 }
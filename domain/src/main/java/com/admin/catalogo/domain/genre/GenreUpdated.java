@@ -0,0 +1,11 @@
+package com.admin.catalogo.domain.genre;
+
+import com.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record GenreUpdated(
+        String aggregateId,
+        Instant occurredOn
+) implements DomainEvent {
+}
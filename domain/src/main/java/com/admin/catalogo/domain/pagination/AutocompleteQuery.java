@@ -0,0 +1,12 @@
+package com.admin.catalogo.domain.pagination;
+
+public record AutocompleteQuery(
+        String prefix,
+        int limit
+) {
+    public static final int MAX_LIMIT = 50;
+
+    public AutocompleteQuery {
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
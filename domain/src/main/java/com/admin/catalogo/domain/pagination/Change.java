@@ -0,0 +1,31 @@
+package com.admin.catalogo.domain.pagination;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+public record Change<T>(
+        Type type,
+        String id,
+        Instant changedAt,
+        T item
+) {
+    public enum Type {
+        UPSERT, DELETE
+    }
+
+    public static <T> Change<T> upsert(final String anId, final Instant changedAt, final T anItem) {
+        return new Change<>(Type.UPSERT, anId, changedAt, anItem);
+    }
+
+    public static <T> Change<T> delete(final String anId, final Instant changedAt) {
+        return new Change<>(Type.DELETE, anId, changedAt, null);
+    }
+
+    public ChangeCursor cursor() {
+        return new ChangeCursor(changedAt, id);
+    }
+
+    public <R> Change<R> map(final Function<T, R> mapper) {
+        return new Change<>(type, id, changedAt, item != null ? mapper.apply(item) : null);
+    }
+}
@@ -0,0 +1,48 @@
+package com.admin.catalogo.domain.pagination;
+
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+public record ChangeCursor(
+        Instant changedAt,
+        String id
+) implements Comparable<ChangeCursor> {
+
+    public static final ChangeCursor BEGINNING = new ChangeCursor(Instant.EPOCH, "");
+
+    private static final char SEPARATOR = '|';
+
+    public ChangeCursor {
+        Objects.requireNonNull(changedAt);
+        Objects.requireNonNull(id);
+    }
+
+    public static ChangeCursor decode(final String aCursor) {
+        if (aCursor == null || aCursor.isBlank()) {
+            return BEGINNING;
+        }
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            final var separator = decoded.indexOf(SEPARATOR);
+            return new ChangeCursor(Instant.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'since' is not a valid cursor"));
+        }
+    }
+
+    public String encode() {
+        final var raw = changedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(final ChangeCursor other) {
+        final var byTime = changedAt.compareTo(other.changedAt);
+        return byTime != 0 ? byTime : id.compareTo(other.id);
+    }
+}
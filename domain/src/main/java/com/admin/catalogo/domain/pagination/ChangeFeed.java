@@ -0,0 +1,41 @@
+package com.admin.catalogo.domain.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public record ChangeFeed<T>(
+        List<Change<T>> changes,
+        String nextCursor,
+        boolean hasMore
+) {
+    public static <T> ChangeFeed<T> merge(
+            final ChangeCursor since,
+            final int limit,
+            final List<Change<T>> upserts,
+            final List<Change<T>> deletions
+    ) {
+        final var merged = new ArrayList<Change<T>>(Math.min(limit, upserts.size() + deletions.size()));
+        var u = 0;
+        var d = 0;
+        while (merged.size() < limit && (u < upserts.size() || d < deletions.size())) {
+            if (d >= deletions.size()
+                    || (u < upserts.size() && upserts.get(u).cursor().compareTo(deletions.get(d).cursor()) <= 0)) {
+                merged.add(upserts.get(u++));
+            } else {
+                merged.add(deletions.get(d++));
+            }
+        }
+
+        final var hasMore = u < upserts.size() || d < deletions.size();
+        final var next = merged.isEmpty() ? since : merged.get(merged.size() - 1).cursor();
+        return new ChangeFeed<>(List.copyOf(merged), next.encode(), hasMore);
+    }
+
+    public <R> ChangeFeed<R> map(final Function<T, R> mapper) {
+        final List<Change<R>> aNewList = this.changes.stream()
+                .map(change -> change.map(mapper))
+                .toList();
+        return new ChangeFeed<>(aNewList, nextCursor(), hasMore());
+    }
+}
@@ -0,0 +1,16 @@
+package com.admin.catalogo.domain.pagination;
+
+public record ChangeQuery(
+        String since,
+        int limit
+) {
+    public static final int MAX_LIMIT = 500;
+
+    public ChangeQuery {
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public ChangeCursor cursor() {
+        return ChangeCursor.decode(since);
+    }
+}
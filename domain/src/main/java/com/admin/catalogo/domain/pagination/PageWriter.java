@@ -0,0 +1,38 @@
+package com.admin.catalogo.domain.pagination;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Receives a page one item at a time, so callers can stream it without holding every
+ * item in memory. {@link #begin} is called once with the page metadata before any item.
+ */
+public interface PageWriter<T> {
+
+    void begin(int currentPage, int perPage, long total);
+
+    void write(T item);
+
+    void end();
+
+    default <R> PageWriter<R> adapt(final Function<R, T> mapper) {
+        Objects.requireNonNull(mapper);
+        final var target = this;
+        return new PageWriter<>() {
+            @Override
+            public void begin(final int currentPage, final int perPage, final long total) {
+                target.begin(currentPage, perPage, total);
+            }
+
+            @Override
+            public void write(final R item) {
+                target.write(mapper.apply(item));
+            }
+
+            @Override
+            public void end() {
+                target.end();
+            }
+        };
+    }
+}
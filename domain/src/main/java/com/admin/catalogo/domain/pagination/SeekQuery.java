@@ -0,0 +1,31 @@
+package com.admin.catalogo.domain.pagination;
+
+import java.time.Instant;
+
+/**
+ * A listing read in keyset order, resuming right after the row described by the
+ * {@code after*} fields instead of at an offset, so every read costs the same however deep
+ * it goes. Names are ordered by their search key.
+ */
+public record SeekQuery(
+        int limit,
+        String terms,
+        String sort,
+        String direction,
+        String afterName,
+        Instant afterCreatedAt,
+        String afterId
+) {
+
+    public static SeekQuery first(final int limit, final String terms, final String sort, final String direction) {
+        return new SeekQuery(limit, terms, sort, direction, null, null, null);
+    }
+
+    public SeekQuery after(final String aName, final Instant aCreatedAt, final String anId) {
+        return new SeekQuery(limit, terms, sort, direction, aName, aCreatedAt, anId);
+    }
+
+    public boolean isFirst() {
+        return afterId == null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.admin.catalogo.domain.utils;
+
+import com.admin.catalogo.domain.Identifier;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Bounded, lock-free pool that hands out a shared instance for equal keys.
+ * Each key maps to a single slot, so a colliding key simply replaces the previous
+ * entry: memory stays fixed at {@code capacity} references and the pool never blocks.
+ */
+public final class Interner<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Function<T, String> keyOf;
+    private final Function<String, T> factory;
+
+    private Interner(
+            final int aCapacity,
+            final Function<T, String> keyOf,
+            final Function<String, T> factory
+    ) {
+        if (aCapacity <= 0) {
+            throw new IllegalArgumentException("'capacity' must be greater than zero");
+        }
+        final var size = Integer.highestOneBit(Math.min(aCapacity, 1 << 30) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.keyOf = Objects.requireNonNull(keyOf);
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    public static <T extends Identifier> Interner<T> identifiers(
+            final int aCapacity,
+            final Function<String, T> factory
+    ) {
+        return new Interner<>(aCapacity, Identifier::getValue, factory);
+    }
+
+    public static Interner<String> strings(final int aCapacity) {
+        return new Interner<>(aCapacity, Function.identity(), Function.identity());
+    }
+
+    public T intern(final String aKey) {
+        if (aKey == null) {
+            return null;
+        }
+
+        final var index = spread(aKey.hashCode()) & mask;
+        final var current = slots.get(index);
+        if (current != null && aKey.equals(keyOf.apply(current))) {
+            return current;
+        }
+
+        final var created = factory.apply(aKey);
+        slots.lazySet(index, created);
+        return created;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private static int spread(final int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,24 @@
+package com.admin.catalogo.domain.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class SearchKeyUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private SearchKeyUtils() {
+
+    }
+
+    public static String normalize(final String aValue) {
+        if (aValue == null) {
+            return null;
+        }
+        final var decomposed = Normalizer.normalize(aValue.trim(), Normalizer.Form.NFD);
+        final var withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACES.matcher(withoutAccents).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
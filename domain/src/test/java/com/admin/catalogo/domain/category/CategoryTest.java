@@ -303,4 +303,32 @@ public class CategoryTest {
         Assertions.assertTrue(aCategory.isActive());
         Assertions.assertNull(aCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenAValidCategory_whenCallUpdate_thenRegisterCreatedAndUpdatedEvents(){
+        final var aCategory =
+                Category.newCategory("Filmes", "A categoria", true);
+
+        final var actualCategory = aCategory.update("Séries", "A categoria", false);
+
+        Assertions.assertEquals(2, actualCategory.getDomainEvents().size());
+        Assertions.assertEquals(
+                new CategoryCreated(aCategory.getId().getValue(), aCategory.getCreatedAt()),
+                actualCategory.getDomainEvents().get(0)
+        );
+        Assertions.assertEquals(
+                new CategoryUpdated(aCategory.getId().getValue(), actualCategory.getUpdatedAt()),
+                actualCategory.getDomainEvents().get(1)
+        );
+    }
+
+    @Test
+    public void givenAClonedCategory_whenPublishingEventsOfTheClone_thenKeepOriginalEvents(){
+        final var aCategory =
+                Category.newCategory("Filmes", "A categoria", true);
+
+        aCategory.clone().publishDomainEvents(event -> {});
+
+        Assertions.assertEquals(1, aCategory.getDomainEvents().size());
+    }
 }
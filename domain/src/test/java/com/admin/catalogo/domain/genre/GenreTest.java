@@ -1,6 +1,7 @@
 package com.admin.catalogo.domain.genre;
 
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.events.DomainEvent;
 import com.admin.catalogo.domain.exceptions.NotificationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -452,4 +453,35 @@ public class GenreTest {
         Assertions.assertNotNull(actualGenre.getUpdatedAt());
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateWithOtherCategories_shouldRegisterUpdatedAndCategoriesChanged() {
+        final var series = CategoryID.from("series");
+        final var filmes = CategoryID.from("filmes");
+
+        final var actualGenre = Genre.newGenre("Ação", true);
+        actualGenre.addCategory(series);
+        actualGenre.publishDomainEvents(event -> {});
+
+        actualGenre.update("Ação", true, List.of(filmes));
+
+        Assertions.assertEquals(2, actualGenre.getDomainEvents().size());
+        Assertions.assertInstanceOf(GenreUpdated.class, actualGenre.getDomainEvents().get(0));
+
+        final var actualEvent = (GenreCategoriesChanged) actualGenre.getDomainEvents().get(1);
+        Assertions.assertEquals(actualGenre.getId().getValue(), actualEvent.aggregateId());
+        Assertions.assertEquals(List.of("filmes"), actualEvent.added());
+        Assertions.assertEquals(List.of("series"), actualEvent.removed());
+    }
+
+    @Test
+    public void givenANewGenre_whenCallsPublishDomainEvents_shouldDeliverCreatedAndClear() {
+        final var actualGenre = Genre.newGenre("Ação", true);
+        final var published = new ArrayList<DomainEvent>();
+
+        actualGenre.publishDomainEvents(published::add);
+
+        Assertions.assertEquals(List.of(new GenreCreated(actualGenre.getId().getValue(), actualGenre.getCreatedAt())), published);
+        Assertions.assertTrue(actualGenre.getDomainEvents().isEmpty());
+    }
 }
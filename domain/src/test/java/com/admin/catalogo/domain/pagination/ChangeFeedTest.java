@@ -0,0 +1,67 @@
+package com.admin.catalogo.domain.pagination;
+
+import com.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+public class ChangeFeedTest {
+
+    private static final Instant T0 = Instant.parse("2022-05-01T10:00:00.000001Z");
+
+    @Test
+    public void givenUpsertsAndDeletions_whenCallsMerge_shouldInterleaveByTimeAndId() {
+        //given
+        final var upserts = List.of(
+                Change.upsert("a", T0, "A"),
+                Change.upsert("c", T0.plusMillis(2), "C")
+        );
+        final var deletions = List.<Change<String>>of(
+                Change.delete("b", T0),
+                Change.delete("d", T0.plusMillis(3))
+        );
+
+        //when
+        final var actualFeed = ChangeFeed.merge(ChangeCursor.BEGINNING, 3, upserts, deletions);
+
+        //then
+        Assertions.assertEquals(List.of("a", "b", "c"), actualFeed.changes().stream().map(Change::id).toList());
+        Assertions.assertEquals(Change.Type.DELETE, actualFeed.changes().get(1).type());
+        Assertions.assertTrue(actualFeed.hasMore());
+        Assertions.assertEquals(new ChangeCursor(T0.plusMillis(2), "c"), ChangeCursor.decode(actualFeed.nextCursor()));
+    }
+
+    @Test
+    public void givenNoChanges_whenCallsMerge_shouldKeepCursor() {
+        //given
+        final var since = new ChangeCursor(T0, "a");
+
+        //when
+        final var actualFeed = ChangeFeed.<String>merge(since, 10, List.of(), List.of());
+
+        //then
+        Assertions.assertTrue(actualFeed.changes().isEmpty());
+        Assertions.assertFalse(actualFeed.hasMore());
+        Assertions.assertEquals(since, ChangeCursor.decode(actualFeed.nextCursor()));
+    }
+
+    @Test
+    public void givenABlankCursor_whenCallsDecode_shouldStartFromBeginning() {
+        Assertions.assertEquals(ChangeCursor.BEGINNING, ChangeCursor.decode(""));
+        Assertions.assertEquals(ChangeCursor.BEGINNING, ChangeCursor.decode(null));
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsDecode_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'since' is not a valid cursor";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> ChangeCursor.decode("not-a-cursor")
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
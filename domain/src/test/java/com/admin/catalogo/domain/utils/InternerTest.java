@@ -0,0 +1,75 @@
+package com.admin.catalogo.domain.utils;
+
+import com.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class InternerTest {
+
+    @Test
+    public void givenEqualKeys_whenCallsIntern_shouldReturnSameInstance() {
+        final var anInterner = Interner.identifiers(16, CategoryID::from);
+        final var expectedValue = CategoryID.unique().getValue();
+
+        final var first = anInterner.intern(new String(expectedValue));
+        final var second = anInterner.intern(new String(expectedValue));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(expectedValue, first.getValue());
+    }
+
+    @Test
+    public void givenDifferentKeys_whenCallsIntern_shouldReturnEqualValues() {
+        final var anInterner = Interner.identifiers(1, CategoryID::from);
+
+        final var filmes = anInterner.intern("filmes");
+        final var series = anInterner.intern("series");
+
+        Assertions.assertEquals(CategoryID.from("filmes"), filmes);
+        Assertions.assertEquals(CategoryID.from("series"), series);
+        Assertions.assertEquals(CategoryID.from("filmes"), anInterner.intern("filmes"));
+    }
+
+    @Test
+    public void givenANullKey_whenCallsIntern_shouldReturnNull() {
+        Assertions.assertNull(Interner.strings(8).intern(null));
+    }
+
+    @Test
+    public void givenACapacity_whenCreatesInterner_shouldRoundUpToPowerOfTwo() {
+        Assertions.assertEquals(1, Interner.strings(1).capacity());
+        Assertions.assertEquals(1024, Interner.strings(1000).capacity());
+        Assertions.assertEquals(1024, Interner.strings(1024).capacity());
+    }
+
+    @Test
+    public void givenAnInvalidCapacity_whenCreatesInterner_shouldThrowException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Interner.strings(0));
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsIntern_shouldAlwaysReturnEqualValues() throws Exception {
+        final var anInterner = Interner.identifiers(64, CategoryID::from);
+        final var failures = ConcurrentHashMap.<String>newKeySet();
+        final var executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    final var aKey = "category-" + (i % 256);
+                    if (!aKey.equals(anInterner.intern(aKey).getValue())) {
+                        failures.add(aKey);
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assertions.assertTrue(failures.isEmpty());
+    }
+}
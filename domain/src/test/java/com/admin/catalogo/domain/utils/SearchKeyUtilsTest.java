@@ -0,0 +1,18 @@
+package com.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SearchKeyUtilsTest {
+
+    @Test
+    public void givenAnAccentedMixedCaseValue_whenCallsNormalize_shouldReturnFoldedKey() {
+        Assertions.assertEquals("acao e aventura", SearchKeyUtils.normalize("  Ação   E Aventura "));
+        Assertions.assertEquals("ficcao cientifica", SearchKeyUtils.normalize("FICÇÃO Científica"));
+    }
+
+    @Test
+    public void givenANullValue_whenCallsNormalize_shouldReturnNull() {
+        Assertions.assertNull(SearchKeyUtils.normalize(null));
+    }
+}
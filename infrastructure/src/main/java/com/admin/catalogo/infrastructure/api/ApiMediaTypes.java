@@ -0,0 +1,48 @@
+package com.admin.catalogo.infrastructure.api;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Binary encodings offered next to JSON to service-to-service clients. Both share the
+ * JSON naming and modules, they only change the wire format.
+ */
+public final class ApiMediaTypes {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+
+    private static final List<MediaType> BINARY = List.of(APPLICATION_SMILE, APPLICATION_CBOR);
+
+    private ApiMediaTypes() {}
+
+    /**
+     * Whether the request is answered with JSON, i.e. when no binary encoding is preferred by the
+     * given {@code Accept} header. Headers that do not mention Smile or CBOR are never parsed.
+     */
+    public static boolean prefersJson(final String accept) {
+        if (accept == null || (!accept.contains("smile") && !accept.contains("cbor"))) {
+            return true;
+        }
+
+        try {
+            final var acceptable = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(acceptable);
+            for (final var candidate : acceptable) {
+                if (candidate.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+                if (BINARY.stream().anyMatch(candidate::isCompatibleWith)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return true;
+        }
+    }
+}
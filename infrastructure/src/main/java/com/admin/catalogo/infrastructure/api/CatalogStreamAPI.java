@@ -0,0 +1,31 @@
+package com.admin.catalogo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequestMapping(value = "catalog")
+@Tag(name = "Catalog")
+public interface CatalogStreamAPI {
+
+    @GetMapping(
+            value = "stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @Operation(summary = "Stream category and genre changes as server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Subscribed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error")
+    })
+    SseEmitter stream(
+            @RequestHeader(name = "Last-Event-ID", required = false) final String lastEventIdHeader,
+            @RequestParam(name = "lastEventId", required = false) final String lastEventId
+    );
+}
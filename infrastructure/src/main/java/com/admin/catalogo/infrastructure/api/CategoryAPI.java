@@ -1,28 +1,34 @@
 package com.admin.catalogo.infrastructure.api;
 
+import com.admin.catalogo.domain.pagination.ChangeFeed;
 import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.category.models.CategoryAutocompleteResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
 
     @PostMapping(
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE)
+            consumes = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE})
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Create a new category")
     @ApiResponses(value = {
@@ -32,7 +38,7 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody @Valid CreateCategoryRequest imput);
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE})
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
@@ -47,24 +53,56 @@ public interface CategoryAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
     );
 
+    @GetMapping(
+            value = "autocomplete",
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(summary = "List the categories whose name starts with the given prefix, ignoring case and accents")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<CategoryAutocompleteResponse> autocomplete(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+    @GetMapping(
+            value = "changes",
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(summary = "List the categories created, updated or deleted after the given cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ChangeFeed<CategoryListResponse> changes(
+            @RequestParam(name = "since", required = false, defaultValue = "") final String since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit
+    );
+
     @GetMapping(
             value = "{id}",
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
     )
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Category retrieved successfully", content = @Content(schema = @Schema(implementation = CategoryResponse.class))),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<?> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
 
 
     @PutMapping(
             value = "{id}",
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            consumes = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
     )
     @Operation(summary = "Update a category by it's identifier")
     @ApiResponses(value = {
@@ -76,8 +114,7 @@ public interface CategoryAPI {
 
     @DeleteMapping(
             value = "{id}",
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
     )
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a category by it's identifier")
@@ -1,26 +1,35 @@
 package com.admin.catalogo.infrastructure.api;
 
+import com.admin.catalogo.domain.pagination.ChangeFeed;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.admin.catalogo.infrastructure.genre.models.GenreAutocompleteResponse;
 import com.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
 public interface GenreAPI {
 
     @PostMapping(
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            consumes = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
     )
     @Operation(summary = "Create a new Genre")
     @ApiResponses(value = {
@@ -30,7 +39,7 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE})
     @Operation(summary = "List all genres paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
@@ -46,21 +55,73 @@ public interface GenreAPI {
     );
 
     @GetMapping(
-            value = "{id}",
+            value = "stream",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
+    @Operation(summary = "List all genres paginated, writing each genre to the response as it is read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error")
+    })
+    void stream(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            HttpServletResponse response
+    ) throws IOException;
+
+    @GetMapping(
+            value = "autocomplete",
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(summary = "List the genres whose name starts with the given prefix, ignoring case and accents")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error")
+    })
+    List<GenreAutocompleteResponse> autocomplete(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+    @GetMapping(
+            value = "changes",
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(summary = "List the genres created, updated or deleted after the given cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error")
+    })
+    ChangeFeed<GenreListResponse> changes(
+            @RequestParam(name = "since", required = false, defaultValue = "") final String since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit
+    );
+
+    @GetMapping(
+            value = "{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
+    )
     @Operation(summary = "Get a genre bu it's identifier")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Genre retrieved successfully", content = @Content(schema = @Schema(implementation = GenreResponse.class))),
             @ApiResponse(responseCode = "422", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error")
     })
-    GenreResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<?> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
 
     @PutMapping(
             value = "{id}",
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            consumes = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE, ApiMediaTypes.APPLICATION_CBOR_VALUE}
     )
     @Operation(summary = "Update a genre by it's identifier")
     @ApiResponses(value = {
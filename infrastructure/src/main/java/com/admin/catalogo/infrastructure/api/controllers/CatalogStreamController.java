@@ -0,0 +1,25 @@
+package com.admin.catalogo.infrastructure.api.controllers;
+
+import com.admin.catalogo.infrastructure.api.CatalogStreamAPI;
+import com.admin.catalogo.infrastructure.stream.CatalogStreamBroadcaster;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Objects;
+
+@RestController
+@Profile("!in-memory & !replica")
+public class CatalogStreamController implements CatalogStreamAPI {
+
+    private final CatalogStreamBroadcaster catalogStreamBroadcaster;
+
+    public CatalogStreamController(final CatalogStreamBroadcaster catalogStreamBroadcaster) {
+        this.catalogStreamBroadcaster = Objects.requireNonNull(catalogStreamBroadcaster);
+    }
+
+    @Override
+    public SseEmitter stream(final String lastEventIdHeader, final String lastEventId) {
+        return this.catalogStreamBroadcaster.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
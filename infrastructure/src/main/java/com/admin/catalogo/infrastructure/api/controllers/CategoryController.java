@@ -4,17 +4,24 @@ import com.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.autocomplete.AutocompleteCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
 import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.pagination.SearchQuery;
 import com.admin.catalogo.domain.validation.handler.Notification;
+import com.admin.catalogo.infrastructure.api.ApiMediaTypes;
 import com.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.category.models.CategoryAutocompleteResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
-import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
@@ -22,6 +29,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -33,19 +41,28 @@ public class CategoryController implements CategoryAPI {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final AutocompleteCategoriesUseCase autocompleteCategoriesUseCase;
+    private final ListCategoryChangesUseCase listCategoryChangesUseCase;
+    private final ResponseBytesCache responseBytesCache;
 
     public CategoryController(
             CreateCategoryUseCase createCategoryUseCase,
             GetCategoryByIdUseCase getCategoryByIdUseCase,
             UpdateCategoryUseCase updateCategoryUseCase,
             DeleteCategoryUseCase deleteCategoryUseCase,
-            ListCategoriesUseCase listCategoriesUseCase
+            ListCategoriesUseCase listCategoriesUseCase,
+            AutocompleteCategoriesUseCase autocompleteCategoriesUseCase,
+            ListCategoryChangesUseCase listCategoryChangesUseCase,
+            ResponseBytesCache responseBytesCache
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.autocompleteCategoriesUseCase = Objects.requireNonNull(autocompleteCategoriesUseCase);
+        this.listCategoryChangesUseCase = Objects.requireNonNull(listCategoryChangesUseCase);
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
     }
 
     @Override
@@ -80,8 +97,31 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public List<CategoryAutocompleteResponse> autocomplete(final String prefix, final int limit) {
+        return this.autocompleteCategoriesUseCase.execute(new AutocompleteQuery(prefix, limit)).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<CategoryListResponse> changes(final String since, final int limit) {
+        return this.listCategoryChangesUseCase.execute(new ChangeQuery(since, limit))
+                .map(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String accept, final String acceptEncoding) {
+        if (!ApiMediaTypes.prefersJson(accept)) {
+            // the byte cache only holds JSON, binary encodings go through the message converters
+            return ResponseEntity.ok(CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id)));
+        }
+
+        return this.responseBytesCache.getOrLoad(
+                ResponseBytesCache.CATEGORY,
+                id,
+                acceptEncoding,
+                () -> CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id))
+        );
     }
 
     @Override
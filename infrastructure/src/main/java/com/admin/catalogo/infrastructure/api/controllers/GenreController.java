@@ -3,22 +3,36 @@ package com.admin.catalogo.infrastructure.api.controllers;
 import com.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.autocomplete.AutocompleteGenresUseCase;
+import com.admin.catalogo.application.genre.retrieve.changes.ListGenreChangesUseCase;
 import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.StreamGenresCommand;
+import com.admin.catalogo.application.genre.retrieve.list.StreamGenresUseCase;
 import com.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.api.ApiMediaTypes;
 import com.admin.catalogo.infrastructure.api.GenreAPI;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.configuration.json.JsonPageWriter;
 import com.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.admin.catalogo.infrastructure.genre.models.GenreAutocompleteResponse;
 import com.admin.catalogo.infrastructure.genre.models.GenreListResponse;
-import com.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 
 @RestController
 public class GenreController implements GenreAPI {
@@ -31,18 +45,34 @@ public class GenreController implements GenreAPI {
 
     private final ListGenreUseCase listGenreUseCase;
 
+    private final StreamGenresUseCase streamGenresUseCase;
+
     private final UpdateGenreUseCase updateGenreUseCase;
 
+    private final AutocompleteGenresUseCase autocompleteGenresUseCase;
+
+    private final ListGenreChangesUseCase listGenreChangesUseCase;
+
+    private final ResponseBytesCache responseBytesCache;
+
     public GenreController(final CreateGenreUseCase createGenreUseCase,
                            final DeleteGenreUseCase deleteGenreUseCase,
                            final GetGenreByIdUseCase getGenreByIdUseCase,
                            final ListGenreUseCase listGenreUseCase,
-                           final UpdateGenreUseCase updateGenreUseCase) {
+                           final StreamGenresUseCase streamGenresUseCase,
+                           final UpdateGenreUseCase updateGenreUseCase,
+                           final AutocompleteGenresUseCase autocompleteGenresUseCase,
+                           final ListGenreChangesUseCase listGenreChangesUseCase,
+                           final ResponseBytesCache responseBytesCache) {
         this.createGenreUseCase = createGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.streamGenresUseCase = streamGenresUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
+        this.autocompleteGenresUseCase = autocompleteGenresUseCase;
+        this.listGenreChangesUseCase = listGenreChangesUseCase;
+        this.responseBytesCache = responseBytesCache;
     }
 
     @Override
@@ -72,8 +102,49 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public void stream(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        final var aWriter = new JsonPageWriter<GenreListResponse>(response.getOutputStream());
+
+        this.streamGenresUseCase.execute(StreamGenresCommand.with(
+                new SearchQuery(page, perPage, search, sort, direction),
+                aWriter.adapt(GenreApiPresenter::present)
+        ));
+    }
+
+    @Override
+    public List<GenreAutocompleteResponse> autocomplete(final String prefix, final int limit) {
+        return this.autocompleteGenresUseCase.execute(new AutocompleteQuery(prefix, limit)).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<GenreListResponse> changes(final String since, final int limit) {
+        return this.listGenreChangesUseCase.execute(new ChangeQuery(since, limit))
+                .map(GenreApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String accept, final String acceptEncoding) {
+        if (!ApiMediaTypes.prefersJson(accept)) {
+            // the byte cache only holds JSON, binary encodings go through the message converters
+            return ResponseEntity.ok(GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id)));
+        }
+
+        return this.responseBytesCache.getOrLoad(
+                ResponseBytesCache.GENRE,
+                id,
+                acceptEncoding,
+                () -> GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id))
+        );
     }
 
     @Override
@@ -2,7 +2,10 @@ package com.admin.catalogo.infrastructure.api.controllers;
 
 import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.NotImplementedException;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
 import com.admin.catalogo.domain.validation.Error;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,6 +22,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ReadOnlyException.class)
+    public ResponseEntity<?> handleReadOnlyException(
+            final ReadOnlyException ex) {
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+                .allow(HttpMethod.GET, HttpMethod.HEAD)
+                .body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = NotImplementedException.class)
+    public ResponseEntity<?> handleNotImplementedException(
+            final NotImplementedException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(ApiError.from(ex));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?>handleDomainException(
             final DomainException ex) {
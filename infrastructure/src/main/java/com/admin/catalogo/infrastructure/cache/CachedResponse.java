@@ -0,0 +1,8 @@
+package com.admin.catalogo.infrastructure.cache;
+
+public record CachedResponse(
+        byte[] body,
+        String etag,
+        boolean gzipped
+) {
+}
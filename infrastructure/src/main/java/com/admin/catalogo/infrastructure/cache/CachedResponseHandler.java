@@ -0,0 +1,113 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.infrastructure.api.ApiMediaTypes;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Undertow handler placed in front of the servlet deployment. A {@code GET} for a single
+ * category or genre whose bytes are already in {@link ResponseBytesCache} is answered on
+ * the IO thread; anything else, including a busy cache segment, falls through to Spring MVC
+ * unchanged. Servlet filters and interceptors are not applied to the requests answered here.
+ */
+public class CachedResponseHandler implements HttpHandler {
+
+    private static final Map<String, String> AGGREGATES = Map.of(
+            "categories", ResponseBytesCache.CATEGORY,
+            "genres", ResponseBytesCache.GENRE
+    );
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final HttpHandler next;
+
+    private final ResponseBytesCache responseBytesCache;
+
+    public CachedResponseHandler(final HttpHandler next, final ResponseBytesCache responseBytesCache) {
+        this.next = Objects.requireNonNull(next);
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
+    }
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        final var cached = lookup(exchange);
+        if (cached == null) {
+            this.next.handleRequest(exchange);
+            return;
+        }
+
+        final var headers = exchange.getResponseHeaders();
+        headers.put(Headers.ETAG, cached.etag());
+        headers.put(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+
+        if (matches(exchange.getRequestHeaders().getFirst(Headers.IF_NONE_MATCH), cached.etag())) {
+            exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+            exchange.endExchange();
+            return;
+        }
+
+        headers.put(Headers.CONTENT_TYPE, APPLICATION_JSON);
+        headers.put(Headers.CONTENT_LENGTH, cached.body().length);
+        if (cached.gzipped()) {
+            headers.put(Headers.CONTENT_ENCODING, "gzip");
+        }
+        exchange.getResponseSender().send(ByteBuffer.wrap(cached.body()));
+    }
+
+    private CachedResponse lookup(final HttpServerExchange exchange) {
+        if (!Methods.GET.equals(exchange.getRequestMethod())) {
+            return null;
+        }
+
+        final var requestHeaders = exchange.getRequestHeaders();
+        final var cacheControl = requestHeaders.getFirst(Headers.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.contains("no-cache")) {
+            return null;
+        }
+
+        final var accept = requestHeaders.getFirst(Headers.ACCEPT);
+        if ((accept != null && !accept.contains("json") && !accept.contains("*/*")) || !ApiMediaTypes.prefersJson(accept)) {
+            return null;
+        }
+
+        final var path = exchange.getRelativePath();
+        final var separator = path.indexOf('/', 1);
+        if (!path.startsWith("/") || separator < 0 || separator == path.length() - 1 || path.indexOf('/', separator + 1) >= 0) {
+            return null;
+        }
+
+        final var anAggregate = AGGREGATES.get(path.substring(1, separator));
+        if (anAggregate == null) {
+            return null;
+        }
+
+        final var gzip = ResponseBytesCache.acceptsGzip(requestHeaders.getFirst(Headers.ACCEPT_ENCODING));
+        return this.responseBytesCache.peek(anAggregate, path.substring(separator + 1), gzip)
+                .orElse(null);
+    }
+
+    private static boolean matches(final String ifNoneMatch, final String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        final var opaque = stripWeak(etag);
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var value = candidate.trim();
+            if ("*".equals(value) || opaque.equals(stripWeak(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(final String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,54 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.infrastructure.invalidation.Invalidation;
+import com.admin.catalogo.infrastructure.invalidation.InvalidationBus;
+import com.admin.catalogo.infrastructure.invalidation.InvalidationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Write-side entry point to the read caches: evicts locally and announces the eviction on
+ * the {@link InvalidationBus} so the other nodes drop their copies too. Announcements from
+ * other nodes are applied here, and a gap in them clears everything.
+ */
+@Component
+public class CatalogCaches implements InvalidationListener {
+
+    private final ResponseBytesCache responseBytesCache;
+    private final ListQueryCache listQueryCache;
+    private final InvalidationBus invalidationBus;
+
+    public CatalogCaches(
+            final ResponseBytesCache responseBytesCache,
+            final ListQueryCache listQueryCache,
+            final InvalidationBus invalidationBus
+    ) {
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
+        this.listQueryCache = Objects.requireNonNull(listQueryCache);
+        this.invalidationBus = Objects.requireNonNull(invalidationBus);
+        this.invalidationBus.subscribe(this);
+    }
+
+    public void evict(final String anAggregate, final String anId) {
+        this.responseBytesCache.evict(anAggregate, anId);
+        this.listQueryCache.invalidate(anAggregate);
+        this.invalidationBus.publish(anAggregate, anId);
+    }
+
+    @Override
+    public void onInvalidations(final Collection<Invalidation> invalidations) {
+        invalidations.forEach(it -> this.responseBytesCache.evict(it.aggregate(), it.id()));
+        invalidations.stream()
+                .map(Invalidation::aggregate)
+                .distinct()
+                .forEach(this.listQueryCache::invalidate);
+    }
+
+    @Override
+    public void onGap() {
+        this.responseBytesCache.evictAll();
+        this.listQueryCache.invalidateAll();
+    }
+}
@@ -0,0 +1,175 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.utils.SearchQueryUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * List pages keyed by aggregate and normalized {@link SearchQuery}, so a hit skips both the
+ * page query and the count. Every aggregate has a generation that writes bump, both
+ * immediately and after the transaction completes; entries loaded under an older generation
+ * are reloaded on the next read, which keeps writes visible without scanning the cache.
+ * Entries older than {@code ttl} that are still current are served as they are while one
+ * background refresh reloads them, so a hot page never waits on the database; past
+ * {@code max-stale} they are reloaded inline.
+ */
+@Component
+public class ListQueryCache implements DisposableBean {
+
+    private final UnitOfWork unitOfWork;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final ExecutorService refresher;
+
+    public ListQueryCache(
+            final UnitOfWork unitOfWork,
+            @Value("${list-cache.enabled:true}") final boolean enabled,
+            @Value("${list-cache.ttl:5000}") final long ttl,
+            @Value("${list-cache.max-stale:60000}") final long maxStale,
+            @Value("${list-cache.max-entries:1024}") final int maxEntries,
+            @Value("${list-cache.refresh-threads:2}") final int refreshThreads
+    ) {
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(ttl, maxStale));
+        this.maxEntries = maxEntries;
+        this.refresher = Executors.newFixedThreadPool(Math.max(1, refreshThreads), r -> {
+            final var thread = new Thread(r, "list-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The cached page for {@code aQuery}, loading it with {@code aLoader} when missing or
+     * invalidated. Background refreshes run the loader in their own read-only unit of work.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Pagination<T> getOrLoad(
+            final String anAggregate,
+            final SearchQuery aQuery,
+            final Supplier<Pagination<T>> aLoader
+    ) {
+        if (!this.enabled) {
+            return aLoader.get();
+        }
+
+        final var key = new Key(anAggregate, SearchQueryUtils.normalize(aQuery));
+        final var generation = generationOf(anAggregate);
+        final var stamp = generation.get();
+        final var entry = this.entries.get(key);
+
+        if (entry != null && entry.generation() == stamp) {
+            final var age = System.nanoTime() - entry.loadedAt();
+            if (age < this.ttlNanos) {
+                return (Pagination<T>) entry.page();
+            }
+            if (age < this.maxStaleNanos) {
+                refreshInBackground(key, entry, aLoader);
+                return (Pagination<T>) entry.page();
+            }
+        }
+
+        final var page = aLoader.get();
+        store(key, stamp, page);
+        return page;
+    }
+
+    public void invalidate(final String anAggregate) {
+        final var generation = generationOf(anAggregate);
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    // a read between the write and its commit may have cached the old rows
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        this.generations.values().forEach(AtomicLong::incrementAndGet);
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public void destroy() {
+        this.refresher.shutdownNow();
+    }
+
+    private <T> void refreshInBackground(final Key key, final Entry entry, final Supplier<Pagination<T>> aLoader) {
+        if (!entry.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.refresher.execute(() -> {
+                try {
+                    final var stamp = generationOf(key.aggregate()).get();
+                    store(key, stamp, this.unitOfWork.executeReadOnly(aLoader));
+                } finally {
+                    entry.refreshing().set(false);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            entry.refreshing().set(false);
+        }
+    }
+
+    private void store(final Key key, final long stamp, final Pagination<?> page) {
+        if (generationOf(key.aggregate()).get() != stamp) {
+            // invalidated while loading: the rows may predate the write
+            return;
+        }
+        if (this.entries.size() >= this.maxEntries && !this.entries.containsKey(key)) {
+            evictStale();
+            if (this.entries.size() >= this.maxEntries) {
+                return;
+            }
+        }
+        this.entries.put(key, new Entry(stamp, System.nanoTime(), page, new AtomicBoolean()));
+    }
+
+    private void evictStale() {
+        final var now = System.nanoTime();
+        this.entries.entrySet().removeIf(it -> it.getValue().generation() != generationOf(it.getKey().aggregate()).get()
+                || now - it.getValue().loadedAt() >= this.maxStaleNanos);
+    }
+
+    private AtomicLong generationOf(final String anAggregate) {
+        return this.generations.computeIfAbsent(anAggregate, it -> new AtomicLong());
+    }
+
+    private record Key(String aggregate, SearchQuery query) {
+    }
+
+    private record Entry(long generation, long loadedAt, Pagination<?> page, AtomicBoolean refreshing) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size block allocator over lazily allocated direct {@link ByteBuffer} slabs.
+ * Stored bytes live outside the Java heap, so a large cache adds nothing to the live set
+ * the collector has to trace. Not thread-safe: callers serialize access.
+ */
+final class OffHeapSlabs {
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int maxSlabs;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    OffHeapSlabs(final long capacity, final int slabSize, final int blockSize) {
+        if (capacity <= 0 || slabSize <= 0 || blockSize <= 0 || slabSize % blockSize != 0) {
+            throw new IllegalArgumentException("'capacity', 'slab-size' and 'block-size' must be positive and 'slab-size' a multiple of 'block-size'");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = slabSize / blockSize;
+        this.maxSlabs = (int) Math.max(1, Math.min(Integer.MAX_VALUE / this.blocksPerSlab, capacity / slabSize));
+        this.freeBlocks = new int[this.maxSlabs * this.blocksPerSlab];
+    }
+
+    int capacityInBlocks() {
+        return this.freeBlocks.length;
+    }
+
+    int blocksFor(final int length) {
+        return Math.max(1, (length + this.blockSize - 1) / this.blockSize);
+    }
+
+    int[] allocate(final int length) {
+        final var needed = blocksFor(length);
+        while (this.freeCount < needed && this.slabs.size() < this.maxSlabs) {
+            addSlab();
+        }
+        if (this.freeCount < needed) {
+            return null;
+        }
+
+        final var blocks = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            blocks[i] = this.freeBlocks[--this.freeCount];
+        }
+        return blocks;
+    }
+
+    void write(final int[] blocks, final byte[] data) {
+        var offset = 0;
+        for (final var block : blocks) {
+            final var length = Math.min(this.blockSize, data.length - offset);
+            slabOf(block).put(offsetOf(block), data, offset, length);
+            offset += length;
+        }
+    }
+
+    byte[] read(final int[] blocks, final int length) {
+        final var data = new byte[length];
+        var offset = 0;
+        for (final var block : blocks) {
+            final var chunk = Math.min(this.blockSize, length - offset);
+            slabOf(block).get(offsetOf(block), data, offset, chunk);
+            offset += chunk;
+        }
+        return data;
+    }
+
+    void free(final int[] blocks) {
+        for (final var block : blocks) {
+            this.freeBlocks[this.freeCount++] = block;
+        }
+    }
+
+    private void addSlab() {
+        final var slab = this.slabs.size();
+        this.slabs.add(ByteBuffer.allocateDirect(this.blocksPerSlab * this.blockSize));
+        for (int i = this.blocksPerSlab - 1; i >= 0; i--) {
+            this.freeBlocks[this.freeCount++] = slab * this.blocksPerSlab + i;
+        }
+    }
+
+    private ByteBuffer slabOf(final int block) {
+        return this.slabs.get(block / this.blocksPerSlab);
+    }
+
+    private int offsetOf(final int block) {
+        return (block % this.blocksPerSlab) * this.blockSize;
+    }
+}
@@ -0,0 +1,14 @@
+package com.admin.catalogo.infrastructure.cache;
+
+/**
+ * Source of response bodies cached by other nodes.
+ */
+@FunctionalInterface
+public interface PeerFill {
+
+    /**
+     * The JSON body from the node owning the entry, or {@code null} when this node should
+     * load it itself.
+     */
+    byte[] fetch(String anAggregate, String anId);
+}
@@ -0,0 +1,402 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized JSON bodies of single-resource reads, stored in off-heap slabs with an
+ * optional pre-gzipped copy. Entries are keyed by aggregate and id and carry a content
+ * version used as the ETag; writes evict them, both immediately and after the transaction
+ * completes, and a load that raced with an eviction is never stored.
+ */
+@Component
+public class ResponseBytesCache {
+
+    public static final String CATEGORY = "category";
+    public static final String GENRE = "genre";
+
+    private static final int STRIPES = 64;
+
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final int gzipMinSize;
+    private final Segment[] segments;
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+    private final Map<Key, Long> heldSince = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong();
+    private volatile PeerFill peerFill;
+    private volatile long fillHoldNanos;
+    private volatile long allHeldSince;
+
+    public ResponseBytesCache(
+            final ObjectMapper mapper,
+            @Value("${response-cache.enabled:true}") final boolean enabled,
+            @Value("${response-cache.capacity:67108864}") final long capacity,
+            @Value("${response-cache.slab-size:1048576}") final int slabSize,
+            @Value("${response-cache.block-size:512}") final int blockSize,
+            @Value("${response-cache.segments:16}") final int segments,
+            @Value("${response-cache.gzip-min-size:1024}") final int gzipMinSize
+    ) {
+        if (segments <= 0) {
+            throw new IllegalArgumentException("'segments' must be greater than zero");
+        }
+        this.mapper = Objects.requireNonNull(mapper);
+        this.enabled = enabled;
+        this.gzipMinSize = gzipMinSize;
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment(new OffHeapSlabs(Math.max(slabSize, capacity / segments), slabSize, blockSize));
+        }
+    }
+
+    public ResponseEntity<byte[]> getOrLoad(
+            final String anAggregate,
+            final String anId,
+            final String acceptEncoding,
+            final Supplier<?> loader
+    ) {
+        return respond(load(new Key(anAggregate, anId), acceptsGzip(acceptEncoding), loader, this.peerFill));
+    }
+
+    /**
+     * The plain body, loaded on this node even when another one owns it. Answers peer fills,
+     * which must never be forwarded again.
+     */
+    public CachedResponse getOrLoadLocally(final String anAggregate, final String anId, final Supplier<?> loader) {
+        return load(new Key(anAggregate, anId), false, loader, null);
+    }
+
+    /**
+     * Asks {@code aFill} for the body of every local miss before loading it here, except for
+     * entries invalidated on this node within the last {@code aFillHold} ms: the owner may not
+     * have received that invalidation yet and would hand back the old body.
+     */
+    public void fillFrom(final PeerFill aFill, final long aFillHold) {
+        if (aFillHold < 0) {
+            throw new IllegalArgumentException("'fill-hold' must not be negative");
+        }
+        this.fillHoldNanos = TimeUnit.MILLISECONDS.toNanos(aFillHold);
+        this.allHeldSince = System.nanoTime() - this.fillHoldNanos;
+        this.peerFill = Objects.requireNonNull(aFill);
+    }
+
+    public Optional<CachedResponse> find(final String anAggregate, final String anId, final boolean gzip) {
+        return this.enabled ? find(new Key(anAggregate, anId), gzip) : Optional.empty();
+    }
+
+    /**
+     * Non-blocking lookup for callers that must not park, such as Undertow IO threads:
+     * a segment that is busy is reported as a miss.
+     */
+    public Optional<CachedResponse> peek(final String anAggregate, final String anId, final boolean gzip) {
+        if (!this.enabled) {
+            return Optional.empty();
+        }
+        final var key = new Key(anAggregate, anId);
+        return Optional.ofNullable(segmentOf(key).tryGet(key, gzip));
+    }
+
+    public void evict(final String anAggregate, final String anId) {
+        final var key = new Key(anAggregate, anId);
+        invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops every entry, for when this node can no longer tell which ones are stale.
+     */
+    public void evictAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            this.invalidations.incrementAndGet(i);
+        }
+        if (this.peerFill != null) {
+            this.allHeldSince = System.nanoTime();
+            this.heldSince.clear();
+        }
+        for (final var segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        var size = 0;
+        for (final var segment : this.segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public static boolean acceptsGzip(final String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private CachedResponse load(final Key key, final boolean gzip, final Supplier<?> loader, final PeerFill aFill) {
+        if (!this.enabled) {
+            final var body = serialize(loader.get());
+            return new CachedResponse(body, etagOf(body), false);
+        }
+
+        final var cached = find(key, gzip);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final var stamp = this.invalidations.get(stripeOf(key));
+        final var fetched = aFill != null && !held(key) ? aFill.fetch(key.aggregate(), key.id()) : null;
+        final var body = fetched != null ? fetched : serialize(loader.get());
+        final var compressed = body.length >= this.gzipMinSize ? gzip(body) : null;
+        final var etag = etagOf(body);
+        segmentOf(key).put(key, etag, body, compressed, () -> this.invalidations.get(stripeOf(key)) == stamp);
+
+        return gzip && compressed != null
+                ? new CachedResponse(compressed, etag, true)
+                : new CachedResponse(body, etag, false);
+    }
+
+    private Optional<CachedResponse> find(final Key key, final boolean gzip) {
+        return Optional.ofNullable(segmentOf(key).get(key, gzip));
+    }
+
+    private void invalidate(final Key key) {
+        this.invalidations.incrementAndGet(stripeOf(key));
+        segmentOf(key).remove(key);
+        if (this.peerFill != null) {
+            hold(key);
+        }
+    }
+
+    private void hold(final Key key) {
+        final var now = System.nanoTime();
+        this.heldSince.put(key, now);
+
+        final var sweepAt = this.nextSweep.get();
+        if (now - sweepAt >= 0 && this.nextSweep.compareAndSet(sweepAt, now + this.fillHoldNanos)) {
+            this.heldSince.values().removeIf(since -> now - since >= this.fillHoldNanos);
+        }
+    }
+
+    private boolean held(final Key key) {
+        final var now = System.nanoTime();
+        if (now - this.allHeldSince < this.fillHoldNanos) {
+            return true;
+        }
+        final var since = this.heldSince.get(key);
+        return since != null && now - since < this.fillHoldNanos;
+    }
+
+    private Segment segmentOf(final Key key) {
+        return this.segments[Math.floorMod(key.hashCode(), this.segments.length)];
+    }
+
+    private static int stripeOf(final Key key) {
+        return Math.floorMod(key.hashCode() * 31 + 7, STRIPES);
+    }
+
+    private byte[] serialize(final Object body) {
+        try {
+            return this.mapper.writeValueAsBytes(body);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        final var out = new ByteArrayOutputStream(body.length / 2);
+        try (final var gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etagOf(final byte[] body) {
+        final var crc = new CRC32C();
+        crc.update(body);
+        return "W/\"%08x-%x\"".formatted(crc.getValue(), body.length);
+    }
+
+    private static ResponseEntity<byte[]> respond(final CachedResponse aResponse) {
+        final var builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(aResponse.etag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (aResponse.gzipped()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return builder.body(aResponse.body());
+    }
+
+    private record Key(String aggregate, String id) {
+    }
+
+    private record Entry(String etag, int[] plain, int plainLength, int[] gzipped, int gzippedLength) {
+    }
+
+    private static final class Segment {
+
+        private final OffHeapSlabs slabs;
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Segment(final OffHeapSlabs slabs) {
+            this.slabs = slabs;
+        }
+
+        CachedResponse get(final Key key, final boolean gzip) {
+            this.lock.lock();
+            try {
+                return read(key, gzip);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        CachedResponse tryGet(final Key key, final boolean gzip) {
+            if (!this.lock.tryLock()) {
+                return null;
+            }
+            try {
+                return read(key, gzip);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private CachedResponse read(final Key key, final boolean gzip) {
+            final var entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (gzip && entry.gzipped() != null) {
+                return new CachedResponse(this.slabs.read(entry.gzipped(), entry.gzippedLength()), entry.etag(), true);
+            }
+            return new CachedResponse(this.slabs.read(entry.plain(), entry.plainLength()), entry.etag(), false);
+        }
+
+        void put(final Key key, final String etag, final byte[] body, final byte[] gzipped, final BooleanSupplier guard) {
+            this.lock.lock();
+            try {
+                store(key, etag, body, gzipped, guard);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void store(final Key key, final String etag, final byte[] body, final byte[] gzipped, final BooleanSupplier guard) {
+            if (!guard.getAsBoolean()) {
+                return;
+            }
+
+            final var needed = this.slabs.blocksFor(body.length) + (gzipped != null ? this.slabs.blocksFor(gzipped.length) : 0);
+            if (needed > this.slabs.capacityInBlocks()) {
+                return;
+            }
+
+            release(this.entries.remove(key));
+
+            final var plainBlocks = allocate(body.length);
+            final var gzippedBlocks = gzipped != null ? allocate(gzipped.length) : null;
+            if (plainBlocks == null || (gzipped != null && gzippedBlocks == null)) {
+                if (plainBlocks != null) {
+                    this.slabs.free(plainBlocks);
+                }
+                return;
+            }
+
+            this.slabs.write(plainBlocks, body);
+            if (gzippedBlocks != null) {
+                this.slabs.write(gzippedBlocks, gzipped);
+            }
+
+            this.entries.put(key, new Entry(
+                    etag,
+                    plainBlocks,
+                    body.length,
+                    gzippedBlocks,
+                    gzipped != null ? gzipped.length : 0
+            ));
+        }
+
+        void remove(final Key key) {
+            this.lock.lock();
+            try {
+                release(this.entries.remove(key));
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        void clear() {
+            this.lock.lock();
+            try {
+                this.entries.values().forEach(this::release);
+                this.entries.clear();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        int size() {
+            this.lock.lock();
+            try {
+                return this.entries.size();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private int[] allocate(final int length) {
+            var blocks = this.slabs.allocate(length);
+            while (blocks == null && !this.entries.isEmpty()) {
+                final var eldest = this.entries.entrySet().iterator().next();
+                this.entries.remove(eldest.getKey());
+                release(eldest.getValue());
+                blocks = this.slabs.allocate(length);
+            }
+            return blocks;
+        }
+
+        private void release(final Entry entry) {
+            if (entry == null) {
+                return;
+            }
+            this.slabs.free(entry.plain());
+            if (entry.gzipped() != null) {
+                this.slabs.free(entry.gzipped());
+            }
+        }
+    }
+}
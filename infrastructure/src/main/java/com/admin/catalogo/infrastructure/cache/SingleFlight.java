@@ -0,0 +1,97 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load and everyone
+ * arriving while it is in flight gets its result, or its exception. Waiters give up after
+ * {@code maxWait} and run the load themselves, so a stuck leader never holds them longer
+ * than that. Nothing is kept once the load finishes; a caller arriving afterwards starts a
+ * new one. A disabled flight runs every load directly.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long maxWaitMillis;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(final String aName, final boolean enabled, final Duration maxWait, final MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.leaders = counter(aName, "leader", meterRegistry);
+        this.coalesced = counter(aName, "coalesced", meterRegistry);
+        this.timeouts = counter(aName, "timeout", meterRegistry);
+    }
+
+    private static Counter counter(final String aName, final String anOutcome, final MeterRegistry meterRegistry) {
+        return Counter.builder("catalog.single-flight.calls")
+                .description("Reads that ran a load, shared one in flight, or gave up waiting for it")
+                .tag("name", aName)
+                .tag("outcome", anOutcome)
+                .register(meterRegistry);
+    }
+
+    public V execute(final K aKey, final Supplier<V> aLoader) {
+        Objects.requireNonNull(aKey);
+        if (!this.enabled) {
+            return aLoader.get();
+        }
+        final var mine = new CompletableFuture<V>();
+        final var current = this.inFlight.putIfAbsent(aKey, mine);
+        if (current == null) {
+            this.leaders.increment();
+            return lead(aKey, mine, aLoader);
+        }
+
+        this.coalesced.increment();
+        try {
+            return current.get(this.maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            this.timeouts.increment();
+            return aLoader.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight load", e);
+        }
+    }
+
+    public int inFlight() {
+        return this.inFlight.size();
+    }
+
+    private V lead(final K aKey, final CompletableFuture<V> mine, final Supplier<V> aLoader) {
+        final V result;
+        try {
+            result = aLoader.get();
+        } catch (final RuntimeException | Error e) {
+            this.inFlight.remove(aKey, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        // leave the map before completing, so late arrivals load again instead of reusing it
+        this.inFlight.remove(aKey, mine);
+        mine.complete(result);
+        return result;
+    }
+}
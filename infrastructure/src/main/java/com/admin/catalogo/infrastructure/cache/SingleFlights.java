@@ -0,0 +1,44 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.utils.SearchQueryUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Creates the {@link SingleFlight}s put in front of the read use cases, sharing their
+ * settings and meter registry.
+ */
+@Component
+public class SingleFlights {
+
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlights(
+            @Value("${single-flight.enabled:true}") final boolean enabled,
+            @Value("${single-flight.max-wait:2000}") final long maxWait,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.maxWait = Duration.ofMillis(maxWait);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public <K, V> SingleFlight<K, V> create(final String aName) {
+        return new SingleFlight<>(aName, this.enabled, this.maxWait, this.meterRegistry);
+    }
+
+    /**
+     * Key under which equivalent list queries share a load.
+     */
+    public static SearchQuery keyOf(final SearchQuery aQuery) {
+        return SearchQueryUtils.normalize(aQuery);
+    }
+}
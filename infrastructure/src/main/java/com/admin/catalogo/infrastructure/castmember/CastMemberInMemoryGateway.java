@@ -0,0 +1,61 @@
+package com.admin.catalogo.infrastructure.castmember;
+
+import com.admin.catalogo.domain.castmember.CastMember;
+import com.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.admin.catalogo.domain.castmember.CastMemberID;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.inmemory.InMemoryStore;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@Profile("in-memory")
+public class CastMemberInMemoryGateway implements CastMemberGateway {
+
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "createdAt");
+
+    private final InMemoryStore<CastMember> store;
+
+    public CastMemberInMemoryGateway(final InMemoryStore<CastMember> store) {
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public CastMember create(final CastMember aCastMember) {
+        return this.store.put(aCastMember);
+    }
+
+    @Override
+    public void deleteById(final CastMemberID memberID) {
+        this.store.remove(memberID.getValue());
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID memberID) {
+        return this.store.get(memberID.getValue());
+    }
+
+    @Override
+    public CastMember update(final CastMember aCastMember) {
+        return this.store.put(aCastMember);
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, SORTABLE_FIELDS);
+
+        return this.store.page(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.sort(),
+                sort.getOrderFor(aQuery.sort()).isDescending(),
+                aQuery.terms()
+        );
+    }
+}
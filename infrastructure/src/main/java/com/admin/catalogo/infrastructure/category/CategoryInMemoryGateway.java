@@ -0,0 +1,157 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.inmemory.InMemoryStore;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+@Component
+@Profile("in-memory")
+public class CategoryInMemoryGateway implements CategoryGateway {
+
+    private final InMemoryStore<Category> store;
+    private final InMemoryStore<Genre> genreStore;
+    private final ResponseBytesCache responseBytesCache;
+    private final ChangeHorizon changeHorizon;
+
+    public CategoryInMemoryGateway(
+            final InMemoryStore<Category> store,
+            final InMemoryStore<Genre> genreStore,
+            final ResponseBytesCache responseBytesCache,
+            final ChangeHorizon changeHorizon
+    ) {
+        this.store = Objects.requireNonNull(store);
+        this.genreStore = Objects.requireNonNull(genreStore);
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
+        this.changeHorizon = Objects.requireNonNull(changeHorizon);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return save(aCategory);
+    }
+
+    private Category save(final Category aCategory) {
+        final var result = this.store.put(aCategory);
+        this.responseBytesCache.evict(ResponseBytesCache.CATEGORY, result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        final var anIdValue = anId.getValue();
+        if (this.store.remove(anIdValue).isPresent()) {
+            final var now = Instant.now();
+            final var affectedGenres = this.genreStore.replaceAll(
+                    aGenre -> aGenre.getCategories().contains(anId),
+                    aGenre -> Genre.with(
+                            aGenre.getId(),
+                            aGenre.getName(),
+                            aGenre.isActive(),
+                            aGenre.getCategories().stream().filter(it -> !it.equals(anId)).toList(),
+                            aGenre.getCreatedAt(),
+                            now,
+                            aGenre.getDeletedAt()
+                    )
+            );
+            this.responseBytesCache.evict(ResponseBytesCache.CATEGORY, anIdValue);
+            affectedGenres.forEach(aGenreId -> this.responseBytesCache.evict(ResponseBytesCache.GENRE, aGenreId));
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.store.get(anId.getValue());
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return save(aCategory);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, CategoryMySQLGateway.SORTABLE_FIELDS);
+
+        return this.store.page(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.sort(),
+                sort.getOrderFor(aQuery.sort()).isDescending(),
+                aQuery.terms()
+        );
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> CategoryIds) {
+        return StreamSupport.stream(CategoryIds.spliterator(), false)
+                .map(CategoryID::getValue)
+                .filter(this.store::contains)
+                .map(IdentifierPool::categoryID)
+                .toList();
+    }
+
+    @Override
+    public List<Category> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, CategoryMySQLGateway.SORTABLE_FIELDS);
+        final var byCreatedAt = "createdAt".equals(aQuery.sort());
+
+        return this.store.seek(
+                byCreatedAt ? "createdAt" : InMemoryStore.SEARCH_KEY,
+                sort.iterator().next().isDescending(),
+                byCreatedAt ? aQuery.afterCreatedAt() : SearchKeyUtils.normalize(aQuery.afterName()),
+                aQuery.afterId(),
+                aQuery.limit(),
+                aQuery.terms()
+        );
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> categoryIds) {
+        return StreamSupport.stream(categoryIds.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .map(this.store::get)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public List<Category> autocomplete(final AutocompleteQuery aQuery) {
+        return this.store.startingWith(InMemoryStore.SEARCH_KEY, aQuery.prefix(), aQuery.limit());
+    }
+
+    @Override
+    public ChangeFeed<Category> changes(final ChangeQuery aQuery) {
+        final var since = aQuery.cursor();
+        final var fetchSize = aQuery.limit() + 1;
+        final var until = this.changeHorizon.now();
+
+        return ChangeFeed.merge(
+                since,
+                aQuery.limit(),
+                this.store.changedSince(since, until, fetchSize),
+                this.store.deletedSince(since, until, fetchSize)
+        );
+    }
+}
@@ -1,29 +1,84 @@
 package com.admin.catalogo.infrastructure.category;
 
 import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryDeleted;
 import com.admin.catalogo.domain.category.CategoryGateway;
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.InstantUtils;
+import com.admin.catalogo.infrastructure.cache.CatalogCaches;
+import com.admin.catalogo.infrastructure.cache.ListQueryCache;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
 import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import com.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.admin.catalogo.infrastructure.genre.readmodel.GenreReadModelProjector;
+import com.admin.catalogo.infrastructure.outbox.TransactionalOutbox;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+import com.admin.catalogo.infrastructure.utils.SearchQueryUtils;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import com.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @Component
+@Profile("!in-memory & !replica & !sharded")
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "createdAt");
+
+    private static final Sort AUTOCOMPLETE_SORT = Sort.by("searchKey").and(Sort.by("id"));
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
-        this.repository = repository;
+    private static final Sort CHANGES_SORT = Sort.by("updatedAt").and(Sort.by("id"));
+
+    private final CategoryRepository repository;
+    private final GenreRepository genreRepository;
+    private final GenreReadModelProjector genreReadModelProjector;
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionalOutbox outbox;
+    private final CatalogCaches catalogCaches;
+    private final ListQueryCache listQueryCache;
+    private final ChangeHorizon changeHorizon;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final GenreRepository genreRepository,
+            final GenreReadModelProjector genreReadModelProjector,
+            final TombstoneRepository tombstoneRepository,
+            final TransactionalOutbox outbox,
+            final CatalogCaches catalogCaches,
+            final ListQueryCache listQueryCache,
+            final ChangeHorizon changeHorizon
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.genreReadModelProjector = Objects.requireNonNull(genreReadModelProjector);
+        this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.catalogCaches = Objects.requireNonNull(catalogCaches);
+        this.listQueryCache = Objects.requireNonNull(listQueryCache);
+        this.changeHorizon = Objects.requireNonNull(changeHorizon);
     }
 
     @Override
@@ -32,14 +87,25 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        this.outbox.publish(TransactionalOutbox.CATEGORY, aCategory);
+        this.catalogCaches.evict(ResponseBytesCache.CATEGORY, result.getId().getValue());
+        return result;
     }
 
     @Override
     public void deleteById(final CategoryID anId) {
         final var anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue)) {
+            final var affectedGenres = this.genreRepository.findAllIdsByCategoryId(anIdValue);
+            this.genreRepository.touchAllByCategoryId(anIdValue, InstantUtils.now());
             this.repository.deleteById(anIdValue);
+            this.repository.flush();
+            this.genreReadModelProjector.refresh(affectedGenres);
+            this.catalogCaches.evict(ResponseBytesCache.CATEGORY, anIdValue);
+            affectedGenres.forEach(aGenreId -> this.catalogCaches.evict(ResponseBytesCache.GENRE, aGenreId));
+            this.tombstoneRepository.save(TombstoneJpaEntity.of(TombstoneJpaEntity.CATEGORY, anIdValue));
+            this.outbox.append(TransactionalOutbox.CATEGORY, new CategoryDeleted(anIdValue, Instant.now()));
         }
     }
 
@@ -56,19 +122,21 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var aNormalizedQuery = SearchQueryUtils.normalize(aQuery);
+        return this.listQueryCache.getOrLoad(ResponseBytesCache.CATEGORY, aNormalizedQuery, () -> load(aNormalizedQuery));
+    }
 
+    private Pagination<Category> load(final SearchQuery aQuery) {
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                SortUtils.sort(aQuery, SORTABLE_FIELDS)
         );
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
+        final var pageResult = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isEmpty())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+                .map(terms -> this.repository.findAllByTerms(SqlUtils.like(terms), page))
+                .orElseGet(() -> this.repository.findAll(page));
 
         return new Pagination<>(
                 pageResult.getNumber(),
@@ -78,20 +146,72 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    @Override
+    public List<Category> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, SORTABLE_FIELDS);
+        final var terms = SqlUtils.like(Optional.ofNullable(aQuery.terms()).map(String::trim).orElse(""));
+        final var descending = sort.iterator().next().isDescending();
+
+        return this.repository.seek(terms, aQuery, descending, PageRequest.of(0, aQuery.limit(), sort)).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> categoryIds) {
+        final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var found = this.repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> CategoryIds) {
         final var ids = StreamSupport.stream(CategoryIds.spliterator(), false)
                 .map(CategoryID::getValue)
+                .distinct()
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
-                .map(CategoryID::from)
+        // answered in the order asked for, whatever order the database returns them in
+        final var found = new HashSet<>(this.repository.existsByIds(ids));
+        return ids.stream()
+                .filter(found::contains)
+                .map(IdentifierPool::categoryID)
+                .toList();
+    }
+
+    @Override
+    public List<Category> autocomplete(final AutocompleteQuery aQuery) {
+        final var page = PageRequest.of(0, aQuery.limit(), AUTOCOMPLETE_SORT);
+
+        return this.repository.findAllBySearchKeyPrefix(SqlUtils.startsWith(aQuery.prefix()), page).stream()
+                .map(CategoryJpaEntity::toAggregate)
                 .toList();
     }
 
-    private Specification<CategoryJpaEntity> assembleSpecification(final String str){
-        final Specification<CategoryJpaEntity> nameLike = SpecificationUtils.like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = SpecificationUtils.like("description", str);
-        return nameLike.or(descriptionLike);
+    @Override
+    public ChangeFeed<Category> changes(final ChangeQuery aQuery) {
+        final var since = aQuery.cursor();
+        final var fetchSize = aQuery.limit() + 1;
+        final var until = this.changeHorizon.now();
+
+        final var upserts = this.repository.findAllChangedSince(since.changedAt(), since.id(), until, PageRequest.of(0, fetchSize, CHANGES_SORT)).stream()
+                .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toAggregate()))
+                .toList();
+
+        final var deletions = this.tombstoneRepository.<Category>deletionsSince(TombstoneJpaEntity.CATEGORY, since, until, fetchSize);
+
+        return ChangeFeed.merge(since, aQuery.limit(), upserts, deletions);
     }
 }
@@ -0,0 +1,290 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryDeleted;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.InstantUtils;
+import com.admin.catalogo.infrastructure.cache.CatalogCaches;
+import com.admin.catalogo.infrastructure.cache.ListQueryCache;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneRepository;
+import com.admin.catalogo.infrastructure.outbox.TransactionalOutbox;
+import com.admin.catalogo.infrastructure.shard.KWayMerge;
+import com.admin.catalogo.infrastructure.shard.ShardRouter;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+import com.admin.catalogo.infrastructure.utils.SearchQueryUtils;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import com.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Categories spread over the shards by id hash. Point operations go to the owning shard;
+ * listings ask every shard for its first {@code (page + 1) * perPage} rows in the requested
+ * order and merge them, so deep pages cost more on every shard.
+ * <p>
+ * No transaction spans the primary and a shard. Writes reach the shard as the primary unit of
+ * work commits, after its outbox rows and tombstones, so a failed shard write takes those back
+ * with it; only a primary commit failing after the shard committed leaves a row without its
+ * event, and that row still shows up in the change feed, which reads the shards.
+ * <p>
+ * The flip side is that a unit of work cannot read its own writes: a category created or
+ * deleted in it is not on the shard until it commits, so {@code findById} and
+ * {@code existsByIds} still answer from before the write.
+ */
+@Component
+@Profile("sharded")
+public class CategoryShardedGateway implements CategoryGateway {
+
+    private static final Sort AUTOCOMPLETE_SORT = Sort.by("searchKey").and(Sort.by("id"));
+
+    private static final Sort CHANGES_SORT = Sort.by("updatedAt").and(Sort.by("id"));
+
+    private static final Comparator<CategoryJpaEntity> AUTOCOMPLETE_ORDER =
+            Comparator.comparing(CategoryJpaEntity::getSearchKey).thenComparing(CategoryJpaEntity::getId);
+
+    private static final Comparator<CategoryJpaEntity> CHANGES_ORDER =
+            Comparator.comparing(CategoryJpaEntity::getUpdatedAt).thenComparing(CategoryJpaEntity::getId);
+
+    private final ShardRouter shardRouter;
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionalOutbox outbox;
+    private final CatalogCaches catalogCaches;
+    private final ListQueryCache listQueryCache;
+    private final ChangeHorizon changeHorizon;
+
+    public CategoryShardedGateway(
+            final ShardRouter shardRouter,
+            final TombstoneRepository tombstoneRepository,
+            final TransactionalOutbox outbox,
+            final CatalogCaches catalogCaches,
+            final ListQueryCache listQueryCache,
+            final ChangeHorizon changeHorizon
+    ) {
+        this.shardRouter = Objects.requireNonNull(shardRouter);
+        this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.catalogCaches = Objects.requireNonNull(catalogCaches);
+        this.listQueryCache = Objects.requireNonNull(listQueryCache);
+        this.changeHorizon = Objects.requireNonNull(changeHorizon);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return save(aCategory);
+    }
+
+    private Category save(final Category aCategory) {
+        final var anEntity = CategoryJpaEntity.from(aCategory);
+        final var aShard = this.shardRouter.shardOf(anEntity.getId());
+        this.outbox.publish(TransactionalOutbox.CATEGORY, aCategory);
+        this.catalogCaches.evict(ResponseBytesCache.CATEGORY, anEntity.getId());
+        this.shardRouter.beforeCommit(() -> aShard.execute(() -> aShard.categoryRepository().save(anEntity)));
+        return anEntity.toAggregate();
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        final var anIdValue = anId.getValue();
+        final var aShard = this.shardRouter.shardOf(anIdValue);
+        if (!aShard.executeReadOnly(() -> aShard.categoryRepository().existsById(anIdValue))) {
+            return;
+        }
+
+        this.catalogCaches.evict(ResponseBytesCache.CATEGORY, anIdValue);
+        this.tombstoneRepository.save(TombstoneJpaEntity.of(TombstoneJpaEntity.CATEGORY, anIdValue));
+        this.outbox.append(TransactionalOutbox.CATEGORY, new CategoryDeleted(anIdValue, Instant.now()));
+
+        this.shardRouter.beforeCommit(() -> {
+            // genres on any shard may link to the category; there is no foreign key to cascade.
+            // They are unlinked first, so a failed unlink leaves the category where it was
+            final var now = InstantUtils.now();
+            final var affectedGenres = this.shardRouter.scatter(it -> it.execute(() -> {
+                final var ids = it.genreRepository().findAllIdsByCategoryId(anIdValue);
+                if (!ids.isEmpty()) {
+                    it.genreRepository().touchAllByCategoryId(anIdValue, now);
+                    it.genreRepository().deleteAllLinksByCategoryId(anIdValue);
+                }
+                return ids;
+            })).stream().flatMap(List::stream).toList();
+            affectedGenres.forEach(aGenreId -> this.catalogCaches.evict(ResponseBytesCache.GENRE, aGenreId));
+
+            aShard.execute(() -> {
+                aShard.categoryRepository().deleteById(anIdValue);
+                return null;
+            });
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var aShard = this.shardRouter.shardOf(anId.getValue());
+        return aShard.executeReadOnly(() -> aShard.categoryRepository().findById(anId.getValue())
+                .map(CategoryJpaEntity::toAggregate));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return save(aCategory);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var aNormalizedQuery = SearchQueryUtils.normalize(aQuery);
+        return this.listQueryCache.getOrLoad(ResponseBytesCache.CATEGORY, aNormalizedQuery, () -> load(aNormalizedQuery));
+    }
+
+    private Pagination<Category> load(final SearchQuery aQuery) {
+        final var sort = SortUtils.sortByKey(aQuery, CategoryMySQLGateway.SORTABLE_FIELDS);
+        final var head = PageRequest.of(0, (int) Math.min((aQuery.page() + 1L) * aQuery.perPage(), Integer.MAX_VALUE), sort);
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isEmpty())
+                .map(SqlUtils::like);
+
+        final var pages = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() -> terms
+                .map(it -> aShard.categoryRepository().findAllByTerms(it, head))
+                .orElseGet(() -> aShard.categoryRepository().findAll(head))));
+
+        final var items = KWayMerge.merge(
+                pages.stream().map(Page::getContent).toList(),
+                orderOf(aQuery.sort(), sort.iterator().next().isDescending()),
+                (long) aQuery.page() * aQuery.perPage(),
+                aQuery.perPage()
+        );
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                pages.stream().mapToLong(Page::getTotalElements).sum(),
+                items.stream().map(CategoryJpaEntity::toAggregate).toList()
+        );
+    }
+
+    /**
+     * The order the shards return rows in: names by search key, which folds case and accents.
+     */
+    private static Comparator<CategoryJpaEntity> orderOf(final String aField, final boolean descending) {
+        final Comparator<CategoryJpaEntity> byField = "createdAt".equals(aField)
+                ? Comparator.comparing(CategoryJpaEntity::getCreatedAt)
+                : Comparator.comparing(CategoryJpaEntity::getSearchKey);
+        final var order = byField.thenComparing(CategoryJpaEntity::getId);
+        return descending ? order.reversed() : order;
+    }
+
+    @Override
+    public List<Category> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, CategoryMySQLGateway.SORTABLE_FIELDS);
+        final var terms = SqlUtils.like(Optional.ofNullable(aQuery.terms()).map(String::trim).orElse(""));
+        final var descending = sort.iterator().next().isDescending();
+        final var page = PageRequest.of(0, aQuery.limit(), sort);
+
+        // every shard resumes after the same row, so their first rows are enough to merge
+        final var runs = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() ->
+                aShard.categoryRepository().seek(terms, aQuery, descending, page)));
+
+        return KWayMerge.merge(runs, orderOf(aQuery.sort(), descending), 0, aQuery.limit()).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> categoryIds) {
+        final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var partitions = this.shardRouter.partition(ids);
+        final var found = this.shardRouter.scatter(partitions.keySet(), aShard -> aShard.executeReadOnly(() ->
+                        aShard.categoryRepository().findAllById(partitions.get(aShard))))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIds) {
+        final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var partitions = this.shardRouter.partition(ids);
+        final var found = this.shardRouter.scatter(partitions.keySet(), aShard -> aShard.executeReadOnly(() ->
+                        aShard.categoryRepository().existsByIds(partitions.get(aShard))))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(HashSet::new));
+        return ids.stream()
+                .filter(found::contains)
+                .map(IdentifierPool::categoryID)
+                .toList();
+    }
+
+    @Override
+    public List<Category> autocomplete(final AutocompleteQuery aQuery) {
+        final var page = PageRequest.of(0, aQuery.limit(), AUTOCOMPLETE_SORT);
+        final var prefix = SqlUtils.startsWith(aQuery.prefix());
+
+        final var runs = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() ->
+                aShard.categoryRepository().findAllBySearchKeyPrefix(prefix, page)));
+
+        return KWayMerge.merge(runs, AUTOCOMPLETE_ORDER, 0, aQuery.limit()).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<Category> changes(final ChangeQuery aQuery) {
+        final var since = aQuery.cursor();
+        final var fetchSize = aQuery.limit() + 1;
+        final var until = this.changeHorizon.now();
+        final var page = PageRequest.of(0, fetchSize, CHANGES_SORT);
+
+        final var runs = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() ->
+                aShard.categoryRepository().findAllChangedSince(since.changedAt(), since.id(), until, page)));
+
+        final var upserts = KWayMerge.merge(runs, CHANGES_ORDER, 0, fetchSize).stream()
+                .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toAggregate()))
+                .toList();
+
+        final var deletions = this.tombstoneRepository.<Category>deletionsSince(TombstoneJpaEntity.CATEGORY, since, until, fetchSize);
+
+        return ChangeFeed.merge(since, aQuery.limit(), upserts, deletions);
+    }
+}
@@ -0,0 +1,129 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.NotImplementedException;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.infrastructure.snapshot.CatalogSnapshot;
+import com.admin.catalogo.infrastructure.snapshot.CatalogSnapshotFollower;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+@Component
+@Profile("replica")
+public class CategorySnapshotGateway implements CategoryGateway {
+
+    private final CatalogSnapshotFollower follower;
+
+    public CategorySnapshotGateway(final CatalogSnapshotFollower follower) {
+        this.follower = Objects.requireNonNull(follower);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var snapshot = this.follower.current();
+        final var aRecord = snapshot.categories().find(anId.getValue());
+        return aRecord < 0 ? Optional.empty() : Optional.of(snapshot.category(aRecord));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        throw readOnly();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, CategoryMySQLGateway.SORTABLE_FIELDS);
+        final var snapshot = this.follower.current();
+        final var terms = aQuery.terms();
+        final var upperTerms = terms == null || terms.isBlank() ? null : terms.toUpperCase(Locale.ROOT);
+
+        return snapshot.categories().page(
+                aQuery.page(),
+                aQuery.perPage(),
+                CatalogSnapshot.orderOf(aQuery.sort()),
+                sort.getOrderFor(aQuery.sort()).isDescending(),
+                upperTerms == null ? null : aRecord -> snapshot.categoryMatches(aRecord, upperTerms),
+                snapshot::category
+        );
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIds) {
+        final var categories = this.follower.current().categories();
+        return StreamSupport.stream(categoryIds.spliterator(), false)
+                .filter(it -> categories.find(it.getValue()) >= 0)
+                .toList();
+    }
+
+    @Override
+    public List<Category> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, CategoryMySQLGateway.SORTABLE_FIELDS);
+        final var snapshot = this.follower.current();
+        final var terms = aQuery.terms();
+        final var upperTerms = terms == null || terms.isBlank() ? null : terms.trim().toUpperCase(Locale.ROOT);
+
+        return snapshot.categories().seek(
+                aQuery,
+                CatalogSnapshot.seekOrderOf(aQuery.sort()),
+                sort.iterator().next().isDescending(),
+                upperTerms == null ? null : aRecord -> snapshot.categoryMatches(aRecord, upperTerms),
+                snapshot::category
+        );
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> categoryIds) {
+        final var snapshot = this.follower.current();
+        return StreamSupport.stream(categoryIds.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .mapToInt(snapshot.categories()::find)
+                .filter(aRecord -> aRecord >= 0)
+                .mapToObj(snapshot::category)
+                .toList();
+    }
+
+    @Override
+    public List<Category> autocomplete(final AutocompleteQuery aQuery) {
+        final var snapshot = this.follower.current();
+        return Arrays.stream(snapshot.categories().startingWith(aQuery.prefix(), aQuery.limit()))
+                .mapToObj(snapshot::category)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<Category> changes(final ChangeQuery aQuery) {
+        // snapshots hold no tombstones, so a feed from them could never report a deletion
+        throw NotImplementedException.with("Read replicas do not keep a change feed");
+    }
+
+    private static ReadOnlyException readOnly() {
+        return ReadOnlyException.with("Read replicas serve a read-only catalog snapshot");
+    }
+}
@@ -0,0 +1,9 @@
+package com.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategoryAutocompleteResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
@@ -1,7 +1,8 @@
 package com.admin.catalogo.infrastructure.category.persistence;
 
 import com.admin.catalogo.domain.category.Category;
-import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -22,6 +23,9 @@ public class CategoryJpaEntity {
     @Column(name = "description", length = 4000, nullable = true)
     private String description;
 
+    @Column(name = "search_key", length = 255, nullable = false)
+    private String searchKey;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
@@ -48,6 +52,7 @@ public class CategoryJpaEntity {
         this.id = id;
         this.name = name;
         this.description = description;
+        refreshSearchKey();
         this.active = active;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -68,7 +73,7 @@ public class CategoryJpaEntity {
 
     public Category toAggregate() {
         return Category.with(
-                CategoryID.from(getId()),
+                IdentifierPool.categoryID(getId()),
                 getName(),
                 getDescription(),
                 isActive(),
@@ -92,6 +97,7 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        refreshSearchKey();
     }
 
     public String getDescription() {
@@ -102,6 +108,17 @@ public class CategoryJpaEntity {
         this.description = description;
     }
 
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    /**
+     * Derives {@code search_key} from the name; every write of the name goes through here.
+     */
+    public void refreshSearchKey() {
+        this.searchKey = SearchKeyUtils.normalize(this.name);
+    }
+
     public boolean isActive() {
         return active;
     }
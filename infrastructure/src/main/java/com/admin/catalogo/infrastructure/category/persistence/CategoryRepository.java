@@ -1,19 +1,62 @@
 package com.admin.catalogo.infrastructure.category.persistence;
 
-import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity,String> {
 
-    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> specification, Pageable page);
+    @Query(value = "select c from Category c where upper(c.name) like :terms or upper(c.description) like :terms")
+    Page<CategoryJpaEntity> findAllByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "select c from Category c where c.searchKey like :prefix escape '!'")
+    List<CategoryJpaEntity> findAllBySearchKeyPrefix(@Param("prefix") String prefix, Pageable page);
+
+    @Query(value = "select c from Category c where c.searchKey = '' and c.id > :id")
+    List<CategoryJpaEntity> findAllWithoutSearchKeyAfter(@Param("id") String id, Pageable page);
+
+    @Query(value = "select c from Category c where (c.updatedAt > :updatedAt or (c.updatedAt = :updatedAt and c.id > :id)) and c.updatedAt <= :until")
+    List<CategoryJpaEntity> findAllChangedSince(@Param("updatedAt") Instant updatedAt, @Param("id") String id, @Param("until") Instant until, Pageable page);
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c from Category c where (upper(c.name) like :terms or upper(c.description) like :terms) and (c.searchKey > :searchKey or (c.searchKey = :searchKey and c.id > :id))")
+    List<CategoryJpaEntity> findAllByTermsAfterSearchKey(@Param("terms") String terms, @Param("searchKey") String searchKey, @Param("id") String id, Pageable page);
+
+    @Query(value = "select c from Category c where (upper(c.name) like :terms or upper(c.description) like :terms) and (c.searchKey < :searchKey or (c.searchKey = :searchKey and c.id < :id))")
+    List<CategoryJpaEntity> findAllByTermsBeforeSearchKey(@Param("terms") String terms, @Param("searchKey") String searchKey, @Param("id") String id, Pageable page);
+
+    @Query(value = "select c from Category c where (upper(c.name) like :terms or upper(c.description) like :terms) and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))")
+    List<CategoryJpaEntity> findAllByTermsAfterCreatedAt(@Param("terms") String terms, @Param("createdAt") Instant createdAt, @Param("id") String id, Pageable page);
+
+    @Query(value = "select c from Category c where (upper(c.name) like :terms or upper(c.description) like :terms) and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))")
+    List<CategoryJpaEntity> findAllByTermsBeforeCreatedAt(@Param("terms") String terms, @Param("createdAt") Instant createdAt, @Param("id") String id, Pageable page);
+
+    /**
+     * One keyset read in the order of {@code page}, which must sort by search key or creation
+     * time then id: the first rows matching the terms, or the ones after the row the query
+     * resumes from.
+     */
+    default List<CategoryJpaEntity> seek(final String terms, final SeekQuery aQuery, final boolean descending, final Pageable page) {
+        if (aQuery.isFirst()) {
+            return findAllByTerms(terms, page).getContent();
+        }
+        if ("createdAt".equals(aQuery.sort())) {
+            return descending
+                    ? findAllByTermsBeforeCreatedAt(terms, aQuery.afterCreatedAt(), aQuery.afterId(), page)
+                    : findAllByTermsAfterCreatedAt(terms, aQuery.afterCreatedAt(), aQuery.afterId(), page);
+        }
+        final var searchKey = SearchKeyUtils.normalize(aQuery.afterName());
+        return descending
+                ? findAllByTermsBeforeSearchKey(terms, searchKey, aQuery.afterId(), page)
+                : findAllByTermsAfterSearchKey(terms, searchKey, aQuery.afterId(), page);
+    }
 }
@@ -1,7 +1,9 @@
 package com.admin.catalogo.infrastructure.category.presenters;
 
+import com.admin.catalogo.application.category.retrieve.autocomplete.CategoryAutocompleteOutput;
 import com.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.infrastructure.category.models.CategoryAutocompleteResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 
@@ -42,4 +44,11 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static CategoryAutocompleteResponse present(final CategoryAutocompleteOutput output) {
+        return new CategoryAutocompleteResponse(
+                output.id(),
+                output.name()
+        );
+    }
 }
@@ -0,0 +1,55 @@
+package com.admin.catalogo.infrastructure.category.presenters;
+
+import com.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.grpc.GrpcTimestamps;
+import com.admin.catalogo.infrastructure.grpc.proto.Category;
+import com.admin.catalogo.infrastructure.grpc.proto.CategoryListItem;
+import com.admin.catalogo.infrastructure.grpc.proto.CategoryPage;
+
+public interface CategoryGrpcPresenter {
+
+    static Category present(final CategoryOutput output) {
+        final var aCategory = Category.newBuilder()
+                .setId(output.id().getValue())
+                .setName(output.name())
+                .setIsActive(output.isActive())
+                .setCreatedAt(GrpcTimestamps.from(output.createdAt()))
+                .setUpdatedAt(GrpcTimestamps.from(output.updatedAt()));
+
+        if (output.description() != null) {
+            aCategory.setDescription(output.description());
+        }
+        if (output.deletedAt() != null) {
+            aCategory.setDeletedAt(GrpcTimestamps.from(output.deletedAt()));
+        }
+        return aCategory.build();
+    }
+
+    static CategoryListItem present(final CategoryListOutput output) {
+        final var anItem = CategoryListItem.newBuilder()
+                .setId(output.id().getValue())
+                .setName(output.name())
+                .setIsActive(output.isActive())
+                .setCreatedAt(GrpcTimestamps.from(output.createdAt()));
+
+        if (output.description() != null) {
+            anItem.setDescription(output.description());
+        }
+        if (output.deletedAt() != null) {
+            anItem.setDeletedAt(GrpcTimestamps.from(output.deletedAt()));
+        }
+        return anItem.build();
+    }
+
+    static CategoryPage present(final Pagination<CategoryListOutput> aPage) {
+        final var aResponse = CategoryPage.newBuilder()
+                .setCurrentPage(aPage.currentPage())
+                .setPerPage(aPage.perPage())
+                .setTotal(aPage.total());
+
+        aPage.items().forEach(it -> aResponse.addItems(present(it)));
+        return aResponse.build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.admin.catalogo.infrastructure.changes;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Upper bound of what a change feed may hand out. {@code updated_at} and {@code removed_at} are
+ * stamped by the writer before it commits, so a row can become visible behind a cursor that
+ * already moved past it. Write units of work time out after {@code unit-of-work.write-timeout};
+ * with a settle window longer than that, everything stamped before the horizon has either
+ * committed or rolled back, and the cursor never skips a late commit. A zero window turns the
+ * bound off.
+ */
+@Component
+public class ChangeHorizon {
+
+    private final long settleWindowMillis;
+
+    public ChangeHorizon(
+            @Value("${change-feed.settle-window:10000}") final long settleWindowMillis,
+            @Value("${unit-of-work.write-timeout:5}") final int writeTimeoutSeconds
+    ) {
+        if (settleWindowMillis < 0) {
+            throw new IllegalArgumentException("'settle-window' must not be negative");
+        }
+        if (settleWindowMillis != 0 && settleWindowMillis <= writeTimeoutSeconds * 1000L) {
+            throw new IllegalArgumentException("'settle-window' must be longer than 'write-timeout'");
+        }
+        this.settleWindowMillis = settleWindowMillis;
+    }
+
+    public Instant now() {
+        return Instant.now().minusMillis(this.settleWindowMillis);
+    }
+}
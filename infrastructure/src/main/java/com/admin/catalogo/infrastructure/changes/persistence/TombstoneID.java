@@ -0,0 +1,56 @@
+package com.admin.catalogo.infrastructure.changes.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class TombstoneID implements Serializable {
+
+    @Column(name = "aggregate", nullable = false, length = 32)
+    private String aggregate;
+
+    @Column(name = "entity_id", nullable = false, length = 36)
+    private String entityId;
+
+    public TombstoneID() {
+    }
+
+    private TombstoneID(final String anAggregate, final String anEntityId) {
+        this.aggregate = anAggregate;
+        this.entityId = anEntityId;
+    }
+
+    public static TombstoneID from(final String anAggregate, final String anEntityId) {
+        return new TombstoneID(anAggregate, anEntityId);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        final TombstoneID that = (TombstoneID) o;
+        return Objects.equals(aggregate, that.aggregate) && Objects.equals(entityId, that.entityId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(aggregate, entityId);
+    }
+
+    public String getAggregate() {
+        return aggregate;
+    }
+
+    public void setAggregate(String aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+}
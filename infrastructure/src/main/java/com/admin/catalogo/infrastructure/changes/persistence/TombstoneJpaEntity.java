@@ -0,0 +1,56 @@
+package com.admin.catalogo.infrastructure.changes.persistence;
+
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.utils.InstantUtils;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "Tombstone")
+@Table(name = "tombstones")
+public class TombstoneJpaEntity {
+
+    public static final String CATEGORY = "category";
+    public static final String GENRE = "genre";
+
+    @EmbeddedId
+    private TombstoneID id;
+
+    @Column(name = "removed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant removedAt;
+
+    public TombstoneJpaEntity() {
+    }
+
+    private TombstoneJpaEntity(final TombstoneID anId, final Instant removedAt) {
+        this.id = anId;
+        this.removedAt = removedAt;
+    }
+
+    public static TombstoneJpaEntity of(final String anAggregate, final String anEntityId) {
+        return new TombstoneJpaEntity(TombstoneID.from(anAggregate, anEntityId), InstantUtils.now());
+    }
+
+    public <T> Change<T> toChange() {
+        return Change.delete(getId().getEntityId(), getRemovedAt());
+    }
+
+    public TombstoneID getId() {
+        return id;
+    }
+
+    public void setId(TombstoneID id) {
+        this.id = id;
+    }
+
+    public Instant getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(Instant removedAt) {
+        this.removedAt = removedAt;
+    }
+}
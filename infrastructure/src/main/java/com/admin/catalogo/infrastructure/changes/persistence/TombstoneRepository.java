@@ -0,0 +1,33 @@
+package com.admin.catalogo.infrastructure.changes.persistence;
+
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TombstoneRepository extends JpaRepository<TombstoneJpaEntity, TombstoneID> {
+
+    Sort REMOVED_ORDER = Sort.by("removedAt").and(Sort.by("id.entityId"));
+
+    @Query(value = "select t from Tombstone t where t.id.aggregate = :aggregate and (t.removedAt > :removedAt or (t.removedAt = :removedAt and t.id.entityId > :entityId)) and t.removedAt <= :until")
+    List<TombstoneJpaEntity> findAllRemovedSince(
+            @Param("aggregate") String aggregate,
+            @Param("removedAt") Instant removedAt,
+            @Param("entityId") String entityId,
+            @Param("until") Instant until,
+            Pageable page
+    );
+
+    default <T> List<Change<T>> deletionsSince(final String anAggregate, final ChangeCursor since, final Instant until, final int limit) {
+        return findAllRemovedSince(anAggregate, since.changedAt(), since.id(), until, PageRequest.of(0, limit, REMOVED_ORDER)).stream()
+                .map(TombstoneJpaEntity::<T>toChange)
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.invalidation.InvalidationBus;
+import com.admin.catalogo.infrastructure.invalidation.LoopbackInvalidationBus;
+import com.admin.catalogo.infrastructure.invalidation.MySQLInvalidationBus;
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Transport for cache invalidations between nodes. Nodes sharing the database exchange them
+ * through the {@code cache_invalidations} table; single-node profiles and tests loop them
+ * back in the JVM.
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @Profile("!in-memory & !replica")
+    @ConditionalOnProperty(name = "cache-invalidation.transport", havingValue = "mysql", matchIfMissing = true)
+    public InvalidationBus mySQLInvalidationBus(
+            final CacheInvalidationRepository repository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${cache-invalidation.flush-interval:100}") final long flushInterval,
+            @Value("${cache-invalidation.poll-interval:500}") final long pollInterval,
+            @Value("${cache-invalidation.gap-timeout:5000}") final long gapTimeout,
+            @Value("${cache-invalidation.retention:3600000}") final long retention,
+            @Value("${cache-invalidation.batch-size:500}") final int batchSize
+    ) {
+        return new MySQLInvalidationBus(repository, transactionManager, flushInterval, pollInterval, gapTimeout, retention, batchSize);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(InvalidationBus.class)
+    public InvalidationBus loopbackInvalidationBus(
+            @Value("${cache-invalidation.flush-interval:100}") final long flushInterval,
+            @Value("${cache-invalidation.batch-size:500}") final int batchSize
+    ) {
+        return new LoopbackInvalidationBus(new LoopbackInvalidationBus.Topic(), flushInterval, batchSize);
+    }
+}
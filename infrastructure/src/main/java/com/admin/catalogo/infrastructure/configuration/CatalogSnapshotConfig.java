@@ -0,0 +1,46 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.infrastructure.snapshot.CatalogSnapshotFollower;
+import com.admin.catalogo.infrastructure.snapshot.CatalogSnapshotPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+
+/**
+ * Memory-mapped catalog snapshots for read replicas. The writer node publishes generations
+ * into {@code catalog-snapshot.directory}; nodes running the {@code replica} profile map the
+ * newest one and serve reads from it without a database.
+ */
+@Configuration
+public class CatalogSnapshotConfig {
+
+    @Bean
+    @Profile("!replica")
+    @ConditionalOnProperty(name = "catalog-snapshot.publish.enabled", havingValue = "true")
+    public CatalogSnapshotPublisher catalogSnapshotPublisher(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final UnitOfWork unitOfWork,
+            @Value("${catalog-snapshot.directory:build/catalog-snapshot}") final String directory,
+            @Value("${catalog-snapshot.publish.interval:30000}") final long interval,
+            @Value("${catalog-snapshot.publish.retain:3}") final int retain
+    ) {
+        return new CatalogSnapshotPublisher(categoryGateway, genreGateway, unitOfWork, Path.of(directory), interval, retain);
+    }
+
+    @Bean
+    @Profile("replica")
+    public CatalogSnapshotFollower catalogSnapshotFollower(
+            @Value("${catalog-snapshot.directory:build/catalog-snapshot}") final String directory,
+            @Value("${catalog-snapshot.follow.interval:1000}") final long interval
+    ) {
+        return new CatalogSnapshotFollower(Path.of(directory), interval);
+    }
+}
@@ -0,0 +1,37 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        // Spring MVC already registers Smile and CBOR converters with a default mapper when the
+        // dataformats are on the classpath; swap them in place so ours are the ones selected
+        converters.removeIf(it -> it instanceof MappingJackson2SmileHttpMessageConverter
+                || it instanceof MappingJackson2CborHttpMessageConverter);
+
+        // kept after the JSON converter so clients accepting */* keep receiving JSON
+        final var json = indexOfJson(converters);
+        converters.add(json + 1, new MappingJackson2SmileHttpMessageConverter(Json.smileMapper()));
+        converters.add(json + 2, new MappingJackson2CborHttpMessageConverter(Json.cborMapper()));
+    }
+
+    private static int indexOfJson(final List<HttpMessageConverter<?>> converters) {
+        for (var i = converters.size() - 1; i >= 0; i--) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                return i;
+            }
+        }
+        return converters.size() - 1;
+    }
+}
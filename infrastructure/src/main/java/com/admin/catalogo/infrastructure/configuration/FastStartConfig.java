@@ -0,0 +1,45 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.grpc.GrpcServer;
+import com.admin.catalogo.infrastructure.outbox.OutboxRelayScheduler;
+import com.admin.catalogo.infrastructure.peer.PeerCache;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+@Configuration(proxyBeanMethods = false)
+public class FastStartConfig {
+
+    /**
+     * Beans kept eager when {@code spring.main.lazy-initialization} is on: the persistence
+     * stack would otherwise be built by the first request, and the outbox relay, gRPC
+     * server and peer cache have no caller that would ever pull them in.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                AbstractEntityManagerFactoryBean.class,
+                OutboxRelayScheduler.class,
+                GrpcServer.class,
+                PeerCache.class
+        );
+    }
+
+    /**
+     * Ends a {@code cds.training} run as soon as the context is ready, so the JVM can dump
+     * the classes loaded during start-up into the AppCDS archive on exit.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cds.training", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> cdsTrainingExit() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.list.SeekCategoriesUseCase;
+import com.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.SeekGenresUseCase;
+import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.admin.catalogo.infrastructure.grpc.CategoryGrpcService;
+import com.admin.catalogo.infrastructure.grpc.GenreGrpcService;
+import com.admin.catalogo.infrastructure.grpc.GrpcServer;
+import io.grpc.BindableService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "grpc.enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    @Bean
+    public CategoryGrpcService categoryGrpcService(
+            final CreateCategoryUseCase createCategoryUseCase,
+            final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+            final UpdateCategoryUseCase updateCategoryUseCase,
+            final DeleteCategoryUseCase deleteCategoryUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final SeekCategoriesUseCase seekCategoriesUseCase
+    ) {
+        return new CategoryGrpcService(
+                createCategoryUseCase,
+                getCategoryByIdUseCase,
+                getCategoriesByIdsUseCase,
+                updateCategoryUseCase,
+                deleteCategoryUseCase,
+                listCategoriesUseCase,
+                seekCategoriesUseCase
+        );
+    }
+
+    @Bean
+    public GenreGrpcService genreGrpcService(
+            final CreateGenreUseCase createGenreUseCase,
+            final GetGenreByIdUseCase getGenreByIdUseCase,
+            final GetGenresByIdsUseCase getGenresByIdsUseCase,
+            final UpdateGenreUseCase updateGenreUseCase,
+            final DeleteGenreUseCase deleteGenreUseCase,
+            final ListGenreUseCase listGenreUseCase,
+            final SeekGenresUseCase seekGenresUseCase
+    ) {
+        return new GenreGrpcService(
+                createGenreUseCase,
+                getGenreByIdUseCase,
+                getGenresByIdsUseCase,
+                updateGenreUseCase,
+                deleteGenreUseCase,
+                listGenreUseCase,
+                seekGenresUseCase
+        );
+    }
+
+    @Bean
+    public GrpcServer grpcServer(
+            @Value("${grpc.port:9090}") final int port,
+            @Value("${grpc.threads:32}") final int threads,
+            @Value("${grpc.shutdown-timeout:5000}") final long shutdownTimeout,
+            final List<BindableService> services
+    ) {
+        return new GrpcServer(port, threads, shutdownTimeout, services);
+    }
+}
@@ -0,0 +1,86 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.domain.castmember.CastMember;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.inmemory.InMemorySnapshot;
+import com.admin.catalogo.infrastructure.inmemory.InMemoryStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Catalog served from the heap instead of MySQL, for edge read nodes and load tests.
+ * Activated by the {@code in-memory} profile, which also switches off the JPA stack.
+ */
+@Configuration
+@Profile("in-memory")
+public class InMemoryCatalogConfig {
+
+    @Bean
+    public InMemoryStore<Category> categoryStore() {
+        return new InMemoryStore<>(
+                it -> it.getId().getValue(),
+                it -> Category.with(it.getId(), it.getName(), it.getDescription(), it.isActive(), it.getCreatedAt(), it.getUpdatedAt(), it.getDeletedAt()),
+                Map.<String, Function<Category, Comparable<?>>>of(
+                        "name", Category::getName,
+                        "createdAt", Category::getCreatedAt,
+                        InMemoryStore.SEARCH_KEY, it -> SearchKeyUtils.normalize(it.getName()),
+                        InMemoryStore.UPDATED_AT, Category::getUpdatedAt
+                ),
+                it -> Arrays.asList(it.getName(), it.getDescription())
+        );
+    }
+
+    @Bean
+    public InMemoryStore<Genre> genreStore() {
+        return new InMemoryStore<>(
+                it -> it.getId().getValue(),
+                it -> Genre.with(it.getId(), it.getName(), it.isActive(), new ArrayList<>(it.getCategories()), it.getCreatedAt(), it.getUpdatedAt(), it.getDeletedAt()),
+                Map.<String, Function<Genre, Comparable<?>>>of(
+                        "name", Genre::getName,
+                        "createdAt", Genre::getCreatedAt,
+                        InMemoryStore.SEARCH_KEY, it -> SearchKeyUtils.normalize(it.getName()),
+                        InMemoryStore.UPDATED_AT, Genre::getUpdatedAt
+                ),
+                it -> List.of(it.getName())
+        );
+    }
+
+    @Bean
+    public InMemoryStore<CastMember> castMemberStore() {
+        return new InMemoryStore<>(
+                it -> it.getId().getValue(),
+                CastMember::with,
+                Map.<String, Function<CastMember, Comparable<?>>>of(
+                        "name", CastMember::getName,
+                        "createdAt", CastMember::getCreatedAt,
+                        InMemoryStore.SEARCH_KEY, it -> SearchKeyUtils.normalize(it.getName()),
+                        InMemoryStore.UPDATED_AT, CastMember::getUpdatedAt
+                ),
+                it -> List.of(it.getName())
+        );
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${in-memory.snapshot.path:}' != ''")
+    public InMemorySnapshot inMemorySnapshot(
+            final InMemoryStore<Category> categoryStore,
+            final InMemoryStore<Genre> genreStore,
+            final InMemoryStore<CastMember> castMemberStore,
+            @Value("${in-memory.snapshot.path}") final String path,
+            @Value("${in-memory.snapshot.interval:60000}") final long interval
+    ) {
+        return new InMemorySnapshot(categoryStore, genreStore, castMemberStore, Path.of(path), interval);
+    }
+}
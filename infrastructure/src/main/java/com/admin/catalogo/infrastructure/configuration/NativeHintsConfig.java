@@ -0,0 +1,99 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import com.admin.catalogo.application.genre.create.CreateGenreOutput;
+import com.admin.catalogo.application.genre.update.UpdateGenreOutput;
+import com.admin.catalogo.domain.category.CategoryCreated;
+import com.admin.catalogo.domain.category.CategoryDeleted;
+import com.admin.catalogo.domain.category.CategoryUpdated;
+import com.admin.catalogo.domain.genre.GenreCategoriesChanged;
+import com.admin.catalogo.domain.genre.GenreCreated;
+import com.admin.catalogo.domain.genre.GenreDeleted;
+import com.admin.catalogo.domain.genre.GenreUpdated;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.domain.validation.handler.Notification;
+import com.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.admin.catalogo.infrastructure.category.models.CategoryAutocompleteResponse;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.admin.catalogo.infrastructure.configuration.json.InternedStringDeserializer;
+import com.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.admin.catalogo.infrastructure.genre.models.GenreAutocompleteResponse;
+import com.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import com.admin.catalogo.infrastructure.genre.models.GenreResponse;
+import com.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelJpaEntity;
+import com.admin.catalogo.infrastructure.invalidation.Invalidation;
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationJpaEntity;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.admin.catalogo.infrastructure.stream.CatalogStreamEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.nativex.hint.TypeAccess;
+import org.springframework.nativex.hint.TypeHint;
+
+/**
+ * Reflection hints read by the Spring AOT plugin when building with {@code -Pnative}.
+ * Entities are instantiated and hydrated reflectively by Hibernate; the request, response
+ * and event types are bound by Jackson, which runs without Afterburner in a native image.
+ */
+@TypeHint(
+        types = {
+                CategoryJpaEntity.class,
+                GenreJpaEntity.class,
+                GenreCategoryJpaEntity.class,
+                GenreReadModelJpaEntity.class,
+                CastMemberJpaEntity.class,
+                OutboxEventJpaEntity.class,
+                TombstoneJpaEntity.class,
+                CacheInvalidationJpaEntity.class
+        },
+        access = {TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.DECLARED_FIELDS, TypeAccess.DECLARED_METHODS}
+)
+@TypeHint(
+        types = {
+                CategoryResponse.class,
+                CategoryListResponse.class,
+                CategoryAutocompleteResponse.class,
+                CreateCategoryRequest.class,
+                UpdateCategoryRequest.class,
+                GenreResponse.class,
+                GenreListResponse.class,
+                GenreAutocompleteResponse.class,
+                CreateGenreRequest.class,
+                UpdateGenreRequest.class,
+                CreateCategoryOutput.class,
+                UpdateCategoryOutput.class,
+                CreateGenreOutput.class,
+                UpdateGenreOutput.class,
+                Pagination.class,
+                ChangeFeed.class,
+                Change.class,
+                Notification.class,
+                Error.class,
+                CatalogStreamEvent.class,
+                CategoryCreated.class,
+                CategoryUpdated.class,
+                CategoryDeleted.class,
+                GenreCreated.class,
+                GenreUpdated.class,
+                GenreDeleted.class,
+                GenreCategoriesChanged.class,
+                InternedStringDeserializer.class,
+                Invalidation.class
+        },
+        typeNames = "com.admin.catalogo.infrastructure.api.controllers.GlobalExceptionHandler$ApiError",
+        access = {TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.DECLARED_FIELDS, TypeAccess.PUBLIC_METHODS}
+)
+@Configuration(proxyBeanMethods = false)
+public class NativeHintsConfig {
+}
@@ -0,0 +1,94 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.admin.catalogo.infrastructure.peer.DnsPeerMembership;
+import com.admin.catalogo.infrastructure.peer.PeerCache;
+import com.admin.catalogo.infrastructure.peer.PeerMembership;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Peer cache tier between the nodes of one deployment. Peers are either listed in
+ * {@code peer-cache.peers} as {@code host:port} entries, this node included, or resolved from
+ * {@code peer-cache.dns-name}; {@code peer-cache.host} must match this node's entry.
+ */
+@Configuration
+@ConditionalOnProperty(name = "peer-cache.enabled", havingValue = "true")
+public class PeerCacheConfig {
+
+    @Bean
+    public PeerMembership peerMembership(
+            @Value("${peer-cache.peers:}") final String peers,
+            @Value("${peer-cache.dns-name:}") final String dnsName,
+            @Value("${peer-cache.port:7070}") final int port,
+            @Value("${peer-cache.dns-refresh:30000}") final long dnsRefresh
+    ) {
+        final var staticPeers = Arrays.stream(peers.split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .toList();
+        if (!staticPeers.isEmpty()) {
+            return () -> staticPeers;
+        }
+        if (!dnsName.isBlank()) {
+            return new DnsPeerMembership(dnsName, port, dnsRefresh);
+        }
+        throw new IllegalArgumentException("either 'peer-cache.peers' or 'peer-cache.dns-name' must be set");
+    }
+
+    @Bean
+    public PeerCache peerCache(
+            final ResponseBytesCache responseBytesCache,
+            final PeerMembership peerMembership,
+            final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetGenreByIdUseCase getGenreByIdUseCase,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${peer-cache.host:}") final String host,
+            @Value("${peer-cache.port:7070}") final int port,
+            @Value("${peer-cache.threads:16}") final int threads,
+            @Value("${peer-cache.replicas:128}") final int replicas,
+            @Value("${peer-cache.timeout:200}") final long timeout,
+            @Value("${peer-cache.fill-hold:2000}") final long fillHold
+    ) {
+        final Map<String, Function<String, ?>> loaders = Map.of(
+                ResponseBytesCache.CATEGORY, anId -> CategoryApiPresenter.present(getCategoryByIdUseCase.execute(anId)),
+                ResponseBytesCache.GENRE, anId -> GenreApiPresenter.present(getGenreByIdUseCase.execute(anId))
+        );
+        return new PeerCache(
+                responseBytesCache,
+                loaders,
+                peerMembership,
+                host.isBlank() ? localAddress() : host,
+                port,
+                threads,
+                replicas,
+                timeout,
+                fillHold,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+    }
+
+    private static String localAddress() {
+        try {
+            return InetAddress.getLocalHost().getHostAddress();
+        } catch (final UnknownHostException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.shard.Shard;
+import com.admin.catalogo.infrastructure.shard.ShardRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Category and genre rows for the {@code sharded} profile, spread over the databases listed
+ * in {@code sharding.urls}. Each shard is migrated with the scripts in {@code db/shard};
+ * the primary datasource keeps the outbox, tombstones and cache invalidations.
+ */
+@Configuration
+@Profile("sharded")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(
+            final EntityManagerFactoryBuilder entityManagerFactoryBuilder,
+            @Value("${sharding.urls}") final String urls,
+            @Value("${sharding.username}") final String username,
+            @Value("${sharding.password}") final String password,
+            @Value("${sharding.pool-size:10}") final int poolSize,
+            @Value("${sharding.threads:16}") final int threads
+    ) {
+        final var shardUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .toList();
+
+        final var shards = new ArrayList<Shard>(shardUrls.size());
+        for (int i = 0; i < shardUrls.size(); i++) {
+            final var aDataSource = new HikariDataSource();
+            aDataSource.setPoolName("shard-" + i);
+            aDataSource.setJdbcUrl(shardUrls.get(i));
+            aDataSource.setUsername(username);
+            aDataSource.setPassword(password);
+            aDataSource.setMaximumPoolSize(poolSize);
+            // matches the primary pool: Hibernate is told the provider disables auto-commit
+            aDataSource.setAutoCommit(false);
+            shards.add(Shard.open(i, aDataSource, entityManagerFactoryBuilder));
+        }
+        return new ShardRouter(shards, threads);
+    }
+}
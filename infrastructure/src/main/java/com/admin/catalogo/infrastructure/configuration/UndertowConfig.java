@@ -0,0 +1,52 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.cache.CachedResponseHandler;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import io.undertow.UndertowOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UndertowConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "response-cache.io-thread", havingValue = "true", matchIfMissing = true)
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> cachedResponseHandlerCustomizer(
+            final ResponseBytesCache responseBytesCache
+    ) {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo ->
+                deploymentInfo.addOuterHandlerChainWrapper(next -> new CachedResponseHandler(next, responseBytesCache))
+        );
+    }
+
+    /**
+     * With HTTP/2 enabled Undertow negotiates h2 over TLS through ALPN and accepts h2c through
+     * either the {@code Upgrade} header or prior knowledge. The settings below bound how many
+     * streams a single multiplexed connection may keep in flight against the worker pool.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "server.http2.enabled", havingValue = "true")
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> http2Customizer(
+            @Value("${http2.max-concurrent-streams:256}") final int maxConcurrentStreams,
+            @Value("${http2.initial-window-size:1048576}") final int initialWindowSize,
+            @Value("${http2.header-table-size:4096}") final int headerTableSize,
+            @Value("${http2.cleartext-port:-1}") final int cleartextPort
+    ) {
+        return factory -> factory.addBuilderCustomizers(builder -> {
+            builder.setServerOption(UndertowOptions.ENABLE_HTTP2, true)
+                    .setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, maxConcurrentStreams)
+                    .setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE, initialWindowSize)
+                    .setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE, headerTableSize)
+                    .setServerOption(UndertowOptions.HTTP2_SETTINGS_ENABLE_PUSH, false);
+
+            // keeps a cleartext h2c listener for internal traffic when the main port serves TLS
+            if (cleartextPort > 0) {
+                builder.addHttpListener(cleartextPort, "0.0.0.0");
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.admin.catalogo.infrastructure.configuration.json;
+
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+public class InternedStringDeserializer extends StdScalarDeserializer<String> {
+
+    public InternedStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        return IdentifierPool.value(StringDeserializer.instance.deserialize(p, ctxt));
+    }
+}
@@ -1,15 +1,22 @@
 package com.admin.catalogo.infrastructure.configuration.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.springframework.core.NativeDetector;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -19,10 +26,22 @@ public enum Json {
         return INSTANCE.mapper.copy();
     }
 
+    public static ObjectMapper smileMapper() {
+        return INSTANCE.smile.copy();
+    }
+
+    public static ObjectMapper cborMapper() {
+        return INSTANCE.cbor.copy();
+    }
+
     public static String writeValueAsString(final Object value) {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(value));
     }
 
+    public static JsonGenerator generator(final OutputStream out) {
+        return invoke(() -> INSTANCE.mapper.createGenerator(out, JsonEncoding.UTF8));
+    }
+
     public static <T> T readValue(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
@@ -35,17 +54,33 @@ public enum Json {
         }
     }
 
-    private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
-            .dateFormat(new StdDateFormat())
-            .featuresToDisable(
-                    DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                    DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
-                    DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
-                    SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
-            )
-            .modules(new JavaTimeModule(), new Jdk8Module(), afterBurnedModule())
-            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .build();
+    private final ObjectMapper mapper = builder().build();
+
+    private final ObjectMapper smile = builder().factory(new SmileFactory()).build();
+
+    private final ObjectMapper cbor = builder().factory(new CBORFactory()).build();
+
+    private Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+                .dateFormat(new StdDateFormat())
+                .featuresToDisable(
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
+                        DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+                )
+                .modules(modules())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    // Afterburner generates accessor classes at runtime, which a native image cannot load,
+    // so there the reflection hints of NativeHintsConfig serve plain reflective access instead
+    private Module[] modules() {
+        if (NativeDetector.inNativeImage()) {
+            return new Module[]{new JavaTimeModule(), new Jdk8Module()};
+        }
+        return new Module[]{new JavaTimeModule(), new Jdk8Module(), afterBurnedModule()};
+    }
 
     private AfterburnerModule afterBurnedModule() {
         var module = new AfterburnerModule();
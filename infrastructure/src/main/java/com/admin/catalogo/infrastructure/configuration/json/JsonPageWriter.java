@@ -0,0 +1,55 @@
+package com.admin.catalogo.infrastructure.configuration.json;
+
+import com.admin.catalogo.domain.pagination.PageWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a page with the same shape as {@link com.admin.catalogo.domain.pagination.Pagination},
+ * serializing each item as soon as it is received. The target stream is flushed but never closed.
+ */
+public class JsonPageWriter<T> implements PageWriter<T> {
+
+    private final JsonGenerator generator;
+
+    public JsonPageWriter(final OutputStream out) {
+        this.generator = Json.generator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void begin(final int currentPage, final int perPage, final long total) {
+        try {
+            this.generator.writeStartObject();
+            this.generator.writeNumberField("current_page", currentPage);
+            this.generator.writeNumberField("per_page", perPage);
+            this.generator.writeNumberField("total", total);
+            this.generator.writeArrayFieldStart("items");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(final T item) {
+        try {
+            this.generator.writeObject(item);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void end() {
+        try {
+            this.generator.writeEndArray();
+            this.generator.writeEndObject();
+            this.generator.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,50 +1,99 @@
 package com.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.admin.catalogo.application.UnitOfWork;
 import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.autocomplete.AutocompleteCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.autocomplete.DefaultAutocompleteCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import com.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.list.DefaultSeekCategoriesUseCase;
 import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.list.SeekCategoriesUseCase;
 import com.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.infrastructure.cache.SingleFlights;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Objects;
+import java.util.function.Function;
+
 @Configuration
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final UseCaseDecorator useCases;
+    private final SingleFlights singleFlights;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final UnitOfWork unitOfWork,
+            final SingleFlights singleFlights
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.useCases = new UseCaseDecorator(unitOfWork);
+        this.singleFlights = Objects.requireNonNull(singleFlights);
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return useCases.write(new DefaultCreateCategoryUseCase(categoryGateway))::execute;
     }
 
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+        return useCases.write(new DefaultUpdateCategoryUseCase(categoryGateway))::execute;
     }
 
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return useCases.read(
+                new DefaultGetCategoryByIdUseCase(categoryGateway),
+                singleFlights.create("category.get"),
+                Function.identity()
+        )::execute;
+    }
+
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return useCases.read(new DefaultGetCategoriesByIdsUseCase(categoryGateway))::execute;
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        return useCases.read(
+                new DefaultListCategoriesUseCase(categoryGateway),
+                singleFlights.create("category.list"),
+                SingleFlights::keyOf
+        )::execute;
+    }
+
+    @Bean
+    public SeekCategoriesUseCase seekCategoriesUseCase() {
+        return useCases.read(new DefaultSeekCategoriesUseCase(categoryGateway))::execute;
+    }
+
+    @Bean
+    public AutocompleteCategoriesUseCase autocompleteCategoriesUseCase() {
+        return useCases.read(new DefaultAutocompleteCategoriesUseCase(categoryGateway))::execute;
+    }
+
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return useCases.read(new DefaultListCategoryChangesUseCase(categoryGateway))::execute;
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(categoryGateway);
+        return useCases.write(new DefaultDeleteCategoryUseCase(categoryGateway))::execute;
     }
 }
@@ -1,68 +1,128 @@
 package com.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.admin.catalogo.application.UnitOfWork;
 import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.autocomplete.AutocompleteGenresUseCase;
+import com.admin.catalogo.application.genre.retrieve.autocomplete.DefaultAutocompleteGenresUseCase;
+import com.admin.catalogo.application.genre.retrieve.changes.DefaultListGenreChangesUseCase;
+import com.admin.catalogo.application.genre.retrieve.changes.ListGenreChangesUseCase;
 import com.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.DefaultGetGenresByIdsUseCase;
 import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
 import com.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.DefaultSeekGenresUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.DefaultStreamGenresUseCase;
 import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.SeekGenresUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.StreamGenresUseCase;
 import com.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
 import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.admin.catalogo.domain.category.CategoryGateway;
 import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.infrastructure.cache.SingleFlights;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 @Configuration
 public class GenreUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final UseCaseDecorator useCases;
+    private final SingleFlights singleFlights;
 
-    public GenreUseCaseConfig(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+    public GenreUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final UnitOfWork unitOfWork,
+            final SingleFlights singleFlights
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.useCases = new UseCaseDecorator(unitOfWork);
+        this.singleFlights = Objects.requireNonNull(singleFlights);
     }
 
     @Bean
     public CreateGenreUseCase createGenreUseCase() {
-        return new DefaultCreateGenreUseCase(
+        return useCases.write(new DefaultCreateGenreUseCase(
                 categoryGateway,
                 genreGateway
-        );
+        ))::execute;
     }
 
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
-        return new DefaultDeleteGenreUseCase(
+        return useCases.write(new DefaultDeleteGenreUseCase(
                 genreGateway
-        );
+        ))::execute;
     }
 
     @Bean
     public GetGenreByIdUseCase getGenreByIdUseCase() {
-        return new DefaultGetGenreByIdUseCase(
+        return useCases.read(
+                new DefaultGetGenreByIdUseCase(genreGateway),
+                singleFlights.create("genre.get"),
+                Function.identity()
+        )::execute;
+    }
+
+    @Bean
+    public GetGenresByIdsUseCase getGenresByIdsUseCase() {
+        return useCases.read(new DefaultGetGenresByIdsUseCase(
                 genreGateway
-        );
+        ))::execute;
     }
 
     @Bean
     public ListGenreUseCase listGenreUseCase() {
-        return new DefaultListGenreUseCase(
+        return useCases.read(
+                new DefaultListGenreUseCase(genreGateway),
+                singleFlights.create("genre.list"),
+                SingleFlights::keyOf
+        )::execute;
+    }
+
+    @Bean
+    public SeekGenresUseCase seekGenresUseCase() {
+        return useCases.read(new DefaultSeekGenresUseCase(
+                genreGateway
+        ))::execute;
+    }
+
+    @Bean
+    public StreamGenresUseCase streamGenresUseCase() {
+        return useCases.read(new DefaultStreamGenresUseCase(
                 genreGateway
-        );
+        ))::execute;
+    }
+
+    @Bean
+    public AutocompleteGenresUseCase autocompleteGenresUseCase() {
+        return useCases.read(new DefaultAutocompleteGenresUseCase(
+                genreGateway
+        ))::execute;
+    }
+
+    @Bean
+    public ListGenreChangesUseCase listGenreChangesUseCase() {
+        return useCases.read(new DefaultListGenreChangesUseCase(
+                genreGateway
+        ))::execute;
     }
 
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
-        return new DefaultUpdateGenreUseCase(
+        return useCases.write(new DefaultUpdateGenreUseCase(
                 categoryGateway,
                 genreGateway
-        );
+        ))::execute;
     }
-
 }
@@ -0,0 +1,51 @@
+package com.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.application.UnitUseCase;
+import com.admin.catalogo.application.UseCase;
+import com.admin.catalogo.infrastructure.cache.SingleFlight;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runs a use case inside one unit of work. The use-case configs publish the result through a
+ * method reference, e.g. {@code useCases.write(aUseCase)::execute}, so it keeps the type the
+ * controllers depend on.
+ */
+final class UseCaseDecorator {
+
+    private final UnitOfWork unitOfWork;
+
+    UseCaseDecorator(final UnitOfWork unitOfWork) {
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+    }
+
+    <IN, OUT> UseCase<IN, OUT> write(final UseCase<IN, OUT> aUseCase) {
+        return anIn -> this.unitOfWork.execute(() -> aUseCase.execute(anIn));
+    }
+
+    <IN> UnitUseCase<IN> write(final UnitUseCase<IN> aUseCase) {
+        return anIn -> this.unitOfWork.execute(() -> aUseCase.execute(anIn));
+    }
+
+    <IN, OUT> UseCase<IN, OUT> read(final UseCase<IN, OUT> aUseCase) {
+        return anIn -> this.unitOfWork.executeReadOnly(() -> aUseCase.execute(anIn));
+    }
+
+    <IN> UnitUseCase<IN> read(final UnitUseCase<IN> aUseCase) {
+        return anIn -> this.unitOfWork.executeReadOnly(() -> aUseCase.execute(anIn));
+    }
+
+    /**
+     * A read whose concurrent calls with the same key share one unit of work.
+     */
+    <IN, K, OUT> UseCase<IN, OUT> read(
+            final UseCase<IN, OUT> aUseCase,
+            final SingleFlight<K, OUT> aFlight,
+            final Function<IN, K> aKeyOf
+    ) {
+        final var aRead = read(aUseCase);
+        return anIn -> aFlight.execute(aKeyOf.apply(anIn), () -> aRead.execute(anIn));
+    }
+}
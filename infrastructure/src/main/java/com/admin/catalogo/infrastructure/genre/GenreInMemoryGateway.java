@@ -0,0 +1,135 @@
+package com.admin.catalogo.infrastructure.genre;
+
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.inmemory.InMemoryStore;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+@Component
+@Profile("in-memory")
+public class GenreInMemoryGateway implements GenreGateway {
+
+    private final InMemoryStore<Genre> store;
+
+    private final ResponseBytesCache responseBytesCache;
+    private final ChangeHorizon changeHorizon;
+
+    public GenreInMemoryGateway(final InMemoryStore<Genre> store, final ResponseBytesCache responseBytesCache, final ChangeHorizon changeHorizon) {
+        this.store = Objects.requireNonNull(store);
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
+        this.changeHorizon = Objects.requireNonNull(changeHorizon);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        return save(aGenre);
+    }
+
+    private Genre save(final Genre aGenre) {
+        final var result = this.store.put(aGenre);
+        this.responseBytesCache.evict(ResponseBytesCache.GENRE, result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        final var aGenreId = anId.getValue();
+        if (this.store.remove(aGenreId).isPresent()) {
+            this.responseBytesCache.evict(ResponseBytesCache.GENRE, aGenreId);
+        }
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID genreID) {
+        return this.store.get(genreID.getValue());
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        return save(aGenre);
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, GenreMySQLGateway.SORTABLE_FIELDS);
+
+        return this.store.page(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.sort(),
+                sort.getOrderFor(aQuery.sort()).isDescending(),
+                aQuery.terms()
+        );
+    }
+
+    @Override
+    public void findAll(final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        final var page = findAll(aQuery);
+
+        aWriter.begin(page.currentPage(), page.perPage(), page.total());
+        page.items().forEach(aWriter::write);
+        aWriter.end();
+    }
+
+    @Override
+    public List<Genre> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, GenreMySQLGateway.SORTABLE_FIELDS);
+        final var byCreatedAt = "createdAt".equals(aQuery.sort());
+
+        return this.store.seek(
+                byCreatedAt ? "createdAt" : InMemoryStore.SEARCH_KEY,
+                sort.iterator().next().isDescending(),
+                byCreatedAt ? aQuery.afterCreatedAt() : SearchKeyUtils.normalize(aQuery.afterName()),
+                aQuery.afterId(),
+                aQuery.limit(),
+                aQuery.terms()
+        );
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> genreIds) {
+        return StreamSupport.stream(genreIds.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .map(this.store::get)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public List<Genre> autocomplete(final AutocompleteQuery aQuery) {
+        return this.store.startingWith(InMemoryStore.SEARCH_KEY, aQuery.prefix(), aQuery.limit());
+    }
+
+    @Override
+    public ChangeFeed<Genre> changes(final ChangeQuery aQuery) {
+        final var since = aQuery.cursor();
+        final var fetchSize = aQuery.limit() + 1;
+        final var until = this.changeHorizon.now();
+
+        return ChangeFeed.merge(
+                since,
+                aQuery.limit(),
+                this.store.changedSince(since, until, fetchSize),
+                this.store.deletedSince(since, until, fetchSize)
+        );
+    }
+}
@@ -1,28 +1,95 @@
 package com.admin.catalogo.infrastructure.genre;
 
 import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreDeleted;
 import com.admin.catalogo.domain.genre.GenreGateway;
 import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.infrastructure.cache.CatalogCaches;
+import com.admin.catalogo.infrastructure.cache.ListQueryCache;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneRepository;
 import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelRepository;
 import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
-import com.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.admin.catalogo.infrastructure.genre.readmodel.GenreReadModelProjector;
+import com.admin.catalogo.infrastructure.outbox.TransactionalOutbox;
+import com.admin.catalogo.infrastructure.utils.SearchQueryUtils;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import com.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Component
+@Profile("!in-memory & !replica & !sharded")
 public class GenreMySQLGateway implements GenreGateway {
 
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "createdAt");
+
+    private static final Sort AUTOCOMPLETE_SORT = Sort.by("searchKey").and(Sort.by("id"));
+
+    private static final Sort CHANGES_SORT = Sort.by("updatedAt").and(Sort.by("id"));
+
     private final GenreRepository genreRepository;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final GenreReadModelRepository genreReadModelRepository;
+
+    private final GenreReadModelProjector genreReadModelProjector;
+
+    private final TombstoneRepository tombstoneRepository;
+
+    private final TransactionalOutbox outbox;
+
+    private final CatalogCaches catalogCaches;
+
+    private final ListQueryCache listQueryCache;
+
+    private final EntityManager entityManager;
+
+    private final ChangeHorizon changeHorizon;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final GenreReadModelRepository genreReadModelRepository,
+            final GenreReadModelProjector genreReadModelProjector,
+            final TombstoneRepository tombstoneRepository,
+            final TransactionalOutbox outbox,
+            final CatalogCaches catalogCaches,
+            final ListQueryCache listQueryCache,
+            final EntityManager entityManager,
+            final ChangeHorizon changeHorizon
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.genreReadModelRepository = Objects.requireNonNull(genreReadModelRepository);
+        this.genreReadModelProjector = Objects.requireNonNull(genreReadModelProjector);
+        this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.catalogCaches = Objects.requireNonNull(catalogCaches);
+        this.listQueryCache = Objects.requireNonNull(listQueryCache);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.changeHorizon = Objects.requireNonNull(changeHorizon);
     }
 
     @Override
@@ -31,8 +98,12 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
+        final var result = this.genreRepository.save(GenreJpaEntity.from(aGenre))
                 .toAggregate();
+        this.genreReadModelProjector.project(result);
+        this.outbox.publish(TransactionalOutbox.GENRE, aGenre);
+        this.catalogCaches.evict(ResponseBytesCache.GENRE, result.getId().getValue());
+        return result;
     }
 
     @Override
@@ -40,14 +111,18 @@ public class GenreMySQLGateway implements GenreGateway {
         final var aGenreId = anId.getValue();
         if (this.genreRepository.existsById(aGenreId)){
             this.genreRepository.deleteById(aGenreId);
+            this.genreReadModelProjector.remove(aGenreId);
+            this.tombstoneRepository.save(TombstoneJpaEntity.of(TombstoneJpaEntity.GENRE, aGenreId));
+            this.outbox.append(TransactionalOutbox.GENRE, new GenreDeleted(aGenreId, Instant.now()));
+            this.catalogCaches.evict(ResponseBytesCache.GENRE, aGenreId);
         }
     }
 
     @Override
     public Optional<Genre> findById(final GenreID genreID) {
 
-        return this.genreRepository.findById(genreID.getValue())
-                .map(GenreJpaEntity::toAggregate);
+        return this.genreReadModelRepository.findById(genreID.getValue())
+                .map(GenreReadModelJpaEntity::toAggregate);
     }
 
     @Override
@@ -57,28 +132,112 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var aNormalizedQuery = SearchQueryUtils.normalize(aQuery);
+        return this.listQueryCache.getOrLoad(ResponseBytesCache.GENRE, aNormalizedQuery, () -> load(aNormalizedQuery));
+    }
+
+    private Pagination<Genre> load(final SearchQuery aQuery) {
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                SortUtils.sort(aQuery, SORTABLE_FIELDS)
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
+        final var pageResult = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult = this.genreRepository.findAll(Specification.where(where), page);
+                .map(terms -> this.genreReadModelRepository.findAllByTerms(SqlUtils.like(terms), page))
+                .orElseGet(() -> this.genreReadModelRepository.findAll(page));
 
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+                pageResult.map(GenreReadModelJpaEntity::toAggregate).toList()
         );
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    @Override
+    public void findAll(final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        final var page = PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                SortUtils.sort(aQuery, SORTABLE_FIELDS)
+        );
+
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(SqlUtils::like);
+
+        final long total = terms.map(this.genreReadModelRepository::countByTerms)
+                .orElseGet(this.genreReadModelRepository::count);
+
+        aWriter.begin(aQuery.page(), aQuery.perPage(), total);
+
+        if (page.getOffset() < total) {
+            // rows are detached as soon as they are written so the persistence context does not grow with the page
+            try (final var rows = terms.map(it -> this.genreReadModelRepository.streamAllByTerms(it, page))
+                    .orElseGet(() -> this.genreReadModelRepository.streamAll(page))) {
+                rows.forEach(row -> {
+                    aWriter.write(row.toAggregate());
+                    this.entityManager.detach(row);
+                });
+            }
+        }
+
+        aWriter.end();
+    }
+
+    @Override
+    public List<Genre> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, SORTABLE_FIELDS);
+        final var terms = SqlUtils.like(Optional.ofNullable(aQuery.terms()).map(String::trim).orElse(""));
+        final var descending = sort.iterator().next().isDescending();
+
+        return this.genreReadModelRepository.seek(terms, aQuery, descending, PageRequest.of(0, aQuery.limit(), sort)).stream()
+                .map(GenreReadModelJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> genreIds) {
+        final var ids = StreamSupport.stream(genreIds.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var found = this.genreReadModelRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(GenreReadModelJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(GenreReadModelJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<Genre> autocomplete(final AutocompleteQuery aQuery) {
+        final var page = PageRequest.of(0, aQuery.limit(), AUTOCOMPLETE_SORT);
+
+        return this.genreRepository.findAllBySearchKeyPrefix(SqlUtils.startsWith(aQuery.prefix()), page).stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<Genre> changes(final ChangeQuery aQuery) {
+        final var since = aQuery.cursor();
+        final var fetchSize = aQuery.limit() + 1;
+        final var until = this.changeHorizon.now();
+
+        final var upserts = this.genreRepository.findAllChangedSince(since.changedAt(), since.id(), until, PageRequest.of(0, fetchSize, CHANGES_SORT)).stream()
+                .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toAggregate()))
+                .toList();
+
+        final var deletions = this.tombstoneRepository.<Genre>deletionsSince(TombstoneJpaEntity.GENRE, since, until, fetchSize);
+
+        return ChangeFeed.merge(since, aQuery.limit(), upserts, deletions);
     }
 }
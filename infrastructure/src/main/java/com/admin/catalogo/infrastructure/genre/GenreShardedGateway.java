@@ -0,0 +1,254 @@
+package com.admin.catalogo.infrastructure.genre;
+
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreDeleted;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.infrastructure.cache.CatalogCaches;
+import com.admin.catalogo.infrastructure.cache.ListQueryCache;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.outbox.TransactionalOutbox;
+import com.admin.catalogo.infrastructure.shard.KWayMerge;
+import com.admin.catalogo.infrastructure.shard.ShardRouter;
+import com.admin.catalogo.infrastructure.utils.SearchQueryUtils;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import com.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Genres spread over the shards by id hash, each stored with its category links; the linked
+ * categories may live on other shards and are checked through {@code existsByIds} by the use
+ * cases. Listings merge the first {@code (page + 1) * perPage} rows of every shard.
+ * <p>
+ * Writes are handed to {@link ShardRouter#beforeCommit}: the shard commits last, once the
+ * tombstone and outbox rows are in the primary unit of work, and fails that unit of work if
+ * it cannot. A primary commit that fails afterwards still leaves the shard row in place. Until
+ * then, reads in the same unit of work do not see the write.
+ */
+@Component
+@Profile("sharded")
+public class GenreShardedGateway implements GenreGateway {
+
+    private static final Sort AUTOCOMPLETE_SORT = Sort.by("searchKey").and(Sort.by("id"));
+
+    private static final Sort CHANGES_SORT = Sort.by("updatedAt").and(Sort.by("id"));
+
+    private static final Comparator<GenreJpaEntity> AUTOCOMPLETE_ORDER =
+            Comparator.comparing(GenreJpaEntity::getSearchKey).thenComparing(GenreJpaEntity::getId);
+
+    private static final Comparator<GenreJpaEntity> CHANGES_ORDER =
+            Comparator.comparing(GenreJpaEntity::getUpdatedAt).thenComparing(GenreJpaEntity::getId);
+
+    private final ShardRouter shardRouter;
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionalOutbox outbox;
+    private final CatalogCaches catalogCaches;
+    private final ListQueryCache listQueryCache;
+    private final ChangeHorizon changeHorizon;
+
+    public GenreShardedGateway(
+            final ShardRouter shardRouter,
+            final TombstoneRepository tombstoneRepository,
+            final TransactionalOutbox outbox,
+            final CatalogCaches catalogCaches,
+            final ListQueryCache listQueryCache,
+            final ChangeHorizon changeHorizon
+    ) {
+        this.shardRouter = Objects.requireNonNull(shardRouter);
+        this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.catalogCaches = Objects.requireNonNull(catalogCaches);
+        this.listQueryCache = Objects.requireNonNull(listQueryCache);
+        this.changeHorizon = Objects.requireNonNull(changeHorizon);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        return save(aGenre);
+    }
+
+    private Genre save(final Genre aGenre) {
+        final var anEntity = GenreJpaEntity.from(aGenre);
+        final var aShard = this.shardRouter.shardOf(anEntity.getId());
+        this.outbox.publish(TransactionalOutbox.GENRE, aGenre);
+        this.catalogCaches.evict(ResponseBytesCache.GENRE, anEntity.getId());
+        this.shardRouter.beforeCommit(() -> aShard.execute(() -> aShard.genreRepository().save(anEntity)));
+        return anEntity.toAggregate();
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        final var aGenreId = anId.getValue();
+        final var aShard = this.shardRouter.shardOf(aGenreId);
+        if (!aShard.executeReadOnly(() -> aShard.genreRepository().existsById(aGenreId))) {
+            return;
+        }
+
+        this.tombstoneRepository.save(TombstoneJpaEntity.of(TombstoneJpaEntity.GENRE, aGenreId));
+        this.outbox.append(TransactionalOutbox.GENRE, new GenreDeleted(aGenreId, Instant.now()));
+        this.catalogCaches.evict(ResponseBytesCache.GENRE, aGenreId);
+        this.shardRouter.beforeCommit(() -> aShard.execute(() -> {
+            aShard.genreRepository().deleteById(aGenreId);
+            return null;
+        }));
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        final var aShard = this.shardRouter.shardOf(anId.getValue());
+        return aShard.executeReadOnly(() -> aShard.genreRepository().findById(anId.getValue())
+                .map(GenreJpaEntity::toAggregate));
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        return save(aGenre);
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var aNormalizedQuery = SearchQueryUtils.normalize(aQuery);
+        return this.listQueryCache.getOrLoad(ResponseBytesCache.GENRE, aNormalizedQuery, () -> load(aNormalizedQuery));
+    }
+
+    private Pagination<Genre> load(final SearchQuery aQuery) {
+        final var sort = SortUtils.sortByKey(aQuery, GenreMySQLGateway.SORTABLE_FIELDS);
+        final var head = PageRequest.of(0, (int) Math.min((aQuery.page() + 1L) * aQuery.perPage(), Integer.MAX_VALUE), sort);
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(SqlUtils::like);
+
+        final var pages = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() -> terms
+                .map(it -> aShard.genreRepository().findAllByTerms(it, head))
+                .orElseGet(() -> aShard.genreRepository().findAll(head))));
+
+        final var items = KWayMerge.merge(
+                pages.stream().map(Page::getContent).toList(),
+                orderOf(aQuery.sort(), sort.iterator().next().isDescending()),
+                (long) aQuery.page() * aQuery.perPage(),
+                aQuery.perPage()
+        );
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                pages.stream().mapToLong(Page::getTotalElements).sum(),
+                items.stream().map(GenreJpaEntity::toAggregate).toList()
+        );
+    }
+
+    /**
+     * The order the shards return rows in: names by search key, which folds case and accents.
+     */
+    private static Comparator<GenreJpaEntity> orderOf(final String aField, final boolean descending) {
+        final Comparator<GenreJpaEntity> byField = "createdAt".equals(aField)
+                ? Comparator.comparing(GenreJpaEntity::getCreatedAt)
+                : Comparator.comparing(GenreJpaEntity::getSearchKey);
+        final var order = byField.thenComparing(GenreJpaEntity::getId);
+        return descending ? order.reversed() : order;
+    }
+
+    @Override
+    public void findAll(final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        // rows come from every shard before the merge, so there is nothing to stream
+        final var aPage = findAll(aQuery);
+        aWriter.begin(aPage.currentPage(), aPage.perPage(), aPage.total());
+        aPage.items().forEach(aWriter::write);
+        aWriter.end();
+    }
+
+    @Override
+    public List<Genre> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, GenreMySQLGateway.SORTABLE_FIELDS);
+        final var terms = SqlUtils.like(Optional.ofNullable(aQuery.terms()).map(String::trim).orElse(""));
+        final var descending = sort.iterator().next().isDescending();
+        final var page = PageRequest.of(0, aQuery.limit(), sort);
+
+        final var runs = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() ->
+                aShard.genreRepository().seek(terms, aQuery, descending, page)));
+
+        return KWayMerge.merge(runs, orderOf(aQuery.sort(), descending), 0, aQuery.limit()).stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> genreIds) {
+        final var ids = StreamSupport.stream(genreIds.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var partitions = this.shardRouter.partition(ids);
+        final var found = this.shardRouter.scatter(partitions.keySet(), aShard -> aShard.executeReadOnly(() ->
+                        aShard.genreRepository().findAllById(partitions.get(aShard))))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(GenreJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public List<Genre> autocomplete(final AutocompleteQuery aQuery) {
+        final var page = PageRequest.of(0, aQuery.limit(), AUTOCOMPLETE_SORT);
+        final var prefix = SqlUtils.startsWith(aQuery.prefix());
+
+        final var runs = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() ->
+                aShard.genreRepository().findAllBySearchKeyPrefix(prefix, page)));
+
+        return KWayMerge.merge(runs, AUTOCOMPLETE_ORDER, 0, aQuery.limit()).stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<Genre> changes(final ChangeQuery aQuery) {
+        final var since = aQuery.cursor();
+        final var fetchSize = aQuery.limit() + 1;
+        final var until = this.changeHorizon.now();
+        final var page = PageRequest.of(0, fetchSize, CHANGES_SORT);
+
+        final var runs = this.shardRouter.scatter(aShard -> aShard.executeReadOnly(() ->
+                aShard.genreRepository().findAllChangedSince(since.changedAt(), since.id(), until, page)));
+
+        final var upserts = KWayMerge.merge(runs, CHANGES_ORDER, 0, fetchSize).stream()
+                .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toAggregate()))
+                .toList();
+
+        final var deletions = this.tombstoneRepository.<Genre>deletionsSince(TombstoneJpaEntity.GENRE, since, until, fetchSize);
+
+        return ChangeFeed.merge(since, aQuery.limit(), upserts, deletions);
+    }
+}
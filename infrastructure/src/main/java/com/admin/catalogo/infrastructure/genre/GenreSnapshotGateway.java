@@ -0,0 +1,131 @@
+package com.admin.catalogo.infrastructure.genre;
+
+import com.admin.catalogo.domain.exceptions.NotImplementedException;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.infrastructure.snapshot.CatalogSnapshot;
+import com.admin.catalogo.infrastructure.snapshot.CatalogSnapshotFollower;
+import com.admin.catalogo.infrastructure.utils.SortUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+@Component
+@Profile("replica")
+public class GenreSnapshotGateway implements GenreGateway {
+
+    private final CatalogSnapshotFollower follower;
+
+    public GenreSnapshotGateway(final CatalogSnapshotFollower follower) {
+        this.follower = Objects.requireNonNull(follower);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteById(final GenreID genreID) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID genreID) {
+        final var snapshot = this.follower.current();
+        final var aRecord = snapshot.genres().find(genreID.getValue());
+        return aRecord < 0 ? Optional.empty() : Optional.of(snapshot.genre(aRecord));
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        throw readOnly();
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, GenreMySQLGateway.SORTABLE_FIELDS);
+        final var snapshot = this.follower.current();
+        final var terms = aQuery.terms();
+        final var upperTerms = terms == null || terms.isBlank() ? null : terms.toUpperCase(Locale.ROOT);
+
+        return snapshot.genres().page(
+                aQuery.page(),
+                aQuery.perPage(),
+                CatalogSnapshot.orderOf(aQuery.sort()),
+                sort.getOrderFor(aQuery.sort()).isDescending(),
+                upperTerms == null ? null : aRecord -> snapshot.genreMatches(aRecord, upperTerms),
+                snapshot::genre
+        );
+    }
+
+    @Override
+    public void findAll(final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        final var page = findAll(aQuery);
+
+        aWriter.begin(page.currentPage(), page.perPage(), page.total());
+        page.items().forEach(aWriter::write);
+        aWriter.end();
+    }
+
+    @Override
+    public List<Genre> seek(final SeekQuery aQuery) {
+        final var sort = SortUtils.sort(aQuery, GenreMySQLGateway.SORTABLE_FIELDS);
+        final var snapshot = this.follower.current();
+        final var terms = aQuery.terms();
+        final var upperTerms = terms == null || terms.isBlank() ? null : terms.trim().toUpperCase(Locale.ROOT);
+
+        return snapshot.genres().seek(
+                aQuery,
+                CatalogSnapshot.seekOrderOf(aQuery.sort()),
+                sort.iterator().next().isDescending(),
+                upperTerms == null ? null : aRecord -> snapshot.genreMatches(aRecord, upperTerms),
+                snapshot::genre
+        );
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> genreIds) {
+        final var snapshot = this.follower.current();
+        return StreamSupport.stream(genreIds.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .mapToInt(snapshot.genres()::find)
+                .filter(aRecord -> aRecord >= 0)
+                .mapToObj(snapshot::genre)
+                .toList();
+    }
+
+    @Override
+    public List<Genre> autocomplete(final AutocompleteQuery aQuery) {
+        final var snapshot = this.follower.current();
+        return Arrays.stream(snapshot.genres().startingWith(aQuery.prefix(), aQuery.limit()))
+                .mapToObj(snapshot::genre)
+                .toList();
+    }
+
+    @Override
+    public ChangeFeed<Genre> changes(final ChangeQuery aQuery) {
+        // snapshots hold no tombstones, so a feed from them could never report a deletion
+        throw NotImplementedException.with("Read replicas do not keep a change feed");
+    }
+
+    private static ReadOnlyException readOnly() {
+        return ReadOnlyException.with("Read replicas serve a read-only catalog snapshot");
+    }
+}
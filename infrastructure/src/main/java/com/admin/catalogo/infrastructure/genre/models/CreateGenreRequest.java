@@ -1,13 +1,16 @@
 package com.admin.catalogo.infrastructure.genre.models;
 
+import com.admin.catalogo.infrastructure.configuration.json.InternedStringDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import java.util.Collections;
 import java.util.List;
 
 public record CreateGenreRequest(
         @JsonProperty("name") String name,
-        @JsonProperty("categories_id") List<String> categories,
+        @JsonProperty("categories_id")
+        @JsonDeserialize(contentUsing = InternedStringDeserializer.class) List<String> categories,
         @JsonProperty("is_active") Boolean active
 ) {
 
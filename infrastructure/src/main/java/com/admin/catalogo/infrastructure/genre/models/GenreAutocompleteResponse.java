@@ -0,0 +1,9 @@
+package com.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record GenreAutocompleteResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
@@ -3,6 +3,8 @@ package com.admin.catalogo.infrastructure.genre.persistence;
 import com.admin.catalogo.domain.category.CategoryID;
 import com.admin.catalogo.domain.genre.Genre;
 import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -21,6 +23,9 @@ public class GenreJpaEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "search_key", nullable = false)
+    private String searchKey;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
@@ -49,6 +54,7 @@ public class GenreJpaEntity {
     ) {
         this.id = anId;
         this.name = aName;
+        refreshSearchKey();
         this.active = isActive;
         this.categories = new HashSet<>();
         this.createdAt = createdAt;
@@ -146,12 +152,20 @@ public class GenreJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        refreshSearchKey();
+    }
+
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    public void refreshSearchKey() {
+        this.searchKey = SearchKeyUtils.normalize(this.name);
     }
 
     public List<CategoryID> getCategoriesIDs() {
         return getCategories().stream()
-                .map(
-                        it -> CategoryID.from(it.getId().getCategoryId()))
+                .map(it -> IdentifierPool.categoryID(it.getId().getCategoryId()))
                 .toList();
     }
 }
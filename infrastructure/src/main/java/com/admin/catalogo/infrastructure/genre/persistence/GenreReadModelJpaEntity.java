@@ -0,0 +1,167 @@
+package com.admin.catalogo.infrastructure.genre.persistence;
+
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+@Entity(name = "GenreReadModel")
+@Table(name = "genre_read_model")
+public class GenreReadModelJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "search_key", nullable = false)
+    private String searchKey;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "category_ids", nullable = false, columnDefinition = "TEXT")
+    private String categoryIds;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+
+    public GenreReadModelJpaEntity() {
+    }
+
+    private GenreReadModelJpaEntity(
+            final String anId,
+            final String aName,
+            final boolean isActive,
+            final String categoryIds,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        this.id = anId;
+        this.name = aName;
+        this.searchKey = SearchKeyUtils.normalize(aName);
+        this.active = isActive;
+        this.categoryIds = categoryIds;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+
+    public static GenreReadModelJpaEntity from(final Genre aGenre) {
+        final var categoryIds = aGenre.getCategories().stream()
+                .map(CategoryID::getValue)
+                .sorted()
+                .toList();
+
+        return new GenreReadModelJpaEntity(
+                aGenre.getId().getValue(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                Json.writeValueAsString(categoryIds),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt()
+        );
+    }
+
+    public Genre toAggregate() {
+        return Genre.with(
+                GenreID.from(getId()),
+                getName(),
+                isActive(),
+                getCategoriesIDs(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                getDeletedAt()
+        );
+    }
+
+    public List<CategoryID> getCategoriesIDs() {
+        return Arrays.stream(Json.readValue(getCategoryIds(), String[].class))
+                .map(IdentifierPool::categoryID)
+                .toList();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    public void setSearchKey(String searchKey) {
+        this.searchKey = searchKey;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getCategoryIds() {
+        return categoryIds;
+    }
+
+    public void setCategoryIds(String categoryIds) {
+        this.categoryIds = categoryIds;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.admin.catalogo.infrastructure.genre.persistence;
+
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface GenreReadModelRepository extends JpaRepository<GenreReadModelJpaEntity, String> {
+
+    @Query(value = "select g from GenreReadModel g where upper(g.name) like :terms")
+    Page<GenreReadModelJpaEntity> findAllByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "select count(g) from GenreReadModel g where upper(g.name) like :terms")
+    long countByTerms(@Param("terms") String terms);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = "select g from GenreReadModel g")
+    Stream<GenreReadModelJpaEntity> streamAll(Pageable page);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = "select g from GenreReadModel g where upper(g.name) like :terms")
+    Stream<GenreReadModelJpaEntity> streamAllByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "select count(r) from GenreReadModel r, GenreJpaEntity g where r.id = g.id and r.updatedAt = g.updatedAt")
+    long countUpToDate();
+
+    @Modifying
+    @Query(value = "delete from GenreReadModel r where r.id not in (select g.id from GenreJpaEntity g)")
+    int deleteAllOrphans();
+
+    @Query(value = "select g from GenreReadModel g where (upper(g.name) like :terms) and (g.searchKey > :searchKey or (g.searchKey = :searchKey and g.id > :id))")
+    List<GenreReadModelJpaEntity> findAllByTermsAfterSearchKey(@Param("terms") String terms, @Param("searchKey") String searchKey, @Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreReadModel g where (upper(g.name) like :terms) and (g.searchKey < :searchKey or (g.searchKey = :searchKey and g.id < :id))")
+    List<GenreReadModelJpaEntity> findAllByTermsBeforeSearchKey(@Param("terms") String terms, @Param("searchKey") String searchKey, @Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreReadModel g where (upper(g.name) like :terms) and (g.createdAt > :createdAt or (g.createdAt = :createdAt and g.id > :id))")
+    List<GenreReadModelJpaEntity> findAllByTermsAfterCreatedAt(@Param("terms") String terms, @Param("createdAt") Instant createdAt, @Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreReadModel g where (upper(g.name) like :terms) and (g.createdAt < :createdAt or (g.createdAt = :createdAt and g.id < :id))")
+    List<GenreReadModelJpaEntity> findAllByTermsBeforeCreatedAt(@Param("terms") String terms, @Param("createdAt") Instant createdAt, @Param("id") String id, Pageable page);
+
+    default List<GenreReadModelJpaEntity> seek(final String terms, final SeekQuery aQuery, final boolean descending, final Pageable page) {
+        if (aQuery.isFirst()) {
+            return findAllByTerms(terms, page).getContent();
+        }
+        if ("createdAt".equals(aQuery.sort())) {
+            return descending
+                    ? findAllByTermsBeforeCreatedAt(terms, aQuery.afterCreatedAt(), aQuery.afterId(), page)
+                    : findAllByTermsAfterCreatedAt(terms, aQuery.afterCreatedAt(), aQuery.afterId(), page);
+        }
+        final var searchKey = SearchKeyUtils.normalize(aQuery.afterName());
+        return descending
+                ? findAllByTermsBeforeSearchKey(terms, searchKey, aQuery.afterId(), page)
+                : findAllByTermsAfterSearchKey(terms, searchKey, aQuery.afterId(), page);
+    }
+}
@@ -1,11 +1,74 @@
 package com.admin.catalogo.infrastructure.genre.persistence;
 
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
-    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+    @Query(value = "select g from GenreJpaEntity g where upper(g.name) like :terms")
+    Page<GenreJpaEntity> findAllByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where g.searchKey like :prefix escape '!'")
+    List<GenreJpaEntity> findAllBySearchKeyPrefix(@Param("prefix") String prefix, Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where g.searchKey = '' and g.id > :id")
+    List<GenreJpaEntity> findAllWithoutSearchKeyAfter(@Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where (g.updatedAt > :updatedAt or (g.updatedAt = :updatedAt and g.id > :id)) and g.updatedAt <= :until")
+    List<GenreJpaEntity> findAllChangedSince(@Param("updatedAt") Instant updatedAt, @Param("id") String id, @Param("until") Instant until, Pageable page);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select g from GenreJpaEntity g where g.id > :id")
+    List<GenreJpaEntity> findAllAfter(@Param("id") String id, Pageable page);
+
+    @Query(value = "select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId")
+    List<String> findAllIdsByCategoryId(@Param("categoryId") String categoryId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = "update GenreJpaEntity g set g.updatedAt = :updatedAt where g.id in (select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId)")
+    int touchAllByCategoryId(@Param("categoryId") String categoryId, @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId")
+    int deleteAllLinksByCategoryId(@Param("categoryId") String categoryId);
+
+    @Query(value = "select g from GenreJpaEntity g where (upper(g.name) like :terms) and (g.searchKey > :searchKey or (g.searchKey = :searchKey and g.id > :id))")
+    List<GenreJpaEntity> findAllByTermsAfterSearchKey(@Param("terms") String terms, @Param("searchKey") String searchKey, @Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where (upper(g.name) like :terms) and (g.searchKey < :searchKey or (g.searchKey = :searchKey and g.id < :id))")
+    List<GenreJpaEntity> findAllByTermsBeforeSearchKey(@Param("terms") String terms, @Param("searchKey") String searchKey, @Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where (upper(g.name) like :terms) and (g.createdAt > :createdAt or (g.createdAt = :createdAt and g.id > :id))")
+    List<GenreJpaEntity> findAllByTermsAfterCreatedAt(@Param("terms") String terms, @Param("createdAt") Instant createdAt, @Param("id") String id, Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where (upper(g.name) like :terms) and (g.createdAt < :createdAt or (g.createdAt = :createdAt and g.id < :id))")
+    List<GenreJpaEntity> findAllByTermsBeforeCreatedAt(@Param("terms") String terms, @Param("createdAt") Instant createdAt, @Param("id") String id, Pageable page);
+
+    default List<GenreJpaEntity> seek(final String terms, final SeekQuery aQuery, final boolean descending, final Pageable page) {
+        if (aQuery.isFirst()) {
+            return findAllByTerms(terms, page).getContent();
+        }
+        if ("createdAt".equals(aQuery.sort())) {
+            return descending
+                    ? findAllByTermsBeforeCreatedAt(terms, aQuery.afterCreatedAt(), aQuery.afterId(), page)
+                    : findAllByTermsAfterCreatedAt(terms, aQuery.afterCreatedAt(), aQuery.afterId(), page);
+        }
+        final var searchKey = SearchKeyUtils.normalize(aQuery.afterName());
+        return descending
+                ? findAllByTermsBeforeSearchKey(terms, searchKey, aQuery.afterId(), page)
+                : findAllByTermsAfterSearchKey(terms, searchKey, aQuery.afterId(), page);
+    }
 }
@@ -1,7 +1,9 @@
 package com.admin.catalogo.infrastructure.genre.presenters;
 
+import com.admin.catalogo.application.genre.retrieve.autocomplete.GenreAutocompleteOutput;
 import com.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.infrastructure.genre.models.GenreAutocompleteResponse;
 import com.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.admin.catalogo.infrastructure.genre.models.GenreResponse;
 
@@ -28,4 +30,11 @@ public interface GenreApiPresenter {
                 output.deleteAt()
         );
     }
+
+    static GenreAutocompleteResponse present(final GenreAutocompleteOutput output) {
+        return new GenreAutocompleteResponse(
+                output.id(),
+                output.name()
+        );
+    }
 }
@@ -0,0 +1,51 @@
+package com.admin.catalogo.infrastructure.genre.presenters;
+
+import com.admin.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.grpc.GrpcTimestamps;
+import com.admin.catalogo.infrastructure.grpc.proto.Genre;
+import com.admin.catalogo.infrastructure.grpc.proto.GenreListItem;
+import com.admin.catalogo.infrastructure.grpc.proto.GenrePage;
+
+public interface GenreGrpcPresenter {
+
+    static Genre present(final GenreOutput output) {
+        final var aGenre = Genre.newBuilder()
+                .setId(output.id())
+                .setName(output.name())
+                .setIsActive(output.isActive())
+                .addAllCategories(output.categories())
+                .setCreatedAt(GrpcTimestamps.from(output.createdAt()))
+                .setUpdatedAt(GrpcTimestamps.from(output.updatedAt()));
+
+        if (output.deletedAt() != null) {
+            aGenre.setDeletedAt(GrpcTimestamps.from(output.deletedAt()));
+        }
+        return aGenre.build();
+    }
+
+    static GenreListItem present(final GenreListOutput output) {
+        final var anItem = GenreListItem.newBuilder()
+                .setId(output.id())
+                .setName(output.name())
+                .setIsActive(output.isActive())
+                .addAllCategories(output.categories())
+                .setCreatedAt(GrpcTimestamps.from(output.createAt()));
+
+        if (output.deleteAt() != null) {
+            anItem.setDeletedAt(GrpcTimestamps.from(output.deleteAt()));
+        }
+        return anItem.build();
+    }
+
+    static GenrePage present(final Pagination<GenreListOutput> aPage) {
+        final var aResponse = GenrePage.newBuilder()
+                .setCurrentPage(aPage.currentPage())
+                .setPerPage(aPage.perPage())
+                .setTotal(aPage.total());
+
+        aPage.items().forEach(it -> aResponse.addItems(present(it)));
+        return aResponse.build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.admin.catalogo.infrastructure.genre.readmodel;
+
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Keeps {@code genre_read_model} in step with the genre write tables. Every method is
+ * expected to run inside the transaction that changed the genre, so both sides commit
+ * or roll back together.
+ */
+@Component
+@Profile("!in-memory & !replica")
+public class GenreReadModelProjector {
+
+    private final GenreRepository genreRepository;
+
+    private final GenreReadModelRepository genreReadModelRepository;
+
+    public GenreReadModelProjector(
+            final GenreRepository genreRepository,
+            final GenreReadModelRepository genreReadModelRepository
+    ) {
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.genreReadModelRepository = Objects.requireNonNull(genreReadModelRepository);
+    }
+
+    public void project(final Genre aGenre) {
+        this.genreReadModelRepository.save(GenreReadModelJpaEntity.from(aGenre));
+    }
+
+    public void remove(final String anId) {
+        if (this.genreReadModelRepository.existsById(anId)) {
+            this.genreReadModelRepository.deleteById(anId);
+        }
+    }
+
+    public int refresh(final Collection<String> genreIds) {
+        if (genreIds.isEmpty()) {
+            return 0;
+        }
+
+        final var models = this.genreRepository.findAllById(genreIds).stream()
+                .map(it -> GenreReadModelJpaEntity.from(it.toAggregate()))
+                .toList();
+
+        this.genreReadModelRepository.saveAll(models);
+        return models.size();
+    }
+}
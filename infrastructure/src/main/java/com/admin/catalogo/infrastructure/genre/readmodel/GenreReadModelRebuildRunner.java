@@ -0,0 +1,28 @@
+package com.admin.catalogo.infrastructure.genre.readmodel;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@Profile("!in-memory & !replica")
+@ConditionalOnProperty(name = "read-model.genre.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+public class GenreReadModelRebuildRunner implements ApplicationRunner {
+
+    private final GenreReadModelRebuilder genreReadModelRebuilder;
+
+    public GenreReadModelRebuildRunner(final GenreReadModelRebuilder genreReadModelRebuilder) {
+        this.genreReadModelRebuilder = Objects.requireNonNull(genreReadModelRebuilder);
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (this.genreReadModelRebuilder.isOutOfSync()) {
+            this.genreReadModelRebuilder.rebuild();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.admin.catalogo.infrastructure.genre.readmodel;
+
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Backfills {@code genre_read_model} from the write tables in keyset-ordered batches,
+ * one transaction per batch. Each batch locks its genre rows, so a concurrent write
+ * cannot be overwritten by an older projection.
+ */
+@Component
+@Profile("!in-memory & !replica")
+public class GenreReadModelRebuilder {
+
+    private static final Sort BATCH_SORT = Sort.by("id");
+
+    private final GenreRepository genreRepository;
+
+    private final GenreReadModelRepository genreReadModelRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public GenreReadModelRebuilder(
+            final GenreRepository genreRepository,
+            final GenreReadModelRepository genreReadModelRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${read-model.genre.rebuild-batch-size:500}") final int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'rebuild-batch-size' must be greater than zero");
+        }
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.genreReadModelRepository = Objects.requireNonNull(genreReadModelRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Whether some genre is missing from the read model, projected from an older
+     * {@code updated_at}, or gone from the write tables. An edit that leaves
+     * {@code updated_at} alone goes unnoticed.
+     */
+    public boolean isOutOfSync() {
+        return Boolean.TRUE.equals(this.transactionTemplate.execute(status -> {
+            final var genres = this.genreRepository.count();
+            return genres != this.genreReadModelRepository.count()
+                    || genres != this.genreReadModelRepository.countUpToDate();
+        }));
+    }
+
+    public int rebuild() {
+        var rebuilt = 0;
+        var lastId = "";
+
+        while (true) {
+            final var after = lastId;
+            final List<String> ids = this.transactionTemplate.execute(status -> rebuildAfter(after));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+
+            rebuilt += ids.size();
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < this.batchSize) {
+                break;
+            }
+        }
+
+        this.transactionTemplate.executeWithoutResult(status -> this.genreReadModelRepository.deleteAllOrphans());
+        return rebuilt;
+    }
+
+    private List<String> rebuildAfter(final String lastId) {
+        final var genres = this.genreRepository.findAllAfter(lastId, PageRequest.of(0, this.batchSize, BATCH_SORT));
+
+        this.genreReadModelRepository.saveAll(genres.stream()
+                .map(it -> GenreReadModelJpaEntity.from(it.toAggregate()))
+                .toList());
+
+        return genres.stream()
+                .map(GenreJpaEntity::getId)
+                .toList();
+    }
+}
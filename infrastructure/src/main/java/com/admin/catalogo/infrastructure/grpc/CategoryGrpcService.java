@@ -0,0 +1,141 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.list.SeekCategoriesUseCase;
+import com.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryGrpcPresenter;
+import com.admin.catalogo.infrastructure.grpc.proto.BatchGetCategoriesResponse;
+import com.admin.catalogo.infrastructure.grpc.proto.BatchGetRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.Category;
+import com.admin.catalogo.infrastructure.grpc.proto.CategoryListItem;
+import com.admin.catalogo.infrastructure.grpc.proto.CategoryPage;
+import com.admin.catalogo.infrastructure.grpc.proto.CategoryServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.CreateCategoryRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.IdRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.IdResponse;
+import com.admin.catalogo.infrastructure.grpc.proto.SearchRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.StreamRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.UpdateCategoryRequest;
+import com.google.protobuf.Empty;
+import io.grpc.stub.StreamObserver;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class CategoryGrpcService extends CategoryServiceGrpc.CategoryServiceImplBase {
+
+    private final CreateCategoryUseCase createCategoryUseCase;
+    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final SeekCategoriesUseCase seekCategoriesUseCase;
+
+    public CategoryGrpcService(
+            final CreateCategoryUseCase createCategoryUseCase,
+            final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+            final UpdateCategoryUseCase updateCategoryUseCase,
+            final DeleteCategoryUseCase deleteCategoryUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final SeekCategoriesUseCase seekCategoriesUseCase
+    ) {
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+        this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.seekCategoriesUseCase = Objects.requireNonNull(seekCategoriesUseCase);
+    }
+
+    @Override
+    public void getCategory(final IdRequest request, final StreamObserver<Category> responseObserver) {
+        GrpcCalls.unary(responseObserver, () ->
+                CategoryGrpcPresenter.present(this.getCategoryByIdUseCase.execute(request.getId())));
+    }
+
+    @Override
+    public void batchGetCategories(final BatchGetRequest request, final StreamObserver<BatchGetCategoriesResponse> responseObserver) {
+        GrpcCalls.unary(responseObserver, () -> {
+            GrpcRequests.checkBatchSize(request.getIdsCount());
+
+            final var ids = List.copyOf(new LinkedHashSet<>(request.getIdsList()));
+            final var found = this.getCategoriesByIdsUseCase.execute(ids);
+            final var foundIds = found.stream().map(it -> it.id().getValue()).collect(Collectors.toSet());
+
+            return BatchGetCategoriesResponse.newBuilder()
+                    .addAllCategories(found.stream().map(CategoryGrpcPresenter::present).toList())
+                    .addAllMissingIds(ids.stream().filter(anId -> !foundIds.contains(anId)).toList())
+                    .build();
+        });
+    }
+
+    @Override
+    public void listCategories(final SearchRequest request, final StreamObserver<CategoryPage> responseObserver) {
+        GrpcCalls.unary(responseObserver, () ->
+                CategoryGrpcPresenter.present(this.listCategoriesUseCase.execute(GrpcRequests.query(request))));
+    }
+
+    @Override
+    public void streamCategories(final StreamRequest request, final StreamObserver<CategoryListItem> responseObserver) {
+        final var aQuery = GrpcRequests.seek(request);
+        PagedStreamer.stream(
+                responseObserver,
+                aQuery.limit(),
+                (CategoryListOutput last) -> this.seekCategoriesUseCase.execute(last == null
+                        ? aQuery
+                        : aQuery.after(last.name(), last.createdAt(), last.id().getValue())),
+                CategoryGrpcPresenter::present
+        );
+    }
+
+    @Override
+    public void createCategory(final CreateCategoryRequest request, final StreamObserver<IdResponse> responseObserver) {
+        final var aCommand = CreateCategoryCommand.with(
+                request.getName(),
+                request.getDescription(),
+                !request.hasIsActive() || request.getIsActive()
+        );
+
+        GrpcCalls.unary(responseObserver, () -> this.createCategoryUseCase.execute(aCommand)
+                .fold(
+                        notification -> { throw GrpcCalls.invalid(notification); },
+                        output -> IdResponse.newBuilder().setId(output.id()).build()
+                ));
+    }
+
+    @Override
+    public void updateCategory(final UpdateCategoryRequest request, final StreamObserver<IdResponse> responseObserver) {
+        final var aCommand = UpdateCategoryCommand.with(
+                request.getId(),
+                request.getName(),
+                request.getDescription(),
+                !request.hasIsActive() || request.getIsActive()
+        );
+
+        GrpcCalls.unary(responseObserver, () -> this.updateCategoryUseCase.execute(aCommand)
+                .fold(
+                        notification -> { throw GrpcCalls.invalid(notification); },
+                        output -> IdResponse.newBuilder().setId(output.id()).build()
+                ));
+    }
+
+    @Override
+    public void deleteCategory(final IdRequest request, final StreamObserver<Empty> responseObserver) {
+        GrpcCalls.unary(responseObserver, () -> {
+            this.deleteCategoryUseCase.execute(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.application.genre.create.CreateGenreCommand;
+import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.SeekGenresUseCase;
+import com.admin.catalogo.application.genre.update.UpdateGenreCommand;
+import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.admin.catalogo.infrastructure.genre.presenters.GenreGrpcPresenter;
+import com.admin.catalogo.infrastructure.grpc.proto.BatchGetGenresResponse;
+import com.admin.catalogo.infrastructure.grpc.proto.BatchGetRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.CreateGenreRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.Genre;
+import com.admin.catalogo.infrastructure.grpc.proto.GenreListItem;
+import com.admin.catalogo.infrastructure.grpc.proto.GenrePage;
+import com.admin.catalogo.infrastructure.grpc.proto.GenreServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.IdRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.IdResponse;
+import com.admin.catalogo.infrastructure.grpc.proto.SearchRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.StreamRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.UpdateGenreRequest;
+import com.google.protobuf.Empty;
+import io.grpc.stub.StreamObserver;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class GenreGrpcService extends GenreServiceGrpc.GenreServiceImplBase {
+
+    private final CreateGenreUseCase createGenreUseCase;
+    private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenresByIdsUseCase getGenresByIdsUseCase;
+    private final UpdateGenreUseCase updateGenreUseCase;
+    private final DeleteGenreUseCase deleteGenreUseCase;
+    private final ListGenreUseCase listGenreUseCase;
+    private final SeekGenresUseCase seekGenresUseCase;
+
+    public GenreGrpcService(
+            final CreateGenreUseCase createGenreUseCase,
+            final GetGenreByIdUseCase getGenreByIdUseCase,
+            final GetGenresByIdsUseCase getGenresByIdsUseCase,
+            final UpdateGenreUseCase updateGenreUseCase,
+            final DeleteGenreUseCase deleteGenreUseCase,
+            final ListGenreUseCase listGenreUseCase,
+            final SeekGenresUseCase seekGenresUseCase
+    ) {
+        this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
+        this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.getGenresByIdsUseCase = Objects.requireNonNull(getGenresByIdsUseCase);
+        this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
+        this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
+        this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.seekGenresUseCase = Objects.requireNonNull(seekGenresUseCase);
+    }
+
+    @Override
+    public void getGenre(final IdRequest request, final StreamObserver<Genre> responseObserver) {
+        GrpcCalls.unary(responseObserver, () ->
+                GenreGrpcPresenter.present(this.getGenreByIdUseCase.execute(request.getId())));
+    }
+
+    @Override
+    public void batchGetGenres(final BatchGetRequest request, final StreamObserver<BatchGetGenresResponse> responseObserver) {
+        GrpcCalls.unary(responseObserver, () -> {
+            GrpcRequests.checkBatchSize(request.getIdsCount());
+
+            final var ids = List.copyOf(new LinkedHashSet<>(request.getIdsList()));
+            final var found = this.getGenresByIdsUseCase.execute(ids);
+            final var foundIds = found.stream().map(GenreOutput::id).collect(Collectors.toSet());
+
+            return BatchGetGenresResponse.newBuilder()
+                    .addAllGenres(found.stream().map(GenreGrpcPresenter::present).toList())
+                    .addAllMissingIds(ids.stream().filter(anId -> !foundIds.contains(anId)).toList())
+                    .build();
+        });
+    }
+
+    @Override
+    public void listGenres(final SearchRequest request, final StreamObserver<GenrePage> responseObserver) {
+        GrpcCalls.unary(responseObserver, () ->
+                GenreGrpcPresenter.present(this.listGenreUseCase.execute(GrpcRequests.query(request))));
+    }
+
+    @Override
+    public void streamGenres(final StreamRequest request, final StreamObserver<GenreListItem> responseObserver) {
+        final var aQuery = GrpcRequests.seek(request);
+        PagedStreamer.stream(
+                responseObserver,
+                aQuery.limit(),
+                (GenreListOutput last) -> this.seekGenresUseCase.execute(last == null
+                        ? aQuery
+                        : aQuery.after(last.name(), last.createAt(), last.id())),
+                GenreGrpcPresenter::present
+        );
+    }
+
+    @Override
+    public void createGenre(final CreateGenreRequest request, final StreamObserver<IdResponse> responseObserver) {
+        final var aCommand = CreateGenreCommand.with(
+                request.getName(),
+                !request.hasIsActive() || request.getIsActive(),
+                request.getCategoriesList()
+        );
+
+        GrpcCalls.unary(responseObserver, () ->
+                IdResponse.newBuilder().setId(this.createGenreUseCase.execute(aCommand).id()).build());
+    }
+
+    @Override
+    public void updateGenre(final UpdateGenreRequest request, final StreamObserver<IdResponse> responseObserver) {
+        final var aCommand = UpdateGenreCommand.with(
+                request.getId(),
+                request.getName(),
+                !request.hasIsActive() || request.getIsActive(),
+                request.getCategoriesList()
+        );
+
+        GrpcCalls.unary(responseObserver, () ->
+                IdResponse.newBuilder().setId(this.updateGenreUseCase.execute(aCommand).id()).build());
+    }
+
+    @Override
+    public void deleteGenre(final IdRequest request, final StreamObserver<Empty> responseObserver) {
+        GrpcCalls.unary(responseObserver, () -> {
+            this.deleteGenreUseCase.execute(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+}
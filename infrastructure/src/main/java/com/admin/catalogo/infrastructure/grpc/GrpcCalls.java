@@ -0,0 +1,71 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.NotImplementedException;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.domain.validation.handler.Notification;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Maps use case results to gRPC responses with the same status semantics as {@code GlobalExceptionHandler}:
+ * not found stays not found, writes to a read-only node become {@code UNIMPLEMENTED} and validation
+ * errors become {@code INVALID_ARGUMENT}.
+ */
+final class GrpcCalls {
+
+    private GrpcCalls() {}
+
+    static <T> void unary(final StreamObserver<T> anObserver, final Supplier<T> aCall) {
+        final T aResponse;
+        try {
+            aResponse = aCall.get();
+        } catch (final RuntimeException ex) {
+            anObserver.onError(error(ex));
+            return;
+        }
+        anObserver.onNext(aResponse);
+        anObserver.onCompleted();
+    }
+
+    static StatusRuntimeException error(final Throwable ex) {
+        if (ex instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (ex instanceof NotFoundException notFound) {
+            return Status.NOT_FOUND.withDescription(notFound.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof ReadOnlyException readOnly) {
+            return Status.UNIMPLEMENTED.withDescription(readOnly.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof NotImplementedException notImplemented) {
+            return Status.UNIMPLEMENTED.withDescription(notImplemented.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof DomainException domain) {
+            return invalid(domain.getMessage(), domain.getErrors());
+        }
+        return Status.INTERNAL.withDescription(ex.getMessage()).withCause(ex).asRuntimeException();
+    }
+
+    static StatusRuntimeException invalid(final Notification aNotification) {
+        return invalid("", aNotification.getErrors());
+    }
+
+    static StatusRuntimeException invalid(final String aMessage) {
+        return Status.INVALID_ARGUMENT.withDescription(aMessage).asRuntimeException();
+    }
+
+    private static StatusRuntimeException invalid(final String aMessage, final List<Error> errors) {
+        final var aDescription = errors == null || errors.isEmpty()
+                ? aMessage
+                : errors.stream().map(Error::message).collect(Collectors.joining("; "));
+        return invalid(aDescription);
+    }
+}
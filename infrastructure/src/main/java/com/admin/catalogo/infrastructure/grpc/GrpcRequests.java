@@ -0,0 +1,52 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.infrastructure.grpc.proto.SearchRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.StreamRequest;
+
+/**
+ * Applies the REST defaults to proto3 requests, where an absent field reads as zero or empty.
+ */
+final class GrpcRequests {
+
+    static final int MAX_BATCH_GET = 1000;
+    static final int DEFAULT_STREAM_BATCH = 500;
+    static final int MAX_STREAM_BATCH = 1000;
+
+    private GrpcRequests() {}
+
+    static SearchQuery query(final SearchRequest request) {
+        return new SearchQuery(
+                request.getPage(),
+                request.getPerPage() > 0 ? request.getPerPage() : 10,
+                request.getSearch(),
+                orDefault(request.getSort(), "name"),
+                orDefault(request.getDirection(), "asc")
+        );
+    }
+
+    static SeekQuery seek(final StreamRequest request) {
+        return SeekQuery.first(
+                batchSize(request),
+                request.getSearch(),
+                orDefault(request.getSort(), "name"),
+                orDefault(request.getDirection(), "asc")
+        );
+    }
+
+    static int batchSize(final StreamRequest request) {
+        final var batchSize = request.getBatchSize();
+        return batchSize > 0 ? Math.min(batchSize, MAX_STREAM_BATCH) : DEFAULT_STREAM_BATCH;
+    }
+
+    static void checkBatchSize(final int count) {
+        if (count > MAX_BATCH_GET) {
+            throw GrpcCalls.invalid("'ids' must have at most %d elements".formatted(MAX_BATCH_GET));
+        }
+    }
+
+    private static String orDefault(final String value, final String aDefault) {
+        return value.isBlank() ? aDefault : value;
+    }
+}
@@ -0,0 +1,103 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the gRPC services on their own port next to Undertow. Calls are executed on a dedicated
+ * pool so blocking use cases never run on the Netty event loops.
+ */
+public class GrpcServer implements SmartLifecycle {
+
+    private final int port;
+    private final int threads;
+    private final long shutdownTimeout;
+    private final List<BindableService> services;
+
+    private volatile Server server;
+    private ExecutorService executor;
+
+    public GrpcServer(
+            final int port,
+            final int threads,
+            final long shutdownTimeout,
+            final List<BindableService> services
+    ) {
+        if (port < 0 || threads <= 0 || shutdownTimeout < 0) {
+            throw new IllegalArgumentException("'port' and 'shutdownTimeout' must not be negative and 'threads' must be positive");
+        }
+        this.port = port;
+        this.threads = threads;
+        this.shutdownTimeout = shutdownTimeout;
+        this.services = List.copyOf(Objects.requireNonNull(services));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (this.server != null) {
+            return;
+        }
+
+        final var sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.threads, r -> {
+            final var thread = new Thread(r, "grpc-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final var builder = NettyServerBuilder.forPort(this.port).executor(this.executor);
+        this.services.forEach(builder::addService);
+
+        try {
+            this.server = builder.build().start();
+        } catch (final IOException e) {
+            this.executor.shutdownNow();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        final var current = this.server;
+        if (current == null) {
+            return;
+        }
+
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(this.shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            this.executor.shutdownNow();
+            this.server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.server != null;
+    }
+
+    public int getPort() {
+        final var current = this.server;
+        if (current == null) {
+            throw new IllegalStateException("gRPC server is not running");
+        }
+        return current.getPort();
+    }
+}
@@ -0,0 +1,21 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+
+public final class GrpcTimestamps {
+
+    private GrpcTimestamps() {}
+
+    public static Timestamp from(final Instant anInstant) {
+        return Timestamp.newBuilder()
+                .setSeconds(anInstant.getEpochSecond())
+                .setNanos(anInstant.getNano())
+                .build();
+    }
+
+    public static Instant toInstant(final Timestamp aTimestamp) {
+        return Instant.ofEpochSecond(aTimestamp.getSeconds(), aTimestamp.getNanos());
+    }
+}
@@ -0,0 +1,82 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streams a full listing batch by batch, driven by gRPC flow control: a batch is only fetched
+ * once the client has drained the previous one, so memory stays bounded by one batch per call
+ * and no database resources are held while waiting on a slow reader. Every batch is read after
+ * the last item sent rather than at an offset, so deep batches cost the same as the first and
+ * writes in between neither repeat nor skip items.
+ */
+final class PagedStreamer<T, R> implements Runnable {
+
+    private final ServerCallStreamObserver<R> observer;
+    private final int batchSize;
+    private final Function<T, List<T>> fetchAfter;
+    private final Function<T, R> mapper;
+
+    private Iterator<T> buffer = Collections.emptyIterator();
+    private T last;
+    private boolean exhausted;
+    private volatile boolean done;
+
+    private PagedStreamer(
+            final ServerCallStreamObserver<R> observer,
+            final int batchSize,
+            final Function<T, List<T>> fetchAfter,
+            final Function<T, R> mapper
+    ) {
+        this.observer = observer;
+        this.batchSize = batchSize;
+        this.fetchAfter = fetchAfter;
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@code fetchAfter} receives the last item sent, {@code null} for the first batch.
+     */
+    static <T, R> void stream(
+            final StreamObserver<R> anObserver,
+            final int batchSize,
+            final Function<T, List<T>> fetchAfter,
+            final Function<T, R> mapper
+    ) {
+        final var observer = (ServerCallStreamObserver<R>) anObserver;
+        final var streamer = new PagedStreamer<>(observer, batchSize, fetchAfter, mapper);
+        observer.setOnCancelHandler(() -> streamer.done = true);
+        observer.setOnReadyHandler(streamer);
+        streamer.run();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!this.done && this.observer.isReady()) {
+                if (this.buffer.hasNext()) {
+                    this.last = this.buffer.next();
+                    this.observer.onNext(this.mapper.apply(this.last));
+                    continue;
+                }
+                if (this.exhausted) {
+                    this.done = true;
+                    this.observer.onCompleted();
+                    return;
+                }
+
+                final var aBatch = this.fetchAfter.apply(this.last);
+                this.buffer = aBatch.iterator();
+                this.exhausted = aBatch.size() < this.batchSize;
+            }
+        } catch (final RuntimeException ex) {
+            this.done = true;
+            this.observer.onError(GrpcCalls.error(ex));
+        }
+    }
+}
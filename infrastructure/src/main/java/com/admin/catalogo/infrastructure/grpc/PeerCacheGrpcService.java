@@ -0,0 +1,44 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.grpc.proto.PeerCacheServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.PeerGetRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.PeerGetResponse;
+import com.google.protobuf.ByteString;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class PeerCacheGrpcService extends PeerCacheServiceGrpc.PeerCacheServiceImplBase {
+
+    private final ResponseBytesCache responseBytesCache;
+    private final Map<String, Function<String, ?>> loaders;
+
+    public PeerCacheGrpcService(
+            final ResponseBytesCache responseBytesCache,
+            final Map<String, Function<String, ?>> loaders
+    ) {
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
+        this.loaders = Map.copyOf(loaders);
+    }
+
+    @Override
+    public void get(final PeerGetRequest request, final StreamObserver<PeerGetResponse> responseObserver) {
+        GrpcCalls.unary(responseObserver, () -> {
+            final var aLoader = this.loaders.get(request.getAggregate());
+            if (aLoader == null) {
+                throw GrpcCalls.invalid("unknown aggregate '%s'".formatted(request.getAggregate()));
+            }
+            final var aResponse = this.responseBytesCache.getOrLoadLocally(
+                    request.getAggregate(),
+                    request.getId(),
+                    () -> aLoader.apply(request.getId())
+            );
+            return PeerGetResponse.newBuilder()
+                    .setBody(ByteString.copyFrom(aResponse.body()))
+                    .build();
+        });
+    }
+}
@@ -0,0 +1,232 @@
+package com.admin.catalogo.infrastructure.inmemory;
+
+import com.admin.catalogo.domain.castmember.CastMember;
+import com.admin.catalogo.domain.castmember.CastMemberID;
+import com.admin.catalogo.domain.castmember.CastMemberType;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.ChangeCursor;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves the in-memory stores to a local Smile file and loads them back on start-up. The file
+ * is written next to its final name and moved into place, so a crash mid-write leaves the
+ * previous snapshot intact. Saves happen every {@code interval} ms (when positive) and on
+ * shutdown.
+ */
+public class InMemorySnapshot implements InitializingBean, DisposableBean {
+
+    private final InMemoryStore<Category> categoryStore;
+    private final InMemoryStore<Genre> genreStore;
+    private final InMemoryStore<CastMember> castMemberStore;
+    private final Path path;
+    private final long interval;
+    private ScheduledExecutorService scheduler;
+
+    public InMemorySnapshot(
+            final InMemoryStore<Category> categoryStore,
+            final InMemoryStore<Genre> genreStore,
+            final InMemoryStore<CastMember> castMemberStore,
+            final Path path,
+            final long interval
+    ) {
+        this.categoryStore = Objects.requireNonNull(categoryStore);
+        this.genreStore = Objects.requireNonNull(genreStore);
+        this.castMemberStore = Objects.requireNonNull(castMemberStore);
+        this.path = Objects.requireNonNull(path);
+        this.interval = interval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (Files.exists(this.path)) {
+            restore();
+        }
+        if (this.interval > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                final var thread = new Thread(r, "in-memory-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(this::save, this.interval, this.interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (this.scheduler != null) {
+            this.scheduler.shutdown();
+            this.scheduler.awaitTermination(this.interval, TimeUnit.MILLISECONDS);
+        }
+        save();
+    }
+
+    public synchronized void save() {
+        final var snapshot = new Snapshot(
+                this.categoryStore.rows().stream().map(CategoryRow::from).toList(),
+                this.genreStore.rows().stream().map(GenreRow::from).toList(),
+                this.castMemberStore.rows().stream().map(CastMemberRow::from).toList(),
+                this.categoryStore.deletions().stream().map(DeletionRow::from).toList(),
+                this.genreStore.deletions().stream().map(DeletionRow::from).toList(),
+                this.castMemberStore.deletions().stream().map(DeletionRow::from).toList()
+        );
+
+        try {
+            final var parent = this.path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            final var temporary = Files.createTempFile(parent, this.path.getFileName().toString(), ".tmp");
+            try (final var out = Files.newOutputStream(temporary)) {
+                Json.smileMapper().writeValue(out, snapshot);
+            }
+            Files.move(temporary, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void restore() {
+        final Snapshot snapshot;
+        try (final var in = Files.newInputStream(this.path)) {
+            snapshot = Json.smileMapper().readValue(in, Snapshot.class);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.categoryStore.restore(
+                snapshot.categories().stream().map(CategoryRow::toAggregate).toList(),
+                snapshot.categoryDeletions().stream().map(DeletionRow::toCursor).toList()
+        );
+        this.genreStore.restore(
+                snapshot.genres().stream().map(GenreRow::toAggregate).toList(),
+                snapshot.genreDeletions().stream().map(DeletionRow::toCursor).toList()
+        );
+        this.castMemberStore.restore(
+                snapshot.castMembers().stream().map(CastMemberRow::toAggregate).toList(),
+                snapshot.castMemberDeletions().stream().map(DeletionRow::toCursor).toList()
+        );
+    }
+
+    record Snapshot(
+            @JsonProperty("categories") List<CategoryRow> categories,
+            @JsonProperty("genres") List<GenreRow> genres,
+            @JsonProperty("cast_members") List<CastMemberRow> castMembers,
+            @JsonProperty("category_deletions") List<DeletionRow> categoryDeletions,
+            @JsonProperty("genre_deletions") List<DeletionRow> genreDeletions,
+            @JsonProperty("cast_member_deletions") List<DeletionRow> castMemberDeletions
+    ) {
+    }
+
+    record DeletionRow(
+            @JsonProperty("changed_at") Instant changedAt,
+            @JsonProperty("id") String id
+    ) {
+        static DeletionRow from(final ChangeCursor aCursor) {
+            return new DeletionRow(aCursor.changedAt(), aCursor.id());
+        }
+
+        ChangeCursor toCursor() {
+            return new ChangeCursor(changedAt, id);
+        }
+    }
+
+    record CategoryRow(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("description") String description,
+            @JsonProperty("active") boolean active,
+            @JsonProperty("created_at") Instant createdAt,
+            @JsonProperty("updated_at") Instant updatedAt,
+            @JsonProperty("deleted_at") Instant deletedAt
+    ) {
+        static CategoryRow from(final Category aCategory) {
+            return new CategoryRow(
+                    aCategory.getId().getValue(),
+                    aCategory.getName(),
+                    aCategory.getDescription(),
+                    aCategory.isActive(),
+                    aCategory.getCreatedAt(),
+                    aCategory.getUpdatedAt(),
+                    aCategory.getDeletedAt()
+            );
+        }
+
+        Category toAggregate() {
+            return Category.with(IdentifierPool.categoryID(id), name, description, active, createdAt, updatedAt, deletedAt);
+        }
+    }
+
+    record GenreRow(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("active") boolean active,
+            @JsonProperty("categories") List<String> categories,
+            @JsonProperty("created_at") Instant createdAt,
+            @JsonProperty("updated_at") Instant updatedAt,
+            @JsonProperty("deleted_at") Instant deletedAt
+    ) {
+        static GenreRow from(final Genre aGenre) {
+            return new GenreRow(
+                    aGenre.getId().getValue(),
+                    aGenre.getName(),
+                    aGenre.isActive(),
+                    aGenre.getCategories().stream().map(CategoryID::getValue).toList(),
+                    aGenre.getCreatedAt(),
+                    aGenre.getUpdatedAt(),
+                    aGenre.getDeletedAt()
+            );
+        }
+
+        Genre toAggregate() {
+            return Genre.with(
+                    GenreID.from(id),
+                    name,
+                    active,
+                    new ArrayList<>(categories.stream().map(IdentifierPool::categoryID).toList()),
+                    createdAt,
+                    updatedAt,
+                    deletedAt
+            );
+        }
+    }
+
+    record CastMemberRow(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("type") CastMemberType type,
+            @JsonProperty("created_at") Instant createdAt,
+            @JsonProperty("updated_at") Instant updatedAt
+    ) {
+        static CastMemberRow from(final CastMember aMember) {
+            return new CastMemberRow(
+                    aMember.getId().getValue(),
+                    aMember.getName(),
+                    aMember.getType(),
+                    aMember.getCreatedAt(),
+                    aMember.getUpdatedAt()
+            );
+        }
+
+        CastMember toAggregate() {
+            return CastMember.with(CastMemberID.from(id), name, type, createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.admin.catalogo.infrastructure.inmemory;
+
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeCursor;
+import com.admin.catalogo.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Heap-resident table for one aggregate: a concurrent primary map, one sorted index per
+ * declared key (ordered by key then id, like the SQL tie-breaker) and a trigram index over
+ * the searchable text. Rows are copied on the way in and out, so callers never share state
+ * with the store. Point reads are lock-free; writes and index scans go through a
+ * read-write lock so a page and its total always come from the same version of the data.
+ */
+public class InMemoryStore<T> {
+
+    public static final String SEARCH_KEY = "searchKey";
+    public static final String UPDATED_AT = "updatedAt";
+
+    private static final int GRAM = 3;
+
+    // below this share of the table, sorting the term candidates beats walking the sorted index
+    private static final int CANDIDATES_RATIO = 8;
+
+    private final Function<T, String> idOf;
+    private final UnaryOperator<T> copy;
+    private final Map<String, Function<T, Comparable<?>>> keys;
+    private final Function<T, List<String>> searchableText;
+
+    private final ConcurrentHashMap<String, T> rows = new ConcurrentHashMap<>();
+    private final Map<String, TreeSet<Entry>> indexes = new HashMap<>();
+    private final Map<String, Set<String>> grams = new HashMap<>();
+    private final TreeSet<ChangeCursor> deletions = new TreeSet<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryStore(
+            final Function<T, String> idOf,
+            final UnaryOperator<T> copy,
+            final Map<String, Function<T, Comparable<?>>> keys,
+            final Function<T, List<String>> searchableText
+    ) {
+        this.idOf = Objects.requireNonNull(idOf);
+        this.copy = Objects.requireNonNull(copy);
+        this.keys = Map.copyOf(keys);
+        this.searchableText = Objects.requireNonNull(searchableText);
+        this.keys.keySet().forEach(aKey -> this.indexes.put(aKey, new TreeSet<>()));
+    }
+
+    public Optional<T> get(final String anId) {
+        return Optional.ofNullable(this.rows.get(anId)).map(this.copy);
+    }
+
+    public boolean contains(final String anId) {
+        return this.rows.containsKey(anId);
+    }
+
+    public int size() {
+        return this.rows.size();
+    }
+
+    public T put(final T aRow) {
+        final var stored = this.copy.apply(aRow);
+        final var anId = this.idOf.apply(stored);
+
+        this.lock.writeLock().lock();
+        try {
+            final var previous = this.rows.put(anId, stored);
+            if (previous != null) {
+                unindex(anId, previous);
+            }
+            index(anId, stored);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return this.copy.apply(stored);
+    }
+
+    public Optional<T> remove(final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            final var previous = this.rows.remove(anId);
+            if (previous == null) {
+                return Optional.empty();
+            }
+            unindex(anId, previous);
+            this.deletions.add(new ChangeCursor(Instant.now(), anId));
+            return Optional.of(previous);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every row matching {@code which} with {@code how} applied to a copy of it,
+     * returning the ids that were replaced.
+     */
+    public List<String> replaceAll(final Predicate<T> which, final UnaryOperator<T> how) {
+        this.lock.writeLock().lock();
+        try {
+            final var replaced = new ArrayList<String>();
+            for (final var aRow : List.copyOf(this.rows.values())) {
+                if (which.test(aRow)) {
+                    final var anId = this.idOf.apply(aRow);
+                    final var aNewRow = how.apply(this.copy.apply(aRow));
+                    this.rows.put(anId, aNewRow);
+                    unindex(anId, aRow);
+                    index(anId, aNewRow);
+                    replaced.add(anId);
+                }
+            }
+            return replaced;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One page ordered by {@code aKey} then id. Terms match case-insensitively anywhere in
+     * the searchable text, like {@code upper(column) like %TERMS%}.
+     */
+    public Pagination<T> page(
+            final int aPage,
+            final int perPage,
+            final String aKey,
+            final boolean descending,
+            final String terms
+    ) {
+        final var offset = (long) aPage * perPage;
+        final var items = new ArrayList<T>(Math.max(0, Math.min(perPage, 1024)));
+
+        this.lock.readLock().lock();
+        try {
+            final NavigableSet<Entry> index = descending ? indexOf(aKey).descendingSet() : indexOf(aKey);
+
+            if (terms == null || terms.isBlank()) {
+                collect(index, offset, perPage, items, null);
+                return new Pagination<>(aPage, perPage, this.rows.size(), items);
+            }
+
+            final var upperTerms = terms.toUpperCase(Locale.ROOT);
+            final Predicate<T> matches = aRow -> matches(aRow, upperTerms);
+            final var candidates = candidates(upperTerms);
+
+            if (candidates != null && (long) candidates.size() * CANDIDATES_RATIO < this.rows.size()) {
+                final Comparator<Entry> order = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+                final var sorted = candidates.stream()
+                        .map(this.rows::get)
+                        .filter(Objects::nonNull)
+                        .filter(matches)
+                        .map(aRow -> entryOf(aKey, aRow))
+                        .sorted(order)
+                        .toList();
+                collect(sorted, offset, perPage, items, null);
+                return new Pagination<>(aPage, perPage, sorted.size(), items);
+            }
+
+            final var total = collect(index, offset, perPage, items, matches);
+            return new Pagination<>(aPage, perPage, total, items);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} rows following {@code (afterKey, afterId)} in the order of {@code aKey},
+     * or from the first one when {@code afterId} is {@code null}. Rows not matching the terms
+     * are skipped.
+     */
+    public List<T> seek(
+            final String aKey,
+            final boolean descending,
+            final Comparable<?> afterKey,
+            final String afterId,
+            final int limit,
+            final String terms
+    ) {
+        final var upperTerms = terms == null || terms.isBlank() ? null : terms.trim().toUpperCase(Locale.ROOT);
+        final var items = new ArrayList<T>(Math.max(0, Math.min(limit, 1024)));
+
+        this.lock.readLock().lock();
+        try {
+            final var index = indexOf(aKey);
+            final NavigableSet<Entry> ordered;
+            if (afterId == null) {
+                ordered = descending ? index.descendingSet() : index;
+            } else {
+                final var after = new Entry(afterKey, afterId);
+                ordered = descending ? index.headSet(after, false).descendingSet() : index.tailSet(after, false);
+            }
+
+            for (final var entry : ordered) {
+                if (items.size() >= limit) {
+                    break;
+                }
+                final var aRow = this.rows.get(entry.id());
+                if (upperTerms == null || matches(aRow, upperTerms)) {
+                    items.add(this.copy.apply(aRow));
+                }
+            }
+            return items;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<T> startingWith(final String aKey, final String aPrefix, final int limit) {
+        this.lock.readLock().lock();
+        try {
+            final var result = new ArrayList<T>(limit);
+            for (final var entry : indexOf(aKey).tailSet(new Entry(aPrefix, ""), true)) {
+                if (result.size() >= limit || !entry.key().toString().startsWith(aPrefix)) {
+                    break;
+                }
+                result.add(this.copy.apply(this.rows.get(entry.id())));
+            }
+            return result;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<Change<T>> changedSince(final ChangeCursor since, final Instant until, final int limit) {
+        this.lock.readLock().lock();
+        try {
+            final var result = new ArrayList<Change<T>>(limit);
+            for (final var entry : indexOf(UPDATED_AT).tailSet(new Entry(since.changedAt(), since.id()), false)) {
+                if (result.size() >= limit || ((Instant) entry.key()).isAfter(until)) {
+                    break;
+                }
+                result.add(Change.upsert(entry.id(), (Instant) entry.key(), this.copy.apply(this.rows.get(entry.id()))));
+            }
+            return result;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<Change<T>> deletedSince(final ChangeCursor since, final Instant until, final int limit) {
+        this.lock.readLock().lock();
+        try {
+            return this.deletions.tailSet(since, false).stream()
+                    .takeWhile(it -> !it.changedAt().isAfter(until))
+                    .limit(limit)
+                    .map(it -> Change.<T>delete(it.id(), it.changedAt()))
+                    .toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<T> rows() {
+        this.lock.readLock().lock();
+        try {
+            return this.rows.values().stream().map(this.copy).toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<ChangeCursor> deletions() {
+        this.lock.readLock().lock();
+        try {
+            return List.copyOf(this.deletions);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public void restore(final List<T> someRows, final List<ChangeCursor> someDeletions) {
+        this.lock.writeLock().lock();
+        try {
+            this.rows.clear();
+            this.indexes.values().forEach(TreeSet::clear);
+            this.grams.clear();
+            this.deletions.clear();
+            for (final var aRow : someRows) {
+                final var stored = this.copy.apply(aRow);
+                final var anId = this.idOf.apply(stored);
+                this.rows.put(anId, stored);
+                index(anId, stored);
+            }
+            this.deletions.addAll(someDeletions);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private long collect(
+            final Iterable<Entry> ordered,
+            final long offset,
+            final int perPage,
+            final List<T> items,
+            final Predicate<T> filter
+    ) {
+        var position = 0L;
+        for (final var entry : ordered) {
+            final var aRow = this.rows.get(entry.id());
+            if (filter != null && !filter.test(aRow)) {
+                continue;
+            }
+            if (position >= offset && items.size() < perPage) {
+                items.add(this.copy.apply(aRow));
+            } else if (filter == null && items.size() >= perPage) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private TreeSet<Entry> indexOf(final String aKey) {
+        final var index = this.indexes.get(aKey);
+        if (index == null) {
+            throw new IllegalArgumentException("'%s' is not an indexed key".formatted(aKey));
+        }
+        return index;
+    }
+
+    private Entry entryOf(final String aKey, final T aRow) {
+        return new Entry(this.keys.get(aKey).apply(aRow), this.idOf.apply(aRow));
+    }
+
+    private void index(final String anId, final T aRow) {
+        this.keys.forEach((aKey, keyOf) -> this.indexes.get(aKey).add(new Entry(keyOf.apply(aRow), anId)));
+        gramsOf(aRow).forEach(gram -> this.grams.computeIfAbsent(gram, it -> new HashSet<>()).add(anId));
+    }
+
+    private void unindex(final String anId, final T aRow) {
+        this.keys.forEach((aKey, keyOf) -> this.indexes.get(aKey).remove(new Entry(keyOf.apply(aRow), anId)));
+        gramsOf(aRow).forEach(gram -> {
+            final var ids = this.grams.get(gram);
+            if (ids != null && ids.remove(anId) && ids.isEmpty()) {
+                this.grams.remove(gram);
+            }
+        });
+    }
+
+    private boolean matches(final T aRow, final String upperTerms) {
+        for (final var text : this.searchableText.apply(aRow)) {
+            if (text != null && text.toUpperCase(Locale.ROOT).contains(upperTerms)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ids holding every trigram of the terms, or {@code null} when the terms are too short to
+     * narrow anything down. Still a superset: the grams may come from different columns.
+     */
+    private Set<String> candidates(final String upperTerms) {
+        if (upperTerms.length() < GRAM) {
+            return null;
+        }
+
+        Set<String> smallest = null;
+        final var required = new ArrayList<Set<String>>();
+        for (final var gram : gramsOf(upperTerms)) {
+            final var ids = this.grams.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            required.add(ids);
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        final var result = new HashSet<String>();
+        for (final var anId : smallest) {
+            if (required.stream().allMatch(ids -> ids.contains(anId))) {
+                result.add(anId);
+            }
+        }
+        return result;
+    }
+
+    private Set<String> gramsOf(final T aRow) {
+        final var result = new HashSet<String>();
+        for (final var text : this.searchableText.apply(aRow)) {
+            if (text != null) {
+                result.addAll(gramsOf(text.toUpperCase(Locale.ROOT)));
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> gramsOf(final String upperText) {
+        final var result = new HashSet<String>();
+        for (int i = 0; i + GRAM <= upperText.length(); i++) {
+            result.add(upperText.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private record Entry(Comparable key, String id) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(final Entry other) {
+            final var byKey = key.compareTo(other.key);
+            return byKey != 0 ? byKey : id.compareTo(other.id);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues invalidations, coalescing repeats, and sends them every {@code flushInterval} ms as
+ * numbered batches; transports only move batches. Received batches are checked against the
+ * last sequence seen from their origin: repeats are dropped and a skipped number is reported
+ * to the listeners as a gap before the batch is delivered.
+ */
+public abstract class BatchingInvalidationBus implements InvalidationBus, InitializingBean, DisposableBean {
+
+    private final String origin = UUID.randomUUID().toString();
+    private final Set<Invalidation> pending = new LinkedHashSet<>();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> lastSequences = new HashMap<>();
+    private final long flushInterval;
+    private final long pollInterval;
+    private final int batchSize;
+    private long sequence;
+    private ScheduledExecutorService scheduler;
+
+    protected BatchingInvalidationBus(final long flushInterval, final long pollInterval, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batch-size' must be greater than zero");
+        }
+        this.flushInterval = flushInterval;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+    }
+
+    public String origin() {
+        return this.origin;
+    }
+
+    @Override
+    public void publish(final String anAggregate, final String anId) {
+        final var anInvalidation = new Invalidation(anAggregate, anId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(anInvalidation);
+                }
+            });
+        } else {
+            enqueue(anInvalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(final InvalidationListener aListener) {
+        this.listeners.add(Objects.requireNonNull(aListener));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.scheduler = Executors.newScheduledThreadPool(2, r -> {
+            final var thread = new Thread(r, "invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (this.flushInterval > 0) {
+            this.scheduler.scheduleWithFixedDelay(guarded(this::flush), this.flushInterval, this.flushInterval, TimeUnit.MILLISECONDS);
+        }
+        if (this.pollInterval > 0) {
+            this.scheduler.scheduleWithFixedDelay(guarded(this::poll), this.pollInterval, this.pollInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (this.scheduler != null) {
+            this.scheduler.shutdown();
+            this.scheduler.awaitTermination(Math.max(this.flushInterval, this.pollInterval), TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+
+    /**
+     * Sends everything queued so far. A batch that fails to send goes back to the queue and
+     * keeps its sequence number for the next attempt.
+     */
+    public synchronized int flush() {
+        final List<Invalidation> drained;
+        synchronized (this.pending) {
+            drained = new ArrayList<>(this.pending);
+            this.pending.clear();
+        }
+
+        for (int from = 0; from < drained.size(); from += this.batchSize) {
+            final var chunk = List.copyOf(drained.subList(from, Math.min(from + this.batchSize, drained.size())));
+            try {
+                send(new InvalidationBatch(this.origin, this.sequence + 1, chunk));
+            } catch (final RuntimeException e) {
+                synchronized (this.pending) {
+                    final var requeued = new LinkedHashSet<>(drained.subList(from, drained.size()));
+                    requeued.addAll(this.pending);
+                    this.pending.clear();
+                    this.pending.addAll(requeued);
+                }
+                throw e;
+            }
+            this.sequence++;
+        }
+        return drained.size();
+    }
+
+    /**
+     * Fetches batches from the other nodes, for transports that pull.
+     */
+    public void poll() {
+    }
+
+    protected abstract void send(InvalidationBatch aBatch);
+
+    protected void deliver(final InvalidationBatch aBatch) {
+        if (this.origin.equals(aBatch.origin())) {
+            return;
+        }
+        synchronized (this.lastSequences) {
+            final var last = this.lastSequences.get(aBatch.origin());
+            if (last != null && aBatch.sequence() <= last) {
+                return;
+            }
+            if (last != null && aBatch.sequence() > last + 1) {
+                this.listeners.forEach(InvalidationListener::onGap);
+            }
+            this.lastSequences.put(aBatch.origin(), aBatch.sequence());
+        }
+        this.listeners.forEach(it -> it.onInvalidations(aBatch.invalidations()));
+    }
+
+    private void enqueue(final Invalidation anInvalidation) {
+        synchronized (this.pending) {
+            this.pending.add(anInvalidation);
+        }
+    }
+
+    private static Runnable guarded(final Runnable aTask) {
+        // a failed round must not cancel the schedule; the next one retries
+        return () -> {
+            try {
+                aTask.run();
+            } catch (final RuntimeException e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import java.util.Objects;
+
+public record Invalidation(
+        String aggregate,
+        String id
+) {
+    public Invalidation {
+        Objects.requireNonNull(aggregate);
+        Objects.requireNonNull(id);
+    }
+}
@@ -0,0 +1,14 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import java.util.List;
+
+/**
+ * Invalidations flushed together by one node. {@code sequence} counts the batches of
+ * {@code origin} from one, so a receiver can tell when one went missing.
+ */
+public record InvalidationBatch(
+        String origin,
+        long sequence,
+        List<Invalidation> invalidations
+) {
+}
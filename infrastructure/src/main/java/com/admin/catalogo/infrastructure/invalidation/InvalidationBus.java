@@ -0,0 +1,16 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+/**
+ * Carries cache invalidations between the nodes serving the catalog. Local caches are
+ * evicted by whoever writes; the bus only tells the other nodes.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Queues an invalidation for the other nodes. Inside a transaction it is queued once the
+     * transaction commits; it is sent, coalesced with others, with the next batch.
+     */
+    void publish(String anAggregate, String anId);
+
+    void subscribe(InvalidationListener aListener);
+}
@@ -0,0 +1,13 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import java.util.Collection;
+
+public interface InvalidationListener {
+
+    void onInvalidations(Collection<Invalidation> invalidations);
+
+    /**
+     * A batch from another node was lost, so anything cached may be stale.
+     */
+    void onGap();
+}
@@ -0,0 +1,31 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-JVM transport: every bus joined to the same {@link Topic} receives the batches the
+ * others send, synchronously. Used by single-node profiles and by tests standing up several
+ * nodes in one process.
+ */
+public class LoopbackInvalidationBus extends BatchingInvalidationBus {
+
+    private final Topic topic;
+
+    public LoopbackInvalidationBus(final Topic topic, final long flushInterval, final int batchSize) {
+        super(flushInterval, 0, batchSize);
+        this.topic = Objects.requireNonNull(topic);
+        this.topic.members.add(this);
+    }
+
+    @Override
+    protected void send(final InvalidationBatch aBatch) {
+        this.topic.members.forEach(it -> it.deliver(aBatch));
+    }
+
+    public static final class Topic {
+
+        private final List<LoopbackInvalidationBus> members = new CopyOnWriteArrayList<>();
+    }
+}
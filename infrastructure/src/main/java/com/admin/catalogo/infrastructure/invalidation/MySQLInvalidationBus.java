@@ -0,0 +1,95 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationJpaEntity;
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationRepository;
+import com.admin.catalogo.infrastructure.utils.SequenceCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Shares batches through the {@code cache_invalidations} table: each flush inserts one row per
+ * batch and every node polls for rows past its {@link SequenceCursor}. A row skipped after
+ * {@code gap-timeout} ms surfaces as a sequence gap on its origin's next batch.
+ */
+public class MySQLInvalidationBus extends BatchingInvalidationBus {
+
+    private final CacheInvalidationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final int batchSize;
+    private final long gapTimeout;
+    private final long retention;
+    private SequenceCursor cursor;
+    private long nextPurge;
+
+    public MySQLInvalidationBus(
+            final CacheInvalidationRepository repository,
+            final PlatformTransactionManager transactionManager,
+            final long flushInterval,
+            final long pollInterval,
+            final long gapTimeout,
+            final long retention,
+            final int batchSize
+    ) {
+        super(flushInterval, pollInterval, batchSize);
+        this.repository = Objects.requireNonNull(repository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // older rows were written before this node had anything cached
+        this.cursor = new SequenceCursor(this.repository.findLastId(), this.gapTimeout);
+        super.afterPropertiesSet();
+    }
+
+    @Override
+    protected void send(final InvalidationBatch aBatch) {
+        this.transactionTemplate.executeWithoutResult(status ->
+                this.repository.save(CacheInvalidationJpaEntity.from(aBatch)));
+    }
+
+    @Override
+    public synchronized void poll() {
+        var from = this.cursor.position();
+        List<CacheInvalidationJpaEntity> rows;
+        do {
+            final var after = from;
+            rows = this.readOnlyTemplate.execute(status ->
+                    this.repository.findAllAfter(after, PageRequest.of(0, this.batchSize)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (final var row : rows) {
+                if (!this.cursor.seen(row.getId())) {
+                    this.cursor.mark(row.getId());
+                    deliver(row.toBatch());
+                }
+            }
+            from = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == this.batchSize);
+
+        this.cursor.advance();
+        purge();
+    }
+
+    private void purge() {
+        final var now = System.currentTimeMillis();
+        if (this.retention <= 0 || now < this.nextPurge) {
+            return;
+        }
+        this.nextPurge = now + this.retention / 2;
+        final var before = Instant.ofEpochMilli(now - this.retention);
+        this.transactionTemplate.executeWithoutResult(status -> this.repository.deleteAllCreatedBefore(before));
+    }
+}
@@ -0,0 +1,107 @@
+package com.admin.catalogo.infrastructure.invalidation.persistence;
+
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.invalidation.Invalidation;
+import com.admin.catalogo.infrastructure.invalidation.InvalidationBatch;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.Arrays;
+
+@Entity(name = "CacheInvalidation")
+@Table(name = "cache_invalidations")
+public class CacheInvalidationJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "seq", nullable = false)
+    private long sequence;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public CacheInvalidationJpaEntity() {
+    }
+
+    private CacheInvalidationJpaEntity(
+            final String anOrigin,
+            final long aSequence,
+            final String aPayload,
+            final Instant createdAt
+    ) {
+        this.origin = anOrigin;
+        this.sequence = aSequence;
+        this.payload = aPayload;
+        this.createdAt = createdAt;
+    }
+
+    public static CacheInvalidationJpaEntity from(final InvalidationBatch aBatch) {
+        return new CacheInvalidationJpaEntity(
+                aBatch.origin(),
+                aBatch.sequence(),
+                Json.writeValueAsString(aBatch.invalidations()),
+                Instant.now()
+        );
+    }
+
+    public InvalidationBatch toBatch() {
+        return new InvalidationBatch(
+                getOrigin(),
+                getSequence(),
+                Arrays.asList(Json.readValue(getPayload(), Invalidation[].class))
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
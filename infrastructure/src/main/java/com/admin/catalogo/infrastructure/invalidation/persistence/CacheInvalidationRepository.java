@@ -0,0 +1,23 @@
+package com.admin.catalogo.infrastructure.invalidation.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationJpaEntity, Long> {
+
+    @Query(value = "select i from CacheInvalidation i where i.id > :cursor order by i.id")
+    List<CacheInvalidationJpaEntity> findAllAfter(@Param("cursor") long cursor, Pageable page);
+
+    @Query(value = "select coalesce(max(i.id), 0) from CacheInvalidation i")
+    long findLastId();
+
+    @Modifying
+    @Query(value = "delete from CacheInvalidation i where i.createdAt < :before")
+    int deleteAllCreatedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,13 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+import java.time.Instant;
+
+public record OutboxMessage(
+        String id,
+        String aggregate,
+        String aggregateId,
+        String type,
+        String payload,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+@FunctionalInterface
+public interface OutboxPublisher {
+
+    void publish(OutboxMessage message);
+}
@@ -0,0 +1,190 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.admin.catalogo.infrastructure.utils.SequenceCursor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tails the outbox on every node and hands each event to this node's publishers, so
+ * subscribers see every write whichever node committed it. Rows are kept for
+ * {@code outbox.retention} ms rather than deleted on delivery; each relay follows its own
+ * {@link SequenceCursor} from the last row present at startup. A publisher failure holds the
+ * cursor, so the failed events are retried in order on the next drain.
+ */
+@Component
+@Profile("!in-memory & !replica")
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxPublisher> publishers;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final int batchSize;
+    private final int parallelism;
+    private final long retention;
+    private final ExecutorService executor;
+    private final SequenceCursor cursor;
+    private long nextPurge;
+
+    public OutboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final List<OutboxPublisher> publishers,
+            final PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:100}") final int batchSize,
+            @Value("${outbox.relay.parallelism:4}") final int parallelism,
+            @Value("${outbox.relay.gap-timeout:5000}") final long gapTimeout,
+            @Value("${outbox.retention:3600000}") final long retention
+    ) {
+        if (batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("'batch-size' and 'parallelism' must be greater than zero");
+        }
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.publishers = List.copyOf(publishers);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.retention = retention;
+        this.executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, r -> {
+            final var thread = new Thread(r, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        // older rows were committed before this node had anyone to deliver them to
+        this.cursor = new SequenceCursor(
+                this.readOnlyTemplate.execute(status -> this.outboxEventRepository.findLastSequence()),
+                gapTimeout
+        );
+    }
+
+    public synchronized int drainAll() {
+        var total = 0;
+        var from = this.cursor.position();
+        List<OutboxEventJpaEntity> batch;
+        boolean delivered;
+        do {
+            batch = read(from);
+            final var pending = pending(batch);
+            final var published = publish(pending);
+            total += published.size();
+            delivered = published.size() == pending.size();
+            if (!batch.isEmpty()) {
+                from = batch.get(batch.size() - 1).getSequence();
+            }
+        } while (delivered && batch.size() == this.batchSize);
+
+        settle(delivered);
+        return total;
+    }
+
+    public synchronized int drain() {
+        final var pending = pending(read(this.cursor.position()));
+        final var published = publish(pending);
+        settle(published.size() == pending.size());
+        return published.size();
+    }
+
+    private List<OutboxEventJpaEntity> read(final long after) {
+        if (this.publishers.isEmpty()) {
+            // nothing to deliver to yet; the rows wait in the outbox
+            return List.of();
+        }
+        final var batch = this.readOnlyTemplate.execute(status ->
+                this.outboxEventRepository.findAllAfter(after, PageRequest.of(0, this.batchSize)));
+        return batch != null ? batch : List.of();
+    }
+
+    private List<OutboxEventJpaEntity> pending(final List<OutboxEventJpaEntity> batch) {
+        return batch.stream()
+                .filter(event -> !this.cursor.seen(event.getSequence()))
+                .toList();
+    }
+
+    private void settle(final boolean delivered) {
+        if (delivered) {
+            this.cursor.advance();
+        }
+        purge();
+    }
+
+    private void purge() {
+        final var now = System.currentTimeMillis();
+        if (this.retention <= 0 || now < this.nextPurge) {
+            return;
+        }
+        this.nextPurge = now + this.retention / 2;
+        final var before = Instant.ofEpochMilli(now - this.retention);
+        this.transactionTemplate.executeWithoutResult(status -> this.outboxEventRepository.deleteAllOccurredBefore(before));
+    }
+
+    private List<Long> publish(final List<OutboxEventJpaEntity> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+
+        final var lanes = partition(batch);
+        final List<Long> published;
+        if (this.executor == null || lanes.size() == 1) {
+            published = lanes.stream().flatMap(lane -> publishInOrder(lane).stream()).toList();
+        } else {
+            final var futures = lanes.stream()
+                    .map(lane -> CompletableFuture.supplyAsync(() -> publishInOrder(lane), this.executor))
+                    .toList();
+            published = futures.stream()
+                    .flatMap(future -> future.join().stream())
+                    .toList();
+        }
+
+        published.forEach(this.cursor::mark);
+        return published;
+    }
+
+    private List<List<OutboxEventJpaEntity>> partition(final List<OutboxEventJpaEntity> batch) {
+        final var lanes = new ArrayList<List<OutboxEventJpaEntity>>(this.parallelism);
+        for (var i = 0; i < this.parallelism; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (final var event : batch) {
+            lanes.get(Math.floorMod(event.getAggregateId().hashCode(), this.parallelism)).add(event);
+        }
+        lanes.removeIf(List::isEmpty);
+        return lanes;
+    }
+
+    private List<Long> publishInOrder(final List<OutboxEventJpaEntity> lane) {
+        final var published = new ArrayList<Long>(lane.size());
+        for (final var event : lane) {
+            final var message = event.toMessage();
+            try {
+                this.publishers.forEach(it -> it.publish(message));
+            } catch (final RuntimeException e) {
+                break;
+            }
+            published.add(event.getSequence());
+        }
+        return published;
+    }
+
+    @Override
+    public void destroy() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Objects;
+
+@Configuration
+@Profile("!in-memory & !replica")
+@EnableScheduling
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    public OutboxRelayScheduler(final OutboxRelay outboxRelay) {
+        this.outboxRelay = Objects.requireNonNull(outboxRelay);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500}")
+    public void relay() {
+        this.outboxRelay.drainAll();
+    }
+}
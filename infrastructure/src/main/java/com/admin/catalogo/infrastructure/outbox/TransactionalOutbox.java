@@ -0,0 +1,32 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+import com.admin.catalogo.domain.AggregateRoot;
+import com.admin.catalogo.domain.events.DomainEvent;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@Profile("!in-memory & !replica")
+public class TransactionalOutbox {
+
+    public static final String CATEGORY = "category";
+    public static final String GENRE = "genre";
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public TransactionalOutbox(final OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+    }
+
+    public void publish(final String anAggregate, final AggregateRoot<?> aRoot) {
+        aRoot.publishDomainEvents(event -> append(anAggregate, event));
+    }
+
+    public void append(final String anAggregate, final DomainEvent anEvent) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.from(anAggregate, anEvent));
+    }
+}
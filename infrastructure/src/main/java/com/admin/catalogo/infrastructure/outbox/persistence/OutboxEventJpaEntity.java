@@ -0,0 +1,154 @@
+package com.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.admin.catalogo.domain.events.DomainEvent;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox")
+public class OutboxEventJpaEntity implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    @Column(name = "seq", insertable = false, updatable = false)
+    private Long sequence;
+
+    @Column(name = "aggregate", nullable = false, length = 32)
+    private String aggregate;
+
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredAt;
+
+    @Transient
+    private boolean persisted;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String anId,
+            final String anAggregate,
+            final String anAggregateId,
+            final String anEventType,
+            final String aPayload,
+            final Instant occurredAt
+    ) {
+        this.id = anId;
+        this.aggregate = anAggregate;
+        this.aggregateId = anAggregateId;
+        this.eventType = anEventType;
+        this.payload = aPayload;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OutboxEventJpaEntity from(final String anAggregate, final DomainEvent anEvent) {
+        return new OutboxEventJpaEntity(
+                UUID.randomUUID().toString(),
+                anAggregate,
+                anEvent.aggregateId(),
+                anEvent.getClass().getSimpleName(),
+                Json.writeValueAsString(anEvent),
+                anEvent.occurredOn()
+        );
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(
+                getId(),
+                getAggregate(),
+                getAggregateId(),
+                getEventType(),
+                getPayload(),
+                getOccurredAt()
+        );
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getAggregate() {
+        return aggregate;
+    }
+
+    public void setAggregate(String aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(String aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
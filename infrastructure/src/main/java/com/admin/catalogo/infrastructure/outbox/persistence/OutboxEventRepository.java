@@ -0,0 +1,23 @@
+package com.admin.catalogo.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    @Query(value = "select o from OutboxEvent o where o.sequence > :cursor order by o.sequence")
+    List<OutboxEventJpaEntity> findAllAfter(@Param("cursor") long cursor, Pageable page);
+
+    @Query(value = "select coalesce(max(o.sequence), 0) from OutboxEvent o")
+    long findLastSequence();
+
+    @Modifying
+    @Query(value = "delete from OutboxEvent o where o.occurredAt < :before")
+    int deleteAllOccurredBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,58 @@
+package com.admin.catalogo.infrastructure.peer;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Peers resolved from the A records of one name, such as a headless service, every
+ * {@code refreshInterval} ms. A failed lookup keeps the last known peers.
+ */
+public class DnsPeerMembership implements PeerMembership {
+
+    private final String name;
+    private final int port;
+    private final long refreshNanos;
+    private volatile Resolved resolved;
+
+    public DnsPeerMembership(final String name, final int port, final long refreshInterval) {
+        this.name = Objects.requireNonNull(name);
+        this.port = port;
+        this.refreshNanos = TimeUnit.MILLISECONDS.toNanos(refreshInterval);
+    }
+
+    @Override
+    public List<String> peers() {
+        final var current = this.resolved;
+        if (current != null && System.nanoTime() - current.resolvedAt() < this.refreshNanos) {
+            return current.peers();
+        }
+        return resolve();
+    }
+
+    private synchronized List<String> resolve() {
+        final var current = this.resolved;
+        final var now = System.nanoTime();
+        if (current != null && now - current.resolvedAt() < this.refreshNanos) {
+            return current.peers();
+        }
+
+        List<String> peers;
+        try {
+            peers = Arrays.stream(InetAddress.getAllByName(this.name))
+                    .map(it -> it.getHostAddress() + ":" + this.port)
+                    .sorted()
+                    .toList();
+        } catch (final UnknownHostException e) {
+            peers = current != null ? current.peers() : List.of();
+        }
+        this.resolved = new Resolved(now, peers);
+        return peers;
+    }
+
+    private record Resolved(long resolvedAt, List<String> peers) {
+    }
+}
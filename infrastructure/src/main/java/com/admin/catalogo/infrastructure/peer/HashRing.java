@@ -0,0 +1,59 @@
+package com.admin.catalogo.infrastructure.peer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring with {@code replicas} virtual points per peer, so adding or removing
+ * a peer only moves the keys of its neighbouring arcs.
+ */
+final class HashRing {
+
+    private final List<String> peers;
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+
+    HashRing(final Collection<String> peers, final int replicas) {
+        if (replicas <= 0) {
+            throw new IllegalArgumentException("'replicas' must be greater than zero");
+        }
+        this.peers = List.copyOf(peers);
+        for (final var aPeer : this.peers) {
+            for (int i = 0; i < replicas; i++) {
+                this.points.put(hash(aPeer + "#" + i), aPeer);
+            }
+        }
+    }
+
+    List<String> peers() {
+        return this.peers;
+    }
+
+    /**
+     * The peer owning {@code aKey}, or {@code null} for an empty ring.
+     */
+    String ownerOf(final String aKey) {
+        if (this.points.isEmpty()) {
+            return null;
+        }
+        final var point = this.points.ceilingEntry(hash(aKey));
+        return point != null ? point.getValue() : this.points.firstEntry().getValue();
+    }
+
+    static long hash(final String aValue) {
+        // FNV-1a spreads poorly on short, similar keys; the murmur finalizer fixes the avalanche
+        var hash = 0xcbf29ce484222325L;
+        for (final var b : aValue.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
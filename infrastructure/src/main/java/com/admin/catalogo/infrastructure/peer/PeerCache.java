@@ -0,0 +1,167 @@
+package com.admin.catalogo.infrastructure.peer;
+
+import com.admin.catalogo.infrastructure.cache.PeerFill;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.cache.SingleFlight;
+import com.admin.catalogo.infrastructure.grpc.GrpcServer;
+import com.admin.catalogo.infrastructure.grpc.PeerCacheGrpcService;
+import com.admin.catalogo.infrastructure.grpc.proto.PeerCacheServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.PeerGetRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Peer tier under the {@link ResponseBytesCache}: every entry is owned by one node on a
+ * consistent-hash ring of the peers. A node missing an entry it does not own asks the owner,
+ * which loads it once into its own cache and hands the body to everyone asking; concurrent
+ * misses on one node share a single request. If the owner cannot answer within
+ * {@code timeout} ms the entry is loaded locally, so a dead peer only costs the timeout.
+ * Entries this node invalidated in the last {@code fill-hold} ms are loaded locally too, until
+ * the invalidation has had time to reach their owner.
+ */
+public class PeerCache implements PeerFill, SmartLifecycle {
+
+    private final ResponseBytesCache responseBytesCache;
+    private final PeerMembership membership;
+    private final String host;
+    private final int replicas;
+    private final long timeout;
+    private final long fillHold;
+    private final GrpcServer server;
+    private final SingleFlight<String, byte[]> flight;
+    private final Map<String, ManagedChannel> channels = new ConcurrentHashMap<>();
+    private final Counter local;
+    private final Counter remote;
+    private final Counter fallback;
+    private volatile HashRing ring = new HashRing(List.of(), 1);
+    private volatile String self;
+
+    public PeerCache(
+            final ResponseBytesCache responseBytesCache,
+            final Map<String, Function<String, ?>> loaders,
+            final PeerMembership membership,
+            final String host,
+            final int port,
+            final int threads,
+            final int replicas,
+            final long timeout,
+            final long fillHold,
+            final MeterRegistry meterRegistry
+    ) {
+        if (replicas <= 0 || timeout <= 0) {
+            throw new IllegalArgumentException("'replicas' and 'timeout' must be greater than zero");
+        }
+        if (fillHold < 0) {
+            throw new IllegalArgumentException("'fill-hold' must not be negative");
+        }
+        this.responseBytesCache = Objects.requireNonNull(responseBytesCache);
+        this.membership = Objects.requireNonNull(membership);
+        this.host = Objects.requireNonNull(host);
+        this.replicas = replicas;
+        this.timeout = timeout;
+        this.fillHold = fillHold;
+        this.server = new GrpcServer(port, threads, timeout, List.of(new PeerCacheGrpcService(responseBytesCache, loaders)));
+        this.flight = new SingleFlight<>("peer-cache.fetch", true, Duration.ofMillis(timeout), meterRegistry);
+        this.local = counter("local", meterRegistry);
+        this.remote = counter("remote", meterRegistry);
+        this.fallback = counter("fallback", meterRegistry);
+    }
+
+    private static Counter counter(final String anOutcome, final MeterRegistry meterRegistry) {
+        return Counter.builder("catalog.peer-cache.fetches")
+                .description("Cache misses loaded here as their owner, served by the owning peer, or loaded here after the owner failed")
+                .tag("outcome", anOutcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * This node's address on the ring, known once the peer server is listening.
+     */
+    public String self() {
+        return this.self;
+    }
+
+    @Override
+    public byte[] fetch(final String anAggregate, final String anId) {
+        final var key = anAggregate + ":" + anId;
+        final var owner = ring().ownerOf(key);
+        if (owner == null || owner.equals(this.self)) {
+            this.local.increment();
+            return null;
+        }
+        return this.flight.execute(key, () -> fetchFrom(owner, anAggregate, anId));
+    }
+
+    @Override
+    public void start() {
+        this.server.start();
+        this.self = this.host + ":" + this.server.getPort();
+        this.responseBytesCache.fillFrom(this, this.fillHold);
+    }
+
+    @Override
+    public void stop() {
+        this.server.stop();
+        this.channels.values().forEach(ManagedChannel::shutdownNow);
+        this.channels.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.server.isRunning();
+    }
+
+    private byte[] fetchFrom(final String owner, final String anAggregate, final String anId) {
+        final var aRequest = PeerGetRequest.newBuilder()
+                .setAggregate(anAggregate)
+                .setId(anId)
+                .build();
+        try {
+            final var aResponse = PeerCacheServiceGrpc.newBlockingStub(channelOf(owner))
+                    .withDeadlineAfter(this.timeout, TimeUnit.MILLISECONDS)
+                    .get(aRequest);
+            this.remote.increment();
+            return aResponse.getBody().toByteArray();
+        } catch (final StatusRuntimeException e) {
+            // not found, unavailable or too slow: loading here answers with the right outcome
+            this.fallback.increment();
+            return null;
+        }
+    }
+
+    private HashRing ring() {
+        final var peers = this.membership.peers();
+        final var current = this.ring;
+        if (current.peers().equals(peers)) {
+            return current;
+        }
+        final var updated = new HashRing(peers, this.replicas);
+        this.ring = updated;
+        this.channels.entrySet().removeIf(it -> {
+            if (updated.peers().contains(it.getKey())) {
+                return false;
+            }
+            it.getValue().shutdown();
+            return true;
+        });
+        return updated;
+    }
+
+    private ManagedChannel channelOf(final String aPeer) {
+        return this.channels.computeIfAbsent(aPeer, it -> ManagedChannelBuilder.forTarget(it)
+                .usePlaintext()
+                .build());
+    }
+}
@@ -0,0 +1,12 @@
+package com.admin.catalogo.infrastructure.peer;
+
+import java.util.List;
+
+/**
+ * The {@code host:port} peer addresses of every node sharing the cache, this one included.
+ */
+@FunctionalInterface
+public interface PeerMembership {
+
+    List<String> peers();
+}
@@ -0,0 +1,94 @@
+package com.admin.catalogo.infrastructure.search;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Fills {@code search_key} for the rows written before the column existed, which V4 leaves
+ * empty. The key is derived by the entities, so old and new rows share one normalization.
+ * Runs in keyset-ordered batches, one transaction per batch.
+ */
+@Component
+@Profile("!in-memory & !replica & !sharded")
+@ConditionalOnProperty(name = "search-key.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class SearchKeyBackfill implements ApplicationRunner {
+
+    private static final Sort BATCH_SORT = Sort.by("id");
+
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public SearchKeyBackfill(
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${search-key.backfill-batch-size:500}") final int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'backfill-batch-size' must be greater than zero");
+        }
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        backfill();
+    }
+
+    public int backfill() {
+        return backfill(this.categoryRepository::findAllWithoutSearchKeyAfter, CategoryJpaEntity::refreshSearchKey, CategoryJpaEntity::getId)
+                + backfill(this.genreRepository::findAllWithoutSearchKeyAfter, GenreJpaEntity::refreshSearchKey, GenreJpaEntity::getId);
+    }
+
+    private <T> int backfill(
+            final BiFunction<String, Pageable, List<T>> aBatch,
+            final Consumer<T> aRefresh,
+            final Function<T, String> anId
+    ) {
+        var backfilled = 0;
+        var lastId = "";
+
+        while (true) {
+            final var after = lastId;
+            final List<T> rows = this.transactionTemplate.execute(status -> {
+                final var batch = aBatch.apply(after, PageRequest.of(0, this.batchSize, BATCH_SORT));
+                batch.forEach(aRefresh);
+                return batch;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return backfilled;
+            }
+
+            backfilled += rows.size();
+            lastId = anId.apply(rows.get(rows.size() - 1));
+
+            if (rows.size() < this.batchSize) {
+                return backfilled;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.admin.catalogo.infrastructure.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public final class KWayMerge {
+
+    private KWayMerge() {}
+
+    /**
+     * Merges runs that are each sorted by {@code aComparator}, dropping the first {@code skip}
+     * elements and returning at most {@code limit} of the rest. Only the heads of the runs
+     * are compared, so the cost grows with {@code skip + limit}, not with the run sizes.
+     */
+    public static <T> List<T> merge(
+            final List<? extends List<? extends T>> runs,
+            final Comparator<? super T> aComparator,
+            final long skip,
+            final int limit
+    ) {
+        // each cursor is {run, position}
+        final var heads = new PriorityQueue<int[]>(Math.max(1, runs.size()), (a, b) ->
+                aComparator.compare(runs.get(a[0]).get(a[1]), runs.get(b[0]).get(b[1])));
+        for (int i = 0; i < runs.size(); i++) {
+            if (!runs.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+
+        final var merged = new ArrayList<T>(Math.max(0, limit));
+        var skipped = 0L;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            final var head = heads.poll();
+            final var run = runs.get(head[0]);
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(run.get(head[1]));
+            }
+            if (head[1] + 1 < run.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,97 @@
+package com.admin.catalogo.infrastructure.shard;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * One database holding a hash slice of the categories and genres. It has its own persistence
+ * unit and transaction manager, and the usual repositories bound to them; every repository
+ * call must run inside {@link #execute} or {@link #executeReadOnly}.
+ */
+public final class Shard implements AutoCloseable {
+
+    private final int index;
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final AutoCloseable resources;
+
+    private Shard(
+            final int index,
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final JpaTransactionManager transactionManager,
+            final AutoCloseable resources
+    ) {
+        this.index = index;
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.resources = Objects.requireNonNull(resources);
+    }
+
+    public static Shard open(final int anIndex, final DataSource aDataSource, final EntityManagerFactoryBuilder aBuilder) {
+        final var factoryBean = aBuilder.dataSource(aDataSource)
+                .packages(CategoryJpaEntity.class, GenreJpaEntity.class)
+                .persistenceUnit("shard-" + anIndex)
+                .build();
+        factoryBean.afterPropertiesSet();
+        final var entityManagerFactory = Objects.requireNonNull(factoryBean.getObject());
+
+        final var transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.afterPropertiesSet();
+
+        final var repositories = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        return new Shard(
+                anIndex,
+                repositories.getRepository(CategoryRepository.class),
+                repositories.getRepository(GenreRepository.class),
+                transactionManager,
+                () -> {
+                    factoryBean.destroy();
+                    if (aDataSource instanceof AutoCloseable closeable) {
+                        closeable.close();
+                    }
+                }
+        );
+    }
+
+    public int index() {
+        return this.index;
+    }
+
+    public CategoryRepository categoryRepository() {
+        return this.categoryRepository;
+    }
+
+    public GenreRepository genreRepository() {
+        return this.genreRepository;
+    }
+
+    public <T> T execute(final Supplier<T> aWork) {
+        return this.transactionTemplate.execute(status -> aWork.get());
+    }
+
+    public <T> T executeReadOnly(final Supplier<T> aWork) {
+        return this.readOnlyTemplate.execute(status -> aWork.get());
+    }
+
+    @Override
+    public void close() throws Exception {
+        this.resources.close();
+    }
+}
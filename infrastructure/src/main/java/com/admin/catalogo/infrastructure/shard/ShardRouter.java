@@ -0,0 +1,112 @@
+package com.admin.catalogo.infrastructure.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Routes ids to the shard owning them by hash, and fans a call out to every shard in
+ * parallel. The number of shards is fixed: changing it moves rows between shards.
+ */
+public class ShardRouter implements DisposableBean {
+
+    private final List<Shard> shards;
+    private final ExecutorService executor;
+
+    public ShardRouter(final List<Shard> shards, final int threads) {
+        if (shards == null || shards.isEmpty()) {
+            throw new IllegalArgumentException("at least one shard must be configured");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("'threads' must be greater than zero");
+        }
+        this.shards = List.copyOf(shards);
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            final var thread = new Thread(r, "shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<Shard> shards() {
+        return this.shards;
+    }
+
+    public Shard shardOf(final String anId) {
+        final var crc = new CRC32C();
+        crc.update(anId.getBytes(StandardCharsets.UTF_8));
+        return this.shards.get((int) (crc.getValue() % this.shards.size()));
+    }
+
+    public Map<Shard, List<String>> partition(final Collection<String> ids) {
+        final var partitions = new LinkedHashMap<Shard, List<String>>();
+        ids.forEach(anId -> partitions.computeIfAbsent(shardOf(anId), it -> new ArrayList<>()).add(anId));
+        return partitions;
+    }
+
+    /**
+     * Runs {@code aCall} on every shard at once and returns the results in shard order. The
+     * first failure is rethrown once every call has finished.
+     */
+    public <T> List<T> scatter(final Function<Shard, T> aCall) {
+        return scatter(this.shards, aCall);
+    }
+
+    public <T> List<T> scatter(final Collection<Shard> someShards, final Function<Shard, T> aCall) {
+        if (someShards.size() == 1) {
+            return List.of(aCall.apply(someShards.iterator().next()));
+        }
+        final var futures = someShards.stream()
+                .map(aShard -> CompletableFuture.supplyAsync(() -> aCall.apply(aShard), this.executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Runs a shard write just before the surrounding primary transaction commits, or at once
+     * outside of one. The outbox rows and tombstones of the unit of work are written by then,
+     * and a failing shard write rolls them back with it; a unit of work that rolls back never
+     * reaches the shards.
+     */
+    public void beforeCommit(final Runnable aWrite) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aWrite.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                aWrite.run();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.executor.shutdownNow();
+        for (final var aShard : this.shards) {
+            aShard.close();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.admin.catalogo.infrastructure.snapshot;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+import com.admin.catalogo.infrastructure.utils.IdentifierPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Read-only view over a file produced by {@link CatalogSnapshotWriter}. Ids, orders and
+ * dictionary codes are read straight from the buffer with absolute gets, so lookups and
+ * ordered scans allocate nothing and any number of threads can share one instance; only the
+ * records handed back to callers are materialized.
+ */
+public final class CatalogSnapshot {
+
+    static final int MAGIC = 0x43415453;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 48;
+    static final int ORDERS = 4;
+    static final int NULL = -1;
+
+    public static final int BY_ID = 0;
+    public static final int BY_NAME = 1;
+    public static final int BY_CREATED_AT = 2;
+    public static final int BY_SEARCH_KEY = 3;
+
+    private final ByteBuffer buffer;
+    private final long generation;
+    private final int dictionaryOffset;
+    private final int genreCategoriesOffset;
+    private final Table categories;
+    private final Table genres;
+
+    private CatalogSnapshot(final ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a version %d catalog snapshot".formatted(VERSION));
+        }
+        this.generation = buffer.getLong(8);
+        final var categoryCount = buffer.getInt(16);
+        final var genreCount = buffer.getInt(20);
+        this.dictionaryOffset = buffer.getInt(28);
+        this.genreCategoriesOffset = buffer.getInt(40);
+        final var indexesOffset = buffer.getInt(44);
+        this.categories = new Table(buffer.getInt(32), categoryCount, indexesOffset);
+        this.genres = new Table(buffer.getInt(36), genreCount, indexesOffset + ORDERS * categoryCount * Integer.BYTES);
+    }
+
+    public static CatalogSnapshot of(final ByteBuffer aBuffer) {
+        return new CatalogSnapshot(aBuffer);
+    }
+
+    public static CatalogSnapshot open(final Path aFile) throws IOException {
+        try (final var channel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            // the mapping outlives the channel and is released once the snapshot is unreachable
+            return new CatalogSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static CatalogSnapshot empty() {
+        return of(CatalogSnapshotWriter.encode(0, List.of(), List.of()));
+    }
+
+    public long generation() {
+        return this.generation;
+    }
+
+    public Table categories() {
+        return this.categories;
+    }
+
+    public Table genres() {
+        return this.genres;
+    }
+
+    public Category category(final int aRecord) {
+        final var at = this.categories.recordOffset(aRecord);
+        return Category.with(
+                IdentifierPool.categoryID(string(this.buffer.getInt(at))),
+                string(this.buffer.getInt(at + 4)),
+                string(this.buffer.getInt(at + 40)),
+                this.buffer.getInt(at + 12) == 1,
+                fromMicros(this.buffer.getLong(at + 16)),
+                fromMicros(this.buffer.getLong(at + 24)),
+                fromMicros(this.buffer.getLong(at + 32))
+        );
+    }
+
+    public Genre genre(final int aRecord) {
+        final var at = this.genres.recordOffset(aRecord);
+        final var start = this.buffer.getInt(at + 40);
+        final var count = this.buffer.getInt(at + 44);
+        final var categoryIds = new ArrayList<CategoryID>(count);
+        for (int i = 0; i < count; i++) {
+            final var code = this.buffer.getInt(this.genreCategoriesOffset + (start + i) * Integer.BYTES);
+            categoryIds.add(IdentifierPool.categoryID(string(this.buffer.getInt(this.dictionaryOffset + code * Integer.BYTES))));
+        }
+        return Genre.with(
+                GenreID.from(string(this.buffer.getInt(at))),
+                string(this.buffer.getInt(at + 4)),
+                this.buffer.getInt(at + 12) == 1,
+                categoryIds,
+                fromMicros(this.buffer.getLong(at + 16)),
+                fromMicros(this.buffer.getLong(at + 24)),
+                fromMicros(this.buffer.getLong(at + 32))
+        );
+    }
+
+    /**
+     * Case-insensitive containment over the category's name and description, matching
+     * {@code upper(column) like %TERMS%}.
+     */
+    public boolean categoryMatches(final int aRecord, final String upperTerms) {
+        final var at = this.categories.recordOffset(aRecord);
+        return contains(this.buffer.getInt(at + 4), upperTerms) || contains(this.buffer.getInt(at + 40), upperTerms);
+    }
+
+    public boolean genreMatches(final int aRecord, final String upperTerms) {
+        return contains(this.buffer.getInt(this.genres.recordOffset(aRecord) + 4), upperTerms);
+    }
+
+    private boolean contains(final int aString, final String upperTerms) {
+        return aString != NULL && string(aString).toUpperCase(Locale.ROOT).contains(upperTerms);
+    }
+
+    private String string(final int anOffset) {
+        if (anOffset == NULL) {
+            return null;
+        }
+        final var length = this.buffer.getInt(anOffset);
+        final var bytes = new byte[length];
+        this.buffer.get(anOffset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Unsigned byte comparison of a heap string against {@code aKey}, or only against its first
+     * {@code aKey.length} bytes when {@code prefix} is set.
+     */
+    private int compare(final int aString, final byte[] aKey, final boolean prefix) {
+        final var length = this.buffer.getInt(aString);
+        final var limit = Math.min(length, aKey.length);
+        for (int i = 0; i < limit; i++) {
+            final var diff = Byte.toUnsignedInt(this.buffer.get(aString + Integer.BYTES + i)) - Byte.toUnsignedInt(aKey[i]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return prefix && length >= aKey.length ? 0 : length - aKey.length;
+    }
+
+    public static int orderOf(final String aSort) {
+        return switch (aSort) {
+            case "name" -> BY_NAME;
+            case "createdAt" -> BY_CREATED_AT;
+            default -> throw new IllegalArgumentException("'%s' is not a snapshot order".formatted(aSort));
+        };
+    }
+
+    public static int seekOrderOf(final String aSort) {
+        return switch (aSort) {
+            case "name" -> BY_SEARCH_KEY;
+            case "createdAt" -> BY_CREATED_AT;
+            default -> throw new IllegalArgumentException("'%s' is not a snapshot order".formatted(aSort));
+        };
+    }
+
+    static long toMicros(final Instant anInstant) {
+        return anInstant == null ? Long.MIN_VALUE : anInstant.getEpochSecond() * 1_000_000L + anInstant.getNano() / 1_000;
+    }
+
+    static Instant fromMicros(final long micros) {
+        return micros == Long.MIN_VALUE ? null : Instant.EPOCH.plusNanos(Math.multiplyExact(micros, 1_000L));
+    }
+
+    /**
+     * Records of one aggregate and their pre-sorted orders. Every order breaks ties by id.
+     */
+    public final class Table {
+
+        private final int recordsOffset;
+        private final int count;
+        private final int ordersOffset;
+
+        private Table(final int recordsOffset, final int count, final int ordersOffset) {
+            this.recordsOffset = recordsOffset;
+            this.count = count;
+            this.ordersOffset = ordersOffset;
+        }
+
+        public int size() {
+            return this.count;
+        }
+
+        /**
+         * Record at {@code aRank} of {@code anOrder}, counting from the end when descending.
+         */
+        public int recordAt(final int anOrder, final int aRank, final boolean descending) {
+            final var rank = descending ? this.count - 1 - aRank : aRank;
+            return buffer.getInt(this.ordersOffset + (anOrder * this.count + rank) * Integer.BYTES);
+        }
+
+        /**
+         * One page in {@code anOrder}, materializing only the records on it. A {@code null}
+         * filter pages by rank alone; otherwise every record is tested to count the total.
+         */
+        public <T> Pagination<T> page(
+                final int aPage,
+                final int perPage,
+                final int anOrder,
+                final boolean descending,
+                final IntPredicate filter,
+                final IntFunction<T> materialize
+        ) {
+            final var offset = (long) aPage * perPage;
+            final var items = new ArrayList<T>(Math.max(0, Math.min(perPage, 1024)));
+
+            if (filter == null) {
+                for (long rank = offset; rank < this.count && items.size() < perPage; rank++) {
+                    items.add(materialize.apply(recordAt(anOrder, (int) rank, descending)));
+                }
+                return new Pagination<>(aPage, perPage, this.count, items);
+            }
+
+            var position = 0L;
+            for (int rank = 0; rank < this.count; rank++) {
+                final var aRecord = recordAt(anOrder, rank, descending);
+                if (!filter.test(aRecord)) {
+                    continue;
+                }
+                if (position >= offset && items.size() < perPage) {
+                    items.add(materialize.apply(aRecord));
+                }
+                position++;
+            }
+            return new Pagination<>(aPage, perPage, position, items);
+        }
+
+        /**
+         * Up to {@code limit} records following the one the query resumes after, in search key
+         * or creation order. The starting rank is found by binary search, so the cursor stays
+         * valid across snapshot generations and deep reads cost the same as the first one.
+         */
+        public <T> List<T> seek(
+                final SeekQuery aQuery,
+                final int anOrder,
+                final boolean descending,
+                final IntPredicate filter,
+                final IntFunction<T> materialize
+        ) {
+            final var items = new ArrayList<T>(Math.max(0, Math.min(aQuery.limit(), 1024)));
+            for (int rank = aQuery.isFirst() ? 0 : rankAfter(aQuery, anOrder, descending);
+                 rank < this.count && items.size() < aQuery.limit();
+                 rank++) {
+                final var aRecord = recordAt(anOrder, rank, descending);
+                if (filter == null || filter.test(aRecord)) {
+                    items.add(materialize.apply(aRecord));
+                }
+            }
+            return items;
+        }
+
+        private int rankAfter(final SeekQuery aQuery, final int anOrder, final boolean descending) {
+            final var id = aQuery.afterId().getBytes(StandardCharsets.UTF_8);
+            final var byCreatedAt = anOrder == BY_CREATED_AT;
+            final var key = byCreatedAt ? null : SearchKeyUtils.normalize(aQuery.afterName()).getBytes(StandardCharsets.UTF_8);
+            final var micros = byCreatedAt ? toMicros(aQuery.afterCreatedAt()) : 0L;
+
+            // first ascending rank not before the cursor
+            var low = 0;
+            var high = this.count;
+            while (low < high) {
+                final var mid = (low + high) >>> 1;
+                if (compareToCursor(recordAt(anOrder, mid, false), byCreatedAt, key, micros, id) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            if (descending) {
+                return this.count - low;
+            }
+            final var atCursor = low < this.count && compareToCursor(recordAt(anOrder, low, false), byCreatedAt, key, micros, id) == 0;
+            return atCursor ? low + 1 : low;
+        }
+
+        private int compareToCursor(final int aRecord, final boolean byCreatedAt, final byte[] aKey, final long micros, final byte[] anId) {
+            final var at = recordOffset(aRecord);
+            final var byKey = byCreatedAt
+                    ? Long.compare(buffer.getLong(at + 16), micros)
+                    : compare(buffer.getInt(at + 8), aKey, false);
+            return byKey != 0 ? byKey : compare(buffer.getInt(at), anId, false);
+        }
+
+        /**
+         * Record holding {@code anId}, or {@code -1}.
+         */
+        public int find(final String anId) {
+            final var key = anId.getBytes(StandardCharsets.UTF_8);
+            var low = 0;
+            var high = this.count - 1;
+            while (low <= high) {
+                final var mid = (low + high) >>> 1;
+                final var aRecord = recordAt(BY_ID, mid, false);
+                final var cmp = compare(buffer.getInt(recordOffset(aRecord)), key, false);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return aRecord;
+                }
+            }
+            return NULL;
+        }
+
+        /**
+         * Up to {@code limit} records whose normalized name starts with the normalized prefix,
+         * in search key order.
+         */
+        public int[] startingWith(final String aPrefix, final int limit) {
+            final var key = SearchKeyUtils.normalize(aPrefix).getBytes(StandardCharsets.UTF_8);
+            var low = 0;
+            var high = this.count;
+            while (low < high) {
+                final var mid = (low + high) >>> 1;
+                if (compare(searchKey(recordAt(BY_SEARCH_KEY, mid, false)), key, false) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            var found = 0;
+            final var result = new int[Math.max(0, Math.min(limit, this.count - low))];
+            for (int rank = low; rank < this.count && found < result.length; rank++) {
+                final var aRecord = recordAt(BY_SEARCH_KEY, rank, false);
+                if (compare(searchKey(aRecord), key, true) != 0) {
+                    break;
+                }
+                result[found++] = aRecord;
+            }
+            return found == result.length ? result : Arrays.copyOf(result, found);
+        }
+
+        private int searchKey(final int aRecord) {
+            return buffer.getInt(recordOffset(aRecord) + 8);
+        }
+
+        private int recordOffset(final int aRecord) {
+            return this.recordsOffset + aRecord * RECORD_BYTES;
+        }
+    }
+}
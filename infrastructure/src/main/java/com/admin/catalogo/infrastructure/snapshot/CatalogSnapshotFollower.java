@@ -0,0 +1,81 @@
+package com.admin.catalogo.infrastructure.snapshot;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs on read replicas: polls the {@code CURRENT} pointer written by
+ * {@link CatalogSnapshotPublisher} and maps each new generation. The swap is a single
+ * reference write, so a request sees either the old or the new generation for all of its
+ * reads as long as it calls {@link #current()} once.
+ */
+public class CatalogSnapshotFollower implements InitializingBean, DisposableBean {
+
+    private final Path directory;
+    private final long interval;
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>(CatalogSnapshot.empty());
+    private String currentFile;
+    private ScheduledExecutorService scheduler;
+
+    public CatalogSnapshotFollower(final Path directory, final long interval) {
+        this.directory = Objects.requireNonNull(directory);
+        this.interval = interval;
+    }
+
+    public CatalogSnapshot current() {
+        return this.current.get();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "catalog-snapshot-follower");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::refresh, this.interval, this.interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler.awaitTermination(this.interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Maps the generation {@code CURRENT} points at when it is newer than the one being served.
+     * Returns whether a swap happened.
+     */
+    public synchronized boolean refresh() {
+        try {
+            final var aFile = Files.readString(this.directory.resolve(CatalogSnapshotPublisher.CURRENT), StandardCharsets.UTF_8).trim();
+            if (aFile.equals(this.currentFile)) {
+                return false;
+            }
+            final var next = CatalogSnapshot.open(this.directory.resolve(aFile));
+            if (next.generation() <= this.current.get().generation()) {
+                return false;
+            }
+            this.current.set(next);
+            this.currentFile = aFile;
+            return true;
+        } catch (final IOException e) {
+            // nothing published yet, or the generation was pruned between reading CURRENT and
+            // opening it; keep serving the mapped one and let the next poll try again
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.admin.catalogo.infrastructure.snapshot;
+
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs on the writer node: every {@code interval} ms it reads the whole catalog in one
+ * read-only unit of work, writes it as a new snapshot generation and then points
+ * {@code CURRENT} at it. Only the newest {@code retain} generations are kept; replicas still
+ * mapping an older file keep reading it until they swap, since unlinking does not unmap.
+ */
+public class CatalogSnapshotPublisher implements InitializingBean, DisposableBean {
+
+    public static final String CURRENT = "CURRENT";
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotPublisher.class);
+
+    private static final Pattern GENERATION_FILE = Pattern.compile("catalog-(\\d{19})\\.snapshot");
+    private static final int FETCH_SIZE = 1_000;
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final UnitOfWork unitOfWork;
+    private final Path directory;
+    private final long interval;
+    private final int retain;
+    private long generation;
+    private ScheduledExecutorService scheduler;
+
+    public CatalogSnapshotPublisher(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final UnitOfWork unitOfWork,
+            final Path directory,
+            final long interval,
+            final int retain
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.directory = Objects.requireNonNull(directory);
+        this.interval = interval;
+        this.retain = Math.max(1, retain);
+    }
+
+    public static String fileName(final long generation) {
+        return "catalog-%019d.snapshot".formatted(generation);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Files.createDirectories(this.directory);
+        this.generation = generations().stream().mapToLong(Long::longValue).max().orElse(0);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "catalog-snapshot-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                publish();
+            } catch (final RuntimeException e) {
+                log.warn("Could not publish catalog snapshot", e);
+            }
+        }, 0, this.interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler.awaitTermination(this.interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized long publish() {
+        final var catalog = this.unitOfWork.executeReadOnly(() -> new Catalog(
+                readAll(this.categoryGateway::findAll),
+                readAll(this.genreGateway::findAll)
+        ));
+
+        final var next = this.generation + 1;
+        try {
+            CatalogSnapshotWriter.write(this.directory.resolve(fileName(next)), next, catalog.categories(), catalog.genres());
+
+            final var pointer = Files.createTempFile(this.directory, CURRENT, ".tmp");
+            Files.writeString(pointer, fileName(next), StandardCharsets.UTF_8);
+            Files.move(pointer, this.directory.resolve(CURRENT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.generation = next;
+
+            final var stale = generations().stream()
+                    .sorted(Comparator.reverseOrder())
+                    .skip(this.retain)
+                    .toList();
+            for (final var aGeneration : stale) {
+                Files.deleteIfExists(this.directory.resolve(fileName(aGeneration)));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return next;
+    }
+
+    private static <T> List<T> readAll(final Function<SearchQuery, Pagination<T>> aFinder) {
+        final var result = new ArrayList<T>();
+        for (int page = 0; ; page++) {
+            final var aPage = aFinder.apply(new SearchQuery(page, FETCH_SIZE, "", "createdAt", "asc"));
+            result.addAll(aPage.items());
+            if (aPage.items().size() < FETCH_SIZE) {
+                return result;
+            }
+        }
+    }
+
+    private List<Long> generations() throws IOException {
+        try (final var files = Files.list(this.directory)) {
+            return files.map(it -> GENERATION_FILE.matcher(it.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(it -> Long.parseLong(it.group(1)))
+                    .toList();
+        }
+    }
+
+    private record Catalog(List<Category> categories, List<Genre> genres) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.admin.catalogo.infrastructure.snapshot;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.utils.SearchKeyUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static com.admin.catalogo.infrastructure.snapshot.CatalogSnapshot.*;
+
+/**
+ * Encodes categories and genres into the layout read by {@link CatalogSnapshot}: fixed-size
+ * records, genre category ids dictionary-encoded to ints, pre-sorted record orders and a
+ * deduplicated UTF-8 string heap.
+ */
+public final class CatalogSnapshotWriter {
+
+    private CatalogSnapshotWriter() {}
+
+    /**
+     * Writes the snapshot next to {@code aFile}, forces it to disk and moves it into place.
+     */
+    public static void write(
+            final Path aFile,
+            final long generation,
+            final List<Category> categories,
+            final List<Genre> genres
+    ) throws IOException {
+        final var encoded = encode(generation, categories, genres);
+        final var temporary = Files.createTempFile(aFile.toAbsolutePath().getParent(), aFile.getFileName().toString(), ".tmp");
+        try (final var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, aFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static ByteBuffer encode(final long generation, final List<Category> categories, final List<Genre> genres) {
+        // category codes come first so a category's record index is also its dictionary code
+        final var dictionary = new LinkedHashMap<String, Integer>();
+        categories.forEach(it -> dictionary.putIfAbsent(it.getId().getValue(), dictionary.size()));
+        genres.forEach(it -> it.getCategories().forEach(id -> dictionary.putIfAbsent(id.getValue(), dictionary.size())));
+
+        final var genreCategories = genres.stream().mapToInt(it -> it.getCategories().size()).sum();
+
+        final var dictionaryOffset = HEADER_BYTES;
+        final var categoriesOffset = dictionaryOffset + dictionary.size() * Integer.BYTES;
+        final var genresOffset = categoriesOffset + categories.size() * RECORD_BYTES;
+        final var genreCategoriesOffset = genresOffset + genres.size() * RECORD_BYTES;
+        final var indexesOffset = genreCategoriesOffset + genreCategories * Integer.BYTES;
+        final var stringsOffset = indexesOffset + ORDERS * (categories.size() + genres.size()) * Integer.BYTES;
+
+        final var strings = new StringHeap(stringsOffset);
+        final var dictionaryStrings = dictionary.keySet().stream().mapToInt(strings::add).toArray();
+
+        final var categoryRecords = categories.stream().map(it -> new Row(
+                strings.add(it.getId().getValue()),
+                strings.add(it.getName()),
+                strings.add(SearchKeyUtils.normalize(it.getName())),
+                it.isActive(),
+                it.getCreatedAt(),
+                it.getUpdatedAt(),
+                it.getDeletedAt(),
+                strings.add(it.getDescription()),
+                0
+        )).toList();
+
+        var nextCode = 0;
+        final var genreRecords = new Row[genres.size()];
+        final var codes = new int[genreCategories];
+        for (int i = 0; i < genres.size(); i++) {
+            final var aGenre = genres.get(i);
+            final var start = nextCode;
+            for (final CategoryID aCategoryId : aGenre.getCategories()) {
+                codes[nextCode++] = dictionary.get(aCategoryId.getValue());
+            }
+            genreRecords[i] = new Row(
+                    strings.add(aGenre.getId().getValue()),
+                    strings.add(aGenre.getName()),
+                    strings.add(SearchKeyUtils.normalize(aGenre.getName())),
+                    aGenre.isActive(),
+                    aGenre.getCreatedAt(),
+                    aGenre.getUpdatedAt(),
+                    aGenre.getDeletedAt(),
+                    start,
+                    aGenre.getCategories().size()
+            );
+        }
+
+        final var heap = strings.toByteArray();
+        final var buffer = ByteBuffer.allocate(stringsOffset + heap.length);
+
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(generation)
+                .putInt(categories.size())
+                .putInt(genres.size())
+                .putInt(dictionary.size())
+                .putInt(dictionaryOffset)
+                .putInt(categoriesOffset)
+                .putInt(genresOffset)
+                .putInt(genreCategoriesOffset)
+                .putInt(indexesOffset)
+                .putInt(stringsOffset);
+
+        buffer.position(dictionaryOffset);
+        Arrays.stream(dictionaryStrings).forEach(buffer::putInt);
+        categoryRecords.forEach(it -> it.writeTo(buffer));
+        Arrays.stream(genreRecords).forEach(it -> it.writeTo(buffer));
+        Arrays.stream(codes).forEach(buffer::putInt);
+        writeOrders(buffer, categories, Category::getName, Category::getCreatedAt, it -> it.getId().getValue());
+        writeOrders(buffer, genres, Genre::getName, Genre::getCreatedAt, it -> it.getId().getValue());
+        buffer.put(heap);
+
+        return buffer.flip();
+    }
+
+    private static <T> void writeOrders(
+            final ByteBuffer buffer,
+            final List<T> rows,
+            final Function<T, String> nameOf,
+            final Function<T, Instant> createdAtOf,
+            final Function<T, String> idOf
+    ) {
+        // ids and search keys are binary-searched byte by byte, so they are sorted in UTF-8 byte order
+        final Comparator<Integer> byId = (a, b) -> Arrays.compareUnsigned(utf8(idOf.apply(rows.get(a))), utf8(idOf.apply(rows.get(b))));
+        final Comparator<Integer> byName = Comparator.comparing((Integer it) -> nameOf.apply(rows.get(it))).thenComparing(byId);
+        final Comparator<Integer> byCreatedAt = Comparator.comparing((Integer it) -> createdAtOf.apply(rows.get(it))).thenComparing(byId);
+        final Comparator<Integer> bySearchKey = Comparator.comparing(
+                (Integer it) -> utf8(SearchKeyUtils.normalize(nameOf.apply(rows.get(it)))),
+                Arrays::compareUnsigned
+        ).thenComparing(byId);
+
+        for (final var order : List.of(byId, byName, byCreatedAt, bySearchKey)) {
+            IntStream.range(0, rows.size()).boxed().sorted(order).forEach(buffer::putInt);
+        }
+    }
+
+    private static byte[] utf8(final String aValue) {
+        return aValue.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Row(
+            int id,
+            int name,
+            int searchKey,
+            boolean active,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deletedAt,
+            int extra,
+            int extraCount
+    ) {
+        void writeTo(final ByteBuffer buffer) {
+            buffer.putInt(id)
+                    .putInt(name)
+                    .putInt(searchKey)
+                    .putInt(active ? 1 : 0)
+                    .putLong(toMicros(createdAt))
+                    .putLong(toMicros(updatedAt))
+                    .putLong(toMicros(deletedAt))
+                    .putInt(extra)
+                    .putInt(extraCount);
+        }
+    }
+
+    private static final class StringHeap {
+
+        private final int base;
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream heap = new ByteArrayOutputStream();
+
+        private StringHeap(final int base) {
+            this.base = base;
+        }
+
+        int add(final String aValue) {
+            if (aValue == null) {
+                return NULL;
+            }
+            return this.offsets.computeIfAbsent(aValue, it -> {
+                final var offset = this.base + this.heap.size();
+                final var bytes = utf8(it);
+                this.heap.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                this.heap.writeBytes(bytes);
+                return offset;
+            });
+        }
+
+        byte[] toByteArray() {
+            return this.heap.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.admin.catalogo.infrastructure.stream;
+
+import com.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import com.admin.catalogo.infrastructure.outbox.OutboxPublisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single in-process fan-out of relayed outbox messages to every stream subscriber.
+ * Publishing only appends to per-subscriber buffers; a small dispatcher pool performs
+ * the writes, so idle connections hold no thread and a slow client never blocks the relay.
+ * Event ids are {@code <epoch>-<sequence>}: a client resuming with an id from another
+ * process lifetime, or older than the replay history, receives a {@code reset} event
+ * and is expected to resynchronize through the change feeds. Only the profiles that run the
+ * {@link com.admin.catalogo.infrastructure.outbox.OutboxRelay} have anything to broadcast.
+ */
+@Component
+@Profile("!in-memory & !replica")
+public class CatalogStreamBroadcaster implements OutboxPublisher, DisposableBean {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<CatalogStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<CatalogStreamEvent> history;
+    private final int bufferSize;
+    private final int replaySize;
+    private final OverflowPolicy policy;
+    private final long timeout;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeats;
+    private long sequence;
+
+    public CatalogStreamBroadcaster(
+            @Value("${catalog.stream.buffer-size:256}") final int bufferSize,
+            @Value("${catalog.stream.replay-size:1024}") final int replaySize,
+            @Value("${catalog.stream.overflow-policy:DROP_OLDEST}") final OverflowPolicy policy,
+            @Value("${catalog.stream.dispatchers:2}") final int dispatchers,
+            @Value("${catalog.stream.heartbeat:15000}") final long heartbeat,
+            @Value("${catalog.stream.timeout:1800000}") final long timeout
+    ) {
+        if (bufferSize <= 0 || replaySize <= 0 || dispatchers <= 0 || heartbeat <= 0) {
+            throw new IllegalArgumentException(
+                    "'buffer-size', 'replay-size', 'dispatchers' and 'heartbeat' must be greater than zero"
+            );
+        }
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.policy = Objects.requireNonNull(policy);
+        this.timeout = timeout;
+        this.history = new ArrayDeque<>(replaySize);
+        this.dispatcher = Executors.newFixedThreadPool(dispatchers, r -> daemon(r, "catalog-stream"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "catalog-stream-heartbeat"));
+        this.heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(final String lastEventId) {
+        final var emitter = new SseEmitter(this.timeout);
+        final var subscriber = subscribe(lastEventId, new SseEmitterSink(emitter));
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    CatalogStreamSubscriber subscribe(final String lastEventId, final CatalogStreamSink sink) {
+        final var subscriber = new CatalogStreamSubscriber(sink, this.bufferSize, this.policy);
+        synchronized (this) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replayAfter(lastEventId.trim())
+                        .ifPresentOrElse(events -> events.forEach(subscriber::offer), subscriber::reset);
+            }
+            this.subscribers.add(subscriber);
+        }
+        dispatch(subscriber);
+        return subscriber;
+    }
+
+    void unsubscribe(final CatalogStreamSubscriber subscriber) {
+        this.subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    @Override
+    public void publish(final OutboxMessage message) {
+        final var overflowed = new ArrayList<CatalogStreamSubscriber>();
+        synchronized (this) {
+            final var anEvent = CatalogStreamEvent.from(this.epoch + "-" + ++this.sequence, message);
+            if (this.history.size() == this.replaySize) {
+                this.history.pollFirst();
+            }
+            this.history.addLast(anEvent);
+
+            for (final var subscriber : this.subscribers) {
+                if (!subscriber.offer(anEvent)) {
+                    overflowed.add(subscriber);
+                }
+            }
+        }
+        overflowed.forEach(this::unsubscribe);
+        this.subscribers.forEach(this::dispatch);
+    }
+
+    public int subscribers() {
+        return this.subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        this.heartbeats.shutdownNow();
+        this.dispatcher.shutdownNow();
+        this.subscribers.forEach(this::unsubscribe);
+    }
+
+    private Optional<List<CatalogStreamEvent>> replayAfter(final String lastEventId) {
+        final var separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !this.epoch.equals(lastEventId.substring(0, separator))) {
+            return Optional.empty();
+        }
+
+        final long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        final var oldest = this.sequence - this.history.size() + 1;
+        if (last > this.sequence || last + 1 < oldest || this.sequence - last > this.bufferSize) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.history.stream()
+                .skip(last + 1 - oldest)
+                .toList());
+    }
+
+    private void heartbeat() {
+        this.subscribers.forEach(subscriber -> {
+            subscriber.heartbeat();
+            dispatch(subscriber);
+        });
+    }
+
+    private void dispatch(final CatalogStreamSubscriber subscriber) {
+        if (!subscriber.hasPending() || !subscriber.schedule()) {
+            return;
+        }
+        try {
+            this.dispatcher.execute(() -> {
+                subscriber.drain();
+                if (subscriber.isClosed()) {
+                    this.subscribers.remove(subscriber);
+                } else {
+                    dispatch(subscriber);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            unsubscribe(subscriber);
+        }
+    }
+
+    private static Thread daemon(final Runnable r, final String name) {
+        final var thread = new Thread(r, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,25 @@
+package com.admin.catalogo.infrastructure.stream;
+
+import com.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record CatalogStreamEvent(
+        @JsonProperty("id") String id,
+        @JsonProperty("aggregate") String aggregate,
+        @JsonProperty("aggregate_id") String aggregateId,
+        @JsonProperty("type") String type,
+        @JsonProperty("occurred_at") Instant occurredAt
+) {
+
+    public static CatalogStreamEvent from(final String anId, final OutboxMessage aMessage) {
+        return new CatalogStreamEvent(
+                anId,
+                aMessage.aggregate(),
+                aMessage.aggregateId(),
+                aMessage.type(),
+                aMessage.occurredAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.admin.catalogo.infrastructure.stream;
+
+import java.io.IOException;
+
+public interface CatalogStreamSink {
+
+    void event(String id, String name, Object data) throws IOException;
+
+    void comment(String text) throws IOException;
+
+    void close();
+}
@@ -0,0 +1,122 @@
+package com.admin.catalogo.infrastructure.stream;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers the events of a single subscriber between the broadcaster, which only ever
+ * offers, and the dispatcher thread that writes them to the sink.
+ */
+final class CatalogStreamSubscriber {
+
+    static final String RESET = "reset";
+    static final String DROPPED = "dropped";
+
+    private final CatalogStreamSink sink;
+    private final ArrayBlockingQueue<CatalogStreamEvent> buffer;
+    private final OverflowPolicy policy;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+    private final AtomicBoolean resetDue = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    CatalogStreamSubscriber(
+            final CatalogStreamSink sink,
+            final int bufferSize,
+            final OverflowPolicy policy
+    ) {
+        this.sink = Objects.requireNonNull(sink);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    boolean offer(final CatalogStreamEvent anEvent) {
+        if (this.closed) {
+            return false;
+        }
+        while (!this.buffer.offer(anEvent)) {
+            if (this.policy == OverflowPolicy.DISCONNECT) {
+                return false;
+            }
+            if (this.buffer.poll() != null) {
+                this.dropped.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    void reset() {
+        this.buffer.clear();
+        this.dropped.set(0);
+        this.resetDue.set(true);
+    }
+
+    void heartbeat() {
+        this.heartbeatDue.set(true);
+    }
+
+    boolean hasPending() {
+        return !this.closed && (!this.buffer.isEmpty() || this.heartbeatDue.get() || this.resetDue.get());
+    }
+
+    boolean schedule() {
+        return this.scheduled.compareAndSet(false, true);
+    }
+
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    long dropped() {
+        return this.dropped.get();
+    }
+
+    void drain() {
+        try {
+            if (this.resetDue.getAndSet(false)) {
+                this.sink.event(null, RESET, Map.of("reason", "history_unavailable"));
+            }
+            var sent = false;
+            CatalogStreamEvent anEvent;
+            while (!this.closed && (anEvent = this.buffer.poll()) != null) {
+                reportDropped();
+                this.sink.event(anEvent.id(), anEvent.type(), anEvent);
+                sent = true;
+            }
+            reportDropped();
+
+            if (this.heartbeatDue.getAndSet(false) && !sent && !this.closed) {
+                this.sink.comment("heartbeat");
+            }
+        } catch (final Exception e) {
+            close();
+        } finally {
+            this.scheduled.set(false);
+        }
+    }
+
+    private void reportDropped() throws IOException {
+        final var lost = this.dropped.getAndSet(0);
+        if (lost > 0) {
+            this.sink.event(null, DROPPED, Map.of("count", lost));
+        }
+    }
+
+    void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.buffer.clear();
+        try {
+            this.sink.close();
+        } catch (final Exception ignored) {
+            // the connection is already gone
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.admin.catalogo.infrastructure.stream;
+
+public enum OverflowPolicy {
+
+    /**
+     * Discards the oldest buffered events and tells the subscriber how many were lost.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Closes the subscription, so the client reconnects and resumes from its last event id.
+     */
+    DISCONNECT
+}
@@ -0,0 +1,35 @@
+package com.admin.catalogo.infrastructure.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+public class SseEmitterSink implements CatalogStreamSink {
+
+    private final SseEmitter emitter;
+
+    public SseEmitterSink(final SseEmitter emitter) {
+        this.emitter = Objects.requireNonNull(emitter);
+    }
+
+    @Override
+    public void event(final String id, final String name, final Object data) throws IOException {
+        final var anEvent = SseEmitter.event()
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON);
+
+        this.emitter.send(id != null ? anEvent.id(id) : anEvent);
+    }
+
+    @Override
+    public void comment(final String text) throws IOException {
+        this.emitter.send(SseEmitter.event().comment(text));
+    }
+
+    @Override
+    public void close() {
+        this.emitter.complete();
+    }
+}
@@ -0,0 +1,26 @@
+package com.admin.catalogo.infrastructure.transaction;
+
+import com.admin.catalogo.application.UnitOfWork;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Unit of work for the in-memory profile: every store write is atomic on its own, so there is
+ * nothing to roll back.
+ */
+@Component
+@Profile("in-memory")
+public class PassThroughUnitOfWork implements UnitOfWork {
+
+    @Override
+    public <T> T execute(final Supplier<T> aWork) {
+        return aWork.get();
+    }
+
+    @Override
+    public <T> T executeReadOnly(final Supplier<T> aWork) {
+        return aWork.get();
+    }
+}
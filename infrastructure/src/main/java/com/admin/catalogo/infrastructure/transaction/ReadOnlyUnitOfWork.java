@@ -0,0 +1,28 @@
+package com.admin.catalogo.infrastructure.transaction;
+
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Unit of work for snapshot replicas. Reads run as they are; writes are refused before the use
+ * case runs, so every write endpoint answers the same way instead of failing wherever the
+ * snapshot gateway happens to be reached.
+ */
+@Component
+@Profile("replica")
+public class ReadOnlyUnitOfWork implements UnitOfWork {
+
+    @Override
+    public <T> T execute(final Supplier<T> aWork) {
+        throw ReadOnlyException.with("Read replicas serve a read-only catalog snapshot");
+    }
+
+    @Override
+    public <T> T executeReadOnly(final Supplier<T> aWork) {
+        return aWork.get();
+    }
+}
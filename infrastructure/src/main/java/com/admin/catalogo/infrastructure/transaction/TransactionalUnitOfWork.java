@@ -0,0 +1,40 @@
+package com.admin.catalogo.infrastructure.transaction;
+
+import com.admin.catalogo.application.UnitOfWork;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+@Component
+@Profile("!in-memory & !replica")
+public class TransactionalUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+
+    public TransactionalUnitOfWork(
+            final PlatformTransactionManager transactionManager,
+            @Value("${unit-of-work.write-timeout:5}") final int writeTimeoutSeconds
+    ) {
+        Objects.requireNonNull(transactionManager);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readWrite.setTimeout(writeTimeoutSeconds);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public <T> T execute(final Supplier<T> aWork) {
+        return this.readWrite.execute(status -> aWork.get());
+    }
+
+    @Override
+    public <T> T executeReadOnly(final Supplier<T> aWork) {
+        return this.readOnly.execute(status -> aWork.get());
+    }
+}
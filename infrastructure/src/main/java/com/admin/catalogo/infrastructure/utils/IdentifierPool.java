@@ -0,0 +1,23 @@
+package com.admin.catalogo.infrastructure.utils;
+
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.utils.Interner;
+
+public final class IdentifierPool {
+
+    private static final int CAPACITY = 8192;
+
+    private static final Interner<CategoryID> CATEGORIES = Interner.identifiers(CAPACITY, CategoryID::from);
+
+    private static final Interner<String> VALUES = Interner.strings(CAPACITY);
+
+    private IdentifierPool() {}
+
+    public static CategoryID categoryID(final String anId) {
+        return CATEGORIES.intern(anId);
+    }
+
+    public static String value(final String anId) {
+        return VALUES.intern(anId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.admin.catalogo.infrastructure.utils;
+
+import com.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.Locale;
+
+public final class SearchQueryUtils {
+
+    private SearchQueryUtils() {}
+
+    /**
+     * Canonical form of a list query: terms are trimmed and upper-cased, since they match
+     * case-insensitively anyway, blank terms become empty and the direction is lower-cased.
+     */
+    public static SearchQuery normalize(final SearchQuery aQuery) {
+        final var terms = aQuery.terms() == null ? "" : aQuery.terms().trim().toUpperCase(Locale.ROOT);
+        final var direction = aQuery.direction() == null ? null : aQuery.direction().toLowerCase(Locale.ROOT);
+        return new SearchQuery(aQuery.page(), aQuery.perPage(), terms, aQuery.sort(), direction);
+    }
+}
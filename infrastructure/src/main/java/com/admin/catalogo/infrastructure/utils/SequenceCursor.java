@@ -0,0 +1,59 @@
+package com.admin.catalogo.infrastructure.utils;
+
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read position over an auto-increment column that other nodes are still writing to. Ids are
+ * handed out before commit, so a lower id can show up after a higher one; the position only
+ * moves over the ids read without holes, and a hole still open after the gap timeout is
+ * skipped. Not thread-safe, callers serialize their polls.
+ */
+public final class SequenceCursor {
+
+    private final long gapTimeoutNanos;
+    private final TreeSet<Long> readAhead = new TreeSet<>();
+    private long position;
+    private long holeSince;
+
+    public SequenceCursor(final long position, final long gapTimeout) {
+        if (gapTimeout < 0) {
+            throw new IllegalArgumentException("'gap-timeout' must not be negative");
+        }
+        this.position = position;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeout);
+    }
+
+    public long position() {
+        return this.position;
+    }
+
+    public boolean seen(final long anId) {
+        return anId <= this.position || this.readAhead.contains(anId);
+    }
+
+    public void mark(final long anId) {
+        if (anId > this.position) {
+            this.readAhead.add(anId);
+        }
+    }
+
+    public void advance() {
+        while (!this.readAhead.isEmpty() && this.readAhead.first() == this.position + 1) {
+            this.position = this.readAhead.pollFirst();
+        }
+        if (this.readAhead.isEmpty()) {
+            this.holeSince = 0;
+            return;
+        }
+
+        final var now = System.nanoTime();
+        if (this.holeSince == 0) {
+            this.holeSince = now;
+        } else if (now - this.holeSince >= this.gapTimeoutNanos) {
+            this.position = this.readAhead.first() - 1;
+            this.holeSince = 0;
+            advance();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.admin.catalogo.infrastructure.utils;
+
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+public final class SortUtils {
+
+    public static final String TIE_BREAKER = "id";
+
+    private static final String SEARCH_KEY = "searchKey";
+
+    private SortUtils() {}
+
+    public static Sort sort(final SearchQuery aQuery, final Set<String> sortableFields) {
+        return sort(aQuery.sort(), aQuery.direction(), sortableFields);
+    }
+
+    /**
+     * Keyset order of a seek. Names are read by search key, which every store compares the
+     * same way, so a cursor taken from one page resumes at the same row on any of them.
+     */
+    public static Sort sort(final SeekQuery aQuery, final Set<String> sortableFields) {
+        return byKey(aQuery.sort(), sort(aQuery.sort(), aQuery.direction(), sortableFields));
+    }
+
+    /**
+     * Order of a listing merged from several shards. The merge compares names by search key, so
+     * every shard has to hand its rows over in that order too.
+     */
+    public static Sort sortByKey(final SearchQuery aQuery, final Set<String> sortableFields) {
+        return byKey(aQuery.sort(), sort(aQuery, sortableFields));
+    }
+
+    private static Sort byKey(final String aField, final Sort aSort) {
+        if (!"name".equals(aField)) {
+            return aSort;
+        }
+        final var aDirection = aSort.getOrderFor("name").getDirection();
+        return Sort.by(aDirection, SEARCH_KEY).and(Sort.by(aDirection, TIE_BREAKER));
+    }
+
+    private static Sort sort(final String aField, final String aDirectionName, final Set<String> sortableFields) {
+        if (aField == null || !sortableFields.contains(aField)) {
+            throw DomainException.with(new Error("'sort' must be one of %s".formatted(sortableFields.stream().sorted().toList())));
+        }
+
+        final var aDirection = Sort.Direction.fromOptionalString(aDirectionName)
+                .orElseThrow(() -> DomainException.with(new Error("'dir' must be 'asc' or 'desc'")));
+
+        return Sort.by(aDirection, aField).and(Sort.by(aDirection, TIE_BREAKER));
+    }
+}
@@ -0,0 +1,29 @@
+package com.admin.catalogo.infrastructure.utils;
+
+public final class SqlUtils {
+
+    public static final char LIKE_ESCAPE = '!';
+
+    private SqlUtils() {}
+
+    public static String like(final String term) {
+        if (term == null) {
+            return null;
+        }
+        return "%" + term.toUpperCase() + "%";
+    }
+
+    public static String startsWith(final String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        final var escaped = new StringBuilder(prefix.length() + 1);
+        for (final var ch : prefix.toCharArray()) {
+            if (ch == LIKE_ESCAPE || ch == '%' || ch == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(ch);
+        }
+        return escaped.append('%').toString();
+    }
+}
@@ -0,0 +1,159 @@
+package com.admin.catalogo.infrastructure.warmup;
+
+import com.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.genre.create.CreateGenreCommand;
+import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Drives synthetic create/get/list flows through the real use cases so the JIT compiles the
+ * query builders, Hibernate hydration and Jackson serializers before traffic arrives. Every
+ * iteration runs in a transaction that is rolled back, so nothing reaches the tables or the
+ * outbox. Iterations run in batches until a batch triggers no more than
+ * {@code settle-threshold} ms of JIT compilation, bounded by the max iterations and timeout.
+ * <p>
+ * An iteration reads back the rows it has just written, before its transaction ends. Only the
+ * MySQL gateways can do that, so the warm-up is limited to their profile.
+ */
+@Component
+@Profile("!in-memory & !replica & !sharded")
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true")
+public class WarmUp {
+
+    private static final SearchQuery CATEGORY_PAGE = new SearchQuery(0, 10, "warm", "name", "asc");
+    private static final SearchQuery GENRE_PAGE = new SearchQuery(0, 10, "warm", "name", "asc");
+
+    private final CreateCategoryUseCase createCategoryUseCase;
+    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final CreateGenreUseCase createGenreUseCase;
+    private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final ListGenreUseCase listGenreUseCase;
+    private final ObjectMapper mapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate throwaway;
+    private final int minIterations;
+    private final int maxIterations;
+    private final int batchSize;
+    private final long settleThreshold;
+    private final Duration timeout;
+
+    public WarmUp(
+            final CreateCategoryUseCase createCategoryUseCase,
+            final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final CreateGenreUseCase createGenreUseCase,
+            final GetGenreByIdUseCase getGenreByIdUseCase,
+            final ListGenreUseCase listGenreUseCase,
+            final ObjectMapper mapper,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            @Value("${warm-up.min-iterations:200}") final int minIterations,
+            @Value("${warm-up.max-iterations:10000}") final int maxIterations,
+            @Value("${warm-up.batch-size:100}") final int batchSize,
+            @Value("${warm-up.settle-threshold:10}") final long settleThreshold,
+            @Value("${warm-up.timeout:60000}") final long timeout
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batch-size' must be greater than zero");
+        }
+        if (maxIterations < minIterations) {
+            throw new IllegalArgumentException("'max-iterations' must not be lower than 'min-iterations'");
+        }
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
+        this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.throwaway = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+        this.batchSize = batchSize;
+        this.settleThreshold = settleThreshold;
+        this.timeout = Duration.ofMillis(timeout);
+    }
+
+    public Result run() {
+        final var compiler = ManagementFactory.getCompilationMXBean();
+        final var start = System.nanoTime();
+        final var deadline = start + this.timeout.toNanos();
+
+        var iterations = 0;
+        var compiled = compilationTime(compiler);
+        while (iterations < this.maxIterations && System.nanoTime() < deadline) {
+            final var batch = Math.min(this.batchSize, this.maxIterations - iterations);
+            for (int i = 0; i < batch; i++) {
+                iterate(iterations++);
+            }
+
+            final var previous = compiled;
+            compiled = compilationTime(compiler);
+            if (iterations >= this.minIterations && compiled - previous <= this.settleThreshold) {
+                break;
+            }
+        }
+        return new Result(iterations, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void iterate(final int iteration) {
+        this.throwaway.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+
+            final var aName = "warm-up " + iteration;
+            final var aCategoryId = this.createCategoryUseCase.execute(CreateCategoryCommand.with(aName, aName, true))
+                    .get()
+                    .id();
+            final var aGenreId = this.createGenreUseCase.execute(CreateGenreCommand.with(aName, true, List.of(aCategoryId)))
+                    .id();
+
+            // reads must hydrate rows from the result set instead of hitting the persistence context
+            this.entityManager.flush();
+            this.entityManager.clear();
+
+            write(CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(aCategoryId)));
+            write(this.listCategoriesUseCase.execute(CATEGORY_PAGE).map(CategoryApiPresenter::present));
+            write(GenreApiPresenter.present(this.getGenreByIdUseCase.execute(aGenreId)));
+            write(this.listGenreUseCase.execute(GENRE_PAGE).map(GenreApiPresenter::present));
+        });
+    }
+
+    private void write(final Object aResponse) {
+        Json.invoke(() -> this.mapper.writeValueAsBytes(aResponse));
+    }
+
+    private static long compilationTime(final CompilationMXBean compiler) {
+        // without compilation monitoring every batch counts as settled and min-iterations decides
+        if (compiler == null || !compiler.isCompilationTimeMonitoringSupported()) {
+            return 0;
+        }
+        return compiler.getTotalCompilationTime();
+    }
+
+    public record Result(int iterations, Duration duration) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.admin.catalogo.infrastructure.warmup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the warm-up while the application is still starting: Spring Boot only moves the
+ * readiness state to ACCEPTING_TRAFFIC once every runner has returned, so
+ * {@code /actuator/health/readiness} keeps answering 503 until the JIT has settled.
+ */
+@Component
+@Profile("!in-memory & !replica & !sharded")
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final WarmUp warmUp;
+
+    private final MeterRegistry meterRegistry;
+
+    public WarmUpRunner(final WarmUp warmUp, final MeterRegistry meterRegistry) {
+        this.warmUp = Objects.requireNonNull(warmUp);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final var result = this.warmUp.run();
+
+        TimeGauge.builder("catalog.warm-up.duration", result, TimeUnit.MILLISECONDS, it -> it.duration().toMillis())
+                .description("Time spent warming up before accepting traffic")
+                .strongReference(true)
+                .register(this.meterRegistry);
+        Gauge.builder("catalog.warm-up.iterations", result, WarmUp.Result::iterations)
+                .description("Synthetic iterations run before accepting traffic")
+                .strongReference(true)
+                .register(this.meterRegistry);
+    }
+}
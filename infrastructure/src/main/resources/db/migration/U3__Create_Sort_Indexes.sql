@@ -0,0 +1,4 @@
+DROP INDEX idx_category_name_id ON category;
+DROP INDEX idx_category_created_at_id ON category;
+DROP INDEX idx_genres_name_id ON genres;
+DROP INDEX idx_genres_created_at_id ON genres;
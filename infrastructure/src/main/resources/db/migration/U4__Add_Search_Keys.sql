@@ -0,0 +1,5 @@
+DROP INDEX idx_category_search_key_id ON category;
+DROP INDEX idx_genres_search_key_id ON genres;
+
+ALTER TABLE category DROP COLUMN search_key;
+ALTER TABLE genres DROP COLUMN search_key;
\ No newline at end of file
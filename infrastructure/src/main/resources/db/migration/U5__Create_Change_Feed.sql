@@ -0,0 +1,4 @@
+DROP TABLE tombstones;
+
+DROP INDEX idx_category_updated_at_id ON category;
+DROP INDEX idx_genres_updated_at_id ON genres;
\ No newline at end of file
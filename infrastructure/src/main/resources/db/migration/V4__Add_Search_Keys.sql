@@ -0,0 +1,5 @@
+ALTER TABLE category ADD COLUMN search_key VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE genres ADD COLUMN search_key VARCHAR(255) NOT NULL DEFAULT '';
+
+CREATE INDEX idx_category_search_key_id ON category (search_key, id);
+CREATE INDEX idx_genres_search_key_id ON genres (search_key, id);
@@ -0,0 +1,11 @@
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
+CREATE INDEX idx_genres_updated_at_id ON genres (updated_at, id);
+
+CREATE TABLE tombstones (
+    aggregate VARCHAR(32) NOT NULL,
+    entity_id VARCHAR(36) NOT NULL,
+    removed_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_tombstones PRIMARY KEY (aggregate, entity_id)
+);
+
+CREATE INDEX idx_tombstones_aggregate_removed_at_id ON tombstones (aggregate, removed_at, entity_id);
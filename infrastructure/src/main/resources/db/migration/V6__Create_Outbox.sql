@@ -0,0 +1,9 @@
+CREATE TABLE outbox (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    seq BIGINT NOT NULL AUTO_INCREMENT UNIQUE,
+    aggregate VARCHAR(32) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at DATETIME(6) NOT NULL
+);
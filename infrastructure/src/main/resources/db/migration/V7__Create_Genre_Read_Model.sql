@@ -0,0 +1,14 @@
+CREATE TABLE genre_read_model (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    search_key VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    category_ids TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+CREATE INDEX idx_genre_read_model_name_id ON genre_read_model (name, id);
+CREATE INDEX idx_genre_read_model_created_at_id ON genre_read_model (created_at, id);
+CREATE INDEX idx_genre_read_model_search_key_id ON genre_read_model (search_key, id);
@@ -0,0 +1,3 @@
+DROP TABLE genres_categories;
+DROP TABLE genres;
+DROP TABLE category;
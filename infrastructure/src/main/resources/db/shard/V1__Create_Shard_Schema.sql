@@ -0,0 +1,39 @@
+CREATE TABLE category (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    search_key VARCHAR(255) NOT NULL DEFAULT '',
+    description VARCHAR(4000),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+CREATE TABLE genres (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    search_key VARCHAR(255) NOT NULL DEFAULT '',
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+CREATE TABLE genres_categories (
+    genre_id VARCHAR(36) NOT NULL,
+    category_id VARCHAR(36) NOT NULL,
+    CONSTRAINT idx_genre_category UNIQUE (genre_id, category_id),
+    CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_genres_categories_category_id ON genres_categories (category_id);
+
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_search_key_id ON category (search_key, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
+
+CREATE INDEX idx_genres_name_id ON genres (name, id);
+CREATE INDEX idx_genres_created_at_id ON genres (created_at, id);
+CREATE INDEX idx_genres_search_key_id ON genres (search_key, id);
+CREATE INDEX idx_genres_updated_at_id ON genres (updated_at, id);
@@ -1,7 +1,11 @@
 package com.admin.catalogo;
 
 import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelRepository;
 import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationRepository;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -19,8 +23,12 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                appContext.getBean(GenreReadModelRepository.class),
                 appContext.getBean(GenreRepository.class),
-                appContext.getBean(CategoryRepository.class)
+                appContext.getBean(CategoryRepository.class),
+                appContext.getBean(TombstoneRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(CacheInvalidationRepository.class)
         ));
     }
 
@@ -4,7 +4,6 @@ import com.admin.catalogo.IntegrationTest;
 import com.admin.catalogo.domain.genre.Genre;
 import com.admin.catalogo.domain.genre.GenreGateway;
 import com.admin.catalogo.domain.pagination.SearchQuery;
-import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -32,11 +31,7 @@ public class ListGenreUseCaseTestIT {
                 Genre.newGenre("Aventura", true)
         );
 
-        genreRepository.saveAllAndFlush(
-                generes.stream()
-                        .map(GenreJpaEntity::from)
-                        .toList()
-        );
+        generes.forEach(genreGateway::create);
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -127,23 +127,33 @@ public class CategoryE2ETest implements MockDsl {
     }
 
     @Test
-    public void asACategoryAdminIShouldBeAbleToSortAllCategoriesByDescription() throws Exception {
+    public void asACategoryAdminIShouldBeAbleToSortAllCategoriesByCreationDate() throws Exception {
 
         givenACategory("Filmes", "C", true);
         givenACategory("Documentários", "Z", true);
         givenACategory("Séries", "K", true);
 
-        listCategories(0, 3, "", "description", "desc")
+        listCategories(0, 3, "", "createdAt", "desc")
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.current_page", Matchers.equalTo(0)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.per_page", Matchers.equalTo(3)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(3)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(3)))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Documentários")))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].name", Matchers.equalTo("Séries")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Séries")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].name", Matchers.equalTo("Documentários")))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].name", Matchers.equalTo("Filmes")));
     }
 
+    @Test
+    public void asACategoryAdminIShouldNotBeAbleToSortCategoriesByAnUnindexedField() throws Exception {
+
+        givenACategory("Filmes", "C", true);
+
+        listCategories(0, 3, "", "description", "desc")
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo("'sort' must be one of [createdAt, name]")));
+    }
+
     @Test
     public void asACatalogoAdminYShouldBeAbleToGetACategoryByItsIdentifier() throws Exception {
         Assertions.assertEquals(0, categoryRepository.count());
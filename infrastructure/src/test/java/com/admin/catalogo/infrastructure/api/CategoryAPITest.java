@@ -4,24 +4,33 @@ import com.admin.catalogo.ControllerTest;
 import com.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.autocomplete.AutocompleteCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.autocomplete.CategoryAutocompleteOutput;
+import com.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
 import com.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.category.Category;
 import com.admin.catalogo.domain.category.CategoryID;
 import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.NotImplementedException;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
 import com.admin.catalogo.domain.validation.Error;
 import com.admin.catalogo.domain.validation.handler.Notification;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.API;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +68,12 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private AutocompleteCategoriesUseCase autocompleteCategoriesUseCase;
+
+    @MockBean
+    private ListCategoryChangesUseCase listCategoryChangesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -123,6 +138,112 @@ public class CategoryAPITest {
         Mockito.verify(getCategoryByIdUseCase, Mockito.times(1)).execute(expectedId);
     }
 
+    @Test
+    public void givenAValidIdAndSmileAccept_whenCallsGetCategory_shouldReturnSmile() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        //when
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .accept(ApiMediaTypes.APPLICATION_SMILE);
+
+        final var response = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", ApiMediaTypes.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse();
+
+        //then
+        final var actualCategory = Json.smileMapper()
+                .readValue(response.getContentAsByteArray(), CategoryResponse.class);
+
+        Assertions.assertEquals(expectedId, actualCategory.id());
+        Assertions.assertEquals(aCategory.getName(), actualCategory.name());
+        Assertions.assertEquals(aCategory.getDescription(), actualCategory.description());
+        Assertions.assertEquals(aCategory.isActive(), actualCategory.active());
+        Assertions.assertEquals(aCategory.getCreatedAt(), actualCategory.createdAt());
+    }
+
+    @Test
+    public void givenAValidIdAndSmileAccept_whenCallsGetCategory_shouldWriteSnakeCaseIsoDates() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        //when
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .accept(ApiMediaTypes.APPLICATION_SMILE);
+
+        final var response = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse();
+
+        //then
+        final var actualTree = Json.smileMapper().readTree(response.getContentAsByteArray());
+
+        Assertions.assertTrue(actualTree.get("created_at").isTextual());
+        Assertions.assertEquals(aCategory.getCreatedAt().toString(), actualTree.get("created_at").asText());
+        Assertions.assertEquals(aCategory.isActive(), actualTree.get("is_active").asBoolean());
+        Assertions.assertNull(actualTree.get("createdAt"));
+    }
+
+    @Test
+    public void givenACborCommand_whenCallsCreateCategory_shouldReturnCborCategoryId() throws Exception {
+        //given
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+
+        final var aInput = new CreateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+
+        Mockito.when(createCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(CreateCategoryOutput.from("123")));
+
+        //when
+        final var request = MockMvcRequestBuilders.post("/categories")
+                .contentType(ApiMediaTypes.APPLICATION_CBOR)
+                .accept(ApiMediaTypes.APPLICATION_CBOR)
+                .content(Json.cborMapper().writeValueAsBytes(aInput));
+
+        final var response = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", ApiMediaTypes.APPLICATION_CBOR_VALUE))
+                .andReturn().getResponse();
+
+        //then
+        final var actualBody = Json.cborMapper().readTree(response.getContentAsByteArray());
+        Assertions.assertEquals("123", actualBody.get("id").asText());
+
+        Mockito.verify(createCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(cmd ->
+                Objects.equals(expectedName, cmd.name())
+                        && Objects.equals(expectedDescription, cmd.description())
+                        && Objects.equals(expectedIsActive, cmd.isActive())
+        ));
+    }
+
+    @Test
+    public void givenAnAcceptAllHeader_whenCallsListCategories_shouldKeepReturningJson() throws Exception {
+        //given
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        //when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .accept(MediaType.ALL);
+
+        //then
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(0)));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         final var expectedMessage = "Category with ID 123 was not found";
@@ -324,6 +445,41 @@ public class CategoryAPITest {
         Mockito.verify(deleteCategoryUseCase, Mockito.times(1)).execute(expectedId);
     }
 
+    @Test
+    public void givenAReadOnlyNode_whenCallsDeleteCategory_shouldReturnMethodNotAllowed() throws Exception{
+        final var expectedId = "123";
+        final var expectedMessage = "Read replicas serve a read-only catalog snapshot";
+
+        Mockito.doThrow(ReadOnlyException.with(expectedMessage)).when(deleteCategoryUseCase).execute(Mockito.any());
+
+        final var request = MockMvcRequestBuilders.delete("/categories/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isMethodNotAllowed())
+                .andExpect(MockMvcResultMatchers.header().string("Allow", "GET,HEAD"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenAReadOnlyNode_whenCallsListCategoryChanges_shouldReturnNotImplemented() throws Exception{
+        final var expectedMessage = "Read replicas do not keep a change feed";
+
+        Mockito.when(listCategoryChangesUseCase.execute(Mockito.any()))
+                .thenThrow(NotImplementedException.with(expectedMessage));
+
+        final var request = MockMvcRequestBuilders.get("/categories/changes")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isNotImplemented())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage)));
+    }
+
     @Test
     public void givenValidParams_whenCallsListCategories_shouldReturnCategoriesFiltered() throws Exception {
 
@@ -373,4 +529,29 @@ public class CategoryAPITest {
                 && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenAPrefixWithoutLimit_whenCallsAutocompleteCategories_shouldUseDefaultLimit() throws Exception {
+        final var aCategory = Category.newCategory("Séries", "Séries de TV", true);
+        final var expectedPrefix = "ser";
+        final var expectedLimit = 10;
+
+        Mockito.when(autocompleteCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(List.of(CategoryAutocompleteOutput.from(aCategory)));
+
+        final var request = MockMvcRequestBuilders.get("/categories/autocomplete")
+                .queryParam("prefix", expectedPrefix)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", Matchers.equalTo(aCategory.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name", Matchers.equalTo(aCategory.getName())));
+
+        Mockito.verify(autocompleteCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.eq(new AutocompleteQuery(expectedPrefix, expectedLimit)));
+    }
 }
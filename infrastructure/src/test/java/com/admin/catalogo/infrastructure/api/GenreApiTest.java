@@ -4,17 +4,28 @@ import com.admin.catalogo.ControllerTest;
 import com.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.autocomplete.AutocompleteGenresUseCase;
+import com.admin.catalogo.application.genre.retrieve.autocomplete.GenreAutocompleteOutput;
+import com.admin.catalogo.application.genre.retrieve.changes.ListGenreChangesUseCase;
 import com.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.StreamGenresCommand;
+import com.admin.catalogo.application.genre.retrieve.list.StreamGenresUseCase;
 import com.admin.catalogo.application.genre.update.UpdateGenreOutput;
 import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.admin.catalogo.domain.category.CategoryID;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.NotImplementedException;
 import com.admin.catalogo.domain.exceptions.NotificationException;
 import com.admin.catalogo.domain.genre.Genre;
 import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeFeed;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
 import com.admin.catalogo.domain.pagination.Pagination;
 import com.admin.catalogo.domain.validation.handler.Notification;
 import com.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
@@ -31,6 +42,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
@@ -58,6 +70,15 @@ public class GenreApiTest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private StreamGenresUseCase streamGenresUseCase;
+
+    @MockBean
+    private AutocompleteGenresUseCase autocompleteGenresUseCase;
+
+    @MockBean
+    private ListGenreChangesUseCase listGenreChangesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnedGereId() throws Exception {
         //given
@@ -170,6 +191,36 @@ public class GenreApiTest {
         Mockito.verify(getGenreByIdUseCase).execute(Mockito.eq(expectedId));
     }
 
+    @Test
+    public void givenAGenreAlreadyServed_whenCallsGetGenreByIdAgain_shouldServeCachedBytes() throws Exception {
+        //given
+        final var aGenre = Genre.newGenre("Drama", true);
+        final var expectedId = aGenre.getId().getValue();
+
+        Mockito.when(getGenreByIdUseCase.execute(Mockito.any()))
+                .thenReturn(GenreOutput.from(aGenre));
+
+        final var aRequest = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var expectedETag = this.mvc.perform(aRequest)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        //when
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", expectedETag))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name", Matchers.equalTo("Drama")));
+
+        Mockito.verify(getGenreByIdUseCase, Mockito.times(1)).execute(Mockito.eq(expectedId));
+    }
+
     @Test
     public void givenAValidId_whenCallsGetGenreById_shouldReturnNotFound() throws Exception {
         //given
@@ -341,4 +392,146 @@ public class GenreApiTest {
                 )
         );
     }
+
+    @Test
+    public void givenValidParams_whenCallsStreamGenres_shouldWriteGenresAsPage() throws Exception {
+        //given
+        final var genres = List.of(Genre.newGenre("Ação", false), Genre.newGenre("Aventura", true));
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 500;
+        final var expectedTerms = "a";
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+        final var expectedTotal = 2;
+
+        Mockito.doAnswer(invocation -> {
+            final StreamGenresCommand aCommand = invocation.getArgument(0);
+            final PageWriter<GenreListOutput> aWriter = aCommand.writer();
+            aWriter.begin(expectedPage, expectedPerPage, expectedTotal);
+            genres.stream().map(GenreListOutput::from).forEach(aWriter::write);
+            aWriter.end();
+            return null;
+        }).when(streamGenresUseCase).execute(Mockito.any());
+
+        //when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/stream")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var result = this.mvc.perform(aRequest);
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.current_page", Matchers.equalTo(expectedPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(expectedTotal)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo(genres.get(0).getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].is_active", Matchers.equalTo(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].name", Matchers.equalTo("Aventura")));
+
+        Mockito.verify(streamGenresUseCase).execute(Mockito.argThat(cmd ->
+                        Objects.equals(expectedPage, cmd.query().page())
+                                && Objects.equals(expectedPerPage, cmd.query().perPage())
+                                && Objects.equals(expectedDirection, cmd.query().direction())
+                                && Objects.equals(expectedSort, cmd.query().sort())
+                                && Objects.equals(expectedTerms, cmd.query().terms())
+                )
+        );
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsAutocompleteGenres_shouldReturnMatches() throws Exception {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedPrefix = "aç";
+        final var expectedLimit = 5;
+
+        Mockito.when(autocompleteGenresUseCase.execute(Mockito.any()))
+                .thenReturn(List.of(GenreAutocompleteOutput.from(aGenre)));
+
+        //when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/autocomplete")
+                .queryParam("prefix", expectedPrefix)
+                .queryParam("limit", String.valueOf(expectedLimit))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var result = this.mvc.perform(aRequest);
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", Matchers.equalTo(aGenre.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name", Matchers.equalTo(aGenre.getName())));
+
+        Mockito.verify(autocompleteGenresUseCase).execute(Mockito.eq(new AutocompleteQuery(expectedPrefix, expectedLimit)));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListGenreChanges_shouldReturnChangesAndNextCursor() throws Exception {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var removedId = "123";
+        final var removedAt = Instant.now();
+        final var expectedSince = "c2luY2U";
+        final var expectedNextCursor = "bmV4dA";
+        final var expectedLimit = 50;
+
+        Mockito.when(listGenreChangesUseCase.execute(Mockito.any()))
+                .thenReturn(new ChangeFeed<>(
+                        List.of(
+                                Change.upsert(aGenre.getId().getValue(), aGenre.getUpdatedAt(), GenreListOutput.from(aGenre)),
+                                Change.delete(removedId, removedAt)
+                        ),
+                        expectedNextCursor,
+                        true
+                ));
+
+        //when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/changes")
+                .queryParam("since", expectedSince)
+                .queryParam("limit", String.valueOf(expectedLimit))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var result = this.mvc.perform(aRequest);
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].type", Matchers.equalTo("UPSERT")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].id", Matchers.equalTo(aGenre.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].item.name", Matchers.equalTo(aGenre.getName())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[1].type", Matchers.equalTo("DELETE")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[1].id", Matchers.equalTo(removedId)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[1].changed_at", Matchers.equalTo(removedAt.toString())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.has_more", Matchers.equalTo(true)));
+
+        Mockito.verify(listGenreChangesUseCase).execute(Mockito.eq(new ChangeQuery(expectedSince, expectedLimit)));
+    }
+
+    @Test
+    public void givenAReadOnlyNode_whenCallsListGenreChanges_shouldReturnNotImplemented() throws Exception {
+        //given
+        final var expectedMessage = "Read replicas do not keep a change feed";
+
+        Mockito.when(listGenreChangesUseCase.execute(Mockito.any()))
+                .thenThrow(NotImplementedException.with(expectedMessage));
+
+        //when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/changes")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var result = this.mvc.perform(aRequest);
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isNotImplemented())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage)));
+    }
 }
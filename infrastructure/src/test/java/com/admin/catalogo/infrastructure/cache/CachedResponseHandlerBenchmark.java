@@ -0,0 +1,103 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.MySQLCleanUpExtension;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+@Tag("benchmark")
+@ActiveProfiles("test-integration")
+@SpringBootTest(classes = WebServerConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ExtendWith(MySQLCleanUpExtension.class)
+public class CachedResponseHandlerBenchmark {
+
+    private static final int CLIENTS = 16;
+    private static final int WARM_UP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Test
+    public void compareIoThreadHitsWithServletDispatch() throws Exception {
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true));
+        final var anUri = URI.create("http://localhost:%d/api/genres/%s".formatted(port, aGenre.getId().getValue()));
+
+        final var ioThread = HttpRequest.newBuilder(anUri).header("Accept", "application/json").GET().build();
+        final var servlet = HttpRequest.newBuilder(anUri).header("Accept", "application/json").header("Cache-Control", "no-cache").GET().build();
+
+        measure(servlet, WARM_UP_REQUESTS);
+        measure(ioThread, WARM_UP_REQUESTS);
+
+        final var servletLatencies = measure(servlet, MEASURED_REQUESTS);
+        final var ioThreadLatencies = measure(ioThread, MEASURED_REQUESTS);
+
+        System.out.printf(
+                "Cached GET /genres/{id} with %d clients: servlet p50=%.0f us p99=%.0f us, io-thread p50=%.0f us p99=%.0f us%n",
+                CLIENTS,
+                percentile(servletLatencies, 0.50),
+                percentile(servletLatencies, 0.99),
+                percentile(ioThreadLatencies, 0.50),
+                percentile(ioThreadLatencies, 0.99)
+        );
+
+        Assertions.assertTrue(percentile(ioThreadLatencies, 0.99) > 0);
+    }
+
+    private static long[] measure(final HttpRequest aRequest, final int requests) throws Exception {
+        final var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        final var perClient = requests / CLIENTS;
+        final var latencies = new long[perClient * CLIENTS];
+        final var executor = Executors.newFixedThreadPool(CLIENTS);
+
+        try {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int c = 0; c < CLIENTS; c++) {
+                final var offset = c * perClient;
+                tasks.add(() -> {
+                    for (int i = 0; i < perClient; i++) {
+                        final var start = System.nanoTime();
+                        final var response = client.send(aRequest, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[offset + i] = System.nanoTime() - start;
+                        Assertions.assertEquals(200, response.statusCode());
+                    }
+                    return null;
+                });
+            }
+            for (final var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return latencies;
+    }
+
+    private static double percentile(final long[] latencies, final double percentile) {
+        final var sorted = latencies.clone();
+        Arrays.sort(sorted);
+        final var index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.MySQLCleanUpExtension;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+@ActiveProfiles("test-integration")
+@SpringBootTest(classes = WebServerConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ExtendWith(MySQLCleanUpExtension.class)
+public class CachedResponseHandlerTest {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Test
+    public void givenACachedGenre_whenCallsGetById_shouldServeTheSameBytesAndETag() throws Exception {
+        //given
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true));
+        final var aFirstResponse = get(aGenre.getId().getValue(), null);
+
+        //when
+        final var actualResponse = get(aGenre.getId().getValue(), null);
+
+        //then
+        Assertions.assertEquals(200, aFirstResponse.statusCode());
+        Assertions.assertEquals(200, actualResponse.statusCode());
+        Assertions.assertEquals(aFirstResponse.body(), actualResponse.body());
+        Assertions.assertEquals(
+                aFirstResponse.headers().firstValue("ETag"),
+                actualResponse.headers().firstValue("ETag")
+        );
+        Assertions.assertEquals("application/json", actualResponse.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        //given
+        final var aGenre = genreGateway.create(Genre.newGenre("Drama", true));
+        final var anETag = get(aGenre.getId().getValue(), null).headers().firstValue("ETag").orElseThrow();
+
+        //when
+        final var actualResponse = get(aGenre.getId().getValue(), anETag);
+
+        //then
+        Assertions.assertEquals(304, actualResponse.statusCode());
+        Assertions.assertEquals(anETag, actualResponse.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    public void givenAnUpdatedGenre_whenCallsGetById_shouldServeTheNewState() throws Exception {
+        //given
+        final var aGenre = genreGateway.create(Genre.newGenre("Terror", true));
+        get(aGenre.getId().getValue(), null);
+
+        //when
+        genreGateway.update(Genre.with(aGenre).update("Suspense", true, aGenre.getCategories()));
+        final var actualResponse = get(aGenre.getId().getValue(), null);
+
+        //then
+        Assertions.assertEquals(200, actualResponse.statusCode());
+        Assertions.assertTrue(actualResponse.body().contains("Suspense"));
+    }
+
+    private HttpResponse<String> get(final String anId, final String ifNoneMatch) throws Exception {
+        final var aRequest = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/genres/%s".formatted(port, anId)))
+                .header("Accept", "application/json")
+                .GET();
+
+        if (ifNoneMatch != null) {
+            aRequest.header("If-None-Match", ifNoneMatch);
+        }
+
+        return client.send(aRequest.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
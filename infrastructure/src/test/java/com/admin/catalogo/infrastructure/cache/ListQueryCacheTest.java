@@ -0,0 +1,96 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.transaction.PassThroughUnitOfWork;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ListQueryCacheTest {
+
+    private static final SearchQuery DEFAULT_QUERY = new SearchQuery(0, 10, "", "name", "asc");
+
+    @Test
+    public void givenEquivalentQueries_whenCallsGetOrLoad_shouldLoadTheNormalizedQueryOnce() {
+        //given
+        final var aCache = newCache(60_000, 60_000);
+        final var loads = new AtomicInteger();
+
+        //when
+        aCache.getOrLoad(ResponseBytesCache.GENRE, new SearchQuery(0, 10, " Ação ", "name", "ASC"), () -> page(loads));
+        final var actualPage = aCache.getOrLoad(ResponseBytesCache.GENRE, new SearchQuery(0, 10, "AÇÃO", "name", "asc"), () -> page(loads));
+        aCache.getOrLoad(ResponseBytesCache.CATEGORY, new SearchQuery(0, 10, "AÇÃO", "name", "asc"), () -> page(loads));
+
+        //then
+        Assertions.assertEquals(List.of("1"), actualPage.items());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenACachedPage_whenTheAggregateIsInvalidated_shouldReloadOnTheNextRead() {
+        //given
+        final var aCache = newCache(60_000, 60_000);
+        final var loads = new AtomicInteger();
+        aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> page(loads));
+        aCache.getOrLoad(ResponseBytesCache.CATEGORY, DEFAULT_QUERY, () -> page(loads));
+
+        //when
+        aCache.invalidate(ResponseBytesCache.GENRE);
+        final var actualGenres = aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> page(loads));
+        final var actualCategories = aCache.getOrLoad(ResponseBytesCache.CATEGORY, DEFAULT_QUERY, () -> page(loads));
+
+        //then
+        Assertions.assertEquals(List.of("3"), actualGenres.items());
+        Assertions.assertEquals(List.of("2"), actualCategories.items());
+    }
+
+    @Test
+    public void givenAnExpiredPage_whenCallsGetOrLoad_shouldServeItStaleAndRefreshInTheBackground() throws Exception {
+        //given
+        final var aCache = newCache(0, 60_000);
+        final var loads = new AtomicInteger();
+        aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> page(loads));
+
+        //when
+        final var actualStale = aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> page(loads));
+        var actualRefreshed = actualStale;
+        for (int i = 0; i < 500 && actualRefreshed.items().equals(List.of("1")); i++) {
+            Thread.sleep(10);
+            actualRefreshed = aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> page(loads));
+        }
+
+        //then
+        Assertions.assertEquals(List.of("1"), actualStale.items());
+        Assertions.assertNotEquals(List.of("1"), actualRefreshed.items());
+    }
+
+    @Test
+    public void givenAWriteDuringTheLoad_whenCallsGetOrLoad_shouldNotCacheThePage() {
+        //given
+        final var aCache = newCache(60_000, 60_000);
+        final var loads = new AtomicInteger();
+
+        //when
+        aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> {
+            final var aPage = page(loads);
+            aCache.invalidate(ResponseBytesCache.GENRE);
+            return aPage;
+        });
+        final var actualPage = aCache.getOrLoad(ResponseBytesCache.GENRE, DEFAULT_QUERY, () -> page(loads));
+
+        //then
+        Assertions.assertEquals(List.of("2"), actualPage.items());
+        Assertions.assertEquals(1, aCache.size());
+    }
+
+    private static Pagination<String> page(final AtomicInteger loads) {
+        return new Pagination<>(0, 10, 1, List.of(String.valueOf(loads.incrementAndGet())));
+    }
+
+    private static ListQueryCache newCache(final long ttl, final long maxStale) {
+        return new ListQueryCache(new PassThroughUnitOfWork(), true, ttl, maxStale, 16, 1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+public class ResponseBytesCacheTest {
+
+    @Test
+    public void givenACachedResponse_whenCallsGetOrLoadAgain_shouldServeTheStoredBytes() {
+        //given
+        final var aCache = newCache(1024 * 1024);
+        final var loads = new AtomicInteger();
+
+        //when
+        final var aFirstResponse = aCache.getOrLoad(ResponseBytesCache.GENRE, "123", null, () -> body(loads, "Ação"));
+        final var aSecondResponse = aCache.getOrLoad(ResponseBytesCache.GENRE, "123", null, () -> body(loads, "Ação"));
+
+        //then
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertArrayEquals(aFirstResponse.getBody(), aSecondResponse.getBody());
+        Assertions.assertEquals(aFirstResponse.getHeaders().getETag(), aSecondResponse.getHeaders().getETag());
+        Assertions.assertEquals("{\"id\":\"123\",\"name\":\"Ação\"}", new String(aSecondResponse.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenALargeResponse_whenClientAcceptsGzip_shouldServeThePreCompressedBytes() throws Exception {
+        //given
+        final var aCache = newCache(1024 * 1024);
+        final var aName = "Ação ".repeat(500);
+        final var plain = aCache.getOrLoad(ResponseBytesCache.GENRE, "123", null, () -> Map.of("name", aName));
+
+        //when
+        final var actualResponse = aCache.getOrLoad(ResponseBytesCache.GENRE, "123", "gzip, deflate", () -> Map.of("name", "other"));
+
+        //then
+        Assertions.assertEquals("gzip", actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertTrue(actualResponse.getBody().length < plain.getBody().length);
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(actualResponse.getBody()))) {
+            Assertions.assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenAnEvictedEntry_whenCallsGetOrLoad_shouldLoadAgain() {
+        //given
+        final var aCache = newCache(1024 * 1024);
+        final var loads = new AtomicInteger();
+        aCache.getOrLoad(ResponseBytesCache.CATEGORY, "123", null, () -> body(loads, "Filmes"));
+
+        //when
+        aCache.evict(ResponseBytesCache.CATEGORY, "123");
+        final var actualResponse = aCache.getOrLoad(ResponseBytesCache.CATEGORY, "123", null, () -> body(loads, "Séries"));
+
+        //then
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertTrue(new String(actualResponse.getBody(), StandardCharsets.UTF_8).contains("Séries"));
+    }
+
+    @Test
+    public void givenAWriteDuringTheLoad_whenCallsGetOrLoad_shouldNotStoreTheStaleBytes() {
+        //given
+        final var aCache = newCache(1024 * 1024);
+        final var loads = new AtomicInteger();
+
+        //when
+        aCache.getOrLoad(ResponseBytesCache.GENRE, "123", null, () -> {
+            aCache.evict(ResponseBytesCache.GENRE, "123");
+            return body(loads, "Ação");
+        });
+
+        //then
+        Assertions.assertTrue(aCache.find(ResponseBytesCache.GENRE, "123", false).isEmpty());
+        Assertions.assertEquals(0, aCache.size());
+    }
+
+    @Test
+    public void givenAFullCache_whenCallsGetOrLoad_shouldEvictTheLeastRecentlyUsedEntries() {
+        //given
+        final var aCache = newCache(4096);
+        final var loads = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 64; i++) {
+            final var anId = String.valueOf(i);
+            aCache.getOrLoad(ResponseBytesCache.GENRE, anId, null, () -> body(loads, "x".repeat(200)));
+        }
+
+        //then
+        Assertions.assertEquals(64, loads.get());
+        Assertions.assertTrue(aCache.size() > 0 && aCache.size() < 64);
+        Assertions.assertTrue(aCache.find(ResponseBytesCache.GENRE, "63", false).isPresent());
+        Assertions.assertTrue(aCache.find(ResponseBytesCache.GENRE, "0", false).isEmpty());
+    }
+
+    private static ResponseBytesCache newCache(final long capacity) {
+        return new ResponseBytesCache(Json.mapper(), true, capacity, 1024, 256, 1, 1024);
+    }
+
+    private static Map<String, String> body(final AtomicInteger loads, final String aName) {
+        loads.incrementAndGet();
+        final var body = new LinkedHashMap<String, String>();
+        body.put("id", "123");
+        body.put("name", aName);
+        return body;
+    }
+}
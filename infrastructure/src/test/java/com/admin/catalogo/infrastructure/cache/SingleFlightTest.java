@@ -0,0 +1,154 @@
+package com.admin.catalogo.infrastructure.cache;
+
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS + 1);
+
+    @AfterEach
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCallsForTheSameKey_whenCallsExecute_shouldRunOneLoadAndShareItsResult() throws Exception {
+        //given
+        final var registry = new SimpleMeterRegistry();
+        final var aFlight = new SingleFlight<String, String>("genre.get", true, Duration.ofSeconds(5), registry);
+        final var loads = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+
+        //when
+        final var leader = CompletableFuture.supplyAsync(() -> aFlight.execute("123", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "Ação";
+        }), executor);
+        while (aFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        final var followers = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < CALLERS; i++) {
+            followers.add(CompletableFuture.supplyAsync(() -> aFlight.execute("123", () -> {
+                loads.incrementAndGet();
+                return "other";
+            }), executor));
+        }
+        while (count(registry, "coalesced") < CALLERS) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        //then
+        Assertions.assertEquals("Ação", leader.get(5, TimeUnit.SECONDS));
+        for (final var aFollower : followers) {
+            Assertions.assertEquals("Ação", aFollower.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, count(registry, "leader"));
+        Assertions.assertEquals(0, aFlight.inFlight());
+    }
+
+    @Test
+    public void givenAFailingLoad_whenCallsExecuteConcurrently_shouldRethrowTheSameExceptionToEveryCaller() throws Exception {
+        //given
+        final var registry = new SimpleMeterRegistry();
+        final var aFlight = new SingleFlight<String, Genre>("genre.get", true, Duration.ofSeconds(5), registry);
+        final var release = new CountDownLatch(1);
+        final var expectedError = NotFoundException.with(Genre.class, GenreID.from("123"));
+
+        //when
+        final var leader = CompletableFuture.supplyAsync(() -> aFlight.execute("123", () -> {
+            await(release);
+            throw expectedError;
+        }), executor);
+        while (aFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        final var aFollower = CompletableFuture.supplyAsync(() -> aFlight.execute("123", () -> {
+            throw new AssertionError("followers must not load");
+        }), executor);
+        while (count(registry, "coalesced") < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        //then
+        final var actualLeaderError = Assertions.assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        final var actualFollowerError = Assertions.assertThrows(Exception.class, () -> aFollower.get(5, TimeUnit.SECONDS));
+        Assertions.assertSame(expectedError, actualLeaderError.getCause());
+        Assertions.assertSame(expectedError, actualFollowerError.getCause());
+    }
+
+    @Test
+    public void givenAStuckLoad_whenWaitingLongerThanMaxWait_shouldLoadOnItsOwn() throws Exception {
+        //given
+        final var registry = new SimpleMeterRegistry();
+        final var aFlight = new SingleFlight<String, String>("genre.get", true, Duration.ofMillis(50), registry);
+        final var release = new CountDownLatch(1);
+        final var leader = CompletableFuture.supplyAsync(() -> aFlight.execute("123", () -> {
+            await(release);
+            return "stale";
+        }), executor);
+        while (aFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        //when
+        final var actualResult = aFlight.execute("123", () -> "fresh");
+        release.countDown();
+
+        //then
+        Assertions.assertEquals("fresh", actualResult);
+        Assertions.assertEquals(1, count(registry, "timeout"));
+        Assertions.assertEquals("stale", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenEquivalentSearchQueries_whenCallsKeyOf_shouldFoldCaseAndBlankTerms() {
+        //given
+        final var aQuery = new SearchQuery(0, 10, "Ação", "name", "ASC");
+        final var anEquivalentQuery = new SearchQuery(0, 10, "AÇÃO", "name", "asc");
+        final var aBlankQuery = new SearchQuery(0, 10, " ", "name", "asc");
+        final var aNullQuery = new SearchQuery(0, 10, null, "name", "asc");
+
+        //when
+        final var actualKey = SingleFlights.keyOf(aQuery);
+
+        //then
+        Assertions.assertEquals(actualKey, SingleFlights.keyOf(anEquivalentQuery));
+        Assertions.assertEquals(SingleFlights.keyOf(aBlankQuery), SingleFlights.keyOf(aNullQuery));
+        Assertions.assertNotEquals(actualKey, SingleFlights.keyOf(new SearchQuery(1, 10, "Ação", "name", "asc")));
+    }
+
+    private static double count(final SimpleMeterRegistry registry, final String anOutcome) {
+        return registry.get("catalog.single-flight.calls").tag("outcome", anOutcome).counter().count();
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
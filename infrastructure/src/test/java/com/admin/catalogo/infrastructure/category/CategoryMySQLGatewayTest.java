@@ -2,7 +2,12 @@ package com.admin.catalogo.infrastructure.category;
 
 import com.admin.catalogo.domain.category.Category;
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
 import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
 import com.admin.catalogo.MySQLGatewayTest;
 import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
@@ -10,7 +15,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
 public class CategoryMySQLGatewayTest {
@@ -318,7 +326,7 @@ public class CategoryMySQLGatewayTest {
 
         Assertions.assertEquals(3, categoryRepository.count());
 
-        final var query = new SearchQuery(0, 1, "MAIS ASSISTIDA", "description", "asc");
+        final var query = new SearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc");
         final var actualResult = categoryGateway.findAll(query);
 
         Assertions.assertEquals(expectedPage, actualResult.currentPage());
@@ -328,6 +336,53 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAll_shouldThrowDomainException(){
+        final var expectedErrorMessage = "'sort' must be one of [createdAt, name]";
+
+        final var query = new SearchQuery(0, 1, "", "description", "asc");
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsFindAll_shouldThrowDomainException(){
+        final var expectedErrorMessage = "'dir' must be 'asc' or 'desc'";
+
+        final var query = new SearchQuery(0, 1, "", "name", "sideways");
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenCategoriesWithSameName_whenCallsFindAll_shouldBreakTiesById(){
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(first),
+                CategoryJpaEntity.from(second)
+        ));
+
+        final var expectedOrder = Stream.of(first.getId(), second.getId())
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList();
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+
+        Assertions.assertEquals(expectedOrder, actualResult.items().stream().map(Category::getId).toList());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds(){
         //given
@@ -353,4 +408,109 @@ public class CategoryMySQLGatewayTest {
 
         Assertions.assertEquals(actualResult, expectedIds);
     }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnFoundInRequestOrder(){
+        //given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        //when
+        final var actualResult = categoryGateway.findAllByIds(List.of(series.getId(), CategoryID.from("123"), filmes.getId()));
+
+        //then
+        Assertions.assertEquals(List.of(series.getId(), filmes.getId()), actualResult.stream().map(Category::getId).toList());
+    }
+
+    @Test
+    public void givenMixedCaseAndAccentedNames_whenCallsSeekPageAfterPage_shouldWalkTheSearchKeyOrder(){
+        //given
+        final var series = Category.newCategory("Séries", null, true);
+        final var filmes = Category.newCategory("filmes", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var animes = Category.newCategory("ANIMES", null, true);
+        final var esportes = Category.newCategory("Esportes", null, true);
+
+        categoryRepository.saveAllAndFlush(Stream.of(series, filmes, documentarios, animes, esportes)
+                .map(CategoryJpaEntity::from)
+                .toList());
+
+        final var expectedIds = List.of(animes.getId(), documentarios.getId(), esportes.getId(), filmes.getId(), series.getId());
+
+        //when
+        final var firstQuery = SeekQuery.first(2, "", "name", "asc");
+        final var actualIds = new ArrayList<CategoryID>();
+        var aQuery = firstQuery;
+        List<Category> aBatch;
+        do {
+            aBatch = categoryGateway.seek(aQuery);
+            aBatch.forEach(it -> actualIds.add(it.getId()));
+            if (!aBatch.isEmpty()) {
+                final var last = aBatch.get(aBatch.size() - 1);
+                aQuery = firstQuery.after(last.getName(), last.getCreatedAt(), last.getId().getValue());
+            }
+        } while (aBatch.size() == firstQuery.limit());
+
+        //then
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsAutocomplete_shouldMatchAccentFoldedPrefix(){
+        //given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var seriados = Category.newCategory("SERIADOS", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(seriados)
+        ));
+
+        //when
+        final var actualResult = categoryGateway.autocomplete(new AutocompleteQuery("seri", 10));
+
+        //then
+        Assertions.assertEquals(List.of(seriados.getId(), series.getId()), actualResult.stream().map(Category::getId).toList());
+        Assertions.assertEquals("series", categoryRepository.findById(series.getId().getValue()).get().getSearchKey());
+    }
+
+    @Test
+    public void givenUpdatedAndDeletedCategories_whenCallsChanges_shouldFollowCursorThroughUpsertsAndTombstones(){
+        //given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        categoryGateway.deleteById(series.getId());
+
+        //when
+        final var firstPage = categoryGateway.changes(new ChangeQuery("", 1));
+        final var secondPage = categoryGateway.changes(new ChangeQuery(firstPage.nextCursor(), 1));
+        final var lastPage = categoryGateway.changes(new ChangeQuery(secondPage.nextCursor(), 1));
+
+        //then
+        Assertions.assertEquals(1, firstPage.changes().size());
+        Assertions.assertEquals(Change.Type.UPSERT, firstPage.changes().get(0).type());
+        Assertions.assertEquals(filmes.getId(), firstPage.changes().get(0).item().getId());
+        Assertions.assertTrue(firstPage.hasMore());
+
+        Assertions.assertEquals(1, secondPage.changes().size());
+        Assertions.assertEquals(Change.Type.DELETE, secondPage.changes().get(0).type());
+        Assertions.assertEquals(series.getId().getValue(), secondPage.changes().get(0).id());
+        Assertions.assertFalse(secondPage.hasMore());
+
+        Assertions.assertTrue(lastPage.changes().isEmpty());
+        Assertions.assertEquals(secondPage.nextCursor(), lastPage.nextCursor());
+    }
 }
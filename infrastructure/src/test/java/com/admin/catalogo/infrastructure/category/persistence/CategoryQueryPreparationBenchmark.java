@@ -0,0 +1,80 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import com.admin.catalogo.MySQLGatewayTest;
+import com.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.function.Supplier;
+
+@Tag("benchmark")
+@MySQLGatewayTest
+public class CategoryQueryPreparationBenchmark {
+
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private static final String SEARCH_QUERY =
+            "select c from Category c where upper(c.name) like :terms or upper(c.description) like :terms order by c.name asc";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void compareCriteriaAndPrecompiledQueryPreparation() {
+        final var terms = SqlUtils.like("filmes");
+
+        final var criteriaNanos = measure(() -> criteriaQuery(terms));
+        final var precompiledNanos = measure(() -> precompiledQuery(terms));
+
+        System.out.printf(
+                "Category search query preparation: criteria=%.1f ns/op, precompiled=%.1f ns/op, speedup=%.2fx%n",
+                criteriaNanos,
+                precompiledNanos,
+                criteriaNanos / precompiledNanos
+        );
+
+        Assertions.assertTrue(criteriaNanos > 0);
+        Assertions.assertTrue(precompiledNanos > 0);
+    }
+
+    private TypedQuery<CategoryJpaEntity> criteriaQuery(final String terms) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(root)
+                .where(cb.or(
+                        cb.like(cb.upper(root.get("name")), terms),
+                        cb.like(cb.upper(root.get("description")), terms)
+                ))
+                .orderBy(cb.asc(root.get("name")));
+
+        return entityManager.createQuery(query);
+    }
+
+    private TypedQuery<CategoryJpaEntity> precompiledQuery(final String terms) {
+        return entityManager.createQuery(SEARCH_QUERY, CategoryJpaEntity.class)
+                .setParameter("terms", terms);
+    }
+
+    private static double measure(final Supplier<TypedQuery<CategoryJpaEntity>> preparation) {
+        var sink = 0;
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            sink += preparation.get().hashCode();
+        }
+
+        final var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += preparation.get().hashCode();
+        }
+        final var elapsed = System.nanoTime() - start;
+
+        Assertions.assertNotEquals(Integer.MIN_VALUE, sink);
+        return (double) elapsed / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,50 @@
+package com.admin.catalogo.infrastructure.changes;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+public class ChangeHorizonTest {
+
+    @Test
+    public void givenASettleWindow_whenCallsNow_shouldTrailTheClockByTheWindow() {
+        // given
+        final var aHorizon = new ChangeHorizon(10000, 5);
+
+        // when
+        final var before = Instant.now();
+        final var actualHorizon = aHorizon.now();
+        final var after = Instant.now();
+
+        // then
+        Assertions.assertFalse(actualHorizon.isBefore(before.minusMillis(10000)));
+        Assertions.assertFalse(actualHorizon.isAfter(after.minusMillis(10000)));
+    }
+
+    @Test
+    public void givenASettleWindowNotLongerThanTheWriteTimeout_whenCreatingAHorizon_shouldThrowAnError() {
+        // given
+        final var expectedErrorMessage = "'settle-window' must be longer than 'write-timeout'";
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ChangeHorizon(5000, 5));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAZeroSettleWindow_whenCallsNow_shouldNotHoldAnythingBack() {
+        // given
+        final var aHorizon = new ChangeHorizon(0, 5);
+        final var before = Instant.now();
+
+        // when
+        final var actualHorizon = aHorizon.now();
+
+        // then
+        Assertions.assertFalse(actualHorizon.isBefore(before));
+    }
+}
@@ -0,0 +1,128 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.Main;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application running in a separate process, either on a JVM or as a native binary,
+ * listening on a free port picked before launch.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private final Process process;
+    private final long startedAt;
+    private final int port;
+
+    private ApplicationProcess(final List<String> command, final int port) throws IOException {
+        this.port = port;
+        this.startedAt = System.nanoTime();
+        this.process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+    }
+
+    static ApplicationProcess jvm(
+            final String classpath,
+            final List<String> jvmArgs,
+            final String profiles,
+            final String... args
+    ) throws IOException {
+        final var command = new ArrayList<String>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", classpath, Main.class.getName()));
+        return launch(command, profiles, args);
+    }
+
+    static ApplicationProcess nativeBinary(
+            final Path binary,
+            final String profiles,
+            final String... args
+    ) throws IOException {
+        return launch(new ArrayList<>(List.of(binary.toString())), profiles, args);
+    }
+
+    private static ApplicationProcess launch(
+            final List<String> command,
+            final String profiles,
+            final String... args
+    ) throws IOException {
+        final var port = freePort();
+        command.add("--spring.profiles.active=" + profiles);
+        command.add("--server.port=" + port);
+        command.addAll(List.of(args));
+        return new ApplicationProcess(command, port);
+    }
+
+    /**
+     * Polls {@code GET /api/categories} until it answers 200 and returns the milliseconds
+     * elapsed since the process was launched.
+     */
+    long awaitFirstRequest(final Duration timeout) throws Exception {
+        final var aRequest = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/categories".formatted(port)))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        final var deadline = startedAt + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Assertions.assertTrue(process.isAlive(), "application exited before serving a request");
+            try {
+                if (CLIENT.send(aRequest, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - startedAt) / 1_000_000;
+                }
+            } catch (final ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        return Assertions.fail("application did not answer within " + timeout);
+    }
+
+    /**
+     * Resident set size in kilobytes, as reported by {@code /proc/<pid>/status} on Linux.
+     */
+    long residentSetKb() throws IOException {
+        final var status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    int waitFor() throws InterruptedException {
+        return process.waitFor();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    private static int freePort() throws IOException {
+        try (final var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
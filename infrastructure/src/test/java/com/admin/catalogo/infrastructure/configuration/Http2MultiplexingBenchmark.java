@@ -0,0 +1,137 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.MySQLCleanUpExtension;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+@Tag("benchmark")
+@ActiveProfiles("test-integration")
+@SpringBootTest(classes = WebServerConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(Http2MultiplexingBenchmark.ConnectionCounter.class)
+@ExtendWith(MySQLCleanUpExtension.class)
+public class Http2MultiplexingBenchmark {
+
+    private static final int IN_FLIGHT = 128;
+    private static final int WARM_UP_REQUESTS = 5_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+
+    private static final Set<Integer> CLIENT_PORTS = ConcurrentHashMap.newKeySet();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Test
+    public void compareHttp11AndHttp2UnderManyConcurrentSmallRequests() throws Exception {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aRequest = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/categories/%s".formatted(port, aCategory.getId().getValue())))
+                .header("Accept", "application/json")
+                .header("Cache-Control", "no-cache")
+                .GET()
+                .build();
+
+        final var http11 = run(HttpClient.Version.HTTP_1_1, aRequest);
+        final var http2 = run(HttpClient.Version.HTTP_2, aRequest);
+
+        System.out.printf(
+                "GET /categories/{id} with %d requests in flight:%n"
+                        + "  http/1.1: connections=%d p50=%.0f us p99=%.0f us throughput=%.0f req/s%n"
+                        + "  h2c:      connections=%d p50=%.0f us p99=%.0f us throughput=%.0f req/s%n",
+                IN_FLIGHT,
+                http11.connections(), http11.p50(), http11.p99(), http11.throughput(),
+                http2.connections(), http2.p50(), http2.p99(), http2.throughput()
+        );
+
+        Assertions.assertTrue(http2.connections() < http11.connections());
+    }
+
+    private static Result run(final HttpClient.Version aVersion, final HttpRequest aRequest) throws Exception {
+        final var client = HttpClient.newBuilder().version(aVersion).build();
+
+        // a first sequential call lets the client upgrade once instead of racing many upgrades
+        client.send(aRequest, HttpResponse.BodyHandlers.discarding());
+        load(client, aRequest, WARM_UP_REQUESTS);
+
+        CLIENT_PORTS.clear();
+        final var start = System.nanoTime();
+        final var latencies = load(client, aRequest, MEASURED_REQUESTS);
+        final var elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(
+                CLIENT_PORTS.size(),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                MEASURED_REQUESTS / (elapsed / 1_000_000_000.0)
+        );
+    }
+
+    private static long[] load(final HttpClient client, final HttpRequest aRequest, final int requests) throws Exception {
+        final var latencies = new long[requests];
+        final var permits = new Semaphore(IN_FLIGHT);
+        final var pending = new CompletableFuture<?>[requests];
+
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            final var index = i;
+            final var start = System.nanoTime();
+            pending[i] = client.sendAsync(aRequest, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - start;
+                        permits.release();
+                        Assertions.assertNull(error);
+                        Assertions.assertEquals(200, response.statusCode());
+                    });
+        }
+        CompletableFuture.allOf(pending).join();
+        return latencies;
+    }
+
+    private static double percentile(final long[] sorted, final double percentile) {
+        final var index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+
+    private record Result(int connections, double p50, double p99, double throughput) {
+    }
+
+    @TestConfiguration
+    static class ConnectionCounter {
+
+        @Bean
+        WebServerFactoryCustomizer<UndertowServletWebServerFactory> connectionCounterCustomizer() {
+            // a TCP connection is identified by its client port, HTTP/2 streams share it
+            return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo ->
+                    deploymentInfo.addOuterHandlerChainWrapper(next -> exchange -> {
+                        CLIENT_PORTS.add(exchange.getSourceAddress().getPort());
+                        next.handleRequest(exchange);
+                    })
+            );
+        }
+    }
+}
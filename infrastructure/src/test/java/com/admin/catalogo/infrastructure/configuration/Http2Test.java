@@ -0,0 +1,76 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.MySQLCleanUpExtension;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+@ActiveProfiles("test-integration")
+@SpringBootTest(classes = WebServerConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ExtendWith(MySQLCleanUpExtension.class)
+public class Http2Test {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Test
+    public void givenAnHttp2Client_whenCallsGetCategoryOverCleartext_shouldUpgradeToH2c() throws Exception {
+        //given
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        //when
+        final var actualResponse = client.send(request(aCategory.getId().getValue()), HttpResponse.BodyHandlers.ofString());
+
+        //then
+        Assertions.assertEquals(200, actualResponse.statusCode());
+        Assertions.assertEquals(HttpClient.Version.HTTP_2, actualResponse.version());
+        Assertions.assertTrue(actualResponse.body().contains(aCategory.getId().getValue()));
+    }
+
+    @Test
+    public void givenAnUpgradedConnection_whenCallsManyConcurrentRequests_shouldMultiplexThemOverHttp2() throws Exception {
+        //given
+        final var aCategory = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var aRequest = request(aCategory.getId().getValue());
+        client.send(aRequest, HttpResponse.BodyHandlers.discarding());
+
+        //when
+        final var actualResponses = IntStream.range(0, 64)
+                .mapToObj(i -> client.sendAsync(aRequest, HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        CompletableFuture.allOf(actualResponses.toArray(CompletableFuture[]::new)).join();
+
+        //then
+        for (final var actualResponse : actualResponses) {
+            Assertions.assertEquals(200, actualResponse.join().statusCode());
+            Assertions.assertEquals(HttpClient.Version.HTTP_2, actualResponse.join().version());
+        }
+    }
+
+    private HttpRequest request(final String anId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:%d/api/categories/%s".formatted(port, anId)))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+}
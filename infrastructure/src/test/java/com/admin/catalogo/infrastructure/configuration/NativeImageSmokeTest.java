@@ -0,0 +1,57 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Boots the native binary built by {@code ./gradlew nativeSmokeTest -Pnative=smoke} on the
+ * test-integration profile and compares it with the same application on the JVM.
+ */
+@Tag("native")
+public class NativeImageSmokeTest {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(90);
+
+    @Test
+    public void givenNativeBinary_whenStartsAgainstH2_shouldServeRequestsFasterAndSmallerThanTheJvm() throws Exception {
+        // given
+        final var binary = System.getProperty("native.binary");
+        final var classpath = System.getProperty("native.jvm.classpath");
+        Assumptions.assumeTrue(binary != null && classpath != null, "run through the gradle nativeSmokeTest task");
+        Assertions.assertTrue(Files.isExecutable(Paths.get(binary)));
+
+        // when
+        final long nativeStart;
+        final long nativeRss;
+        try (final var application = ApplicationProcess.nativeBinary(Paths.get(binary), "test-integration")) {
+            nativeStart = application.awaitFirstRequest(START_TIMEOUT);
+            nativeRss = application.residentSetKb();
+        }
+
+        final long jvmStart;
+        final long jvmRss;
+        try (final var application = ApplicationProcess.jvm(classpath, List.of(), "test-integration")) {
+            jvmStart = application.awaitFirstRequest(START_TIMEOUT);
+            jvmRss = application.residentSetKb();
+        }
+
+        // then
+        System.out.printf(
+                "time to first GET /api/categories and resident memory after it:%n"
+                        + "  native: %d ms rss=%d MB%n"
+                        + "  jvm:    %d ms rss=%d MB%n",
+                nativeStart, nativeRss / 1024,
+                jvmStart, jvmRss / 1024
+        );
+
+        Assertions.assertTrue(nativeStart < jvmStart);
+        Assertions.assertTrue(nativeRss < jvmRss);
+    }
+}
@@ -0,0 +1,82 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Starts the application in a fresh JVM per run and measures the time from process launch
+ * until {@code GET /api/categories} answers 200. Needs the jar-only classpath the Gradle
+ * {@code benchmark} task passes in, since AppCDS cannot archive classes from directories.
+ */
+@Tag("benchmark")
+public class StartupBenchmark {
+
+    private static final int WARM_UP_RUNS = 1;
+    private static final int MEASURED_RUNS = 5;
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(90);
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void compareTimeToFirstRequestAcrossStartModes() throws Exception {
+        final var classpath = System.getProperty("benchmark.app.classpath");
+        Assumptions.assumeTrue(classpath != null, "run through the gradle benchmark task");
+
+        final var archive = workDir.resolve("application.jsa");
+        final var training = ApplicationProcess.jvm(classpath, List.of("-XX:ArchiveClassesAtExit=" + archive), "test-integration,fast-start", "--cds.training=true");
+        Assertions.assertEquals(0, training.waitFor());
+        Assertions.assertTrue(Files.exists(archive));
+
+        final var scan = measure(classpath, List.of("-Dspring.index.ignore=true"), "test-integration");
+        final var indexed = measure(classpath, List.of(), "test-integration");
+        final var fastStart = measure(classpath, List.of(), "test-integration,fast-start");
+        final var cds = measure(classpath, List.of("-Xshare:auto", "-XX:SharedArchiveFile=" + archive), "test-integration,fast-start");
+
+        System.out.printf(
+                "time to first GET /api/categories over %d cold starts:%n"
+                        + "  classpath scan:           p50=%d ms min=%d ms%n"
+                        + "  component index:          p50=%d ms min=%d ms%n"
+                        + "  index + lazy init:        p50=%d ms min=%d ms%n"
+                        + "  index + lazy init + cds:  p50=%d ms min=%d ms%n",
+                MEASURED_RUNS,
+                scan.p50(), scan.min(),
+                indexed.p50(), indexed.min(),
+                fastStart.p50(), fastStart.min(),
+                cds.p50(), cds.min()
+        );
+
+        Assertions.assertTrue(cds.p50() < scan.p50());
+    }
+
+    private Result measure(final String classpath, final List<String> jvmArgs, final String profiles) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            timeToFirstRequest(classpath, jvmArgs, profiles);
+        }
+
+        final var samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            samples[i] = timeToFirstRequest(classpath, jvmArgs, profiles);
+        }
+        Arrays.sort(samples);
+        return new Result(samples[samples.length / 2], samples[0]);
+    }
+
+    private static long timeToFirstRequest(final String classpath, final List<String> jvmArgs, final String profiles) throws Exception {
+        try (final var application = ApplicationProcess.jvm(classpath, jvmArgs, profiles)) {
+            return application.awaitFirstRequest(START_TIMEOUT);
+        }
+    }
+
+    private record Result(long p50, long min) {
+    }
+}
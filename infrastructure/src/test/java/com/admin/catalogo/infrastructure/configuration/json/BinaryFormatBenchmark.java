@@ -0,0 +1,116 @@
+package com.admin.catalogo.infrastructure.configuration.json;
+
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+@Tag("benchmark")
+public class BinaryFormatBenchmark {
+
+    private static final int WARM_UP_ITEMS = 2_000_000;
+    private static final int MEASURED_ITEMS = 5_000_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    public void compareListPageEncodings(final int perPage) throws Exception {
+        final var aPage = page(perPage);
+
+        final var json = Json.mapper();
+        final var smile = Json.smileMapper();
+        final var cbor = Json.cborMapper();
+
+        final var jsonBytes = json.writeValueAsBytes(aPage);
+        final var smileBytes = smile.writeValueAsBytes(aPage);
+        final var cborBytes = cbor.writeValueAsBytes(aPage);
+
+        Assertions.assertEquals(aPage.items(), smile.readValue(smileBytes, Page.class).items());
+        Assertions.assertEquals(aPage.items(), cbor.readValue(cborBytes, Page.class).items());
+
+        final var iterations = Math.max(1, MEASURED_ITEMS / perPage);
+        final var warmUp = Math.max(1, WARM_UP_ITEMS / perPage);
+
+        report("json", perPage, jsonBytes.length, jsonBytes.length, json, aPage, warmUp, iterations);
+        report("smile", perPage, smileBytes.length, jsonBytes.length, smile, aPage, warmUp, iterations);
+        report("cbor", perPage, cborBytes.length, jsonBytes.length, cbor, aPage, warmUp, iterations);
+    }
+
+    private static void report(
+            final String format,
+            final int perPage,
+            final int size,
+            final int jsonSize,
+            final ObjectMapper mapper,
+            final Pagination<CategoryListResponse> aPage,
+            final int warmUp,
+            final int iterations
+    ) throws Exception {
+        final var payload = mapper.writeValueAsBytes(aPage);
+
+        final var encodeNanos = measure(() -> mapper.writeValueAsBytes(aPage).length, warmUp, iterations);
+        final var decodeNanos = measure(() -> mapper.readValue(payload, Page.class).items().size(), warmUp, iterations);
+
+        System.out.printf(
+                "Category list page perPage=%d %s: size=%d bytes (%.0f%% of json), encode=%.1f us/op, decode=%.1f us/op%n",
+                perPage,
+                format,
+                size,
+                100.0 * size / jsonSize,
+                encodeNanos / 1_000,
+                decodeNanos / 1_000
+        );
+
+        Assertions.assertTrue(encodeNanos > 0);
+        Assertions.assertTrue(decodeNanos > 0);
+    }
+
+    private static double measure(final Callable<Integer> operation, final int warmUp, final int iterations) throws Exception {
+        var sink = 0;
+        for (int i = 0; i < warmUp; i++) {
+            sink += operation.call();
+        }
+
+        final var start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.call();
+        }
+        final var elapsed = System.nanoTime() - start;
+
+        Assertions.assertNotEquals(Integer.MIN_VALUE, sink);
+        return (double) elapsed / iterations;
+    }
+
+    private static Pagination<CategoryListResponse> page(final int perPage) {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var items = IntStream.range(0, perPage)
+                .mapToObj(i -> new CategoryListResponse(
+                        UUID.randomUUID().toString().replace("-", ""),
+                        "Categoria " + i,
+                        "A categoria mais assistida número " + i,
+                        i % 3 != 0,
+                        now.minusSeconds(i),
+                        i % 3 == 0 ? now : null
+                ))
+                .toList();
+        return new Pagination<>(0, perPage, 10_000, items);
+    }
+
+    record Page(
+            @JsonProperty("current_page") int currentPage,
+            @JsonProperty("per_page") int perPage,
+            @JsonProperty("total") long total,
+            @JsonProperty("items") List<CategoryListResponse> items
+    ) {
+    }
+}
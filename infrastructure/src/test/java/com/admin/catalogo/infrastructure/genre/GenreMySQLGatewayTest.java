@@ -3,8 +3,13 @@ package com.admin.catalogo.infrastructure.genre;
 import com.admin.catalogo.MySQLGatewayTest;
 import com.admin.catalogo.domain.category.Category;
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.genre.Genre;
 import com.admin.catalogo.domain.genre.GenreID;
+import com.admin.catalogo.domain.pagination.AutocompleteQuery;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeQuery;
+import com.admin.catalogo.domain.pagination.PageWriter;
 import com.admin.catalogo.domain.pagination.SearchQuery;
 import com.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
@@ -15,6 +20,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -355,7 +361,7 @@ public class GenreMySQLGatewayTest {
         aGenre.addCategories(expectedCategories);
 
         final var expectedId = aGenre.getId();
-        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+        genreGateway.create(aGenre);
 
         Assertions.assertEquals(1, genreRepository.count());
 
@@ -519,14 +525,168 @@ public class GenreMySQLGatewayTest {
 
     }
 
-    private void mockGenres() {
+    @ParameterizedTest
+    @CsvSource({
+            ",name,asc,0,2",
+            ",name,desc,1,2",
+            ",createdAt,asc,2,2",
+            "a,name,asc,0,10",
+            ",name,asc,3,2"
+    })
+    public void givenAQuery_whenCallsFindAllWithWriter_shouldWriteSamePageAsFindAll(
+            final String expectedTerms,
+            final String expectedSort,
+            final String expectedDirection,
+            final int expectedPage,
+            final int expectedPerPage
+    ) {
+        //given
+        mockGenres();
+
+        final var aQuery =
+                new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+
+        final var expectedPagination = genreGateway.findAll(aQuery);
+
+        final var actualItems = new ArrayList<Genre>();
+        final var actualTotal = new long[]{-1};
+        final var ended = new boolean[]{false};
+
+        //when
+        genreGateway.findAll(aQuery, new PageWriter<>() {
+            @Override
+            public void begin(final int currentPage, final int perPage, final long total) {
+                actualTotal[0] = total;
+            }
+
+            @Override
+            public void write(final Genre item) {
+                actualItems.add(item);
+            }
+
+            @Override
+            public void end() {
+                ended[0] = true;
+            }
+        });
+
+        //then
+        Assertions.assertEquals(expectedPagination.total(), actualTotal[0]);
+        Assertions.assertEquals(
+                expectedPagination.items().stream().map(it -> it.getId().getValue()).toList(),
+                actualItems.stream().map(it -> it.getId().getValue()).toList()
+        );
+        Assertions.assertTrue(ended[0]);
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallFindAll_shouldThrowDomainException() {
+        //given
+        mockGenres();
+        final var expectedErrorMessage = "'sort' must be one of [createdAt, name]";
+
+        final var aQuery = new SearchQuery(0, 10, "", "updatedAt", "asc");
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> genreGateway.findAll(aQuery)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "ac,1,Ação",
+            "c,1,Comédia romântica",
+            "fic,1,Ficção cientifica",
+            "a%,0,",
+            "_,0,"
+    })
+    public void givenANormalizedPrefix_whenCallsAutocomplete_shouldReturnMatchingGenres(
+            final String expectedPrefix,
+            final int expectedItemsCount,
+            final String expectedGenreName
+    ) {
+        //given
+        mockGenres();
+
+        //when
+        final var actualResult = genreGateway.autocomplete(new AutocompleteQuery(expectedPrefix, 10));
+
+        //then
+        Assertions.assertEquals(expectedItemsCount, actualResult.size());
+        if (expectedItemsCount > 0) {
+            Assertions.assertEquals(expectedGenreName, actualResult.get(0).getName());
+        }
+    }
+
+    @Test
+    public void givenALimit_whenCallsAutocomplete_shouldReturnFirstMatchesBySearchKey() {
+        //given
         genreRepository.saveAllAndFlush(List.of(
-                GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
-                GenreJpaEntity.from(Genre.newGenre("Ação", true)),
-                GenreJpaEntity.from(Genre.newGenre("Drama", true)),
                 GenreJpaEntity.from(Genre.newGenre("Terror", true)),
-                GenreJpaEntity.from(Genre.newGenre("Ficção cientifica", true))
+                GenreJpaEntity.from(Genre.newGenre("Técnico", true)),
+                GenreJpaEntity.from(Genre.newGenre("Teatro", true))
         ));
+
+        //when
+        final var actualResult = genreGateway.autocomplete(new AutocompleteQuery("te", 2));
+
+        //then
+        Assertions.assertEquals(List.of("Teatro", "Técnico"), actualResult.stream().map(Genre::getName).toList());
+    }
+
+    @Test
+    public void givenAGenreWithCategory_whenCategoryIsDeleted_shouldReportGenreAsChanged() {
+        //given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId()));
+        genreGateway.create(aGenre);
+
+        final var since = genreGateway.changes(new ChangeQuery("", 10)).nextCursor();
+
+        //when
+        categoryGateway.deleteById(filmes.getId());
+        final var actualFeed = genreGateway.changes(new ChangeQuery(since, 10));
+
+        //then
+        Assertions.assertEquals(1, actualFeed.changes().size());
+        final var actualChange = actualFeed.changes().get(0);
+        Assertions.assertEquals(Change.Type.UPSERT, actualChange.type());
+        Assertions.assertEquals(aGenre.getId().getValue(), actualChange.id());
+        Assertions.assertTrue(actualChange.item().getCategories().isEmpty());
+        Assertions.assertTrue(actualChange.changedAt().isAfter(aGenre.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenADeletedGenre_whenCallsChanges_shouldReturnTombstone() {
+        //given
+        final var aGenre = genreGateway.create(Genre.newGenre("Drama", true));
+
+        //when
+        genreGateway.deleteById(aGenre.getId());
+        final var actualFeed = genreGateway.changes(new ChangeQuery(null, 10));
+
+        //then
+        Assertions.assertEquals(1, actualFeed.changes().size());
+        Assertions.assertEquals(Change.Type.DELETE, actualFeed.changes().get(0).type());
+        Assertions.assertEquals(aGenre.getId().getValue(), actualFeed.changes().get(0).id());
+        Assertions.assertNull(actualFeed.changes().get(0).item());
+    }
+
+    private void mockGenres() {
+        List.of(
+                Genre.newGenre("Comédia romântica", true),
+                Genre.newGenre("Ação", true),
+                Genre.newGenre("Drama", true),
+                Genre.newGenre("Terror", true),
+                Genre.newGenre("Ficção cientifica", true)
+        ).forEach(genreGateway::create);
     }
 
     private List<CategoryID>sorted(final List<CategoryID> expectedCategories){
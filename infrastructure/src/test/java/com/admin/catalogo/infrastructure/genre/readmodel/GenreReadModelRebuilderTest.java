@@ -0,0 +1,117 @@
+package com.admin.catalogo.infrastructure.genre.readmodel;
+
+import com.admin.catalogo.MySQLGatewayTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreReadModelRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Comparator;
+import java.util.List;
+
+@MySQLGatewayTest
+public class GenreReadModelRebuilderTest {
+
+    @Autowired
+    private GenreReadModelRebuilder rebuilder;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private GenreReadModelRepository genreReadModelRepository;
+
+    @Test
+    public void givenGenresWrittenBeforeTheReadModel_whenCallsRebuild_shouldBackfillEveryGenre() {
+        //given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId()));
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(aGenre),
+                GenreJpaEntity.from(Genre.newGenre("Drama", false)),
+                GenreJpaEntity.from(Genre.newGenre("Terror", true))
+        ));
+        genreReadModelRepository.saveAndFlush(GenreReadModelJpaEntity.from(Genre.newGenre("Removido", true)));
+
+        Assertions.assertTrue(rebuilder.isOutOfSync());
+
+        //when
+        final var actualRebuilt = rebuilder.rebuild();
+
+        //then
+        Assertions.assertEquals(3, actualRebuilt);
+        Assertions.assertFalse(rebuilder.isOutOfSync());
+        Assertions.assertEquals(3, genreReadModelRepository.count());
+
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+        Assertions.assertEquals(aGenre.getName(), actualGenre.getName());
+        Assertions.assertEquals(List.of(filmes.getId()), actualGenre.getCategories());
+    }
+
+    @Test
+    public void givenAReadModelRowOlderThanItsGenre_whenCallsIsOutOfSync_shouldRebuildIt() throws Exception {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(aGenre), GenreJpaEntity.from(drama)));
+        genreReadModelRepository.saveAllAndFlush(List.of(GenreReadModelJpaEntity.from(aGenre), GenreReadModelJpaEntity.from(drama)));
+        Assertions.assertFalse(rebuilder.isOutOfSync());
+
+        // edited behind the projector's back, so both tables still hold two rows
+        Thread.sleep(5);
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre.update("Aventura", true, List.of())));
+
+        //when
+        final var actualOutOfSync = rebuilder.isOutOfSync();
+        rebuilder.rebuild();
+
+        //then
+        Assertions.assertTrue(actualOutOfSync);
+        Assertions.assertFalse(rebuilder.isOutOfSync());
+        Assertions.assertEquals("Aventura", genreGateway.findById(aGenre.getId()).get().getName());
+    }
+
+    @Test
+    public void givenAProjectedGenre_whenItsCategoryIsDeleted_shouldRemoveTheCategoryFromTheReadModel() {
+        //given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId()));
+        genreGateway.create(aGenre);
+
+        //when
+        categoryGateway.deleteById(filmes.getId());
+
+        //then
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+        Assertions.assertEquals(List.of(series.getId()), actualGenre.getCategories());
+        Assertions.assertEquals(
+                sorted(List.of(series.getId())),
+                sorted(genreRepository.findById(aGenre.getId().getValue()).get().getCategoriesIDs())
+        );
+    }
+
+    private List<CategoryID> sorted(final List<CategoryID> ids) {
+        return ids.stream()
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList();
+    }
+}
@@ -0,0 +1,237 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.retrieve.list.SeekCategoriesUseCase;
+import com.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.ReadOnlyException;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.domain.validation.handler.Notification;
+import com.admin.catalogo.infrastructure.grpc.proto.BatchGetRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.CategoryServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.CreateCategoryRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.IdRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.StreamRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.vavr.API;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+public class CategoryGrpcServiceTest {
+
+    private CreateCategoryUseCase createCategoryUseCase;
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private SeekCategoriesUseCase seekCategoriesUseCase;
+
+    private Server server;
+    private ManagedChannel channel;
+    private CategoryServiceGrpc.CategoryServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        createCategoryUseCase = Mockito.mock(CreateCategoryUseCase.class);
+        getCategoryByIdUseCase = Mockito.mock(GetCategoryByIdUseCase.class);
+        getCategoriesByIdsUseCase = Mockito.mock(GetCategoriesByIdsUseCase.class);
+        seekCategoriesUseCase = Mockito.mock(SeekCategoriesUseCase.class);
+
+        final var aService = new CategoryGrpcService(
+                createCategoryUseCase,
+                getCategoryByIdUseCase,
+                getCategoriesByIdsUseCase,
+                Mockito.mock(UpdateCategoryUseCase.class),
+                Mockito.mock(DeleteCategoryUseCase.class),
+                Mockito.mock(ListCategoriesUseCase.class),
+                seekCategoriesUseCase
+        );
+
+        final var aName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(aName).directExecutor().addService(aService).build().start();
+        channel = InProcessChannelBuilder.forName(aName).directExecutor().build();
+        stub = CategoryServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldReturnCategory() {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(expectedId))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        //when
+        final var actualCategory = stub.getCategory(IdRequest.newBuilder().setId(expectedId).build());
+
+        //then
+        Assertions.assertEquals(expectedId, actualCategory.getId());
+        Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
+        Assertions.assertEquals(aCategory.getDescription(), actualCategory.getDescription());
+        Assertions.assertEquals(aCategory.isActive(), actualCategory.getIsActive());
+        Assertions.assertEquals(aCategory.getCreatedAt(), GrpcTimestamps.toInstant(actualCategory.getCreatedAt()));
+        Assertions.assertFalse(actualCategory.hasDeletedAt());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCategory_shouldReturnNotFound() {
+        //given
+        final var expectedMessage = "Category with ID 123 was not found";
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenThrow(NotFoundException.with(Category.class, CategoryID.from("123")));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                StatusRuntimeException.class,
+                () -> stub.getCategory(IdRequest.newBuilder().setId("123").build())
+        );
+
+        //then
+        Assertions.assertEquals(Status.Code.NOT_FOUND, actualException.getStatus().getCode());
+        Assertions.assertEquals(expectedMessage, actualException.getStatus().getDescription());
+    }
+
+    @Test
+    public void givenExistingAndMissingIds_whenCallsBatchGetCategories_shouldReturnFoundAndMissing() {
+        //given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var anId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoriesByIdsUseCase.execute(List.of(anId, "missing")))
+                .thenReturn(List.of(CategoryOutput.from(aCategory)));
+
+        //when
+        final var actualResponse = stub.batchGetCategories(BatchGetRequest.newBuilder()
+                .addIds(anId)
+                .addIds("missing")
+                .addIds(anId)
+                .build());
+
+        //then
+        Assertions.assertEquals(1, actualResponse.getCategoriesCount());
+        Assertions.assertEquals(anId, actualResponse.getCategories(0).getId());
+        Assertions.assertEquals(List.of("missing"), actualResponse.getMissingIdsList());
+        Mockito.verify(getCategoriesByIdsUseCase, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verifyNoInteractions(getCategoryByIdUseCase);
+    }
+
+    @Test
+    public void givenMoreCategoriesThanABatch_whenCallsStreamCategories_shouldStreamEveryPage() {
+        //given
+        final var expectedBatchSize = 2;
+        final var categories = IntStream.range(0, 5)
+                .mapToObj(i -> CategoryListOutput.from(Category.newCategory("Categoria " + i, null, true)))
+                .toList();
+
+        Mockito.when(seekCategoriesUseCase.execute(Mockito.any())).thenAnswer(invocation -> {
+            final SeekQuery aQuery = invocation.getArgument(0);
+            final var from = aQuery.isFirst() ? 0 : IntStream.range(0, categories.size())
+                    .filter(i -> categories.get(i).id().getValue().equals(aQuery.afterId()))
+                    .findFirst()
+                    .orElseThrow() + 1;
+            return categories.subList(from, Math.min(categories.size(), from + aQuery.limit()));
+        });
+
+        //when
+        final var actualIds = new ArrayList<String>();
+        stub.streamCategories(StreamRequest.newBuilder().setBatchSize(expectedBatchSize).build())
+                .forEachRemaining(it -> actualIds.add(it.getId()));
+
+        //then
+        Assertions.assertEquals(
+                categories.stream().map(it -> it.id().getValue()).toList(),
+                actualIds
+        );
+        Mockito.verify(seekCategoriesUseCase, Mockito.times(3)).execute(Mockito.argThat(query ->
+                query.limit() == expectedBatchSize
+                        && Objects.equals("name", query.sort())
+                        && Objects.equals("asc", query.direction())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallsCreateCategory_shouldReturnInvalidArgument() {
+        //given
+        final var expectedMessage = "'name' should not be null";
+
+        Mockito.when(createCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Left(Notification.create(new Error(expectedMessage))));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                StatusRuntimeException.class,
+                () -> stub.createCategory(CreateCategoryRequest.newBuilder().build())
+        );
+
+        //then
+        Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, actualException.getStatus().getCode());
+        Assertions.assertEquals(expectedMessage, actualException.getStatus().getDescription());
+    }
+
+    @Test
+    public void givenAReadOnlyNode_whenCallsCreateCategory_shouldReturnUnimplemented() {
+        //given
+        final var expectedMessage = "Read replicas serve a read-only catalog snapshot";
+
+        Mockito.when(createCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(ReadOnlyException.with(expectedMessage));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                StatusRuntimeException.class,
+                () -> stub.createCategory(CreateCategoryRequest.newBuilder().setName("Filmes").build())
+        );
+
+        //then
+        Assertions.assertEquals(Status.Code.UNIMPLEMENTED, actualException.getStatus().getCode());
+        Assertions.assertEquals(expectedMessage, actualException.getStatus().getDescription());
+    }
+
+    @Test
+    public void givenAValidCommandWithoutActiveFlag_whenCallsCreateCategory_shouldCreateActiveCategory() {
+        //given
+        Mockito.when(createCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(CreateCategoryOutput.from("123")));
+
+        //when
+        final var actualResponse = stub.createCategory(CreateCategoryRequest.newBuilder()
+                .setName("Filmes")
+                .setDescription("A categoria mais assistida")
+                .build());
+
+        //then
+        Assertions.assertEquals("123", actualResponse.getId());
+        Mockito.verify(createCategoryUseCase).execute(Mockito.argThat(cmd ->
+                Objects.equals("Filmes", cmd.name()) && cmd.isActive()
+        ));
+    }
+}
@@ -0,0 +1,211 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.application.genre.create.CreateGenreOutput;
+import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.list.SeekGenresUseCase;
+import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.exceptions.NotificationException;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.domain.validation.handler.Notification;
+import com.admin.catalogo.infrastructure.grpc.proto.BatchGetRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.CreateGenreRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.GenreServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.IdRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.SearchRequest;
+import com.admin.catalogo.infrastructure.grpc.proto.StreamRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Objects;
+
+public class GenreGrpcServiceTest {
+
+    private CreateGenreUseCase createGenreUseCase;
+    private GetGenreByIdUseCase getGenreByIdUseCase;
+    private GetGenresByIdsUseCase getGenresByIdsUseCase;
+    private ListGenreUseCase listGenreUseCase;
+    private SeekGenresUseCase seekGenresUseCase;
+
+    private Server server;
+    private ManagedChannel channel;
+    private GenreServiceGrpc.GenreServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        createGenreUseCase = Mockito.mock(CreateGenreUseCase.class);
+        getGenreByIdUseCase = Mockito.mock(GetGenreByIdUseCase.class);
+        getGenresByIdsUseCase = Mockito.mock(GetGenresByIdsUseCase.class);
+        listGenreUseCase = Mockito.mock(ListGenreUseCase.class);
+        seekGenresUseCase = Mockito.mock(SeekGenresUseCase.class);
+
+        final var aService = new GenreGrpcService(
+                createGenreUseCase,
+                getGenreByIdUseCase,
+                getGenresByIdsUseCase,
+                Mockito.mock(UpdateGenreUseCase.class),
+                Mockito.mock(DeleteGenreUseCase.class),
+                listGenreUseCase,
+                seekGenresUseCase
+        );
+
+        final var aName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(aName).directExecutor().addService(aService).build().start();
+        channel = InProcessChannelBuilder.forName(aName).directExecutor().build();
+        stub = GenreServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetGenre_shouldReturnGenreWithCategories() {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var expectedId = aGenre.getId().getValue();
+
+        Mockito.when(getGenreByIdUseCase.execute(expectedId)).thenReturn(GenreOutput.from(aGenre));
+
+        //when
+        final var actualGenre = stub.getGenre(IdRequest.newBuilder().setId(expectedId).build());
+
+        //then
+        Assertions.assertEquals(expectedId, actualGenre.getId());
+        Assertions.assertEquals(aGenre.getName(), actualGenre.getName());
+        Assertions.assertEquals(List.of("123", "456"), actualGenre.getCategoriesList());
+        Assertions.assertEquals(aGenre.getUpdatedAt(), GrpcTimestamps.toInstant(actualGenre.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenExistingAndMissingIds_whenCallsBatchGetGenres_shouldReadThemInOneCall() {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var anId = aGenre.getId().getValue();
+
+        Mockito.when(getGenresByIdsUseCase.execute(List.of("missing", anId)))
+                .thenReturn(List.of(GenreOutput.from(aGenre)));
+
+        //when
+        final var actualResponse = stub.batchGetGenres(BatchGetRequest.newBuilder()
+                .addIds("missing")
+                .addIds(anId)
+                .addIds("missing")
+                .build());
+
+        //then
+        Assertions.assertEquals(1, actualResponse.getGenresCount());
+        Assertions.assertEquals(anId, actualResponse.getGenres(0).getId());
+        Assertions.assertEquals(List.of("missing"), actualResponse.getMissingIdsList());
+        Mockito.verify(getGenresByIdsUseCase, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verifyNoInteractions(getGenreByIdUseCase);
+    }
+
+    @Test
+    public void givenEmptySearchFields_whenCallsListGenres_shouldApplyRestDefaults() {
+        //given
+        final var aGenre = Genre.newGenre("Ação", false);
+
+        Mockito.when(listGenreUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(aGenre))));
+
+        //when
+        final var actualPage = stub.listGenres(SearchRequest.newBuilder().setSearch("ac").build());
+
+        //then
+        Assertions.assertEquals(1, actualPage.getTotal());
+        Assertions.assertEquals(aGenre.getId().getValue(), actualPage.getItems(0).getId());
+        Assertions.assertFalse(actualPage.getItems(0).getIsActive());
+        Assertions.assertTrue(actualPage.getItems(0).hasDeletedAt());
+
+        Mockito.verify(listGenreUseCase).execute(Mockito.argThat(query ->
+                query.page() == 0
+                        && query.perPage() == 10
+                        && Objects.equals("ac", query.terms())
+                        && Objects.equals("name", query.sort())
+                        && Objects.equals("asc", query.direction())
+        ));
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsStreamGenres_shouldReturnInvalidArgument() {
+        //given
+        final var expectedMessage = "'sort' must be one of [createdAt, name]";
+
+        Mockito.when(seekGenresUseCase.execute(Mockito.any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                StatusRuntimeException.class,
+                () -> stub.streamGenres(StreamRequest.newBuilder().setSort("updatedAt").build()).forEachRemaining(it -> {})
+        );
+
+        //then
+        Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, actualException.getStatus().getCode());
+        Assertions.assertEquals(expectedMessage, actualException.getStatus().getDescription());
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallsCreateGenre_shouldReturnInvalidArgument() {
+        //given
+        final var expectedMessage = "'name' should not be null";
+
+        Mockito.when(createGenreUseCase.execute(Mockito.any()))
+                .thenThrow(new NotificationException("", Notification.create(new Error(expectedMessage))));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                StatusRuntimeException.class,
+                () -> stub.createGenre(CreateGenreRequest.newBuilder().build())
+        );
+
+        //then
+        Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, actualException.getStatus().getCode());
+        Assertions.assertEquals(expectedMessage, actualException.getStatus().getDescription());
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateGenre_shouldReturnId() {
+        //given
+        Mockito.when(createGenreUseCase.execute(Mockito.any()))
+                .thenReturn(CreateGenreOutput.from("123"));
+
+        //when
+        final var actualResponse = stub.createGenre(CreateGenreRequest.newBuilder()
+                .setName("Ação")
+                .setIsActive(false)
+                .addCategories("456")
+                .build());
+
+        //then
+        Assertions.assertEquals("123", actualResponse.getId());
+        Mockito.verify(createGenreUseCase).execute(Mockito.argThat(cmd ->
+                Objects.equals("Ação", cmd.name())
+                        && !cmd.isActive()
+                        && Objects.equals(List.of("456"), cmd.categories())
+        ));
+    }
+}
@@ -0,0 +1,123 @@
+package com.admin.catalogo.infrastructure.grpc;
+
+import com.admin.catalogo.MySQLCleanUpExtension;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.admin.catalogo.infrastructure.grpc.proto.GenreServiceGrpc;
+import com.admin.catalogo.infrastructure.grpc.proto.SearchRequest;
+import io.grpc.ManagedChannelBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@Tag("benchmark")
+@ActiveProfiles("test-integration")
+@SpringBootTest(
+        classes = WebServerConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"grpc.enabled=true", "grpc.port=0"}
+)
+@ExtendWith(MySQLCleanUpExtension.class)
+public class GrpcThroughputBenchmark {
+
+    private static final int CLIENTS = 16;
+    private static final int PER_PAGE = 50;
+    private static final int WARM_UP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 10_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Test
+    public void compareListGenresOverRestAndGrpc() throws Exception {
+        IntStream.range(0, PER_PAGE).forEach(i -> genreGateway.create(Genre.newGenre("Gênero " + i, true)));
+
+        final var http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        final var aRestRequest = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/genres?perPage=%d".formatted(port, PER_PAGE)))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        final var channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+        final var stub = GenreServiceGrpc.newBlockingStub(channel);
+        final var aGrpcRequest = SearchRequest.newBuilder().setPerPage(PER_PAGE).build();
+
+        final Callable<Integer> rest = () -> {
+            final var response = http.send(aRestRequest, HttpResponse.BodyHandlers.ofByteArray());
+            Assertions.assertEquals(200, response.statusCode());
+            return response.body().length;
+        };
+        final Callable<Integer> grpc = () -> stub.listGenres(aGrpcRequest).getItemsCount();
+
+        try {
+            throughput(rest, WARM_UP_REQUESTS);
+            throughput(grpc, WARM_UP_REQUESTS);
+
+            final var restThroughput = throughput(rest, MEASURED_REQUESTS);
+            final var grpcThroughput = throughput(grpc, MEASURED_REQUESTS);
+
+            System.out.printf(
+                    "List %d genres with %d clients: rest=%.0f req/s, grpc=%.0f req/s, speedup=%.2fx%n",
+                    PER_PAGE,
+                    CLIENTS,
+                    restThroughput,
+                    grpcThroughput,
+                    grpcThroughput / restThroughput
+            );
+
+            Assertions.assertTrue(restThroughput > 0);
+            Assertions.assertTrue(grpcThroughput > 0);
+        } finally {
+            channel.shutdownNow();
+        }
+    }
+
+    private static double throughput(final Callable<Integer> aCall, final int requests) throws Exception {
+        final var perClient = requests / CLIENTS;
+        final var executor = Executors.newFixedThreadPool(CLIENTS);
+
+        try {
+            final var tasks = new ArrayList<Callable<Integer>>();
+            for (int c = 0; c < CLIENTS; c++) {
+                tasks.add(() -> {
+                    var sink = 0;
+                    for (int i = 0; i < perClient; i++) {
+                        sink += aCall.call();
+                    }
+                    return sink;
+                });
+            }
+
+            final var start = System.nanoTime();
+            for (final var future : executor.invokeAll(tasks)) {
+                Assertions.assertTrue(future.get() > 0);
+            }
+            final var elapsed = System.nanoTime() - start;
+
+            return perClient * CLIENTS / (elapsed / 1_000_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
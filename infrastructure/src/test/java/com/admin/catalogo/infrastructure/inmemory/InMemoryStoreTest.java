@@ -0,0 +1,176 @@
+package com.admin.catalogo.infrastructure.inmemory;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.pagination.Change;
+import com.admin.catalogo.domain.pagination.ChangeCursor;
+import com.admin.catalogo.infrastructure.configuration.InMemoryCatalogConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class InMemoryStoreTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void givenStoredCategories_whenCallsPageWithTermsAndSort_shouldFilterSortAndPageLikeTheSqlGateway() {
+        // given
+        final var store = new InMemoryCatalogConfig().categoryStore();
+        store.put(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        store.put(Category.newCategory("Séries", "Assistidas em maratona", true));
+        store.put(Category.newCategory("Documentários", null, true));
+        store.put(Category.newCategory("Curtas", "Filmes de curta duração", true));
+
+        // when
+        final var actualPage = store.page(0, 2, "name", true, "assist");
+        final var actualTotalOnly = store.page(1, 2, "name", false, "filmes");
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Séries", "Filmes"), actualPage.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(2, actualTotalOnly.total());
+        Assertions.assertTrue(actualTotalOnly.items().isEmpty());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsSeekAfterTheLastRow_shouldResumeInSearchKeyOrder() {
+        // given
+        final var store = new InMemoryCatalogConfig().categoryStore();
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        store.put(Category.newCategory("Séries", null, true));
+        store.put(Category.newCategory("filmes", null, true));
+        store.put(documentarios);
+        store.put(Category.newCategory("ANIMES", null, true));
+
+        // when
+        final var actualFirst = store.seek(InMemoryStore.SEARCH_KEY, false, null, null, 2, "");
+        final var actualNext = store.seek(InMemoryStore.SEARCH_KEY, false, "documentarios", documentarios.getId().getValue(), 2, "");
+        final var actualDescending = store.seek(InMemoryStore.SEARCH_KEY, true, "documentarios", documentarios.getId().getValue(), 2, "");
+
+        // then
+        Assertions.assertEquals(List.of("ANIMES", "Documentários"), actualFirst.stream().map(Category::getName).toList());
+        Assertions.assertEquals(List.of("filmes", "Séries"), actualNext.stream().map(Category::getName).toList());
+        Assertions.assertEquals(List.of("ANIMES"), actualDescending.stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenMutatingWhatWasReturned_shouldNotChangeTheStore() {
+        // given
+        final var store = new InMemoryCatalogConfig().categoryStore();
+        final var aCategory = store.put(Category.newCategory("Filmes", null, true));
+
+        // when
+        aCategory.deactivate();
+
+        // then
+        Assertions.assertTrue(store.get(aCategory.getId().getValue()).orElseThrow().isActive());
+    }
+
+    @Test
+    public void givenUpdatesAndDeletions_whenCallsChangedSinceAndDeletedSince_shouldReturnThemInCursorOrder() {
+        // given
+        final var store = new InMemoryCatalogConfig().categoryStore();
+        final var filmes = store.put(Category.newCategory("Filmes", null, true));
+        final var series = store.put(Category.newCategory("Séries", null, true));
+        store.remove(filmes.getId().getValue());
+
+        // when
+        final var actualUpserts = store.changedSince(ChangeCursor.BEGINNING, Instant.now(), 10);
+        final var actualDeletions = store.deletedSince(ChangeCursor.BEGINNING, Instant.now(), 10);
+
+        // then
+        Assertions.assertEquals(List.of(series.getId().getValue()), actualUpserts.stream().map(Change::id).toList());
+        Assertions.assertEquals(List.of(filmes.getId().getValue()), actualDeletions.stream().map(Change::id).toList());
+        Assertions.assertEquals(Change.Type.DELETE, actualDeletions.get(0).type());
+    }
+
+    @Test
+    public void givenChangesStampedAfterTheHorizon_whenCallsChangedSinceAndDeletedSince_shouldHoldThemBack() {
+        // given
+        final var store = new InMemoryCatalogConfig().categoryStore();
+        final var filmes = store.put(Category.newCategory("Filmes", null, true));
+        final var series = store.put(Category.newCategory("Séries", null, true));
+        final var expectedHorizon = series.getUpdatedAt().minusNanos(1);
+        store.remove(filmes.getId().getValue());
+
+        // when
+        final var actualUpserts = store.changedSince(ChangeCursor.BEGINNING, expectedHorizon, 10);
+        final var actualDeletions = store.deletedSince(ChangeCursor.BEGINNING, expectedHorizon, 10);
+
+        // then
+        Assertions.assertTrue(actualUpserts.stream().allMatch(it -> !it.changedAt().isAfter(expectedHorizon)));
+        Assertions.assertTrue(actualUpserts.stream().noneMatch(it -> it.id().equals(series.getId().getValue())));
+        Assertions.assertTrue(actualDeletions.isEmpty());
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenCallsPage_shouldAlwaysReturnATotalMatchingItsItems() throws Exception {
+        // given
+        final var store = new InMemoryCatalogConfig().categoryStore();
+        final var running = new AtomicBoolean(true);
+        final var writers = new ArrayList<CompletableFuture<Void>>();
+        for (int w = 0; w < 4; w++) {
+            writers.add(CompletableFuture.runAsync(() -> {
+                while (running.get()) {
+                    final var aCategory = store.put(Category.newCategory("Filmes", null, true));
+                    store.put(aCategory.update("Séries", null, true));
+                    store.remove(aCategory.getId().getValue());
+                }
+            }));
+        }
+
+        // when
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                final var actualPage = store.page(0, 1_000, "name", false, null);
+
+                // then
+                Assertions.assertEquals(actualPage.total(), actualPage.items().size());
+            }
+        } finally {
+            running.set(false);
+            CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    @Test
+    public void givenStoredAggregates_whenSavingAndRestoringASnapshot_shouldBringBackRowsAndDeletions() {
+        // given
+        final var config = new InMemoryCatalogConfig();
+        final var categories = config.categoryStore();
+        final var genres = config.genreStore();
+        final var aCategory = categories.put(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var aGenre = genres.put(Genre.newGenre("Ação", true).addCategory(aCategory.getId()));
+        final var removed = categories.put(Category.newCategory("Séries", null, true));
+        categories.remove(removed.getId().getValue());
+
+        final var snapshotFile = workDir.resolve("catalog.snapshot");
+        new InMemorySnapshot(categories, genres, config.castMemberStore(), snapshotFile, 0).save();
+
+        final var restoredCategories = config.categoryStore();
+        final var restoredGenres = config.genreStore();
+
+        // when
+        new InMemorySnapshot(restoredCategories, restoredGenres, config.castMemberStore(), snapshotFile, 0).restore();
+
+        // then
+        final var actualCategory = restoredCategories.get(aCategory.getId().getValue()).orElseThrow();
+        final var actualGenre = restoredGenres.get(aGenre.getId().getValue()).orElseThrow();
+        Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
+        Assertions.assertEquals(aCategory.getDescription(), actualCategory.getDescription());
+        Assertions.assertEquals(aCategory.getCreatedAt(), actualCategory.getCreatedAt());
+        Assertions.assertEquals(List.of(aCategory.getId()), actualGenre.getCategories());
+        Assertions.assertEquals(1, restoredCategories.size());
+        Assertions.assertEquals(List.of(removed.getId().getValue()), restoredCategories.deletions().stream().map(ChangeCursor::id).toList());
+        Assertions.assertEquals(1, restoredCategories.page(0, 10, "name", false, "assistida").total());
+    }
+}
@@ -0,0 +1,116 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.infrastructure.cache.CatalogCaches;
+import com.admin.catalogo.infrastructure.cache.ListQueryCache;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.transaction.PassThroughUnitOfWork;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoopbackInvalidationBusTest {
+
+    @Test
+    public void givenRepeatedPublishes_whenCallsFlush_shouldDeliverOneCoalescedBatchToTheOtherNodes() {
+        //given
+        final var topic = new LoopbackInvalidationBus.Topic();
+        final var aNode = new LoopbackInvalidationBus(topic, 0, 500);
+        final var otherNode = new LoopbackInvalidationBus(topic, 0, 500);
+        final var aListener = new RecordingListener();
+        final var otherListener = new RecordingListener();
+        aNode.subscribe(aListener);
+        otherNode.subscribe(otherListener);
+
+        //when
+        aNode.publish(ResponseBytesCache.GENRE, "123");
+        aNode.publish(ResponseBytesCache.CATEGORY, "456");
+        aNode.publish(ResponseBytesCache.GENRE, "123");
+        final var actualFlushed = aNode.flush();
+
+        //then
+        Assertions.assertEquals(2, actualFlushed);
+        Assertions.assertEquals(List.of(), aListener.received);
+        Assertions.assertEquals(List.of(
+                new Invalidation(ResponseBytesCache.GENRE, "123"),
+                new Invalidation(ResponseBytesCache.CATEGORY, "456")
+        ), otherListener.received);
+        Assertions.assertEquals(0, aNode.flush());
+    }
+
+    @Test
+    public void givenASkippedSequence_whenCallsDeliver_shouldReportAGapAndDropRepeats() {
+        //given
+        final var aNode = new LoopbackInvalidationBus(new LoopbackInvalidationBus.Topic(), 0, 500);
+        final var aListener = new RecordingListener();
+        aNode.subscribe(aListener);
+        final var invalidations = List.of(new Invalidation(ResponseBytesCache.GENRE, "123"));
+
+        //when
+        aNode.deliver(new InvalidationBatch("other", 1, invalidations));
+        aNode.deliver(new InvalidationBatch("other", 3, invalidations));
+        aNode.deliver(new InvalidationBatch("other", 3, invalidations));
+        aNode.deliver(new InvalidationBatch("other", 2, invalidations));
+
+        //then
+        Assertions.assertEquals(1, aListener.gaps);
+        Assertions.assertEquals(2, aListener.received.size());
+    }
+
+    @Test
+    public void givenTwoNodes_whenOneEvicts_shouldReloadTheOtherNodesListAfterTheFlush() {
+        //given
+        final var topic = new LoopbackInvalidationBus.Topic();
+        final var aBus = new LoopbackInvalidationBus(topic, 0, 500);
+        final var aNode = newCaches(aBus);
+        final var otherNode = newCaches(new LoopbackInvalidationBus(topic, 0, 500));
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var loads = new AtomicInteger();
+        otherNode.lists().getOrLoad(ResponseBytesCache.GENRE, aQuery, () -> page(loads));
+
+        //when
+        aNode.caches().evict(ResponseBytesCache.GENRE, "123");
+        final var actualBeforeFlush = otherNode.lists().getOrLoad(ResponseBytesCache.GENRE, aQuery, () -> page(loads));
+        aBus.flush();
+        final var actualAfterFlush = otherNode.lists().getOrLoad(ResponseBytesCache.GENRE, aQuery, () -> page(loads));
+
+        //then
+        Assertions.assertEquals(List.of("1"), actualBeforeFlush.items());
+        Assertions.assertEquals(List.of("2"), actualAfterFlush.items());
+    }
+
+    private static Node newCaches(final InvalidationBus aBus) {
+        final var lists = new ListQueryCache(new PassThroughUnitOfWork(), true, 60_000, 60_000, 16, 1);
+        final var responses = new ResponseBytesCache(Json.mapper(), true, 1024 * 1024, 1024, 256, 1, 1024);
+        return new Node(new CatalogCaches(responses, lists, aBus), lists);
+    }
+
+    private static Pagination<String> page(final AtomicInteger loads) {
+        return new Pagination<>(0, 10, 1, List.of(String.valueOf(loads.incrementAndGet())));
+    }
+
+    private record Node(CatalogCaches caches, ListQueryCache lists) {
+    }
+
+    private static final class RecordingListener implements InvalidationListener {
+
+        private final List<Invalidation> received = new ArrayList<>();
+        private int gaps;
+
+        @Override
+        public void onInvalidations(final Collection<Invalidation> invalidations) {
+            this.received.addAll(invalidations);
+        }
+
+        @Override
+        public void onGap() {
+            this.gaps++;
+        }
+    }
+}
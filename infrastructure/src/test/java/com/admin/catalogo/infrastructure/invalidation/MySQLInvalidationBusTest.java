@@ -0,0 +1,160 @@
+package com.admin.catalogo.infrastructure.invalidation;
+
+import com.admin.catalogo.IntegrationTest;
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationJpaEntity;
+import com.admin.catalogo.infrastructure.invalidation.persistence.CacheInvalidationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// test-integration runs the loopback transport, so the table-backed bus is built by hand here
+@IntegrationTest
+public class MySQLInvalidationBusTest {
+
+    private static final long GAP_TIMEOUT = 50;
+
+    @Autowired
+    private CacheInvalidationRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<MySQLInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (final var aBus : buses) {
+            aBus.destroy();
+        }
+    }
+
+    @Test
+    public void givenRowsCommittedOutOfIdOrder_whenCallsPoll_shouldDeliverTheLateRowOnceItFillsTheHole() {
+        //given
+        insert(1, "writer", 1, "1", Instant.now());
+        final var aNode = newBus(3_600_000);
+        final var aListener = new RecordingListener();
+        aNode.subscribe(aListener);
+
+        //when
+        insert(3, "a", 1, "3", Instant.now());
+        aNode.poll();
+        final var actualBeforeFill = List.copyOf(aListener.received);
+        insert(2, "b", 1, "2", Instant.now());
+        aNode.poll();
+        aNode.poll();
+
+        //then
+        Assertions.assertEquals(List.of("3"), actualBeforeFill);
+        Assertions.assertEquals(List.of("3", "2"), aListener.received);
+        Assertions.assertEquals(0, aListener.gaps);
+    }
+
+    @Test
+    public void givenAHoleOpenPastTheGapTimeout_whenCallsPoll_shouldSkipItAndReportTheLostBatchAsAGap() throws Exception {
+        //given
+        final var aNode = newBus(3_600_000);
+        final var aListener = new RecordingListener();
+        aNode.subscribe(aListener);
+
+        insert(1, "slow", 1, "1", Instant.now());
+        insert(2, "fast", 1, "2", Instant.now());
+        insert(4, "fast", 2, "4", Instant.now());
+        aNode.poll();
+
+        //when
+        Thread.sleep(GAP_TIMEOUT * 2);
+        aNode.poll();
+        insert(3, "slow", 2, "3", Instant.now());
+        insert(5, "slow", 3, "5", Instant.now());
+        aNode.poll();
+
+        //then
+        Assertions.assertEquals(List.of("1", "2", "4", "5"), aListener.received);
+        Assertions.assertEquals(1, aListener.gaps);
+    }
+
+    @Test
+    public void givenTwoBusesOnTheSameTable_whenOneFlushes_shouldDeliverToTheOtherOnly() {
+        //given
+        final var aNode = newBus(3_600_000);
+        final var otherNode = newBus(3_600_000);
+        final var aListener = new RecordingListener();
+        final var otherListener = new RecordingListener();
+        aNode.subscribe(aListener);
+        otherNode.subscribe(otherListener);
+
+        //when
+        aNode.publish(ResponseBytesCache.GENRE, "123");
+        aNode.flush();
+        aNode.poll();
+        otherNode.poll();
+
+        //then
+        Assertions.assertEquals(List.of(), aListener.received);
+        Assertions.assertEquals(List.of("123"), otherListener.received);
+    }
+
+    @Test
+    public void givenRowsOlderThanTheRetention_whenCallsPoll_shouldPurgeThem() {
+        //given
+        final var aNode = newBus(60_000);
+        insert(1, "a", 1, "1", Instant.now().minusSeconds(120));
+        insert(2, "a", 2, "2", Instant.now());
+
+        //when
+        aNode.poll();
+
+        //then
+        Assertions.assertEquals(List.of(2L), repository.findAll().stream().map(CacheInvalidationJpaEntity::getId).toList());
+    }
+
+    private MySQLInvalidationBus newBus(final long retention) {
+        final var aBus = new MySQLInvalidationBus(repository, transactionManager, 0, 0, GAP_TIMEOUT, retention, 2);
+        aBus.afterPropertiesSet();
+        buses.add(aBus);
+        return aBus;
+    }
+
+    private void insert(final long anId, final String anOrigin, final long aSequence, final String aGenreId, final Instant createdAt) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO cache_invalidations (id, origin, seq, payload, created_at) VALUES (?, ?, ?, ?, ?)",
+                anId,
+                anOrigin,
+                aSequence,
+                Json.writeValueAsString(List.of(new Invalidation(ResponseBytesCache.GENRE, aGenreId))),
+                Timestamp.from(createdAt)
+        ));
+    }
+
+    private static final class RecordingListener implements InvalidationListener {
+
+        private final List<String> received = new ArrayList<>();
+        private int gaps;
+
+        @Override
+        public void onInvalidations(final Collection<Invalidation> invalidations) {
+            invalidations.forEach(it -> this.received.add(it.id()));
+        }
+
+        @Override
+        public void onGap() {
+            this.gaps++;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final int capacity;
+    private final ArrayDeque<OutboxMessage> published;
+
+    public InMemoryOutboxPublisher(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("'capacity' must be greater than zero");
+        }
+        this.capacity = capacity;
+        this.published = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void publish(final OutboxMessage message) {
+        if (this.published.size() == this.capacity) {
+            this.published.pollFirst();
+        }
+        this.published.addLast(message);
+    }
+
+    public synchronized List<OutboxMessage> published() {
+        return List.copyOf(this.published);
+    }
+
+    public synchronized void clear() {
+        this.published.clear();
+    }
+}
@@ -0,0 +1,215 @@
+package com.admin.catalogo.infrastructure.outbox;
+
+import com.admin.catalogo.IntegrationTest;
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@IntegrationTest
+public class OutboxRelayTest {
+
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxPublisher outboxPublisher;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxPublisher = new InMemoryOutboxPublisher(100);
+        outboxRelay = new OutboxRelay(outboxEventRepository, List.of(outboxPublisher), transactionManager, 2, 4, 5000, 3600000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRelay.destroy();
+    }
+
+    @Test
+    public void givenAWriteInsideUnitOfWork_whenTransactionCommits_shouldPersistEventsWithTheAggregate() {
+        //when
+        final var aCategory = unitOfWork.execute(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+
+        //then
+        final var actualEvents = outboxEventRepository.findAll();
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals("category", actualEvents.get(0).getAggregate());
+        Assertions.assertEquals(aCategory.getId().getValue(), actualEvents.get(0).getAggregateId());
+        Assertions.assertEquals("CategoryCreated", actualEvents.get(0).getEventType());
+    }
+
+    @Test
+    public void givenAWriteInsideUnitOfWork_whenTransactionRollsBack_shouldDiscardEvents() {
+        //when
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> unitOfWork.execute(() -> {
+                    categoryGateway.create(Category.newCategory("Filmes", null, true));
+                    throw new IllegalStateException("rollback");
+                })
+        );
+
+        //then
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsDrain_shouldPublishInOrderPerAggregateAndRetainThem() {
+        //given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId()));
+        genreGateway.create(aGenre);
+        genreGateway.update(aGenre.update("Aventura", true, List.of()));
+        genreGateway.deleteById(aGenre.getId());
+
+        final var expectedGenreEvents = List.of(
+                "GenreCreated", "GenreCategoriesChanged", "GenreUpdated", "GenreCategoriesChanged", "GenreDeleted"
+        );
+
+        //when
+        final var actualPublished = outboxRelay.drainAll();
+
+        //then
+        Assertions.assertEquals(6, actualPublished);
+        Assertions.assertEquals(6, outboxEventRepository.count());
+        Assertions.assertEquals(0, outboxRelay.drainAll());
+
+        final var actualMessages = outboxPublisher.published();
+        Assertions.assertEquals(expectedGenreEvents, actualMessages.stream()
+                .filter(it -> it.aggregateId().equals(aGenre.getId().getValue()))
+                .map(OutboxMessage::type)
+                .toList());
+        Assertions.assertTrue(actualMessages.stream()
+                .anyMatch(it -> it.type().equals("CategoryCreated") && it.payload().contains(filmes.getId().getValue())));
+    }
+
+    @Test
+    public void givenAFailingPublisher_whenCallsDrain_shouldKeepEventsForTheNextRun() {
+        //given
+        final var aRelay = new OutboxRelay(
+                outboxEventRepository,
+                List.of(message -> { throw new IllegalStateException("broker unavailable"); }),
+                transactionManager,
+                10,
+                2,
+                5000,
+                3600000
+        );
+
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        //when
+        final var actualPublished = aRelay.drain();
+        aRelay.destroy();
+
+        //then
+        Assertions.assertEquals(0, actualPublished);
+        Assertions.assertEquals(2, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenTwoNodes_whenEachCallsDrain_shouldBothPublishEveryEvent() {
+        //given
+        final var otherNodePublisher = new InMemoryOutboxPublisher(100);
+        final var otherNodeRelay = new OutboxRelay(outboxEventRepository, List.of(otherNodePublisher), transactionManager, 2, 4, 5000, 3600000);
+
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var expectedIds = Set.of(filmes.getId().getValue(), series.getId().getValue());
+
+        //when
+        final var actualPublished = outboxRelay.drainAll();
+        final var actualOtherPublished = otherNodeRelay.drainAll();
+        otherNodeRelay.destroy();
+
+        //then
+        Assertions.assertEquals(2, actualPublished);
+        Assertions.assertEquals(2, actualOtherPublished);
+        Assertions.assertEquals(expectedIds, outboxPublisher.published().stream().map(OutboxMessage::aggregateId).collect(Collectors.toSet()));
+        Assertions.assertEquals(expectedIds, otherNodePublisher.published().stream().map(OutboxMessage::aggregateId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void givenAPublisherThatRecovers_whenCallsDrainAgain_shouldRetryTheFailedEventsInOrder() {
+        //given
+        final var available = new AtomicBoolean(false);
+        final var aPublisher = new InMemoryOutboxPublisher(100);
+        final var aRelay = new OutboxRelay(
+                outboxEventRepository,
+                List.of(message -> {
+                    if (!available.get()) {
+                        throw new IllegalStateException("broker unavailable");
+                    }
+                    aPublisher.publish(message);
+                }),
+                transactionManager,
+                10,
+                1,
+                0,
+                3600000
+        );
+
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.update(aCategory.update("Séries", null, true));
+
+        //when
+        final var actualFailed = aRelay.drain();
+        final var actualStillFailed = aRelay.drain();
+        available.set(true);
+        final var actualRetried = aRelay.drain();
+        aRelay.destroy();
+
+        //then
+        Assertions.assertEquals(0, actualFailed);
+        Assertions.assertEquals(0, actualStillFailed);
+        Assertions.assertEquals(2, actualRetried);
+        Assertions.assertEquals(List.of("CategoryCreated", "CategoryUpdated"),
+                aPublisher.published().stream().map(OutboxMessage::type).toList());
+    }
+
+    @Test
+    public void givenEventsOlderThanTheRetention_whenCallsDrain_shouldPurgeThem() throws InterruptedException {
+        //given
+        final var aRelay = new OutboxRelay(outboxEventRepository, List.of(outboxPublisher), transactionManager, 10, 1, 5000, 1);
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        Thread.sleep(5);
+
+        //when
+        final var actualPublished = aRelay.drain();
+        aRelay.destroy();
+
+        //then
+        Assertions.assertEquals(1, actualPublished);
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+}
@@ -0,0 +1,133 @@
+package com.admin.catalogo.infrastructure.peer;
+
+import com.admin.catalogo.infrastructure.cache.ResponseBytesCache;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class PeerCacheTest {
+
+    private final List<String> peers = new CopyOnWriteArrayList<>();
+    private final List<Node> nodes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    public void shutdown() {
+        this.nodes.forEach(it -> it.peerCache().stop());
+    }
+
+    @Test
+    public void givenThreeNodes_whenEveryNodeMissesTheSameEntry_shouldLoadItOnceOnTheOwner() {
+        //given
+        startNodes(3);
+
+        //when
+        final var actualBodies = this.nodes.stream()
+                .map(it -> it.responses().getOrLoad(ResponseBytesCache.GENRE, "123", null, () -> load("123")).getBody())
+                .toList();
+
+        //then
+        Assertions.assertEquals(1, this.loads.get());
+        actualBodies.forEach(it -> Assertions.assertArrayEquals(actualBodies.get(0), it));
+        this.nodes.forEach(it -> Assertions.assertEquals(1, it.responses().size()));
+    }
+
+    @Test
+    public void givenAStoppedOwner_whenANodeMisses_shouldLoadItLocally() {
+        //given
+        startNodes(2);
+        final var aNode = this.nodes.get(0);
+        final var anId = idOwnedBy(this.nodes.get(1));
+        this.nodes.get(1).peerCache().stop();
+
+        //when
+        final var actualResponse = aNode.responses().getOrLoad(ResponseBytesCache.CATEGORY, anId, null, () -> load(anId));
+
+        //then
+        Assertions.assertEquals(1, this.loads.get());
+        Assertions.assertArrayEquals(Json.writeValueAsString(Map.of("id", anId)).getBytes(), actualResponse.getBody());
+    }
+
+    @Test
+    public void givenTwoNodes_whenTheWriterReadsBackBeforeTheOwnerHearsOfTheWrite_shouldNotFillFromTheOwner() {
+        //given
+        startNodes(2);
+        final var aWriter = this.nodes.get(0);
+        final var anId = idOwnedBy(this.nodes.get(1));
+        aWriter.responses().getOrLoad(ResponseBytesCache.CATEGORY, anId, null, () -> load(anId));
+
+        final var expectedBody = Map.of("id", anId, "name", "Filmes");
+
+        //when
+        aWriter.responses().evict(ResponseBytesCache.CATEGORY, anId);
+        final var actualResponse = aWriter.responses().getOrLoad(ResponseBytesCache.CATEGORY, anId, null, () -> expectedBody);
+
+        //then
+        Assertions.assertArrayEquals(Json.writeValueAsString(expectedBody).getBytes(), actualResponse.getBody());
+        Assertions.assertEquals(1, this.loads.get());
+        Assertions.assertEquals(1, this.nodes.get(1).responses().size());
+    }
+
+    @Test
+    public void givenANewPeer_whenCallsOwnerOf_shouldOnlyMoveKeysToTheNewPeer() {
+        //given
+        final var aRing = new HashRing(List.of("10.0.0.1:7070", "10.0.0.2:7070", "10.0.0.3:7070"), 128);
+        final var aGrownRing = new HashRing(List.of("10.0.0.1:7070", "10.0.0.2:7070", "10.0.0.3:7070", "10.0.0.4:7070"), 128);
+
+        //when
+        var moved = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final var aKey = "genre:" + i;
+            final var before = aRing.ownerOf(aKey);
+            final var after = aGrownRing.ownerOf(aKey);
+            if (!before.equals(after)) {
+                Assertions.assertEquals("10.0.0.4:7070", after);
+                moved++;
+            }
+        }
+
+        //then
+        Assertions.assertTrue(moved > 1_500 && moved < 3_500, "moved " + moved);
+        Assertions.assertNull(new HashRing(List.of(), 128).ownerOf("genre:1"));
+    }
+
+    private void startNodes(final int count) {
+        for (int i = 0; i < count; i++) {
+            final var responses = new ResponseBytesCache(Json.mapper(), true, 1024 * 1024, 1024, 256, 1, 1024);
+            final Map<String, Function<String, ?>> loaders = Map.of(
+                    ResponseBytesCache.CATEGORY, this::load,
+                    ResponseBytesCache.GENRE, this::load
+            );
+            final var aPeerCache = new PeerCache(responses, loaders, () -> this.peers, "localhost", 0, 4, 128, 2_000, 60_000, new SimpleMeterRegistry());
+            aPeerCache.start();
+            this.nodes.add(new Node(responses, aPeerCache));
+        }
+        this.nodes.forEach(it -> this.peers.add(it.peerCache().self()));
+    }
+
+    private String idOwnedBy(final Node aNode) {
+        final var aRing = new HashRing(this.peers, 128);
+        for (int i = 0; ; i++) {
+            if (aRing.ownerOf(ResponseBytesCache.CATEGORY + ":" + i).equals(aNode.peerCache().self())) {
+                return String.valueOf(i);
+            }
+        }
+    }
+
+    private Map<String, String> load(final String anId) {
+        this.loads.incrementAndGet();
+        return Map.of("id", anId);
+    }
+
+    private record Node(ResponseBytesCache responses, PeerCache peerCache) {
+    }
+}
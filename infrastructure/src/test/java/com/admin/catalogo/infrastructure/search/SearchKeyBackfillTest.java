@@ -0,0 +1,68 @@
+package com.admin.catalogo.infrastructure.search;
+
+import com.admin.catalogo.MySQLGatewayTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@MySQLGatewayTest
+public class SearchKeyBackfillTest {
+
+    @Autowired
+    private SearchKeyBackfill searchKeyBackfill;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void givenRowsWrittenBeforeTheSearchKeyColumn_whenCallsBackfill_shouldDeriveTheSameKeyAsNewRows() {
+        //given
+        final var aCategory = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("  Ação   e\tAventura ", null, true)));
+        final var aGenre = genreRepository.saveAndFlush(GenreJpaEntity.from(Genre.newGenre("Ficção  Científica", true)));
+        final var expectedCategoryKey = aCategory.getSearchKey();
+        final var expectedGenreKey = aGenre.getSearchKey();
+        entityManager.getEntityManager().createNativeQuery("UPDATE category SET search_key = ''").executeUpdate();
+        entityManager.getEntityManager().createNativeQuery("UPDATE genres SET search_key = ''").executeUpdate();
+        entityManager.clear();
+
+        //when
+        final var actualBackfilled = searchKeyBackfill.backfill();
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        Assertions.assertEquals(2, actualBackfilled);
+        Assertions.assertEquals("acao e aventura", expectedCategoryKey);
+        Assertions.assertEquals(expectedCategoryKey, categoryRepository.findById(aCategory.getId()).get().getSearchKey());
+        Assertions.assertEquals("ficcao cientifica", expectedGenreKey);
+        Assertions.assertEquals(expectedGenreKey, genreRepository.findById(aGenre.getId()).get().getSearchKey());
+        Assertions.assertEquals(0, searchKeyBackfill.backfill());
+    }
+
+    @Test
+    public void givenAManagedEntity_whenCallsSetName_shouldRefreshTheSearchKey() {
+        //given
+        final var anEntity = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)));
+
+        //when
+        anEntity.setName("Documentários  Históricos");
+        categoryRepository.saveAndFlush(anEntity);
+        entityManager.clear();
+
+        //then
+        Assertions.assertEquals("documentarios historicos", categoryRepository.findById(anEntity.getId()).get().getSearchKey());
+    }
+}
@@ -0,0 +1,79 @@
+package com.admin.catalogo.infrastructure.shard;
+
+import com.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.genre.create.CreateGenreCommand;
+import com.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.admin.catalogo.infrastructure.warmup.WarmUpRunner;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@ActiveProfiles({"test-integration", "sharded"})
+@SpringBootTest(classes = WebServerConfig.class, properties = "warm-up.enabled=true")
+public class ShardedApplicationTest {
+
+    private static final List<String> SHARD_URLS = IntStream.range(0, 2)
+            .mapToObj(i -> "jdbc:h2:mem:sharded_app_%d;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1".formatted(i))
+            .toList();
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private CreateGenreUseCase createGenreUseCase;
+
+    @Autowired
+    private GetGenreByIdUseCase getGenreByIdUseCase;
+
+    @DynamicPropertySource
+    public static void shards(final DynamicPropertyRegistry registry) {
+        // shards are migrated out of band, like the primary
+        SHARD_URLS.forEach(url -> Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/shard")
+                .load()
+                .migrate());
+        registry.add("sharding.urls", () -> SHARD_URLS.stream().collect(Collectors.joining(",")));
+        registry.add("sharding.username", () -> "sa");
+        registry.add("sharding.password", () -> "");
+    }
+
+    @Test
+    public void givenTheShardedProfile_whenTheApplicationStarts_shouldAcceptTrafficAndServeWrites() {
+        //given
+        final var aCategoryId = createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true))
+                .get()
+                .id();
+
+        //when
+        final var aGenreId = createGenreUseCase.execute(CreateGenreCommand.with("Ação", true, List.of(aCategoryId)))
+                .id();
+        final var actualGenre = getGenreByIdUseCase.execute(aGenreId);
+
+        //then
+        Assertions.assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+        Assertions.assertTrue(applicationContext.getBeansOfType(WarmUpRunner.class).isEmpty());
+        Assertions.assertEquals(List.of(aCategoryId), actualGenre.categories());
+    }
+}
@@ -0,0 +1,265 @@
+package com.admin.catalogo.infrastructure.shard;
+
+import com.admin.catalogo.MySQLGatewayTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.pagination.SearchQuery;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import com.admin.catalogo.infrastructure.cache.CatalogCaches;
+import com.admin.catalogo.infrastructure.cache.ListQueryCache;
+import com.admin.catalogo.infrastructure.category.CategoryShardedGateway;
+import com.admin.catalogo.infrastructure.changes.ChangeHorizon;
+import com.admin.catalogo.infrastructure.changes.persistence.TombstoneRepository;
+import com.admin.catalogo.infrastructure.genre.GenreShardedGateway;
+import com.admin.catalogo.infrastructure.outbox.TransactionalOutbox;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ShardedGatewayTest {
+
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private EntityManagerFactoryBuilder entityManagerFactoryBuilder;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TransactionalOutbox outbox;
+
+    @Autowired
+    private CatalogCaches catalogCaches;
+
+    @Autowired
+    private ListQueryCache listQueryCache;
+
+    @Autowired
+    private ChangeHorizon changeHorizon;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ShardRouter shardRouter;
+    private CategoryShardedGateway categoryGateway;
+    private GenreShardedGateway genreGateway;
+
+    @BeforeEach
+    public void openShards() {
+        final var shards = new ArrayList<Shard>();
+        for (int i = 0; i < SHARDS; i++) {
+            final var aDataSource = new HikariDataSource();
+            aDataSource.setPoolName("shard-" + i);
+            aDataSource.setJdbcUrl("jdbc:h2:mem:shard_" + UUID.randomUUID().toString().replace("-", "") + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE");
+            aDataSource.setUsername("sa");
+            aDataSource.setAutoCommit(false);
+            Flyway.configure().dataSource(aDataSource).locations("classpath:db/shard").load().migrate();
+            shards.add(Shard.open(i, aDataSource, entityManagerFactoryBuilder));
+        }
+        this.shardRouter = new ShardRouter(shards, SHARDS);
+        this.categoryGateway = new CategoryShardedGateway(shardRouter, tombstoneRepository, outbox, catalogCaches, listQueryCache, changeHorizon);
+        this.genreGateway = new GenreShardedGateway(shardRouter, tombstoneRepository, outbox, catalogCaches, listQueryCache, changeHorizon);
+    }
+
+    @AfterEach
+    public void closeShards() throws Exception {
+        this.shardRouter.destroy();
+    }
+
+    @Test
+    public void givenCategoriesSpreadOverShards_whenCallsFindAll_shouldMergeThePageInSortOrder() {
+        //given
+        final var names = new ArrayList<String>();
+        for (int i = 0; i < 30; i++) {
+            names.add("Categoria %02d".formatted(i));
+            categoryGateway.create(Category.newCategory(names.get(i), null, true));
+        }
+
+        //when
+        final var actualAscPage = categoryGateway.findAll(new SearchQuery(2, 7, "", "name", "asc"));
+        final var actualDescPage = categoryGateway.findAll(new SearchQuery(0, 5, "", "name", "desc"));
+        final var actualTermsPage = categoryGateway.findAll(new SearchQuery(0, 20, "categoria 1", "name", "asc"));
+
+        //then
+        Assertions.assertTrue(shardRouter.shards().stream()
+                .filter(it -> it.executeReadOnly(() -> it.categoryRepository().count()) > 0)
+                .count() > 1);
+        Assertions.assertEquals(30, actualAscPage.total());
+        Assertions.assertEquals(names.subList(14, 21), actualAscPage.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(30, actualDescPage.total());
+        Assertions.assertEquals(names.subList(25, 30).stream().sorted(Comparator.reverseOrder()).toList(),
+                actualDescPage.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(10, actualTermsPage.total());
+        Assertions.assertEquals(names.subList(10, 20), actualTermsPage.items().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenMixedCaseAndAccentedNames_whenCallsFindAllPageAfterPage_shouldMergeInSearchKeyOrder() {
+        //given
+        final var expectedNames = List.of("Ação", "ANIMES", "banana", "Documentários", "Ébano", "Esportes", "filmes", "Séries");
+        final var shuffled = new ArrayList<>(expectedNames);
+        Collections.shuffle(shuffled, new Random(7));
+        shuffled.forEach(aName -> categoryGateway.create(Category.newCategory(aName, null, true)));
+
+        //when
+        final var actualAscNames = new ArrayList<String>();
+        final var actualDescNames = new ArrayList<String>();
+        for (int page = 0; page < 3; page++) {
+            categoryGateway.findAll(new SearchQuery(page, 3, "", "name", "asc")).items()
+                    .forEach(it -> actualAscNames.add(it.getName()));
+            categoryGateway.findAll(new SearchQuery(page, 3, "", "name", "desc")).items()
+                    .forEach(it -> actualDescNames.add(it.getName()));
+        }
+
+        //then
+        Assertions.assertEquals(expectedNames, actualAscNames);
+        Collections.reverse(actualDescNames);
+        Assertions.assertEquals(expectedNames, actualDescNames);
+    }
+
+    @Test
+    public void givenAUnitOfWorkThatRollsBack_whenCallsCreate_shouldNotWriteTheShard() {
+        //given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aShard = shardRouter.shardOf(aCategory.getId().getValue());
+
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryGateway.create(aCategory);
+            status.setRollbackOnly();
+        });
+
+        //then
+        Assertions.assertFalse(aShard.executeReadOnly(() -> aShard.categoryRepository().existsById(aCategory.getId().getValue())));
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenAShardWriteThatFails_whenTheUnitOfWorkCommits_shouldRollBackItsOutboxRows() {
+        //given
+        final var aCategory = Category.newCategory("Filmes".repeat(60), null, true);
+        final var aShard = shardRouter.shardOf(aCategory.getId().getValue());
+
+        //when
+        Assertions.assertThrows(RuntimeException.class, () -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> categoryGateway.create(aCategory)));
+
+        //then
+        Assertions.assertFalse(aShard.executeReadOnly(() -> aShard.categoryRepository().existsById(aCategory.getId().getValue())));
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenCategoriesSpreadOverShards_whenCallsSeekAndFindAllByIds_shouldMergeAcrossShards() {
+        //given
+        final var names = new ArrayList<String>();
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 20; i++) {
+            names.add("Categoria %02d".formatted(i));
+            ids.add(categoryGateway.create(Category.newCategory(names.get(i), null, true)).getId());
+        }
+        final var firstQuery = SeekQuery.first(6, "", "name", "desc");
+
+        //when
+        final var actualNames = new ArrayList<String>();
+        var aQuery = firstQuery;
+        List<Category> aBatch;
+        do {
+            aBatch = categoryGateway.seek(aQuery);
+            aBatch.forEach(it -> actualNames.add(it.getName()));
+            if (!aBatch.isEmpty()) {
+                final var last = aBatch.get(aBatch.size() - 1);
+                aQuery = firstQuery.after(last.getName(), last.getCreatedAt(), last.getId().getValue());
+            }
+        } while (aBatch.size() == firstQuery.limit());
+
+        final var requestedIds = List.of(ids.get(7), CategoryID.unique(), ids.get(2), ids.get(15));
+        final var actualFound = categoryGateway.findAllByIds(requestedIds);
+
+        //then
+        Assertions.assertEquals(names.stream().sorted(Comparator.reverseOrder()).toList(), actualNames);
+        Assertions.assertEquals(List.of(ids.get(7), ids.get(2), ids.get(15)), actualFound.stream().map(Category::getId).toList());
+    }
+
+    @Test
+    public void givenAGenreLinkedToCategoriesOnOtherShards_whenCallsFindByIdAndExistsByIds_shouldResolveAcrossShards() {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedCategories = new ArrayList<CategoryID>();
+        for (int i = 0; i < 12; i++) {
+            expectedCategories.add(categoryGateway.create(Category.newCategory("Filmes " + i, null, true)).getId());
+        }
+        aGenre.addCategories(expectedCategories);
+        genreGateway.create(aGenre);
+
+        final var unknownId = CategoryID.unique();
+        final var requestedIds = new ArrayList<>(expectedCategories);
+        requestedIds.add(unknownId);
+
+        //when
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+        final var actualExisting = categoryGateway.existsByIds(requestedIds);
+
+        //then
+        Assertions.assertTrue(expectedCategories.stream()
+                .anyMatch(it -> shardRouter.shardOf(it.getValue()) != shardRouter.shardOf(aGenre.getId().getValue())));
+        Assertions.assertEquals(new HashSet<>(expectedCategories), new HashSet<>(actualGenre.getCategories()));
+        Assertions.assertEquals(new HashSet<>(expectedCategories), new HashSet<>(actualExisting));
+    }
+
+    @Test
+    public void givenACategoryLinkedFromAnotherShard_whenCallsDeleteById_shouldUnlinkItFromTheGenre() {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        var aCategory = Category.newCategory("Filmes", null, true);
+        while (shardRouter.shardOf(aCategory.getId().getValue()) == shardRouter.shardOf(aGenre.getId().getValue())) {
+            aCategory = Category.newCategory("Filmes", null, true);
+        }
+        categoryGateway.create(aCategory);
+        genreGateway.create(aGenre.addCategory(aCategory.getId()));
+
+        //when
+        categoryGateway.deleteById(aCategory.getId());
+
+        //then
+        Assertions.assertTrue(categoryGateway.findById(aCategory.getId()).isEmpty());
+        Assertions.assertEquals(List.of(), genreGateway.findById(aGenre.getId()).get().getCategories());
+    }
+
+    @Test
+    public void givenSortedRuns_whenCallsMerge_shouldSkipAndLimitTheMergedSequence() {
+        //given
+        final var runs = List.of(List.of(1, 4, 7), List.of(2, 5, 8), List.<Integer>of(), List.of(3, 6, 9));
+
+        //when
+        final var actualMerged = KWayMerge.merge(runs, Comparator.<Integer>naturalOrder(), 2, 5);
+
+        //then
+        Assertions.assertEquals(List.of(3, 4, 5, 6, 7), actualMerged);
+    }
+}
@@ -0,0 +1,149 @@
+package com.admin.catalogo.infrastructure.snapshot;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.pagination.SeekQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class CatalogSnapshotTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void givenAWrittenSnapshot_whenCallsFind_shouldMaterializeTheSameAggregates() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var dangling = CategoryID.unique();
+        final var acao = Genre.newGenre("Ação", true).addCategory(series.getId()).addCategory(dangling);
+
+        final var aFile = workDir.resolve("catalog.snapshot");
+        CatalogSnapshotWriter.write(aFile, 7, List.of(filmes, series), List.of(acao));
+
+        // when
+        final var snapshot = CatalogSnapshot.open(aFile);
+        final var actualCategory = snapshot.category(snapshot.categories().find(series.getId().getValue()));
+        final var actualGenre = snapshot.genre(snapshot.genres().find(acao.getId().getValue()));
+
+        // then
+        Assertions.assertEquals(7, snapshot.generation());
+        Assertions.assertEquals(series.getName(), actualCategory.getName());
+        Assertions.assertNull(actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertEquals(series.getCreatedAt(), actualCategory.getCreatedAt());
+        Assertions.assertEquals(series.getDeletedAt(), actualCategory.getDeletedAt());
+        Assertions.assertEquals(acao.getName(), actualGenre.getName());
+        Assertions.assertEquals(List.of(series.getId(), dangling), actualGenre.getCategories());
+        Assertions.assertEquals(-1, snapshot.categories().find(CategoryID.unique().getValue()));
+    }
+
+    @Test
+    public void givenASnapshot_whenCallsPageWithTermsAndSort_shouldFilterSortAndPageLikeTheSqlGateway() {
+        // given
+        final var snapshot = CatalogSnapshot.of(CatalogSnapshotWriter.encode(1, List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", "Assistidas em maratona", true),
+                Category.newCategory("Documentários", null, true),
+                Category.newCategory("Curtas", "Filmes de curta duração", true)
+        ), List.of()));
+        final var upperTerms = "assist".toUpperCase(Locale.ROOT);
+
+        // when
+        final var actualPage = snapshot.categories().page(0, 2, CatalogSnapshot.BY_NAME, true,
+                aRecord -> snapshot.categoryMatches(aRecord, upperTerms), snapshot::category);
+        final var actualSecondPage = snapshot.categories().page(1, 3, CatalogSnapshot.BY_NAME, false, null, snapshot::category);
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Séries", "Filmes"), actualPage.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(4, actualSecondPage.total());
+        Assertions.assertEquals(List.of("Séries"), actualSecondPage.items().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenASnapshot_whenCallsSeekAfterTheLastRecord_shouldResumeInSearchKeyOrder() {
+        // given
+        final var series = Category.newCategory("Séries", null, true);
+        final var filmes = Category.newCategory("filmes", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var animes = Category.newCategory("ANIMES", null, true);
+        final var snapshot = CatalogSnapshot.of(CatalogSnapshotWriter.encode(1, List.of(series, filmes, documentarios, animes), List.of()));
+        final var anOrder = CatalogSnapshot.seekOrderOf("name");
+        final var firstQuery = SeekQuery.first(3, "", "name", "asc");
+
+        // when
+        final var actualFirst = snapshot.categories().seek(firstQuery, anOrder, false, null, snapshot::category);
+        final var actualNext = snapshot.categories().seek(
+                firstQuery.after(documentarios.getName(), documentarios.getCreatedAt(), documentarios.getId().getValue()),
+                anOrder, false, null, snapshot::category);
+        final var actualDescending = snapshot.categories().seek(
+                firstQuery.after(documentarios.getName(), documentarios.getCreatedAt(), documentarios.getId().getValue()),
+                anOrder, true, null, snapshot::category);
+
+        // then
+        Assertions.assertEquals(List.of("ANIMES", "Documentários", "filmes"), actualFirst.stream().map(Category::getName).toList());
+        Assertions.assertEquals(List.of("filmes", "Séries"), actualNext.stream().map(Category::getName).toList());
+        Assertions.assertEquals(List.of("ANIMES"), actualDescending.stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenASnapshot_whenCallsStartingWith_shouldMatchTheNormalizedPrefixInSearchKeyOrder() {
+        // given
+        final var snapshot = CatalogSnapshot.of(CatalogSnapshotWriter.encode(1, List.of(), List.of(
+                Genre.newGenre("Ação", true),
+                Genre.newGenre("Aventura", true),
+                Genre.newGenre("Acidente", true),
+                Genre.newGenre("Drama", true)
+        )));
+
+        // when
+        final var actualGenres = Arrays.stream(snapshot.genres().startingWith("AC", 10))
+                .mapToObj(snapshot::genre)
+                .map(Genre::getName)
+                .toList();
+        final var actualLimited = snapshot.genres().startingWith("a", 2);
+
+        // then
+        Assertions.assertEquals(List.of("Ação", "Acidente"), actualGenres);
+        Assertions.assertEquals(2, actualLimited.length);
+    }
+
+    @Test
+    public void givenPublishedGenerations_whenFollowerRefreshes_shouldSwapToTheNewestOne() throws Exception {
+        // given
+        final var follower = new CatalogSnapshotFollower(workDir, 0);
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        publish(1, List.of());
+
+        // when
+        final var firstSwap = follower.refresh();
+        final var firstGeneration = follower.current();
+        publish(2, List.of(aCategory));
+        final var secondSwap = follower.refresh();
+        final var unchanged = follower.refresh();
+
+        // then
+        Assertions.assertTrue(firstSwap);
+        Assertions.assertEquals(0, firstGeneration.categories().size());
+        Assertions.assertTrue(secondSwap);
+        Assertions.assertFalse(unchanged);
+        Assertions.assertEquals(2, follower.current().generation());
+        Assertions.assertTrue(follower.current().categories().find(aCategory.getId().getValue()) >= 0);
+    }
+
+    private void publish(final long generation, final List<Category> categories) throws Exception {
+        final var aFile = CatalogSnapshotPublisher.fileName(generation);
+        CatalogSnapshotWriter.write(workDir.resolve(aFile), generation, categories, List.of());
+        Files.writeString(workDir.resolve(CatalogSnapshotPublisher.CURRENT), aFile);
+    }
+}
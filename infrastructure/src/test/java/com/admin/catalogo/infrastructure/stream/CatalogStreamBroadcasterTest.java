@@ -0,0 +1,214 @@
+package com.admin.catalogo.infrastructure.stream;
+
+import com.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class CatalogStreamBroadcasterTest {
+
+    private CatalogStreamBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.destroy();
+        }
+    }
+
+    @Test
+    public void givenManySubscribers_whenCallsPublish_shouldFanOutToEverySubscriber() {
+        //given
+        broadcaster = newBroadcaster(16, OverflowPolicy.DROP_OLDEST);
+        final var aSubscribers = List.of(new RecordingSink(), new RecordingSink(), new RecordingSink());
+        aSubscribers.forEach(sink -> broadcaster.subscribe(null, sink));
+
+        //when
+        broadcaster.publish(aMessage("category", "CategoryCreated"));
+        broadcaster.publish(aMessage("genre", "GenreUpdated"));
+
+        //then
+        Assertions.assertEquals(3, broadcaster.subscribers());
+        for (final var sink : aSubscribers) {
+            final var actualNames = sink.await(2);
+            Assertions.assertEquals(List.of("CategoryCreated", "GenreUpdated"), actualNames);
+        }
+    }
+
+    @Test
+    public void givenALastEventId_whenCallsSubscribe_shouldReplayOnlyTheMissedEvents() {
+        //given
+        broadcaster = newBroadcaster(16, OverflowPolicy.DROP_OLDEST);
+        final var aFirstSink = new RecordingSink();
+        broadcaster.subscribe(null, aFirstSink);
+        broadcaster.publish(aMessage("category", "CategoryCreated"));
+        broadcaster.publish(aMessage("category", "CategoryUpdated"));
+        broadcaster.publish(aMessage("category", "CategoryDeleted"));
+        aFirstSink.await(3);
+
+        final var aLastSeenId = aFirstSink.ids().get(0);
+
+        //when
+        final var aResumedSink = new RecordingSink();
+        broadcaster.subscribe(aLastSeenId, aResumedSink);
+
+        //then
+        Assertions.assertEquals(List.of("CategoryUpdated", "CategoryDeleted"), aResumedSink.await(2));
+        Assertions.assertEquals(aFirstSink.ids().subList(1, 3), aResumedSink.ids());
+    }
+
+    @Test
+    public void givenAnUnknownLastEventId_whenCallsSubscribe_shouldSendAReset() {
+        //given
+        broadcaster = newBroadcaster(16, OverflowPolicy.DROP_OLDEST);
+        broadcaster.publish(aMessage("genre", "GenreCreated"));
+
+        //when
+        final var aSink = new RecordingSink();
+        broadcaster.subscribe("previous-process-42", aSink);
+
+        //then
+        Assertions.assertEquals(List.of(CatalogStreamSubscriber.RESET), aSink.await(1));
+    }
+
+    @Test
+    public void givenASlowSubscriber_whenBufferOverflowsWithDropOldest_shouldReportTheDroppedEvents() throws Exception {
+        //given
+        broadcaster = newBroadcaster(2, OverflowPolicy.DROP_OLDEST);
+        final var aSink = new RecordingSink(new CountDownLatch(1));
+        broadcaster.subscribe(null, aSink);
+        broadcaster.publish(aMessage("genre", "Event1"));
+        Assertions.assertTrue(aSink.blocked.await(2, TimeUnit.SECONDS));
+
+        //when
+        broadcaster.publish(aMessage("genre", "Event2"));
+        broadcaster.publish(aMessage("genre", "Event3"));
+        broadcaster.publish(aMessage("genre", "Event4"));
+        broadcaster.publish(aMessage("genre", "Event5"));
+        aSink.release.countDown();
+
+        //then
+        Assertions.assertEquals(
+                List.of("Event1", CatalogStreamSubscriber.DROPPED, "Event4", "Event5"),
+                aSink.await(4)
+        );
+        Assertions.assertEquals(Map.of("count", 2L), aSink.data().get(1));
+        Assertions.assertEquals(1, broadcaster.subscribers());
+    }
+
+    @Test
+    public void givenASlowSubscriber_whenBufferOverflowsWithDisconnect_shouldCloseTheSubscription() throws Exception {
+        //given
+        broadcaster = newBroadcaster(1, OverflowPolicy.DISCONNECT);
+        final var aSink = new RecordingSink(new CountDownLatch(1));
+        broadcaster.subscribe(null, aSink);
+        broadcaster.publish(aMessage("genre", "Event1"));
+        Assertions.assertTrue(aSink.blocked.await(2, TimeUnit.SECONDS));
+
+        //when
+        broadcaster.publish(aMessage("genre", "Event2"));
+        broadcaster.publish(aMessage("genre", "Event3"));
+        aSink.release.countDown();
+
+        //then
+        Assertions.assertTrue(aSink.closed);
+        Assertions.assertEquals(0, broadcaster.subscribers());
+        Assertions.assertEquals(List.of("Event1"), aSink.await(1));
+    }
+
+    private static CatalogStreamBroadcaster newBroadcaster(final int bufferSize, final OverflowPolicy policy) {
+        return new CatalogStreamBroadcaster(bufferSize, 16, policy, 2, 60_000, 60_000);
+    }
+
+    private static OutboxMessage aMessage(final String aggregate, final String type) {
+        return new OutboxMessage(
+                UUID.randomUUID().toString(),
+                aggregate,
+                UUID.randomUUID().toString(),
+                type,
+                "{}",
+                Instant.now()
+        );
+    }
+
+    private static class RecordingSink implements CatalogStreamSink {
+
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Object> data = new ArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean closed;
+
+        RecordingSink() {
+            this(null);
+        }
+
+        RecordingSink(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void event(final String id, final String name, final Object data) {
+            synchronized (this) {
+                if (id != null) {
+                    this.ids.add(id);
+                }
+                this.names.add(name);
+                this.data.add(data);
+            }
+            if (this.release != null) {
+                this.blocked.countDown();
+                try {
+                    this.release.await(2, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void comment(final String text) {
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+
+        synchronized List<String> ids() {
+            return List.copyOf(this.ids);
+        }
+
+        synchronized List<Object> data() {
+            return List.copyOf(this.data);
+        }
+
+        List<String> await(final int expected) {
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (System.nanoTime() < deadline) {
+                synchronized (this) {
+                    if (this.names.size() >= expected) {
+                        return List.copyOf(this.names);
+                    }
+                }
+                try {
+                    Thread.sleep(5);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this) {
+                return List.copyOf(this.names);
+            }
+        }
+    }
+}
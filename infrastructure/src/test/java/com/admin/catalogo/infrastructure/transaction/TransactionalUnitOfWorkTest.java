@@ -0,0 +1,97 @@
+package com.admin.catalogo.infrastructure.transaction;
+
+import com.admin.catalogo.IntegrationTest;
+import com.admin.catalogo.application.UnitOfWork;
+import com.admin.catalogo.application.genre.update.UpdateGenreCommand;
+import com.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.domain.genre.GenreGateway;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+@IntegrationTest
+public class TransactionalUnitOfWorkTest {
+
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Autowired
+    private UpdateGenreUseCase updateGenreUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void givenAWork_whenCallsExecute_shouldRunInsideAReadWriteTransaction() {
+        final var actualReadOnly = unitOfWork.execute(() -> {
+            Assertions.assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        });
+
+        Assertions.assertFalse(actualReadOnly);
+        Assertions.assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @Test
+    public void givenAWork_whenCallsExecuteReadOnly_shouldRunInsideAReadOnlyTransaction() {
+        final var actualReadOnly = unitOfWork.executeReadOnly(() -> {
+            Assertions.assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        });
+
+        Assertions.assertTrue(actualReadOnly);
+    }
+
+    @Test
+    public void givenAFailingWork_whenCallsExecute_shouldRollbackAndRethrow() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () ->
+                unitOfWork.execute(() -> {
+                    categoryGateway.create(Category.newCategory("Filmes", null, true));
+                    throw new IllegalStateException(expectedErrorMessage);
+                })
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenAGenreUpdate_whenCallsUseCase_shouldUseOneSessionAndOneTransaction() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("acao", true));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        updateGenreUseCase.execute(UpdateGenreCommand.with(
+                aGenre.getId().getValue(),
+                "Ação",
+                true,
+                List.of(filmes.getId().getValue())
+        ));
+
+        Assertions.assertEquals(1, statistics.getSessionOpenCount());
+        Assertions.assertEquals(1, statistics.getSuccessfulTransactionCount());
+    }
+}
@@ -0,0 +1,71 @@
+package com.admin.catalogo.infrastructure.utils;
+
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.genre.Genre;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+public class IdentifierPoolTest {
+
+    @Test
+    public void givenEqualValues_whenCallsCategoryID_shouldShareInstance() {
+        final var expectedValue = CategoryID.unique().getValue();
+
+        Assertions.assertSame(
+                IdentifierPool.categoryID(new String(expectedValue)),
+                IdentifierPool.categoryID(new String(expectedValue))
+        );
+        Assertions.assertSame(
+                IdentifierPool.value(new String(expectedValue)),
+                IdentifierPool.value(new String(expectedValue))
+        );
+    }
+
+    @Test
+    public void givenThousandsOfGenresReferencingOneCategory_whenCallsToAggregate_shouldKeepFewCategoryIdsAlive() throws Exception {
+        final var expectedGenres = 10_000;
+        final var filmes = CategoryID.unique().getValue();
+        // other tests in this JVM keep ids of their own alive, so only the growth is counted
+        final var liveBefore = liveInstancesOf(CategoryID.class);
+
+        final var genres = new ArrayList<Genre>(expectedGenres);
+        for (int i = 0; i < expectedGenres; i++) {
+            final var aGenre = Genre.newGenre("Gênero " + i, true);
+            aGenre.addCategory(CategoryID.from(new String(filmes)));
+            genres.add(GenreJpaEntity.from(aGenre).toAggregate());
+        }
+
+        final var liveCategoryIds = liveInstancesOf(CategoryID.class) - liveBefore;
+
+        Assertions.assertEquals(expectedGenres, genres.size());
+        Assertions.assertSame(
+                genres.get(0).getCategories().get(0),
+                genres.get(expectedGenres - 1).getCategories().get(0)
+        );
+        Assertions.assertTrue(
+                liveCategoryIds < expectedGenres / 100,
+                "expected a handful of new live CategoryID instances but the heap histogram reported %d more".formatted(liveCategoryIds)
+        );
+    }
+
+    private static long liveInstancesOf(final Class<?> aClass) throws Exception {
+        final var histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "gcClassHistogram",
+                new Object[]{null},
+                new String[]{String[].class.getName()}
+        );
+
+        return histogram.lines()
+                .map(String::trim)
+                .map(line -> line.split("\\s+"))
+                .filter(columns -> columns.length >= 4 && columns[3].equals(aClass.getName()))
+                .mapToLong(columns -> Long.parseLong(columns[1]))
+                .sum();
+    }
+}
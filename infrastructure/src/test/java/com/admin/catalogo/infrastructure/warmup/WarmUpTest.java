@@ -0,0 +1,68 @@
+package com.admin.catalogo.infrastructure.warmup;
+
+import com.admin.catalogo.IntegrationTest;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "warm-up.enabled=true",
+        "warm-up.min-iterations=3",
+        "warm-up.max-iterations=5",
+        "warm-up.batch-size=2"
+})
+public class WarmUpTest {
+
+    @Autowired
+    private WarmUp warmUp;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    public void givenAStartedApplication_whenWarmUpRanAtStartup_shouldReportItsMetricsAndAcceptTraffic() {
+        // given
+        final var iterations = meterRegistry.find("catalog.warm-up.iterations").gauge();
+        final var duration = meterRegistry.find("catalog.warm-up.duration").timeGauge();
+
+        // then
+        Assertions.assertNotNull(iterations);
+        Assertions.assertNotNull(duration);
+        Assertions.assertTrue(iterations.value() >= 3);
+        Assertions.assertTrue(duration.value() >= 0);
+        Assertions.assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+    }
+
+    @Test
+    public void givenWarmUpLimits_whenCallsRun_shouldStopWithinThemAndLeaveNoRowsBehind() {
+        // when
+        final var actualResult = warmUp.run();
+
+        // then
+        Assertions.assertTrue(actualResult.iterations() >= 3);
+        Assertions.assertTrue(actualResult.iterations() <= 5);
+        Assertions.assertEquals(0, categoryRepository.count());
+        Assertions.assertEquals(0, genreRepository.count());
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+}